@@ -5,13 +5,24 @@ import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.TestWatcher;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import com.automation.api.client.SingleFlightFilter;
 import com.automation.api.config.ApiConfig;
+import com.automation.api.reporting.AllureAttachments;
+import com.automation.api.reporting.AttachmentPolicy;
+import com.automation.api.reporting.ExchangeRecorder;
+import com.automation.api.reporting.HarExportExtension;
+import com.automation.api.reporting.HarRecorder;
+import com.automation.api.reporting.PerformanceBaselineExtension;
+import com.automation.api.reporting.PerformanceRecorder;
+import com.automation.api.standin.StandInServer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -19,8 +30,12 @@ import java.util.logging.Level;
  * Base test class for all REST Assured API tests
  * Provides common setup and teardown functionality
  * Uses TestWatcherExtension to monitor and log test execution events
+ * Uses PerformanceBaselineExtension to compare latencies and durations against earlier runs
+ * Uses HarExportExtension to group the exported HAR entries by test
+ * Uses TestIdExtension to give each test its own namespace on the stand-in
  */
-@ExtendWith(SetUp.TestWatcherExtension.class)
+@ExtendWith({SetUp.TestWatcherExtension.class, SetUp.TestIdExtension.class, PerformanceBaselineExtension.class,
+        HarExportExtension.class})
 public class SetUp {
 
     /**
@@ -29,6 +44,24 @@ public class SetUp {
      */
     protected RequestSpecification requestSpec;
 
+    /**
+     * Recent HTTP exchanges of the running test, attached to the Allure report by the watcher
+     */
+    protected final ExchangeRecorder exchangeRecorder = new ExchangeRecorder(ApiConfig.getAttachMaxExchanges());
+
+    /**
+     * Namespace of the running test on the stand-in, its JUnit unique id prefixed with the run's id
+     * The run's id keeps a stand-in that outlives the run from serving a test the writes of its previous run.
+     */
+    protected String namespace;
+
+    /**
+     * JUnit unique id of the running test, the HAR page its requests are recorded on
+     */
+    protected String testId;
+
+    private static final String RUN_ID = UUID.randomUUID().toString();
+
     /**
      * Setup method that runs before each test
      * Initializes REST Assured configuration, request specification
@@ -39,16 +72,51 @@ public class SetUp {
         RestAssured.baseURI = ApiConfig.getBaseUrl();
 
         // Build request specification
-        requestSpec = new RequestSpecBuilder()
-                .setBaseUri(ApiConfig.getBaseUrl())
-                .setContentType(ApiConfig.getContentType())
-                .addHeader("Accept", ApiConfig.getAcceptHeader())
-                .build();
+        requestSpec = newRequestSpecBuilder(ApiConfig.getBaseUrl()).build();
 
         // Set request specification as default
         RestAssured.requestSpecification = requestSpec;
     }
 
+    /**
+     * Create a request specification builder with the common headers and opt-in client layers
+     * Subclasses pointing at another base URI start from this builder
+     */
+    protected RequestSpecBuilder newRequestSpecBuilder(String baseUri) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setContentType(ApiConfig.getContentType())
+                .addHeader("Accept", ApiConfig.getAcceptHeader());
+
+        // Keep the test's writes on a stand-in, in process or behind BASE_URL, out of other tests' sight.
+        // JSONPlaceholder does not get the header, it would only split single-flight keys there.
+        if (ApiConfig.isTestIsolationEnabled() && namespace != null && StandInServer.isStandIn(baseUri)) {
+            builder.addHeader(StandInServer.NAMESPACE_HEADER, namespace);
+        }
+
+        // Record exchanges for the Allure attachment policy
+        if (AllureAttachments.policy().getMode() != AttachmentPolicy.Mode.NEVER) {
+            builder.addFilter(exchangeRecorder);
+        }
+
+        // Record latencies per endpoint for the cross-run baseline
+        if (ApiConfig.isPerfBaselineEnabled()) {
+            builder.addFilter(PerformanceRecorder.shared());
+        }
+
+        // Stream every exchange to the run's HAR file, before coalescing so each caller gets its entry.
+        // The page goes with the specification, so threads the test hands it to record on the test's page.
+        if (ApiConfig.isHarExportEnabled()) {
+            builder.addFilter(testId == null ? HarRecorder.shared() : HarRecorder.shared().forPage(testId));
+        }
+
+        // Coalesce identical concurrent GETs into one network call when enabled
+        if (ApiConfig.isSingleFlightEnabled()) {
+            builder.addFilter(SingleFlightFilter.shared());
+        }
+        return builder;
+    }
+
     /**
      * Teardown method that runs after each test
      * Performs cleanup operations
@@ -60,6 +128,21 @@ public class SetUp {
         RestAssured.reset();
     }
 
+    /**
+     * Inner class: JUnit 5 Extension that names the running test's stand-in namespace and HAR page before its setup runs
+     */
+    public static class TestIdExtension implements BeforeEachCallback {
+
+        @Override
+        public void beforeEach(ExtensionContext context) {
+            Object instance = context.getRequiredTestInstance();
+            if (instance instanceof SetUp) {
+                ((SetUp) instance).testId = context.getUniqueId();
+                ((SetUp) instance).namespace = RUN_ID + "/" + context.getUniqueId();
+            }
+        }
+    }
+
     /**
      * Inner class: JUnit 5 Extension that watches test execution and logs test lifecycle events
      * Implements TestWatcher to monitor test success, failure, and skipped scenarios
@@ -82,6 +165,8 @@ public class SetUp {
                     timestamp,
                     testDisplayName
             ));
+
+            attachExchanges(context, false);
         }
 
         /**
@@ -99,6 +184,8 @@ public class SetUp {
                     testDisplayName,
                     errorMessage
             ));
+
+            attachExchanges(context, true);
         }
 
         /**
@@ -116,5 +203,15 @@ public class SetUp {
                     reason.orElse("No message provided")
             ));
         }
+
+        /**
+         * Attach the HTTP exchanges of the finished test according to the attachment policy
+         */
+        private static void attachExchanges(ExtensionContext context, boolean failed) {
+            context.getTestInstance()
+                    .filter(SetUp.class::isInstance)
+                    .map(instance -> ((SetUp) instance).exchangeRecorder)
+                    .ifPresent(recorder -> AllureAttachments.attachExchanges(recorder.snapshot(), failed));
+        }
     }
 }
\ No newline at end of file
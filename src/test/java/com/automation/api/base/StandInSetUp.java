@@ -0,0 +1,70 @@
+package com.automation.api.base;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.standin.WithFaults;
+
+/**
+ * Base test class for tests running against the local JSONPlaceholder stand-in instead of BASE_URL
+ * Starts the shared stand-in on first use and applies the {@link WithFaults} profile of the running test
+ */
+@ExtendWith(StandInSetUp.FaultProfileExtension.class)
+public class StandInSetUp extends SetUp {
+
+    /**
+     * Fault profile selected for the running test, null when the test runs against a healthy stand-in
+     */
+    protected String faultProfile;
+
+    /**
+     * Stand-in serving the requests of this test
+     */
+    protected StandInServer standIn;
+
+    /**
+     * Setup method that runs before each test
+     * Points REST Assured at the stand-in and adds the fault profile header when one is selected
+     */
+    @BeforeEach
+    @Override
+    public void setUp() {
+        standIn = StandInServer.shared();
+        RestAssured.baseURI = standIn.getBaseUrl();
+
+        RequestSpecBuilder builder = newRequestSpecBuilder(standIn.getBaseUrl());
+        if (faultProfile != null) {
+            builder.addHeader(FaultProfiles.HEADER, faultProfile);
+        }
+        requestSpec = builder.build();
+
+        RestAssured.requestSpecification = requestSpec;
+    }
+
+    /**
+     * Inner class: JUnit 5 Extension that resolves the {@link WithFaults} annotation of the running test
+     * A method annotation takes precedence over the class annotation
+     */
+    public static class FaultProfileExtension implements BeforeEachCallback {
+
+        @Override
+        public void beforeEach(ExtensionContext context) {
+            WithFaults faults = context.getRequiredTestMethod().getAnnotation(WithFaults.class);
+            if (faults == null) {
+                faults = context.getRequiredTestClass().getAnnotation(WithFaults.class);
+            }
+
+            Object instance = context.getRequiredTestInstance();
+            if (faults != null && instance instanceof StandInSetUp) {
+                // Restart the profile's random sequence so every test sees the same fault pattern
+                FaultProfiles.get(faults.value()).reset();
+                ((StandInSetUp) instance).faultProfile = faults.value();
+            }
+        }
+    }
+}
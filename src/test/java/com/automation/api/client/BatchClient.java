@@ -0,0 +1,286 @@
+package com.automation.api.client;
+
+import com.automation.api.utils.Endpoints;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Sends queued operations to the stand-in's {@code Endpoints.BATCH} endpoint, many per round-trip
+ * An operation waits in the queue until {@code maxBatchSize} operations are queued or the first of them has waited
+ * {@code linger}, then the queue goes out as one batch. Each caller gets a future completed with its own operation's
+ * result; when the whole batch fails, every future of the batch fails with it.
+ *
+ * <pre>
+ * try (BatchClient batch = BatchClient.using(requestSpec).maxBatchSize(50)) {
+ *     List&lt;CompletableFuture&lt;BatchResult&gt;&gt; created = new ArrayList&lt;&gt;();
+ *     for (String todo : todos) {
+ *         created.add(batch.post(Endpoints.TODOS, todo));
+ *     }
+ * }
+ * </pre>
+ */
+public final class BatchClient implements AutoCloseable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final RequestSpecification spec;
+    private final Object lock = new Object();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong operations = new AtomicLong();
+    private int maxBatchSize = 50;
+    private Duration linger = Duration.ofMillis(5);
+    private int maxInFlight = 4;
+    private List<Operation> queue = new ArrayList<>();
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> lingering;
+    private boolean closed;
+
+    private BatchClient(RequestSpecification spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Create a client sending batches with the base URI, headers and filters of a request specification
+     */
+    public static BatchClient using(RequestSpecification spec) {
+        return new BatchClient(spec);
+    }
+
+    /**
+     * Number of queued operations that sends a batch right away, at most the stand-in's limit of 1000
+     */
+    public BatchClient maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0 || maxBatchSize > 1000) {
+            throw new IllegalArgumentException("Max batch size must be between 1 and 1000, got: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Longest time an operation waits in the queue for others to share its batch
+     */
+    public BatchClient linger(Duration linger) {
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("Linger must not be negative, got: " + linger);
+        }
+        this.linger = linger;
+        return this;
+    }
+
+    /**
+     * Maximum number of batches sent at the same time, set before the first operation is queued
+     *
+     * @throws IllegalStateException when operations were queued already, the senders are started by then
+     */
+    public BatchClient maxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight batches must be positive, got: " + maxInFlight);
+        }
+        synchronized (lock) {
+            if (executor != null) {
+                throw new IllegalStateException("Max in-flight batches must be set before the first operation is queued");
+            }
+            this.maxInFlight = maxInFlight;
+        }
+        return this;
+    }
+
+    public CompletableFuture<BatchResult> get(String path) {
+        return send("GET", path, null);
+    }
+
+    public CompletableFuture<BatchResult> delete(String path) {
+        return send("DELETE", path, null);
+    }
+
+    public CompletableFuture<BatchResult> post(String path, String body) {
+        return send("POST", path, body);
+    }
+
+    public CompletableFuture<BatchResult> put(String path, String body) {
+        return send("PUT", path, body);
+    }
+
+    public CompletableFuture<BatchResult> patch(String path, String body) {
+        return send("PATCH", path, body);
+    }
+
+    /**
+     * Queue an operation
+     *
+     * @param path the path of the operation, e.g. {@code Endpoints.TODOS}, with a query when needed
+     * @param body the JSON body, or null
+     * @return a future completed with the operation's result once its batch is answered
+     * @throws IllegalArgumentException when the body is not JSON
+     */
+    public CompletableFuture<BatchResult> send(String method, String path, String body) {
+        JsonNode json = null;
+        if (body != null) {
+            try {
+                json = MAPPER.readTree(body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Body of " + method + " " + path + " is not JSON: " + e.getOriginalMessage());
+            }
+        }
+        Operation operation = new Operation(method, path, json);
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Batch client is closed");
+            }
+            if (executor == null) {
+                executor = Executors.newScheduledThreadPool(maxInFlight, runnable -> {
+                    Thread thread = new Thread(runnable, "batch-client");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            queue.add(operation);
+            if (queue.size() >= maxBatchSize) {
+                flushLocked();
+            } else if (queue.size() == 1) {
+                lingering = executor.schedule(this::flush, linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return operation.result;
+    }
+
+    /**
+     * Send the queued operations now instead of waiting for the batch to fill up or the linger to pass
+     */
+    public void flush() {
+        synchronized (lock) {
+            flushLocked();
+        }
+    }
+
+    /**
+     * Get the number of batches answered with 200 so far, the round-trips the operations took
+     */
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * Get the number of operations sent in batches answered with 200 so far
+     */
+    public long getOperations() {
+        return operations.get();
+    }
+
+    /**
+     * Send what is queued and wait until every batch is answered
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService sending;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushLocked();
+            sending = executor;
+        }
+        if (sending == null) {
+            return;
+        }
+        sending.shutdown();
+        try {
+            sending.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLocked() {
+        if (lingering != null) {
+            lingering.cancel(false);
+            lingering = null;
+        }
+        if (queue.isEmpty()) {
+            return;
+        }
+        List<Operation> batch = queue;
+        queue = new ArrayList<>();
+        executor.execute(() -> sendBatch(batch));
+    }
+
+    private void sendBatch(List<Operation> batch) {
+        try {
+            Response response = given().spec(spec).contentType(ContentType.JSON).body(encode(batch)).post(Endpoints.BATCH);
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Batch of " + batch.size() + " operations answered " + response.statusCode()
+                        + ": " + response.asString());
+            }
+            batches.incrementAndGet();
+            operations.addAndGet(batch.size());
+            JsonNode results = MAPPER.readTree(response.asByteArray());
+            if (!results.isArray() || results.size() != batch.size()) {
+                throw new IllegalStateException("Batch of " + batch.size() + " operations answered with "
+                        + results.size() + " results");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                JsonNode result = results.get(i);
+                batch.get(i).result.complete(new BatchResult(result.path("status").asInt(), result.path("body").toString()));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Operation operation : batch) {
+                operation.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static byte[] encode(List<Operation> batch) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * batch.size());
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (Operation operation : batch) {
+                generator.writeStartObject();
+                generator.writeStringField("method", operation.method);
+                generator.writeStringField("path", operation.path);
+                if (operation.body != null) {
+                    generator.writeFieldName("body");
+                    MAPPER.writeTree(generator, operation.body);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Operation {
+        final String method;
+        final String path;
+        final JsonNode body;
+        final CompletableFuture<BatchResult> result = new CompletableFuture<>();
+
+        Operation(String method, String path, JsonNode body) {
+            this.method = method;
+            this.path = path;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.automation.api.client;
+
+import io.restassured.path.json.JsonPath;
+
+/**
+ * Status and body of one operation sent through a {@link BatchClient}
+ */
+public final class BatchResult {
+    private final int statusCode;
+    private final String body;
+
+    BatchResult(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get the JSON body of the operation's response
+     */
+    public String body() {
+        return body;
+    }
+
+    /**
+     * Get a value out of the body with a REST Assured JSON path, e.g. {@code "id"}
+     */
+    public <T> T path(String path) {
+        return JsonPath.from(body).get(path);
+    }
+
+    @Override
+    public String toString() {
+        return statusCode + " " + body;
+    }
+}
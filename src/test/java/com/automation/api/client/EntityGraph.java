@@ -0,0 +1,91 @@
+package com.automation.api.client;
+
+import com.automation.api.utils.Resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entities resolved by {@link GraphFetcher}, indexed by resource and id and by parent id
+ */
+public final class EntityGraph {
+    private final Map<Resource, Map<Integer, Map<String, Object>>> entities = new EnumMap<>(Resource.class);
+    private final Map<Resource, Map<Integer, List<Map<String, Object>>>> byParent = new EnumMap<>(Resource.class);
+    private int requestCount;
+
+    EntityGraph() {
+    }
+
+    /**
+     * Add an entity, ignoring it when the same resource and id is already present
+     *
+     * @return true when the entity was new
+     */
+    boolean add(Resource resource, Map<String, Object> entity) {
+        Integer id = (Integer) entity.get("id");
+        Map<Integer, Map<String, Object>> byId = entities.computeIfAbsent(resource, k -> new LinkedHashMap<>());
+        if (byId.putIfAbsent(id, entity) != null) {
+            return false;
+        }
+        if (resource.getForeignKey() != null && entity.get(resource.getForeignKey()) instanceof Integer) {
+            Integer parentId = (Integer) entity.get(resource.getForeignKey());
+            byParent.computeIfAbsent(resource, k -> new HashMap<>())
+                    .computeIfAbsent(parentId, k -> new ArrayList<>())
+                    .add(entity);
+        }
+        return true;
+    }
+
+    void countRequest() {
+        requestCount++;
+    }
+
+    /**
+     * Get one entity
+     *
+     * @return the entity, or null when it was not fetched
+     */
+    public Map<String, Object> get(Resource resource, int id) {
+        return entities.getOrDefault(resource, Collections.emptyMap()).get(id);
+    }
+
+    /**
+     * Get every fetched entity of a resource in the order it was received
+     */
+    public Collection<Map<String, Object>> all(Resource resource) {
+        return Collections.unmodifiableCollection(entities.getOrDefault(resource, Collections.emptyMap()).values());
+    }
+
+    /**
+     * Get the number of fetched entities of a resource
+     */
+    public int size(Resource resource) {
+        return entities.getOrDefault(resource, Collections.emptyMap()).size();
+    }
+
+    /**
+     * Get the fetched children of one parent entity, e.g. the comments of post 1
+     *
+     * @throws IllegalArgumentException when the child resource does not reference the parent resource
+     */
+    public List<Map<String, Object>> childrenOf(Resource parent, int parentId, Resource child) {
+        if (child.getParent() != parent) {
+            throw new IllegalArgumentException(child + " does not belong to " + parent);
+        }
+        return Collections.unmodifiableList(byParent.getOrDefault(child, Collections.emptyMap())
+                .getOrDefault(parentId, Collections.emptyList()));
+    }
+
+    /**
+     * Get the number of HTTP requests issued to build the graph
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+}
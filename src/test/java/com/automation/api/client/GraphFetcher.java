@@ -0,0 +1,196 @@
+package com.automation.api.client;
+
+import com.automation.api.utils.Resource;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Resolves a root entity and its related resources level by level
+ * Instead of one request per parent, each level issues batched filter queries such as
+ * {@code /comments?postId=1&postId=2...}, concurrently, and never asks for the same parent twice
+ *
+ * <pre>
+ * EntityGraph graph = GraphFetcher.using(requestSpec).fetch(Resource.USERS, 1);
+ * graph.childrenOf(Resource.POSTS, 1, Resource.COMMENTS);
+ * </pre>
+ */
+public final class GraphFetcher {
+    private final RequestSpecification spec;
+    private final Set<Resource> included = EnumSet.allOf(Resource.class);
+    private int batchSize = 50;
+    private int parallelism = 8;
+
+    private GraphFetcher(RequestSpecification spec) {
+        this.spec = spec;
+    }
+
+    public static GraphFetcher using(RequestSpecification spec) {
+        return new GraphFetcher(spec);
+    }
+
+    /**
+     * Only follow relations into the given resources, e.g. posts and comments but not albums
+     */
+    public GraphFetcher only(Resource... resources) {
+        included.clear();
+        included.addAll(Arrays.asList(resources));
+        return this;
+    }
+
+    /**
+     * Maximum number of parent ids sent in one filter query, which keeps URLs bounded
+     */
+    public GraphFetcher batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Maximum number of requests running at the same time
+     */
+    public GraphFetcher parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive, got: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Fetch the root entities and everything reachable from them through the included resources
+     */
+    public EntityGraph fetch(Resource root, int... ids) {
+        if (ids.length == 0) {
+            throw new IllegalArgumentException("At least one root id is required");
+        }
+        EntityGraph graph = new EntityGraph();
+        Map<Resource, Set<Integer>> queried = new EnumMap<>(Resource.class);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "graph-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Set<Integer> rootIds = new LinkedHashSet<>();
+            Arrays.stream(ids).forEach(rootIds::add);
+            Map<Resource, Set<Integer>> frontier = resolve(executor, graph, List.of(new Batch(root, "id", new ArrayList<>(rootIds))));
+
+            while (!frontier.isEmpty()) {
+                List<Batch> batches = new ArrayList<>();
+                for (Map.Entry<Resource, Set<Integer>> parents : frontier.entrySet()) {
+                    for (Resource child : parents.getKey().getChildren()) {
+                        if (!included.contains(child)) {
+                            continue;
+                        }
+                        // Skip parents whose children were already requested
+                        Set<Integer> seen = queried.computeIfAbsent(child, k -> new HashSet<>());
+                        List<Integer> pending = new ArrayList<>();
+                        for (Integer parentId : parents.getValue()) {
+                            if (seen.add(parentId)) {
+                                pending.add(parentId);
+                            }
+                        }
+                        for (int from = 0; from < pending.size(); from += batchSize) {
+                            List<Integer> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+                            batches.add(new Batch(child, child.getForeignKey(), chunk));
+                        }
+                    }
+                }
+                frontier = batches.isEmpty() ? Map.of() : resolve(executor, graph, batches);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return graph;
+    }
+
+    /**
+     * Run one level of batches concurrently and merge the results into the graph
+     *
+     * @return the ids of newly added entities per resource, which form the next level
+     */
+    private Map<Resource, Set<Integer>> resolve(ExecutorService executor, EntityGraph graph, List<Batch> batches) {
+        List<Future<List<Map<String, Object>>>> futures = new ArrayList<>();
+        for (Batch batch : batches) {
+            futures.add(executor.submit(() -> query(batch)));
+        }
+
+        Map<Resource, Set<Integer>> added = new EnumMap<>(Resource.class);
+        for (int i = 0; i < batches.size(); i++) {
+            Resource resource = batches.get(i).resource;
+            graph.countRequest();
+            for (Map<String, Object> entity : await(futures.get(i))) {
+                if (graph.add(resource, entity)) {
+                    added.computeIfAbsent(resource, k -> new LinkedHashSet<>()).add((Integer) entity.get("id"));
+                }
+            }
+        }
+        return added;
+    }
+
+    private List<Map<String, Object>> query(Batch batch) {
+        Response response = given()
+                .spec(spec)
+                .queryParam(batch.field, batch.values)
+        .when()
+                .get(batch.resource.getPath())
+        .then()
+                .extract()
+                .response();
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Fetching " + batch.resource.getPath() + " by " + batch.field
+                    + " failed with status " + response.statusCode());
+        }
+        return response.jsonPath().getList("$");
+    }
+
+    private static List<Map<String, Object>> await(Future<List<Map<String, Object>>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching the entity graph", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Fetching the entity graph failed", e.getCause());
+        }
+    }
+
+    /**
+     * One filter query: every entity of the resource whose field matches one of the values
+     */
+    private static final class Batch {
+        private final Resource resource;
+        private final String field;
+        private final List<Integer> values;
+
+        private Batch(Resource resource, String field, List<Integer> values) {
+            this.resource = resource;
+            this.field = field;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.automation.api.client;
+
+import com.automation.api.utils.Resource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Partial update of one entity as a JSON merge patch (RFC 7386), the body of a PATCH request
+ * Only the fields set or removed are sent, the server keeps every other field as it was.
+ * Nested fields are addressed with dots, e.g. {@code address.city}; the id and the required
+ * fields of the resource cannot be removed, a patch doing so fails here rather than on the server.
+ *
+ * <pre>
+ * given().spec(requestSpec).contentType(ContentType.JSON)
+ *         .body(MergePatch.of(Resource.USERS).set("address.city", "Lisbon").remove("website").toJson())
+ *         .patch(Endpoints.userById(1));
+ * </pre>
+ */
+public final class MergePatch {
+
+    /**
+     * Media type of a merge patch, servers that do not know it take the same body as application/json
+     */
+    public static final String CONTENT_TYPE = "application/merge-patch+json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Resource resource;
+    private final ObjectNode patch = MAPPER.createObjectNode();
+
+    private MergePatch(Resource resource) {
+        this.resource = resource;
+    }
+
+    /**
+     * Start an empty patch of an entity of a resource
+     */
+    public static MergePatch of(Resource resource) {
+        return new MergePatch(resource);
+    }
+
+    /**
+     * Set a field, replacing its value; an object value is merged into the field's current object
+     *
+     * @param value any value Jackson can serialize, not null (see {@link #remove(String)})
+     */
+    public MergePatch set(String field, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("A null value removes the field, use remove(\"" + field + "\")");
+        }
+        JsonNode node = MAPPER.valueToTree(value);
+        parent(field).set(leaf(field), node);
+        return this;
+    }
+
+    /**
+     * Remove a field, written as null in the patch
+     */
+    public MergePatch remove(String field) {
+        if (resource.getRequiredFields().contains(field)) {
+            throw new IllegalArgumentException("Cannot remove required field of " + resource + ": " + field);
+        }
+        parent(field).putNull(leaf(field));
+        return this;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    /**
+     * Get the number of top-level fields the patch changes
+     */
+    public int size() {
+        return patch.size();
+    }
+
+    /**
+     * Get the patch as the JSON body of a PATCH request
+     */
+    public String toJson() {
+        try {
+            return MAPPER.writeValueAsString(patch);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    /**
+     * Get the object holding the last segment of a dotted field, creating the objects on the way
+     */
+    private ObjectNode parent(String field) {
+        if (field == null || field.isEmpty() || field.startsWith(".") || field.endsWith(".") || field.contains("..")) {
+            throw new IllegalArgumentException("Invalid field: " + field);
+        }
+        if (field.equals("id")) {
+            throw new IllegalArgumentException("The id of " + resource + " cannot be patched");
+        }
+        String[] segments = field.split("\\.");
+        ObjectNode object = patch;
+        for (int i = 0; i < segments.length - 1; i++) {
+            JsonNode child = object.get(segments[i]);
+            if (child != null && !child.isObject()) {
+                throw new IllegalArgumentException("Field " + field + " is inside " + segments[i] + ", which the patch sets to "
+                        + child);
+            }
+            object = child != null ? (ObjectNode) child : object.putObject(segments[i]);
+        }
+        return object;
+    }
+
+    private static String leaf(String field) {
+        return field.substring(field.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.automation.api.client;
+
+import com.automation.api.utils.Endpoints;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams a collection of the stand-in as newline-delimited JSON ({@code format=ndjson}), one record at a time
+ * Records are parsed off the connection as the stream is consumed, and nothing more is read ahead than a socket buffer:
+ * a slow consumer stops reading, the connection fills up and the server waits to write more, so neither side holds
+ * more than a few records of a collection of any size. Closing the stream early closes the connection.
+ *
+ * <pre>
+ * try (Stream&lt;Map&lt;String, Object&gt;&gt; photos = NdjsonReader.using(requestSpec).stream(Endpoints.PHOTOS)) {
+ *     photos.forEach(...);
+ * }
+ * </pre>
+ */
+public final class NdjsonReader {
+    private static final ObjectReader RECORD_READER = new ObjectMapper().readerFor(Map.class);
+
+    private final StatusOnlyClient client;
+
+    private NdjsonReader(StatusOnlyClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Create a reader sending to the base URI, headers and query parameters of a request specification
+     */
+    public static NdjsonReader using(RequestSpecification spec) {
+        return new NdjsonReader(StatusOnlyClient.using(spec));
+    }
+
+    /**
+     * Stream the records of a collection path, e.g. {@code Endpoints.PHOTOS}, which may carry filters and pagination
+     * The stream must be closed, it holds the connection until then.
+     *
+     * @throws IllegalStateException when the server does not answer 200
+     */
+    public Stream<Map<String, Object>> stream(String path) {
+        String target = path + (path.indexOf('?') < 0 ? "?" : "&") + Endpoints.FORMAT_PARAM + "=" + Endpoints.NDJSON_FORMAT;
+        HttpResponse<InputStream> response;
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        try {
+            response = StatusOnlyClient.httpClient().send(client.newRequest(target).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            // The records are read by the caller after this returns, so the body is neither captured nor timed
+            client.record(response, null, null, startedAt, System.nanoTime() - start, 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("GET " + target + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending GET " + target, e);
+        }
+
+        InputStream body = response.body();
+        if (response.statusCode() != 200) {
+            closeQuietly(body);
+            throw new IllegalStateException("GET " + target + " answered " + response.statusCode());
+        }
+        MappingIterator<Map<String, Object>> records;
+        try {
+            records = RECORD_READER.readValues(body);
+        } catch (IOException e) {
+            closeQuietly(body);
+            throw new UncheckedIOException(e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        records.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Hand every record of a collection path to an action as it arrives
+     *
+     * @return the number of records
+     */
+    public long forEach(String path, Consumer<Map<String, Object>> action) {
+        long count = 0;
+        try (Stream<Map<String, Object>> records = stream(path)) {
+            for (Iterator<Map<String, Object>> iterator = records.iterator(); iterator.hasNext(); count++) {
+                action.accept(iterator.next());
+            }
+        }
+        return count;
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // Only the connection is lost, which is what closing is for
+        }
+    }
+}
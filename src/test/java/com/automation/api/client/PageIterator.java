@@ -0,0 +1,145 @@
+package com.automation.api.client;
+
+import com.automation.api.utils.Endpoints;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Iterator returned by {@link Paginator}
+ * Keeps up to {@code maxInFlight} page requests running ahead of the consumer and stops
+ * as soon as a short page (or the X-Total-Count header) shows the end of the collection
+ */
+public final class PageIterator implements Iterator<Map<String, Object>>, AutoCloseable {
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final RequestSpecification spec;
+    private final String path;
+    private final Map<String, Object> filters;
+    private final int pageSize;
+    private final int maxInFlight;
+    private final Paginator.Style style;
+    private final ExecutorService executor;
+    private final Deque<Future<List<Map<String, Object>>>> inFlight = new ArrayDeque<>();
+
+    private Iterator<Map<String, Object>> current = Collections.emptyIterator();
+    private int nextPage;
+    private boolean lastPageSeen;
+    private volatile int totalCount = -1;
+
+    PageIterator(RequestSpecification spec, String path, Map<String, Object> filters,
+                 int pageSize, int maxInFlight, Paginator.Style style) {
+        this.spec = spec;
+        this.path = path;
+        this.filters = Map.copyOf(filters);
+        this.pageSize = pageSize;
+        this.maxInFlight = maxInFlight;
+        this.style = style;
+        this.executor = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "page-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fillPipeline();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (inFlight.isEmpty()) {
+                close();
+                return false;
+            }
+            List<Map<String, Object>> page = await(inFlight.removeFirst());
+            if (page.size() < pageSize) {
+                // Pages are requested in order, so everything queued behind a short page is past the end
+                lastPageSeen = true;
+                inFlight.forEach(future -> future.cancel(true));
+                inFlight.clear();
+            }
+            current = page.iterator();
+            fillPipeline();
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Cancel outstanding page requests and release the prefetch threads
+     */
+    @Override
+    public void close() {
+        inFlight.forEach(future -> future.cancel(true));
+        inFlight.clear();
+        executor.shutdownNow();
+    }
+
+    private void fillPipeline() {
+        while (!lastPageSeen && inFlight.size() < maxInFlight && !pastKnownEnd(nextPage)) {
+            int pageIndex = nextPage++;
+            inFlight.addLast(executor.submit(() -> fetchPage(pageIndex)));
+        }
+    }
+
+    private boolean pastKnownEnd(int pageIndex) {
+        int total = totalCount;
+        return total >= 0 && (long) pageIndex * pageSize >= total;
+    }
+
+    private List<Map<String, Object>> fetchPage(int pageIndex) {
+        RequestSpecification request = given().spec(spec).queryParams(filters).queryParam(Endpoints.LIMIT_PARAM, pageSize);
+        if (style == Paginator.Style.PAGE) {
+            request.queryParam(Endpoints.PAGE_PARAM, pageIndex + 1);
+        } else {
+            request.queryParam(Endpoints.START_PARAM, pageIndex * pageSize);
+        }
+
+        Response response = request.when().get(path).then().extract().response();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Fetching page " + (pageIndex + 1) + " of " + path
+                    + " failed with status " + response.statusCode());
+        }
+
+        String total = response.header(TOTAL_COUNT_HEADER);
+        if (total != null) {
+            totalCount = Integer.parseInt(total);
+        }
+        return response.jsonPath().getList("$");
+    }
+
+    private List<Map<String, Object>> await(Future<List<Map<String, Object>>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("Interrupted while waiting for a page of " + path, e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Fetching a page of " + path + " failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.automation.api.client;
+
+import io.restassured.specification.RequestSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Paginated fetch over an {@code Endpoints} collection
+ * Items are streamed page by page while the following pages are fetched concurrently,
+ * so at most {@code maxInFlight + 1} pages are held in memory at any time
+ *
+ * <pre>
+ * try (Stream&lt;Map&lt;String, Object&gt;&gt; photos = Paginator.over(requestSpec, Endpoints.PHOTOS).pageSize(500).stream()) {
+ *     photos.forEach(...);
+ * }
+ * </pre>
+ */
+public final class Paginator {
+
+    /**
+     * Query parameters used to address a page
+     */
+    public enum Style {
+        /** {@code _page} (1-based) with {@code _limit} */
+        PAGE,
+        /** {@code _start} (0-based offset) with {@code _limit} */
+        START
+    }
+
+    private final RequestSpecification spec;
+    private final String path;
+    private final Map<String, Object> filters = new LinkedHashMap<>();
+    private int pageSize = 100;
+    private int maxInFlight = 2;
+    private Style style = Style.PAGE;
+
+    private Paginator(RequestSpecification spec, String path) {
+        this.spec = spec;
+        this.path = path;
+    }
+
+    /**
+     * Paginate over a collection path, e.g. {@code Endpoints.PHOTOS}
+     */
+    public static Paginator over(RequestSpecification spec, String path) {
+        return new Paginator(spec, path);
+    }
+
+    /**
+     * Number of items requested per page
+     */
+    public Paginator pageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive, got: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Maximum number of pages requested ahead of the page being consumed
+     */
+    public Paginator maxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight pages must be positive, got: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public Paginator style(Style style) {
+        this.style = style;
+        return this;
+    }
+
+    /**
+     * Add an equality filter sent with every page, e.g. {@code where("albumId", 1)}
+     */
+    public Paginator where(String field, Object value) {
+        filters.put(field, value);
+        return this;
+    }
+
+    /**
+     * Start fetching and return an iterator over the items
+     * The iterator must be closed when abandoned before the end to stop the prefetch threads
+     */
+    public PageIterator iterator() {
+        return new PageIterator(spec, path, filters, pageSize, maxInFlight, style);
+    }
+
+    /**
+     * Start fetching and return a sequential stream over the items
+     * Closing the stream stops any outstanding prefetch
+     */
+    public Stream<Map<String, Object>> stream() {
+        PageIterator iterator = iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+}
@@ -0,0 +1,133 @@
+package com.automation.api.client;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * REST Assured filter that coalesces identical in-flight GET requests into one network call
+ * The first caller performs the request, callers arriving while it is in flight wait for it
+ * and receive their own copy of the response. Nothing is cached once the call completes,
+ * so sequential requests still reach the server and test semantics are unchanged.
+ * Requests are identical when method, full URI and the keyed headers match.
+ */
+public final class SingleFlightFilter implements Filter {
+    private static final List<String> DEFAULT_KEY_HEADERS = List.of(
+            "Accept", "Accept-Encoding", "Authorization", "Cookie", "X-Fault-Profile", "X-Stand-In-Namespace");
+    private static final SingleFlightFilter SHARED = new SingleFlightFilter(DEFAULT_KEY_HEADERS);
+
+    private final Set<String> keyHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final ConcurrentMap<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong networkCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    /**
+     * Create a filter keyed on the given request headers in addition to method and URI
+     */
+    public SingleFlightFilter(List<String> keyHeaders) {
+        this.keyHeaders.addAll(keyHeaders);
+    }
+
+    /**
+     * Create a filter keyed on the default headers
+     */
+    public SingleFlightFilter() {
+        this(DEFAULT_KEY_HEADERS);
+    }
+
+    /**
+     * Get the filter shared by every test of the run, so parallel test classes coalesce with each other
+     */
+    public static SingleFlightFilter shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String key = keyOf(requestSpec);
+        CompletableFuture<Response> mine = new CompletableFuture<>();
+        CompletableFuture<Response> leader = inFlight.putIfAbsent(key, mine);
+
+        if (leader != null) {
+            coalescedCalls.incrementAndGet();
+            return copyOf(join(leader));
+        }
+
+        networkCalls.incrementAndGet();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            // Buffer the body once so every waiter can read its own copy
+            response.asByteArray();
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Get the number of GETs that went to the network
+     */
+    public long getNetworkCalls() {
+        return networkCalls.get();
+    }
+
+    /**
+     * Get the number of GETs answered by another caller's in-flight request
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    private String keyOf(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        // Headers are sorted by name so equivalent requests build the same key
+        Set<String> sorted = new TreeSet<>();
+        for (Header header : requestSpec.getHeaders()) {
+            if (keyHeaders.contains(header.getName())) {
+                sorted.add(header.getName().toLowerCase() + ": " + header.getValue());
+            }
+        }
+        for (String header : sorted) {
+            key.append('\n').append(header);
+        }
+        return key.toString();
+    }
+
+    private static Response copyOf(Response response) {
+        return new ResponseBuilder().clone(response).setBody(response.asByteArray()).build();
+    }
+
+    private static Response join(CompletableFuture<Response> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.automation.api.client;
+
+import com.automation.api.reporting.ClientExchange;
+import com.automation.api.reporting.ExchangeListener;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Lightweight execution mode for tests that only assert the status code or headers
+ * The response body is discarded as it arrives instead of being buffered, and the
+ * pooled connection is handed back as soon as the body has been drained.
+ * Requests bypass REST Assured, so the recording filters of the specification (Allure exchanges,
+ * performance baseline, HAR export) are called as {@link ExchangeListener}s instead.
+ *
+ * <pre>
+ * int statusCode = StatusOnlyClient.using(requestSpec).get(Endpoints.postById(PostsData.INVALID_ID)).statusCode();
+ * </pre>
+ */
+public final class StatusOnlyClient {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    // Headers the JDK client manages itself and refuses to set
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private final String baseUri;
+    private final List<String> headers = new ArrayList<>();
+    private final List<ExchangeListener> listeners = new ArrayList<>();
+    private final String queryString;
+
+    private StatusOnlyClient(String baseUri, String queryString) {
+        this.baseUri = baseUri;
+        this.queryString = queryString;
+    }
+
+    /**
+     * Create a client sending to the base URI, base path, headers, content type and query parameters of a request specification
+     */
+    public static StatusOnlyClient using(RequestSpecification spec) {
+        QueryableRequestSpecification query = SpecificationQuerier.query(spec);
+
+        StringBuilder queryString = new StringBuilder();
+        for (Map.Entry<String, ?> param : query.getQueryParams().entrySet()) {
+            Iterable<?> values = param.getValue() instanceof Iterable ? (Iterable<?>) param.getValue() : List.of(param.getValue());
+            for (Object value : values) {
+                queryString.append(queryString.length() == 0 ? '?' : '&')
+                        .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
+            }
+        }
+
+        String basePath = query.getBasePath() == null ? "" : query.getBasePath();
+        StatusOnlyClient client = new StatusOnlyClient(query.getBaseUri() + basePath, queryString.toString());
+        for (Header header : query.getHeaders()) {
+            client.header(header.getName(), header.getValue());
+        }
+        if (query.getContentType() != null && !query.getHeaders().hasHeaderWithName("Content-Type")) {
+            client.header("Content-Type", query.getContentType());
+        }
+        for (Filter filter : query.getDefinedFilters()) {
+            if (filter instanceof ExchangeListener) {
+                client.listeners.add((ExchangeListener) filter);
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Add a header to every request of this client
+     */
+    public StatusOnlyClient header(String name, String value) {
+        if (!RESTRICTED_HEADERS.contains(name)) {
+            headers.add(name);
+            headers.add(value);
+        }
+        return this;
+    }
+
+    public StatusResponse get(String path) {
+        return send("GET", path, null);
+    }
+
+    public StatusResponse delete(String path) {
+        return send("DELETE", path, null);
+    }
+
+    public StatusResponse post(String path, String body) {
+        return send("POST", path, body);
+    }
+
+    public StatusResponse put(String path, String body) {
+        return send("PUT", path, body);
+    }
+
+    public StatusResponse patch(String path, String body) {
+        return send("PATCH", path, body);
+    }
+
+    /**
+     * Send a request and return its status and headers, discarding the body
+     */
+    public StatusResponse send(String method, String path, String body) {
+        HttpRequest.Builder request = newRequest(path)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = CLIENT.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            long elapsed = System.nanoTime() - start;
+            record(response, body == null ? null : body.getBytes(StandardCharsets.UTF_8), null, startedAt, elapsed, 0);
+            return new StatusResponse(response.statusCode(), response.headers().map(), elapsed / 1_000_000);
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + method + " " + path, e);
+        }
+    }
+
+    /**
+     * Hand an exchange to the recording filters of the specification
+     *
+     * @param responseBody the body, null when it was discarded or streamed
+     */
+    void record(HttpResponse<?> response, byte[] requestBody, byte[] responseBody, Instant startedAt, long waitNanos,
+                long receiveNanos) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        HttpRequest request = response.request();
+        ClientExchange exchange = new ClientExchange(request.method(), request.uri().toString(), request.headers().map(),
+                requestBody, response.statusCode(), response.headers().map(), responseBody, startedAt, waitNanos, receiveNanos);
+        for (ExchangeListener listener : listeners) {
+            listener.onExchange(exchange);
+        }
+    }
+
+    /**
+     * Start a request to a path, which may carry a query of its own, with the headers and query of the specification
+     */
+    HttpRequest.Builder newRequest(String path) {
+        String query = queryString;
+        if (path.indexOf('?') >= 0 && !query.isEmpty()) {
+            query = "&" + query.substring(1);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUri + path + query)).timeout(TIMEOUT);
+        if (!headers.isEmpty()) {
+            request.headers(headers.toArray(new String[0]));
+        }
+        return request;
+    }
+
+    /**
+     * Get the pooled client every request of this class goes through
+     */
+    static HttpClient httpClient() {
+        return CLIENT;
+    }
+}
@@ -0,0 +1,48 @@
+package com.automation.api.client;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Status line and headers of a response whose body was discarded by {@link StatusOnlyClient}
+ */
+public final class StatusResponse {
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final long timeMillis;
+
+    StatusResponse(int statusCode, Map<String, List<String>> headers, long timeMillis) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.timeMillis = timeMillis;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get the first value of a header, matched case-insensitively
+     *
+     * @return the value, or null when absent
+     */
+    public String header(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the time from sending the request until the discarded body was fully drained
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+}
@@ -10,6 +10,32 @@ public class ApiConfig {
     private static final Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
     private static final String BASE_URL = dotenv.get("BASE_URL");
 
+    // Opt-in client layers, enabled with "true"
+    private static final boolean SINGLE_FLIGHT = Boolean.parseBoolean(dotenv.get("SINGLE_FLIGHT", "false"));
+
+    // Per-test namespaces on the stand-in, disabled with "false"
+    private static final boolean TEST_ISOLATION = Boolean.parseBoolean(dotenv.get("TEST_ISOLATION", "true"));
+
+    // Allure attachment policy for recorded HTTP exchanges
+    private static final String ATTACH_MODE = dotenv.get("ALLURE_ATTACH_MODE", "failure");
+    private static final int ATTACH_MAX_INLINE_BYTES = Integer.parseInt(dotenv.get("ALLURE_ATTACH_MAX_INLINE_BYTES", "65536"));
+    private static final boolean ATTACH_GZIP = Boolean.parseBoolean(dotenv.get("ALLURE_ATTACH_GZIP", "true"));
+    private static final long ATTACH_RUN_BUDGET_BYTES = Long.parseLong(dotenv.get("ALLURE_ATTACH_RUN_BUDGET_BYTES", "52428800"));
+    private static final int ATTACH_MAX_EXCHANGES = Integer.parseInt(dotenv.get("ALLURE_ATTACH_MAX_EXCHANGES", "20"));
+
+    // Cross-run performance baseline and regression detection
+    private static final boolean PERF_BASELINE = Boolean.parseBoolean(dotenv.get("PERF_BASELINE", "false"));
+    private static final String PERF_BASELINE_DIR = dotenv.get("PERF_BASELINE_DIR", "perf-baseline");
+    private static final int PERF_BASELINE_RUNS = Integer.parseInt(dotenv.get("PERF_BASELINE_RUNS", "5"));
+    private static final double PERF_REGRESSION_ALPHA = Double.parseDouble(dotenv.get("PERF_REGRESSION_ALPHA", "0.01"));
+    private static final double PERF_REGRESSION_MIN_RATIO = Double.parseDouble(dotenv.get("PERF_REGRESSION_MIN_RATIO", "1.2"));
+    private static final boolean PERF_FAIL_ON_REGRESSION = Boolean.parseBoolean(dotenv.get("PERF_FAIL_ON_REGRESSION", "false"));
+
+    // HAR export of all suite traffic
+    private static final boolean HAR_EXPORT = Boolean.parseBoolean(dotenv.get("HAR_EXPORT", "false"));
+    private static final String HAR_FILE = dotenv.get("HAR_FILE", "target/har/suite.har");
+    private static final int HAR_MAX_BODY_BYTES = Integer.parseInt(dotenv.get("HAR_MAX_BODY_BYTES", "65536"));
+
     // Base URI constant for JSONPlaceholder API
     private static final String BASE_URI = BASE_URL;
 
@@ -62,5 +88,148 @@ public class ApiConfig {
     public static String getContentTypeWithCharset() {
         return CONTENT_TYPE + "; charset=" + CHARSET;
     }
-}
 
+    /**
+     * Check whether identical concurrent GETs are coalesced into one network call
+     *
+     * @return true when SINGLE_FLIGHT is set to "true"
+     */
+    public static boolean isSingleFlightEnabled() {
+        return SINGLE_FLIGHT;
+    }
+
+    /**
+     * Check whether each test's requests name its own stand-in namespace, isolating its writes from other tests
+     *
+     * @return the TEST_ISOLATION value, true by default
+     */
+    public static boolean isTestIsolationEnabled() {
+        return TEST_ISOLATION;
+    }
+
+    /**
+     * Get when HTTP bodies are attached to the Allure report: never, failure or always
+     *
+     * @return the ALLURE_ATTACH_MODE value, "failure" by default
+     */
+    public static String getAttachMode() {
+        return ATTACH_MODE;
+    }
+
+    /**
+     * Get the largest body attached as is, larger bodies are truncated
+     *
+     * @return the ALLURE_ATTACH_MAX_INLINE_BYTES value, 64 KB by default
+     */
+    public static int getAttachMaxInlineBytes() {
+        return ATTACH_MAX_INLINE_BYTES;
+    }
+
+    /**
+     * Check whether truncated bodies are also attached in full as gzip
+     *
+     * @return the ALLURE_ATTACH_GZIP value, true by default
+     */
+    public static boolean isAttachGzipEnabled() {
+        return ATTACH_GZIP;
+    }
+
+    /**
+     * Get the total attachment bytes one run may write
+     *
+     * @return the ALLURE_ATTACH_RUN_BUDGET_BYTES value, 50 MB by default
+     */
+    public static long getAttachRunBudgetBytes() {
+        return ATTACH_RUN_BUDGET_BYTES;
+    }
+
+    /**
+     * Get how many of the most recent exchanges of a test are kept for attachments
+     *
+     * @return the ALLURE_ATTACH_MAX_EXCHANGES value, 20 by default
+     */
+    public static int getAttachMaxExchanges() {
+        return ATTACH_MAX_EXCHANGES;
+    }
+
+    /**
+     * Check whether request latencies and test durations are stored and compared across runs
+     *
+     * @return the PERF_BASELINE value, false by default
+     */
+    public static boolean isPerfBaselineEnabled() {
+        return PERF_BASELINE;
+    }
+
+    /**
+     * Get the directory holding one file per past run
+     *
+     * @return the PERF_BASELINE_DIR value, "perf-baseline" by default
+     */
+    public static String getPerfBaselineDir() {
+        return PERF_BASELINE_DIR;
+    }
+
+    /**
+     * Get how many of the most recent runs form the baseline
+     *
+     * @return the PERF_BASELINE_RUNS value, 5 by default
+     */
+    public static int getPerfBaselineRuns() {
+        return PERF_BASELINE_RUNS;
+    }
+
+    /**
+     * Get the significance level of the Mann-Whitney U test
+     *
+     * @return the PERF_REGRESSION_ALPHA value, 0.01 by default
+     */
+    public static double getPerfRegressionAlpha() {
+        return PERF_REGRESSION_ALPHA;
+    }
+
+    /**
+     * Get how much the median latency must grow before a significant shift counts as a regression
+     *
+     * @return the PERF_REGRESSION_MIN_RATIO value, 1.2 by default
+     */
+    public static double getPerfRegressionMinRatio() {
+        return PERF_REGRESSION_MIN_RATIO;
+    }
+
+    /**
+     * Check whether a regression fails the build instead of only being flagged in Allure
+     *
+     * @return the PERF_FAIL_ON_REGRESSION value, false by default
+     */
+    public static boolean isPerfFailOnRegression() {
+        return PERF_FAIL_ON_REGRESSION;
+    }
+
+    /**
+     * Check whether all REST Assured traffic is written to a HAR file
+     *
+     * @return the HAR_EXPORT value, false by default
+     */
+    public static boolean isHarExportEnabled() {
+        return HAR_EXPORT;
+    }
+
+    /**
+     * Get the HAR file written by the run, replaced on every run
+     *
+     * @return the HAR_FILE value, "target/har/suite.har" by default
+     */
+    public static String getHarFile() {
+        return HAR_FILE;
+    }
+
+    /**
+     * Get the most body bytes captured per request or response, 0 leaves bodies out
+     *
+     * @return the HAR_MAX_BODY_BYTES value, 64 KB by default
+     */
+    public static int getHarMaxBodyBytes() {
+        return HAR_MAX_BODY_BYTES;
+    }
+}
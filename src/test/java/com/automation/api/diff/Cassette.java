@@ -0,0 +1,139 @@
+package com.automation.api.diff;
+
+import com.automation.api.load.replay.RecordedRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Responses recorded from a server, read from a HAR file such as the one {@code HarRecorder} writes
+ * The requests come back in recorded order through {@link #getRequests()}, and {@link #replay(RecordedRequest)}
+ * answers a request with what was recorded for the same method, path and query. A request recorded several times,
+ * e.g. a GET before and after an update, gets its answers in recorded order, the last one again once they run out.
+ *
+ * <pre>
+ * Cassette cassette = Cassette.load(Path.of("target/api-traffic.har"));
+ * DifferentialResult result = DifferentialRunner.of(cassette.getRequests())
+ *         .run(DiffTarget.cassette(cassette), DiffTarget.live(requestSpec));
+ * </pre>
+ */
+public final class Cassette {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<RecordedRequest> requests = new ArrayList<>();
+    private final Map<String, List<DiffTarget.Exchange>> exchanges = new HashMap<>();
+    private final Map<String, Integer> played = new HashMap<>();
+
+    private Cassette() {
+    }
+
+    /**
+     * Read every entry of a HAR file
+     *
+     * @throws IllegalArgumentException when the file is not a HAR log
+     */
+    public static Cassette load(Path har) throws IOException {
+        JsonNode entries;
+        try (InputStream in = Files.newInputStream(har)) {
+            entries = MAPPER.readTree(in).path("log").path("entries");
+        }
+        if (!entries.isArray()) {
+            throw new IllegalArgumentException(har + " is not a HAR file, it has no log.entries");
+        }
+        Cassette cassette = new Cassette();
+        int index = 0;
+        for (JsonNode entry : entries) {
+            index++;
+            JsonNode request = entry.path("request");
+            JsonNode response = entry.path("response");
+            if (!request.path("method").isTextual() || !request.path("url").isTextual() || !response.path("status").isInt()) {
+                throw new IllegalArgumentException("Entry " + index + " of " + har + " has no method, URL or status");
+            }
+            String method = request.get("method").asText();
+            String pathAndQuery = pathAndQuery(request.get("url").asText());
+            JsonNode postData = request.path("postData").path("text");
+            cassette.requests.add(new RecordedRequest(index, method, pathAndQuery,
+                    postData.isTextual() ? postData.asText() : null, timestamp(entry.path("startedDateTime")),
+                    response.get("status").asInt()));
+            cassette.exchanges.computeIfAbsent(key(method, pathAndQuery), key -> new ArrayList<>())
+                    .add(new DiffTarget.Exchange(response.get("status").asInt(), body(response.path("content"))));
+        }
+        return cassette;
+    }
+
+    /**
+     * Get the recorded requests in recorded order, their line being the entry's position in the log
+     */
+    public List<RecordedRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Get the next recorded answer to a request
+     *
+     * @throws IllegalStateException when the request was never recorded
+     */
+    public synchronized DiffTarget.Exchange replay(RecordedRequest request) {
+        String key = key(request.getMethod(), request.getPathAndQuery());
+        List<DiffTarget.Exchange> answers = exchanges.get(key);
+        if (answers == null) {
+            throw new IllegalStateException("No recorded answer to " + key);
+        }
+        int next = played.merge(key, 1, Integer::sum) - 1;
+        return answers.get(Math.min(next, answers.size() - 1));
+    }
+
+    /**
+     * Start handing out every request's answers from the first again
+     */
+    public synchronized void rewind() {
+        played.clear();
+    }
+
+    private static String key(String method, String pathAndQuery) {
+        return method + " " + pathAndQuery;
+    }
+
+    private static String pathAndQuery(String url) {
+        URI uri = URI.create(url);
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+    }
+
+    private static Long timestamp(JsonNode startedDateTime) {
+        try {
+            return startedDateTime.isTextual() ? Instant.parse(startedDateTime.asText()).toEpochMilli() : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the recorded body, empty when there was none, null when it was not recorded or only in part
+     */
+    private static byte[] body(JsonNode content) {
+        JsonNode text = content.path("text");
+        if (!text.isTextual()) {
+            return content.path("size").asInt() == 0 ? new byte[0] : null;
+        }
+        if (content.path("comment").asText().startsWith("truncated")) {
+            return null;
+        }
+        return "base64".equals(content.path("encoding").asText())
+                ? Base64.getDecoder().decode(text.asText())
+                : text.asText().getBytes(StandardCharsets.UTF_8);
+    }
+}
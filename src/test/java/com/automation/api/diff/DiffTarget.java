@@ -0,0 +1,62 @@
+package com.automation.api.diff;
+
+import com.automation.api.load.replay.RecordedRequest;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * One side of a differential run: something answering the requests, live or recorded
+ */
+public interface DiffTarget {
+
+    /**
+     * A status and body as one side answered a request
+     */
+    final class Exchange {
+        private final int status;
+        private final byte[] body;
+
+        public Exchange(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * Get the body, empty when there was none, null when it is unknown, e.g. truncated in a recording
+         */
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    Exchange send(RecordedRequest request);
+
+    /**
+     * Send the requests to the server of a request specification, e.g. the stand-in or BASE_URL
+     * The recorded path and query are sent as they are, already encoded.
+     */
+    static DiffTarget live(RequestSpecification spec) {
+        return request -> {
+            RequestSpecification sending = given().spec(spec).urlEncodingEnabled(false);
+            if (request.getBody() != null) {
+                sending.contentType(ContentType.JSON).body(request.getBody());
+            }
+            Response response = sending.request(request.getMethod(), request.getPathAndQuery());
+            return new Exchange(response.statusCode(), response.asByteArray());
+        };
+    }
+
+    /**
+     * Answer the requests with what a cassette recorded
+     */
+    static DiffTarget cassette(Cassette cassette) {
+        return cassette::replay;
+    }
+}
@@ -0,0 +1,117 @@
+package com.automation.api.diff;
+
+import com.automation.api.load.replay.RecordedRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a differential run: the requests both sides answered alike and those they did not
+ */
+public final class DifferentialResult {
+
+    /**
+     * A request the two sides answered differently, with a different status or body
+     */
+    public static final class Mismatch {
+        private final RecordedRequest request;
+        private final int expectedStatus;
+        private final int actualStatus;
+        private final List<JsonDiff.Difference> differences;
+
+        Mismatch(RecordedRequest request, int expectedStatus, int actualStatus, List<JsonDiff.Difference> differences) {
+            this.request = request;
+            this.expectedStatus = expectedStatus;
+            this.actualStatus = actualStatus;
+            this.differences = List.copyOf(differences);
+        }
+
+        public RecordedRequest getRequest() {
+            return request;
+        }
+
+        public int getExpectedStatus() {
+            return expectedStatus;
+        }
+
+        public int getActualStatus() {
+            return actualStatus;
+        }
+
+        /**
+         * Get the differences between the bodies, empty when only the status differs
+         */
+        public List<JsonDiff.Difference> getDifferences() {
+            return differences;
+        }
+
+        public String describe() {
+            StringBuilder text = new StringBuilder(request.getMethod()).append(' ').append(request.getPathAndQuery());
+            if (expectedStatus != actualStatus) {
+                text.append(" expected ").append(expectedStatus).append(", got ").append(actualStatus);
+            }
+            for (JsonDiff.Difference difference : differences) {
+                text.append("\n    ").append(difference.describe());
+            }
+            return text.toString();
+        }
+    }
+
+    private final Duration elapsed;
+    private final Duration diffing;
+    private final long compared;
+    private final long bodiesSkipped;
+    private final List<Mismatch> mismatches;
+
+    DifferentialResult(Duration elapsed, Duration diffing, long compared, long bodiesSkipped, List<Mismatch> mismatches) {
+        this.elapsed = elapsed;
+        this.diffing = diffing;
+        this.compared = compared;
+        this.bodiesSkipped = bodiesSkipped;
+        this.mismatches = List.copyOf(mismatches);
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Get the time spent comparing bodies, out of the elapsed time
+     */
+    public Duration getDiffing() {
+        return diffing;
+    }
+
+    public long getCompared() {
+        return compared;
+    }
+
+    public long getMatched() {
+        return compared - mismatches.size();
+    }
+
+    /**
+     * Get the number of requests whose bodies were not compared because one side's body is unknown
+     */
+    public long getBodiesSkipped() {
+        return bodiesSkipped;
+    }
+
+    /**
+     * Get the mismatching requests in the order they were sent
+     */
+    public List<Mismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public String describe() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "%d compared in %.1f s (%.1f ms diffing): %d matched, %d mismatched, %d bodies not recorded%n",
+                compared, elapsed.toNanos() / 1e9, diffing.toNanos() / 1e6, getMatched(), mismatches.size(), bodiesSkipped));
+        for (Mismatch mismatch : mismatches) {
+            text.append("  ").append(mismatch.describe()).append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.automation.api.diff;
+
+import com.automation.api.load.replay.RecordedRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sends the same requests to two targets and compares what they answer: status, then body as JSON
+ * Meant to catch the stand-in drifting from the real API: record BASE_URL once into a HAR file, then diff the
+ * stand-in against the {@link Cassette}. Requests are sent one at a time in order, to the expected side first, so
+ * writes take effect on both sides before the reads that follow them. Bodies that are not JSON are compared byte
+ * for byte.
+ *
+ * <pre>
+ * DifferentialResult result = DifferentialRunner.of(cassette.getRequests())
+ *         .diff(JsonDiff.of().shapeOnly())
+ *         .run(DiffTarget.cassette(cassette), DiffTarget.live(requestSpec));
+ * assertTrue(result.getMismatches().isEmpty(), result.describe());
+ * </pre>
+ */
+public final class DifferentialRunner {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<RecordedRequest> requests;
+    private JsonDiff diff = JsonDiff.of();
+
+    private DifferentialRunner(List<RecordedRequest> requests) {
+        this.requests = requests;
+    }
+
+    public static DifferentialRunner of(List<RecordedRequest> requests) {
+        return new DifferentialRunner(List.copyOf(requests));
+    }
+
+    /**
+     * Compare bodies with this diff instead of a plain {@code JsonDiff.of()}
+     */
+    public DifferentialRunner diff(JsonDiff diff) {
+        this.diff = diff;
+        return this;
+    }
+
+    public DifferentialResult run(DiffTarget expected, DiffTarget actual) {
+        List<DifferentialResult.Mismatch> mismatches = new ArrayList<>();
+        long diffing = 0;
+        long bodiesSkipped = 0;
+        long start = System.nanoTime();
+        for (RecordedRequest request : requests) {
+            DiffTarget.Exchange wanted = expected.send(request);
+            DiffTarget.Exchange got = actual.send(request);
+
+            List<JsonDiff.Difference> differences = List.of();
+            if (wanted.getBody() == null || got.getBody() == null) {
+                bodiesSkipped++;
+            } else {
+                long diffStart = System.nanoTime();
+                differences = compare(wanted.getBody(), got.getBody());
+                diffing += System.nanoTime() - diffStart;
+            }
+            if (wanted.getStatus() != got.getStatus() || !differences.isEmpty()) {
+                mismatches.add(new DifferentialResult.Mismatch(request, wanted.getStatus(), got.getStatus(), differences));
+            }
+        }
+        return new DifferentialResult(Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(diffing),
+                requests.size(), bodiesSkipped, mismatches);
+    }
+
+    private List<JsonDiff.Difference> compare(byte[] expected, byte[] actual) {
+        JsonNode expectedJson = parse(expected);
+        JsonNode actualJson = parse(actual);
+        if (expectedJson != null && actualJson != null) {
+            return diff.compare(expectedJson, actualJson);
+        }
+        if (Arrays.equals(expected, actual)) {
+            return List.of();
+        }
+        return List.of(new JsonDiff.Difference(JsonDiff.Kind.CHANGED, "$",
+                new TextNode(new String(expected, StandardCharsets.UTF_8)), new TextNode(new String(actual, StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Parse a body as JSON, null when it is empty or not JSON
+     */
+    private static JsonNode parse(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
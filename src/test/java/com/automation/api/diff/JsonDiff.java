@@ -0,0 +1,407 @@
+package com.automation.api.diff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural diff of two JSON documents that ignores field order and reports the smallest differences it can name
+ * Every node gets a 64-bit hash computed once, bottom-up: objects combine their fields without regard to order,
+ * arrays in order. Subtrees with equal hashes are taken as equal without being walked, so identical parts of the
+ * documents cost one hash each. Arrays are aligned in linear time: the common prefix and suffix are skipped, the
+ * elements left over are matched by hash, and those still unmatched are paired by their {@code id} field, or by
+ * position without one, and diffed field by field. Numbers compare by value, 1 equals 1.0.
+ *
+ * <pre>
+ * List&lt;JsonDiff.Difference&gt; differences = JsonDiff.of().ignoring("date").compare(expected, actual);
+ * </pre>
+ */
+public final class JsonDiff {
+
+    /**
+     * What a difference is about
+     */
+    public enum Kind {
+        /** The value, or its type, differs */
+        CHANGED,
+        /** Only the expected document has the field or element */
+        MISSING,
+        /** Only the actual document has the field or element */
+        UNEXPECTED,
+        /** The array holds the same elements in another order */
+        REORDERED
+    }
+
+    /**
+     * One difference, located by a JSONPath such as {@code $[3].address.city}
+     * Element indexes are those of the expected array, or of the actual one for unexpected elements.
+     */
+    public static final class Difference {
+        private static final int MAX_VALUE_CHARS = 80;
+
+        private final Kind kind;
+        private final String path;
+        private final JsonNode expected;
+        private final JsonNode actual;
+
+        Difference(Kind kind, String path, JsonNode expected, JsonNode actual) {
+            this.kind = kind;
+            this.path = path;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Get the expected value, null for unexpected fields and reordered arrays
+         */
+        public JsonNode getExpected() {
+            return expected;
+        }
+
+        /**
+         * Get the actual value, null for missing fields and reordered arrays
+         */
+        public JsonNode getActual() {
+            return actual;
+        }
+
+        public String describe() {
+            switch (kind) {
+                case CHANGED:
+                    return "changed " + path + ": " + shorten(expected) + " -> " + shorten(actual);
+                case MISSING:
+                    return "missing " + path + ": " + shorten(expected);
+                case UNEXPECTED:
+                    return "unexpected " + path + ": " + shorten(actual);
+                default:
+                    return "reordered " + path + ": same elements in another order";
+            }
+        }
+
+        @Override
+        public String toString() {
+            return describe();
+        }
+
+        private static String shorten(JsonNode value) {
+            String text = value.toString();
+            return text.length() <= MAX_VALUE_CHARS ? text : text.substring(0, MAX_VALUE_CHARS - 3) + "...";
+        }
+    }
+
+    private static final long OBJECT = 0x9E3779B97F4A7C15L;
+    private static final long ARRAY = 0xC2B2AE3D27D4EB4FL;
+    private static final long TEXT = 0x165667B19E3779F9L;
+    private static final long NUMBER = 0x27D4EB2F165667C5L;
+    private static final long BOOLEAN = 0x85EBCA77C2B2AE63L;
+    private static final long NULL = 0xFF51AFD7ED558CCDL;
+
+    private final Set<String> ignoredFields = new HashSet<>();
+    private boolean shapeOnly;
+    private String matchKey = "id";
+
+    private JsonDiff() {
+    }
+
+    public static JsonDiff of() {
+        return new JsonDiff();
+    }
+
+    /**
+     * Leave fields of these names out of the comparison, at any depth
+     */
+    public JsonDiff ignoring(String... fields) {
+        ignoredFields.addAll(List.of(fields));
+        return this;
+    }
+
+    /**
+     * Compare the shape only: types, field names and array lengths, not the values of strings, numbers and booleans
+     * Meant for two servers holding different data, e.g. the stand-in's generated seed data and JSONPlaceholder's.
+     */
+    public JsonDiff shapeOnly() {
+        this.shapeOnly = true;
+        return this;
+    }
+
+    /**
+     * Field pairing the array elements that differ, so a changed element is diffed rather than reported as removed
+     * and added, "id" by default; null pairs them by position
+     */
+    public JsonDiff matchingBy(String field) {
+        this.matchKey = field;
+        return this;
+    }
+
+    /**
+     * Compare two documents
+     *
+     * @return the differences in document order, empty when the documents are equal
+     */
+    public List<Difference> compare(JsonNode expected, JsonNode actual) {
+        Comparison comparison = new Comparison();
+        comparison.compare(expected, actual, "$");
+        return comparison.differences;
+    }
+
+    /**
+     * State of one comparison: the hashes computed so far and the differences found
+     */
+    private final class Comparison {
+        private final Map<JsonNode, Long> hashes = new IdentityHashMap<>();
+        private final List<Difference> differences = new ArrayList<>();
+
+        void compare(JsonNode expected, JsonNode actual, String path) {
+            if (hash(expected) == hash(actual)) {
+                return;
+            }
+            JsonNodeType type = expected.getNodeType();
+            if (type != actual.getNodeType()) {
+                differences.add(new Difference(Kind.CHANGED, path, expected, actual));
+            } else if (type == JsonNodeType.OBJECT) {
+                compareObjects(expected, actual, path);
+            } else if (type == JsonNodeType.ARRAY) {
+                compareArrays(expected, actual, path);
+            } else {
+                differences.add(new Difference(Kind.CHANGED, path, expected, actual));
+            }
+        }
+
+        private void compareObjects(JsonNode expected, JsonNode actual, String path) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = expected.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (ignoredFields.contains(field.getKey())) {
+                    continue;
+                }
+                JsonNode other = actual.get(field.getKey());
+                if (other == null) {
+                    differences.add(new Difference(Kind.MISSING, path + "." + field.getKey(), field.getValue(), null));
+                } else {
+                    compare(field.getValue(), other, path + "." + field.getKey());
+                }
+            }
+            for (Iterator<Map.Entry<String, JsonNode>> fields = actual.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!ignoredFields.contains(field.getKey()) && !expected.has(field.getKey())) {
+                    differences.add(new Difference(Kind.UNEXPECTED, path + "." + field.getKey(), null, field.getValue()));
+                }
+            }
+        }
+
+        private void compareArrays(JsonNode expected, JsonNode actual, String path) {
+            int expectedSize = expected.size();
+            int actualSize = actual.size();
+            int start = 0;
+            while (start < expectedSize && start < actualSize && hash(expected.get(start)) == hash(actual.get(start))) {
+                start++;
+            }
+            int expectedEnd = expectedSize;
+            int actualEnd = actualSize;
+            while (expectedEnd > start && actualEnd > start
+                    && hash(expected.get(expectedEnd - 1)) == hash(actual.get(actualEnd - 1))) {
+                expectedEnd--;
+                actualEnd--;
+            }
+
+            // Elements equal to one on the other side, wherever it is, are matched up and need no further look
+            Map<Long, ArrayDeque<Integer>> byHash = new HashMap<>();
+            for (int i = start; i < actualEnd; i++) {
+                byHash.computeIfAbsent(hash(actual.get(i)), h -> new ArrayDeque<>()).add(i);
+            }
+            boolean[] matched = new boolean[actualSize];
+            List<Integer> unmatchedExpected = new ArrayList<>();
+            int lastMatch = -1;
+            boolean reordered = false;
+            for (int i = start; i < expectedEnd; i++) {
+                ArrayDeque<Integer> candidates = byHash.get(hash(expected.get(i)));
+                Integer match = candidates == null ? null : candidates.poll();
+                if (match == null) {
+                    unmatchedExpected.add(i);
+                    continue;
+                }
+                matched[match] = true;
+                reordered |= match < lastMatch;
+                lastMatch = match;
+            }
+            List<Integer> unmatchedActual = new ArrayList<>();
+            for (int i = start; i < actualEnd; i++) {
+                if (!matched[i]) {
+                    unmatchedActual.add(i);
+                }
+            }
+            if (reordered) {
+                differences.add(new Difference(Kind.REORDERED, path, null, null));
+            }
+            pair(expected, actual, path, unmatchedExpected, unmatchedActual);
+        }
+
+        /**
+         * Diff the elements that differ, paired by their match key when all of them have one, by position otherwise
+         */
+        private void pair(JsonNode expected, JsonNode actual, String path, List<Integer> unmatchedExpected,
+                          List<Integer> unmatchedActual) {
+            Map<JsonNode, Integer> byKey = keyed(actual, unmatchedActual);
+            if (byKey != null && keyed(expected, unmatchedExpected) != null) {
+                Set<Integer> paired = new HashSet<>();
+                for (int i : unmatchedExpected) {
+                    Integer partner = byKey.get(expected.get(i).get(matchKey));
+                    if (partner == null) {
+                        differences.add(new Difference(Kind.MISSING, path + "[" + i + "]", expected.get(i), null));
+                    } else {
+                        paired.add(partner);
+                        compare(expected.get(i), actual.get(partner), path + "[" + i + "]");
+                    }
+                }
+                for (int i : unmatchedActual) {
+                    if (!paired.contains(i)) {
+                        differences.add(new Difference(Kind.UNEXPECTED, path + "[" + i + "]", null, actual.get(i)));
+                    }
+                }
+                return;
+            }
+            int pairs = Math.min(unmatchedExpected.size(), unmatchedActual.size());
+            for (int k = 0; k < pairs; k++) {
+                compare(expected.get(unmatchedExpected.get(k)), actual.get(unmatchedActual.get(k)),
+                        path + "[" + unmatchedExpected.get(k) + "]");
+            }
+            for (int k = pairs; k < unmatchedExpected.size(); k++) {
+                int i = unmatchedExpected.get(k);
+                differences.add(new Difference(Kind.MISSING, path + "[" + i + "]", expected.get(i), null));
+            }
+            for (int k = pairs; k < unmatchedActual.size(); k++) {
+                int i = unmatchedActual.get(k);
+                differences.add(new Difference(Kind.UNEXPECTED, path + "[" + i + "]", null, actual.get(i)));
+            }
+        }
+
+        /**
+         * Index elements by their match key
+         *
+         * @return the index, or null when an element has no scalar match key or shares it with another
+         */
+        private Map<JsonNode, Integer> keyed(JsonNode array, List<Integer> indexes) {
+            if (matchKey == null) {
+                return null;
+            }
+            Map<JsonNode, Integer> byKey = new HashMap<>();
+            for (int i : indexes) {
+                JsonNode key = array.get(i).get(matchKey);
+                if (key == null || !key.isValueNode() || byKey.put(key, i) != null) {
+                    return null;
+                }
+            }
+            return byKey;
+        }
+
+        long hash(JsonNode node) {
+            Long known = hashes.get(node);
+            if (known != null) {
+                return known;
+            }
+            long hash;
+            switch (node.getNodeType()) {
+                case OBJECT: {
+                    long sum = 0;
+                    int fields = 0;
+                    for (Iterator<Map.Entry<String, JsonNode>> entries = node.fields(); entries.hasNext(); ) {
+                        Map.Entry<String, JsonNode> field = entries.next();
+                        if (!ignoredFields.contains(field.getKey())) {
+                            // A sum does not depend on the order of its terms
+                            sum += mix(textHash(field.getKey()) * 31 + hash(field.getValue()));
+                            fields++;
+                        }
+                    }
+                    hash = mix(OBJECT ^ sum ^ fields);
+                    break;
+                }
+                case ARRAY: {
+                    long combined = ARRAY ^ node.size();
+                    for (JsonNode element : node) {
+                        combined = combined * 0x100000001B3L + hash(element);
+                    }
+                    hash = mix(combined);
+                    break;
+                }
+                case STRING:
+                    hash = shapeOnly ? TEXT : mix(TEXT ^ textHash(node.textValue()));
+                    break;
+                case NUMBER:
+                    hash = shapeOnly ? NUMBER : mix(NUMBER ^ numberBits(node));
+                    break;
+                case BOOLEAN:
+                    hash = shapeOnly ? BOOLEAN : mix(BOOLEAN ^ (node.booleanValue() ? 1 : 2));
+                    break;
+                case NULL:
+                    hash = NULL;
+                    break;
+                default:
+                    hash = mix(node.toString().hashCode());
+                    break;
+            }
+            // Scalars are cheap to hash again, only containers are remembered
+            if (node.isContainerNode()) {
+                hashes.put(node, hash);
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Get bits that are equal for equal numbers whatever their representation, e.g. 1, 1.0 and 1L
+     */
+    private static long numberBits(JsonNode number) {
+        if (number.isIntegralNumber() && number.canConvertToLong()) {
+            return number.longValue();
+        }
+        if (number.isBigInteger()) {
+            return number.bigIntegerValue().hashCode();
+        }
+        double value = number.doubleValue();
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+            return (long) value;
+        }
+        return Double.doubleToLongBits(value);
+    }
+
+    /**
+     * 64-bit FNV-1a of a string's UTF-8 bytes, wide enough that distinct strings of one document do not collide
+     */
+    private static long textHash(String text) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Spread the bits of a value (the MurmurHash3 finalizer)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,228 @@
+package com.automation.api.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Request arrival rate over time, made of stages whose rate changes linearly from start to end
+ * Arrival times follow from the rate alone, never from how fast earlier requests completed.
+ *
+ * <pre>
+ * ArrivalProfile.startingAt(10)
+ *         .rampTo(100, Duration.ofSeconds(30))   // ramp
+ *         .hold(Duration.ofMinutes(2))           // plateau
+ *         .spike(400, Duration.ofSeconds(5))     // spike, then back to 100
+ *         .hold(Duration.ofSeconds(30));
+ * </pre>
+ */
+public final class ArrivalProfile {
+
+    /**
+     * One stage with a rate changing linearly from start to end, in requests per second
+     */
+    public static final class Stage {
+        private final double startRate;
+        private final double endRate;
+        private final Duration duration;
+
+        Stage(double startRate, double endRate, Duration duration) {
+            if (startRate < 0 || endRate < 0) {
+                throw new IllegalArgumentException("Arrival rates must not be negative, got: " + startRate + " -> " + endRate);
+            }
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Stage duration must be positive, got: " + duration);
+            }
+            this.startRate = startRate;
+            this.endRate = endRate;
+            this.duration = duration;
+        }
+
+        public double getStartRate() {
+            return startRate;
+        }
+
+        public double getEndRate() {
+            return endRate;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Get the expected number of arrivals in this stage
+         */
+        public double getArrivals() {
+            return (startRate + endRate) / 2.0 * seconds();
+        }
+
+        /**
+         * Get the offset from the stage start, in seconds, at which the given number of arrivals is reached
+         */
+        double offsetOf(double arrivals) {
+            double slope = (endRate - startRate) / seconds();
+            if (Math.abs(slope) < 1e-12) {
+                return arrivals / startRate;
+            }
+            // Solve startRate * t + slope * t^2 / 2 = arrivals for t
+            double discriminant = Math.max(0, startRate * startRate + 2 * slope * arrivals);
+            return (-startRate + Math.sqrt(discriminant)) / slope;
+        }
+
+        private double seconds() {
+            return duration.toNanos() / 1e9;
+        }
+    }
+
+    private final List<Stage> stages = new ArrayList<>();
+    private double currentRate;
+
+    private ArrivalProfile(double initialRate) {
+        this.currentRate = initialRate;
+    }
+
+    /**
+     * Start a profile at a rate, in requests per second, with no stage yet
+     */
+    public static ArrivalProfile startingAt(double ratePerSecond) {
+        return new ArrivalProfile(ratePerSecond);
+    }
+
+    /**
+     * Constant arrival rate for the whole duration
+     */
+    public static ArrivalProfile constant(double ratePerSecond, Duration duration) {
+        return startingAt(ratePerSecond).hold(duration);
+    }
+
+    /**
+     * Keep the current rate for a duration
+     */
+    public ArrivalProfile hold(Duration duration) {
+        stages.add(new Stage(currentRate, currentRate, duration));
+        return this;
+    }
+
+    /**
+     * Change the rate linearly to a new rate over a duration
+     */
+    public ArrivalProfile rampTo(double ratePerSecond, Duration duration) {
+        stages.add(new Stage(currentRate, ratePerSecond, duration));
+        currentRate = ratePerSecond;
+        return this;
+    }
+
+    /**
+     * Jump to a new rate and keep it for a duration
+     */
+    public ArrivalProfile step(double ratePerSecond, Duration duration) {
+        currentRate = ratePerSecond;
+        return hold(duration);
+    }
+
+    /**
+     * Jump to a peak rate for a duration, then fall back to the rate before the spike
+     */
+    public ArrivalProfile spike(double peakRatePerSecond, Duration duration) {
+        stages.add(new Stage(peakRatePerSecond, peakRatePerSecond, duration));
+        return this;
+    }
+
+    /**
+     * Get a copy of the profile with every rate multiplied by a factor, e.g. one worker's share of the load
+     */
+    public ArrivalProfile scaled(double factor) {
+        ArrivalProfile scaled = new ArrivalProfile(currentRate * factor);
+        for (Stage stage : stages) {
+            scaled.stages.add(new Stage(stage.startRate * factor, stage.endRate * factor, stage.duration));
+        }
+        return scaled;
+    }
+
+    /**
+     * Rebuild a profile from its stages, e.g. after sending them to another process
+     */
+    public static ArrivalProfile ofStages(List<Stage> stages) {
+        ArrivalProfile profile = new ArrivalProfile(stages.isEmpty() ? 0 : stages.get(stages.size() - 1).endRate);
+        profile.stages.addAll(stages);
+        return profile;
+    }
+
+    /**
+     * Create a stage with a rate changing linearly from start to end, in requests per second
+     */
+    public static Stage stage(double startRate, double endRate, Duration duration) {
+        return new Stage(startRate, endRate, duration);
+    }
+
+    public List<Stage> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    public Duration getDuration() {
+        return stages.stream().map(Stage::getDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Get the number of arrivals the profile schedules
+     */
+    public long getArrivals() {
+        return (long) Math.floor(stages.stream().mapToDouble(Stage::getArrivals).sum() + 1e-9);
+    }
+
+    /**
+     * Start a schedule of intended arrival times
+     */
+    public Schedule schedule() {
+        if (stages.isEmpty()) {
+            throw new IllegalStateException("Arrival profile has no stage");
+        }
+        return new Schedule();
+    }
+
+    /**
+     * Intended arrival times of a profile, computed in closed form one at a time
+     * The n-th arrival happens when the integral of the rate reaches n, so rounding
+     * errors do not accumulate over long runs.
+     */
+    public final class Schedule {
+        private int stage;
+        private double arrivalsBeforeStage;
+        private long stageStartNanos;
+        private long next;
+        private int nextStage;
+
+        private Schedule() {
+        }
+
+        /**
+         * Get the offset from the start of the run of the next arrival
+         *
+         * @return the offset in nanoseconds, or -1 once the profile is exhausted
+         */
+        public long nextOffsetNanos() {
+            while (stage < stages.size()) {
+                Stage current = stages.get(stage);
+                double local = next - arrivalsBeforeStage;
+                if (local < current.getArrivals() - 1e-9) {
+                    nextStage = stage;
+                    next++;
+                    return stageStartNanos + Math.round(current.offsetOf(local) * 1e9);
+                }
+                arrivalsBeforeStage += current.getArrivals();
+                stageStartNanos += current.getDuration().toNanos();
+                stage++;
+            }
+            return -1;
+        }
+
+        /**
+         * Get the index of the stage of the arrival last returned by {@link #nextOffsetNanos()}
+         */
+        public int stageOfLast() {
+            return nextStage;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.automation.api.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in microseconds, safe for concurrent recording
+ * Values below 64 us are counted exactly, larger values fall into 32 buckets per power of two,
+ * which keeps every percentile within about 3% of the true value in a fixed 15 KB.
+ * Histograms with the same layout add up bucket by bucket, so per-thread or per-worker
+ * histograms can be merged without losing precision.
+ */
+public final class LatencyHistogram {
+    private static final int EXACT = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int BUCKETS = EXACT + (63 - 6) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record one latency in microseconds, negative values count as zero
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        total.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    /**
+     * Add every count of another histogram to this one
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        total.addAndGet(other.total.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    public long getCount() {
+        return total.get();
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    /**
+     * Get the latency at a percentile between 0 and 100, in microseconds
+     */
+    public long percentileMicros(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public double percentileMillis(double percentile) {
+        return percentileMicros(percentile) / 1_000.0;
+    }
+
+    /**
+     * Get the non-empty buckets as value/count pairs, the value being the bucket's upper bound
+     */
+    public long[] toPairs() {
+        int used = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts.get(i) > 0) {
+                used++;
+            }
+        }
+        long[] pairs = new long[used * 2];
+        int at = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                pairs[at++] = highestEquivalent(i);
+                pairs[at++] = count;
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Rebuild a histogram from {@link #toPairs()} and the recorded maximum
+     */
+    public static LatencyHistogram fromPairs(long[] pairs, long maxMicros) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            histogram.counts.addAndGet(indexOf(pairs[i]), pairs[i + 1]);
+            histogram.total.addAndGet(pairs[i + 1]);
+        }
+        histogram.max.set(maxMicros);
+        return histogram;
+    }
+
+    private static int indexOf(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (msb - 5)) - SUB_BUCKETS;
+        return EXACT + (msb - 6) * SUB_BUCKETS + sub;
+    }
+
+    private static long highestEquivalent(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int msb = (index - EXACT) / SUB_BUCKETS + 6;
+        int sub = (index - EXACT) % SUB_BUCKETS + SUB_BUCKETS;
+        long lowest = (long) sub << (msb - 5);
+        return lowest + (1L << (msb - 5)) - 1;
+    }
+}
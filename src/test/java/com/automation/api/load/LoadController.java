@@ -0,0 +1,241 @@
+package com.automation.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Coordinates {@link LoadWorker} processes: splits a plan between them, starts them together and merges their results
+ * Workers connect over TCP and exchange one JSON message per line. Each worker gets an equal share
+ * of the arrival rate and the same wall-clock start time, and sends back mergeable histograms.
+ *
+ * <pre>
+ * try (LoadController controller = LoadController.listen(7700)) {
+ *     controller.awaitWorkers(4, Duration.ofMinutes(1));
+ *     LoadResult result = controller.run(plan);
+ * }
+ * </pre>
+ */
+public final class LoadController implements Closeable {
+    private static final Logger logger = Logger.getLogger(LoadController.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration START_DELAY = Duration.ofSeconds(1);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(90);
+    private static final Duration HELLO_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ServerSocket server;
+    private final List<WorkerConnection> workers = new ArrayList<>();
+    // Result readers block on their worker's socket for the whole run, so they get threads of their own
+    private final ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong liveCompleted = new AtomicLong();
+    private final AtomicLong liveErrors = new AtomicLong();
+    private List<LoadResult> workerResults = List.of();
+
+    private LoadController(ServerSocket server) {
+        this.server = server;
+    }
+
+    /**
+     * Listen for workers on a port, 0 picks a free one
+     */
+    public static LoadController listen(int port) throws IOException {
+        return new LoadController(new ServerSocket(port));
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Accept workers until the given number is connected
+     * A connection that does not send its hello within a few seconds is dropped and not counted.
+     *
+     * @throws IllegalStateException when fewer workers connect within the timeout
+     */
+    public void awaitWorkers(int count, Duration timeout) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (workers.size() < count) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new IllegalStateException("Only " + workers.size() + " of " + count + " workers connected within " + timeout);
+            }
+            server.setSoTimeout((int) Math.min(Integer.MAX_VALUE, remaining));
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketTimeoutException e) {
+                // Loop once more to report the shortfall
+                continue;
+            }
+            long helloTimeout = Math.min(HELLO_TIMEOUT.toMillis(), TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            try {
+                WorkerConnection worker = new WorkerConnection(socket, (int) Math.max(1, helloTimeout));
+                workers.add(worker);
+                logger.log(Level.INFO, "Load worker connected: " + worker.name);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Dropped a connection that sent no worker hello: " + e.getMessage());
+                socket.close();
+            }
+        }
+    }
+
+    public int getWorkerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Run a plan on every connected worker and merge their results
+     * Workers serve a single run and disconnect afterwards
+     */
+    public LoadResult run(LoadPlan plan) throws IOException, InterruptedException {
+        if (workers.isEmpty()) {
+            throw new IllegalStateException("No load worker connected");
+        }
+        liveCompleted.set(0);
+        liveErrors.set(0);
+
+        long startAt = System.currentTimeMillis() + START_DELAY.toMillis();
+        double share = 1.0 / workers.size();
+        List<CompletableFuture<LoadResult>> pending = new ArrayList<>();
+        for (WorkerConnection worker : workers) {
+            ObjectNode message = MAPPER.createObjectNode()
+                    .put("type", "plan")
+                    .put("share", share)
+                    .put("startAtMillis", startAt);
+            message.set("plan", plan.toJson(MAPPER));
+            worker.send(message);
+            pending.add(CompletableFuture.supplyAsync(worker::awaitResult, readers));
+        }
+
+        long timeoutMillis = START_DELAY.plus(plan.getProfile().getDuration()).plus(DRAIN_TIMEOUT).toMillis();
+        List<LoadResult> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<LoadResult> result : pending) {
+                results.add(result.get(timeoutMillis, TimeUnit.MILLISECONDS));
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A load worker failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Load workers did not report within " + timeoutMillis + " ms", e);
+        }
+        workerResults = List.copyOf(results);
+        return LoadResult.merge(results);
+    }
+
+    /**
+     * Get the result of each worker of the last run, in connection order
+     */
+    public List<LoadResult> getWorkerResults() {
+        return workerResults;
+    }
+
+    /**
+     * Get the requests completed so far in the current run, as last reported by the workers
+     */
+    public long getLiveCompleted() {
+        return liveCompleted.get();
+    }
+
+    public long getLiveErrors() {
+        return liveErrors.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (WorkerConnection worker : workers) {
+            worker.socket.close();
+        }
+        server.close();
+        readers.shutdownNow();
+    }
+
+    /**
+     * One connected worker
+     */
+    private final class WorkerConnection {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final BufferedWriter out;
+        private final String name;
+        private long reportedCompleted;
+        private long reportedErrors;
+
+        /**
+         * Read the hello of a freshly accepted connection, waiting for it at most helloTimeoutMillis
+         *
+         * @throws SocketTimeoutException when no hello arrives in time
+         */
+        WorkerConnection(Socket socket, int helloTimeoutMillis) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            socket.setSoTimeout(helloTimeoutMillis);
+            String line = in.readLine();
+            if (line == null) {
+                throw new IOException("Disconnected before sending a hello");
+            }
+            JsonNode hello = MAPPER.readTree(line);
+            this.name = hello.path("name").asText("unnamed");
+            // A run may take a while between progress reports, its own timeout applies instead
+            socket.setSoTimeout(0);
+        }
+
+        void send(ObjectNode message) throws IOException {
+            out.write(MAPPER.writeValueAsString(message));
+            out.write('\n');
+            out.flush();
+        }
+
+        LoadResult awaitResult() {
+            try {
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    JsonNode message = MAPPER.readTree(line);
+                    switch (message.path("type").asText()) {
+                        case "progress":
+                            // Workers report running totals, the controller keeps the sum across workers
+                            long completed = message.get("completed").asLong();
+                            long errors = message.get("errors").asLong();
+                            liveCompleted.addAndGet(completed - reportedCompleted);
+                            liveErrors.addAndGet(errors - reportedErrors);
+                            reportedCompleted = completed;
+                            reportedErrors = errors;
+                            logger.log(Level.FINE, name + ": " + completed + " completed, " + errors + " errors");
+                            break;
+                        case "result":
+                            return LoadResult.fromJson(message.get("result"));
+                        case "error":
+                            throw new IllegalStateException("Worker " + name + " failed: " + message.path("message").asText());
+                        default:
+                            throw new IllegalStateException("Unexpected message from worker " + name + ": " + line);
+                    }
+                }
+                throw new IllegalStateException("Worker " + name + " disconnected before reporting a result");
+            } catch (IOException e) {
+                throw new IllegalStateException("Lost the connection to worker " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.automation.api.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One request issued by a load generator, usually a test flow written with REST Assured
+ *
+ * <pre>
+ * LoadOperation getPost = () -> given().spec(requestSpec).get(Endpoints.postById(1)).statusCode();
+ * </pre>
+ */
+@FunctionalInterface
+public interface LoadOperation {
+
+    /**
+     * Issue the request
+     *
+     * @return the HTTP status code, 400 and above count as errors
+     */
+    int execute() throws Exception;
+
+    /**
+     * Issue the given operations in turn, e.g. the GETs of several test classes as one endpoint set
+     */
+    static LoadOperation cycle(LoadOperation... operations) {
+        if (operations.length == 0) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        LoadOperation[] copy = operations.clone();
+        AtomicLong next = new AtomicLong();
+        return () -> copy[(int) (next.getAndIncrement() % copy.length)].execute();
+    }
+}
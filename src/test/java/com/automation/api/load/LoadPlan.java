@@ -0,0 +1,69 @@
+package com.automation.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load a controller hands to its workers: a base URL, the GET paths to cycle through and the arrival profile
+ * Unlike a {@link LoadOperation} a plan is plain data, so it can be sent to another process.
+ */
+public final class LoadPlan {
+    private final String baseUrl;
+    private final List<String> paths;
+    private final ArrivalProfile profile;
+
+    public LoadPlan(String baseUrl, List<String> paths, ArrivalProfile profile) {
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("A load plan needs at least one path");
+        }
+        this.baseUrl = baseUrl;
+        this.paths = List.copyOf(paths);
+        this.profile = profile;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Get the paths requested in turn, each may carry a query string, e.g. "/comments?postId=1"
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public ArrivalProfile getProfile() {
+        return profile;
+    }
+
+    public ObjectNode toJson(ObjectMapper mapper) {
+        ObjectNode json = mapper.createObjectNode().put("baseUrl", baseUrl);
+        ArrayNode pathArray = json.putArray("paths");
+        paths.forEach(pathArray::add);
+        ArrayNode stageArray = json.putArray("stages");
+        for (ArrivalProfile.Stage stage : profile.getStages()) {
+            stageArray.addObject()
+                    .put("startRate", stage.getStartRate())
+                    .put("endRate", stage.getEndRate())
+                    .put("durationMillis", stage.getDuration().toMillis());
+        }
+        return json;
+    }
+
+    public static LoadPlan fromJson(JsonNode json) {
+        List<String> paths = new ArrayList<>();
+        json.get("paths").forEach(path -> paths.add(path.asText()));
+        List<ArrivalProfile.Stage> stages = new ArrayList<>();
+        for (JsonNode stage : json.get("stages")) {
+            stages.add(ArrivalProfile.stage(stage.get("startRate").asDouble(), stage.get("endRate").asDouble(),
+                    Duration.ofMillis(stage.get("durationMillis").asLong())));
+        }
+        return new LoadPlan(json.get("baseUrl").asText(), paths, ArrivalProfile.ofStages(stages));
+    }
+}
@@ -0,0 +1,200 @@
+package com.automation.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of an open-model load run
+ * Response time is measured from the intended arrival time and includes any wait for the
+ * generator itself, service time from the moment the request was actually sent. The gap between
+ * them is the delay a closed-loop tool would have silently left out (coordinated omission).
+ */
+public final class LoadResult {
+    private final Duration elapsed;
+    private final long scheduled;
+    private final long completed;
+    private final long errors;
+    private final long dropped;
+    private final LatencyHistogram responseTime;
+    private final LatencyHistogram serviceTime;
+    private final List<LatencyHistogram> stageResponseTimes;
+
+    public LoadResult(Duration elapsed, long scheduled, long completed, long errors, long dropped,
+                      LatencyHistogram responseTime, LatencyHistogram serviceTime,
+                      List<LatencyHistogram> stageResponseTimes) {
+        this.elapsed = elapsed;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.errors = errors;
+        this.dropped = dropped;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+        this.stageResponseTimes = List.copyOf(stageResponseTimes);
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Get the number of arrivals the profile scheduled
+     */
+    public long getScheduled() {
+        return scheduled;
+    }
+
+    /**
+     * Get the number of requests that finished, successfully or not
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Get the number of requests answered with a status of 400 or above, or failing with an exception
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the number of arrivals not sent because the in-flight limit was reached
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    public double getErrorRate() {
+        return completed == 0 ? 0 : (double) errors / completed;
+    }
+
+    /**
+     * Get the completed requests per second over the whole run
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : completed / seconds;
+    }
+
+    /**
+     * Get the latency from intended arrival to completion, corrected for coordinated omission
+     */
+    public LatencyHistogram getResponseTime() {
+        return responseTime;
+    }
+
+    /**
+     * Get the latency from the actual send to completion
+     */
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Get the response time of the arrivals of each profile stage, in stage order
+     */
+    public List<LatencyHistogram> getStageResponseTimes() {
+        return stageResponseTimes;
+    }
+
+    /**
+     * Add up the results of runs that happened side by side, e.g. one per worker
+     * Counts and histograms are summed, the elapsed time is the longest of the runs
+     */
+    public static LoadResult merge(List<LoadResult> results) {
+        Duration elapsed = Duration.ZERO;
+        long scheduled = 0;
+        long completed = 0;
+        long errors = 0;
+        long dropped = 0;
+        LatencyHistogram responseTime = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        List<LatencyHistogram> stages = new ArrayList<>();
+        for (LoadResult result : results) {
+            elapsed = elapsed.compareTo(result.elapsed) >= 0 ? elapsed : result.elapsed;
+            scheduled += result.scheduled;
+            completed += result.completed;
+            errors += result.errors;
+            dropped += result.dropped;
+            responseTime.merge(result.responseTime);
+            serviceTime.merge(result.serviceTime);
+            for (int i = 0; i < result.stageResponseTimes.size(); i++) {
+                if (stages.size() == i) {
+                    stages.add(new LatencyHistogram());
+                }
+                stages.get(i).merge(result.stageResponseTimes.get(i));
+            }
+        }
+        return new LoadResult(elapsed, scheduled, completed, errors, dropped, responseTime, serviceTime, stages);
+    }
+
+    public ObjectNode toJson(ObjectMapper mapper) {
+        ObjectNode json = mapper.createObjectNode()
+                .put("elapsedNanos", elapsed.toNanos())
+                .put("scheduled", scheduled)
+                .put("completed", completed)
+                .put("errors", errors)
+                .put("dropped", dropped);
+        json.set("responseTime", histogramToJson(mapper, responseTime));
+        json.set("serviceTime", histogramToJson(mapper, serviceTime));
+        ArrayNode stageArray = json.putArray("stages");
+        stageResponseTimes.forEach(stage -> stageArray.add(histogramToJson(mapper, stage)));
+        return json;
+    }
+
+    public static LoadResult fromJson(JsonNode json) {
+        List<LatencyHistogram> stages = new ArrayList<>();
+        json.get("stages").forEach(stage -> stages.add(histogramFromJson(stage)));
+        return new LoadResult(
+                Duration.ofNanos(json.get("elapsedNanos").asLong()),
+                json.get("scheduled").asLong(),
+                json.get("completed").asLong(),
+                json.get("errors").asLong(),
+                json.get("dropped").asLong(),
+                histogramFromJson(json.get("responseTime")),
+                histogramFromJson(json.get("serviceTime")),
+                stages);
+    }
+
+    private static ObjectNode histogramToJson(ObjectMapper mapper, LatencyHistogram histogram) {
+        ObjectNode json = mapper.createObjectNode().put("maxMicros", histogram.getMaxMicros());
+        ArrayNode pairs = json.putArray("pairs");
+        for (long value : histogram.toPairs()) {
+            pairs.add(value);
+        }
+        return json;
+    }
+
+    private static LatencyHistogram histogramFromJson(JsonNode json) {
+        JsonNode pairs = json.get("pairs");
+        long[] values = new long[pairs.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = pairs.get(i).asLong();
+        }
+        return LatencyHistogram.fromPairs(values, json.get("maxMicros").asLong());
+    }
+
+    public String describe() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "%d scheduled, %d completed, %d errors, %d dropped in %.1f s (%.1f req/s)%n",
+                scheduled, completed, errors, dropped, elapsed.toNanos() / 1e9, getThroughput()));
+        text.append(line("response time", responseTime)).append(line("service time", serviceTime));
+        for (int i = 0; i < stageResponseTimes.size(); i++) {
+            text.append(line("stage " + (i + 1), stageResponseTimes.get(i)));
+        }
+        return text.toString();
+    }
+
+    private static String line(String label, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "  %-14s p50 %8.1f ms  p90 %8.1f ms  p99 %8.1f ms  p99.9 %8.1f ms  max %8.1f ms%n",
+                label, histogram.percentileMillis(50), histogram.percentileMillis(90), histogram.percentileMillis(99),
+                histogram.percentileMillis(99.9), histogram.getMaxMicros() / 1_000.0);
+    }
+}
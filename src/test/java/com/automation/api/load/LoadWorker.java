@@ -0,0 +1,128 @@
+package com.automation.api.load;
+
+import com.automation.api.client.StatusOnlyClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.restassured.builder.RequestSpecBuilder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load generating process driven by a {@link LoadController}
+ * Connects to the controller, receives its share of the plan, starts at the agreed wall-clock time,
+ * reports its counters every second and sends its histograms once the run is over.
+ *
+ * <pre>
+ * java -cp &lt;test classpath&gt; com.automation.api.load.LoadWorker &lt;controller-host&gt; &lt;controller-port&gt; [name]
+ * </pre>
+ */
+public final class LoadWorker {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String name;
+    private BufferedWriter out;
+
+    public LoadWorker(String name) {
+        this.name = name;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: LoadWorker <controller-host> <controller-port> [name]");
+            System.exit(2);
+        }
+        String name = args.length > 2 ? args[2] : "worker-" + ProcessHandle.current().pid();
+        new LoadWorker(name).run(args[0], Integer.parseInt(args[1]));
+    }
+
+    /**
+     * Serve one run of the controller and return once its result was sent
+     */
+    public void run(String controllerHost, int controllerPort) throws IOException, InterruptedException {
+        try (Socket socket = new Socket(controllerHost, controllerPort);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            send(MAPPER.createObjectNode().put("type", "hello").put("name", name));
+
+            String line = in.readLine();
+            if (line == null) {
+                return;
+            }
+            JsonNode message = MAPPER.readTree(line);
+            if (!"plan".equals(message.path("type").asText())) {
+                throw new IllegalStateException("Expected a plan from the controller, got: " + line);
+            }
+
+            try {
+                LoadResult result = execute(LoadPlan.fromJson(message.get("plan")),
+                        message.get("share").asDouble(), message.get("startAtMillis").asLong());
+                ObjectNode reply = MAPPER.createObjectNode().put("type", "result");
+                reply.set("result", result.toJson(MAPPER));
+                send(reply);
+            } catch (RuntimeException e) {
+                send(MAPPER.createObjectNode().put("type", "error").put("message", String.valueOf(e)));
+                throw e;
+            }
+        }
+    }
+
+    private LoadResult execute(LoadPlan plan, double share, long startAtMillis) throws InterruptedException {
+        StatusOnlyClient client = StatusOnlyClient.using(new RequestSpecBuilder().setBaseUri(plan.getBaseUrl()).build());
+        LoadOperation[] requests = plan.getPaths().stream()
+                .map(path -> (LoadOperation) () -> client.get(path).statusCode())
+                .toArray(LoadOperation[]::new);
+        LoadOperation cycle = LoadOperation.cycle(requests);
+
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        LoadOperation counted = () -> {
+            try {
+                int status = cycle.execute();
+                if (status >= 400) {
+                    errors.incrementAndGet();
+                }
+                return status;
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                throw e;
+            } finally {
+                completed.incrementAndGet();
+            }
+        };
+
+        // Every worker sleeps until the same wall-clock instant, hosts are expected to run NTP
+        Thread.sleep(Math.max(0, startAtMillis - System.currentTimeMillis()));
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> send(MAPPER.createObjectNode()
+                .put("type", "progress")
+                .put("completed", completed.get())
+                .put("errors", errors.get())), 1, 1, TimeUnit.SECONDS);
+        try {
+            return OpenLoadGenerator.of(plan.getProfile().scaled(share)).operation(counted).run();
+        } finally {
+            progress.shutdownNow();
+        }
+    }
+
+    private synchronized void send(ObjectNode message) {
+        try {
+            out.write(MAPPER.writeValueAsString(message));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Lost the connection to the controller", e);
+        }
+    }
+}
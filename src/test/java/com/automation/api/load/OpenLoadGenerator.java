@@ -0,0 +1,135 @@
+package com.automation.api.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued at the arrival times of a profile, whatever the response times
+ * A closed loop of N threads slows down together with the server and hides the slowdown, here a slow
+ * server only makes requests overlap. Each request runs on its own virtual thread, and its latency
+ * is measured from the time it was meant to be sent.
+ *
+ * <pre>
+ * LoadResult result = OpenLoadGenerator.of(ArrivalProfile.constant(50, Duration.ofSeconds(30)))
+ *         .operation(() -> given().spec(requestSpec).get(Endpoints.postById(1)).statusCode())
+ *         .run();
+ * </pre>
+ */
+public final class OpenLoadGenerator {
+    private final ArrivalProfile profile;
+    private LoadOperation operation;
+    private int maxInFlight = 10_000;
+    private Duration drainTimeout = Duration.ofSeconds(60);
+
+    private OpenLoadGenerator(ArrivalProfile profile) {
+        this.profile = profile;
+    }
+
+    public static OpenLoadGenerator of(ArrivalProfile profile) {
+        return new OpenLoadGenerator(profile);
+    }
+
+    /**
+     * Request issued at every arrival
+     */
+    public OpenLoadGenerator operation(LoadOperation operation) {
+        this.operation = operation;
+        return this;
+    }
+
+    /**
+     * Most requests outstanding at once, arrivals beyond it are counted as dropped instead of delayed
+     */
+    public OpenLoadGenerator maxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight must be positive, got: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * How long outstanding requests may take to finish once the last arrival was issued
+     */
+    public OpenLoadGenerator drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    /**
+     * Run the whole profile and wait for the outstanding requests
+     */
+    public LoadResult run() throws InterruptedException {
+        if (operation == null) {
+            throw new IllegalStateException("No operation set for the load generator");
+        }
+
+        LatencyHistogram responseTime = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        List<LatencyHistogram> stageResponseTimes = new ArrayList<>();
+        profile.getStages().forEach(stage -> stageResponseTimes.add(new LatencyHistogram()));
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long scheduled = 0;
+        long dropped = 0;
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ArrivalProfile.Schedule schedule = profile.schedule();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long start = System.nanoTime();
+        try {
+            for (long offset = schedule.nextOffsetNanos(); offset >= 0; offset = schedule.nextOffsetNanos()) {
+                long intended = start + offset;
+                sleepUntil(intended);
+                scheduled++;
+
+                if (!inFlight.tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+                LatencyHistogram stageHistogram = stageResponseTimes.get(schedule.stageOfLast());
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        if (operation.execute() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        long done = System.nanoTime();
+                        responseTime.recordNanos(done - intended);
+                        stageHistogram.recordNanos(done - intended);
+                        serviceTime.recordNanos(done - sent);
+                        completed.incrementAndGet();
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        return new LoadResult(Duration.ofNanos(System.nanoTime() - start), scheduled, completed.get(), errors.get(),
+                dropped, responseTime, serviceTime, stageResponseTimes);
+    }
+
+    private static void sleepUntil(long deadline) throws InterruptedException {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
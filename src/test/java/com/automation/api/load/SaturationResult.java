@@ -0,0 +1,113 @@
+package com.automation.api.load;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a saturation search: every probe run, the knee and the peak throughput
+ */
+public final class SaturationResult {
+
+    /**
+     * One constant-rate run of the search
+     */
+    public static final class Probe {
+        private final double rate;
+        private final LoadResult result;
+        private final boolean passed;
+
+        Probe(double rate, LoadResult result, boolean passed) {
+            this.rate = rate;
+            this.result = result;
+            this.passed = passed;
+        }
+
+        /**
+         * Get the offered arrival rate, in requests per second
+         */
+        public double getRate() {
+            return rate;
+        }
+
+        public LoadResult getResult() {
+            return result;
+        }
+
+        /**
+         * Check whether the probe met the latency SLO and the error budget
+         */
+        public boolean isPassed() {
+            return passed;
+        }
+    }
+
+    private final double percentile;
+    private final Duration maxLatency;
+    private final List<Probe> probes;
+    private final double kneeRate;
+    private final double firstFailingRate;
+
+    SaturationResult(double percentile, Duration maxLatency, List<Probe> probes, double kneeRate, double firstFailingRate) {
+        this.percentile = percentile;
+        this.maxLatency = maxLatency;
+        this.probes = List.copyOf(probes);
+        this.kneeRate = kneeRate;
+        this.firstFailingRate = firstFailingRate;
+    }
+
+    /**
+     * Get the probes in the order they ran
+     */
+    public List<Probe> getProbes() {
+        return probes;
+    }
+
+    /**
+     * Get the probes sorted by rate, i.e. the latency curve
+     */
+    public List<Probe> getCurve() {
+        return probes.stream().sorted(Comparator.comparingDouble(Probe::getRate)).toList();
+    }
+
+    /**
+     * Get the highest rate that met the SLO, 0 when even the start rate failed
+     */
+    public double getKneeRate() {
+        return kneeRate;
+    }
+
+    /**
+     * Get the lowest rate that broke the SLO, 0 when the search reached the rate cap without failing
+     */
+    public double getFirstFailingRate() {
+        return firstFailingRate;
+    }
+
+    /**
+     * Get the highest throughput any probe achieved, passing or not
+     */
+    public double getPeakThroughput() {
+        return probes.stream().mapToDouble(probe -> probe.getResult().getThroughput()).max().orElse(0);
+    }
+
+    public String describe() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "Knee at %.1f req/s (first failure at %.1f req/s), peak throughput %.1f req/s, SLO p%s <= %d ms%n",
+                kneeRate, firstFailingRate, getPeakThroughput(), formatPercentile(), maxLatency.toMillis()));
+        for (Probe probe : getCurve()) {
+            LoadResult result = probe.getResult();
+            text.append(String.format(Locale.ROOT,
+                    "  %8.1f req/s offered  %8.1f req/s achieved  p50 %8.1f ms  p%s %8.1f ms  errors %5.1f%%  %s%n",
+                    probe.getRate(), result.getThroughput(), result.getResponseTime().percentileMillis(50),
+                    formatPercentile(), result.getResponseTime().percentileMillis(percentile),
+                    result.getErrorRate() * 100, probe.isPassed() ? "pass" : "FAIL"));
+        }
+        return text.toString();
+    }
+
+    private String formatPercentile() {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,149 @@
+package com.automation.api.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the highest arrival rate an endpoint set sustains within a latency SLO and an error budget
+ * The rate doubles from the start rate until a probe breaks the SLO, then the interval between the
+ * last passing and the first failing rate is halved until it is narrower than the precision.
+ * Every probe is an open-model run at a constant rate, so an overloaded server shows as queueing
+ * instead of a quietly lower request rate.
+ *
+ * <pre>
+ * SaturationResult result = SaturationSearch.of(operation)
+ *         .slo(99, Duration.ofMillis(200))
+ *         .maxErrorRate(0.01)
+ *         .run();
+ * </pre>
+ */
+public final class SaturationSearch {
+    private final LoadOperation operation;
+    private double percentile = 99;
+    private Duration maxLatency = Duration.ofMillis(500);
+    private double maxErrorRate = 0.01;
+    private double startRate = 10;
+    private double maxRate = 10_000;
+    private double precision = 0.05;
+    private Duration probeDuration = Duration.ofSeconds(10);
+    private int maxInFlight = 10_000;
+
+    private SaturationSearch(LoadOperation operation) {
+        this.operation = operation;
+    }
+
+    public static SaturationSearch of(LoadOperation operation) {
+        return new SaturationSearch(operation);
+    }
+
+    /**
+     * Latency objective: the given percentile of the response time must stay at or below the latency
+     */
+    public SaturationSearch slo(double percentile, Duration maxLatency) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100], got: " + percentile);
+        }
+        this.percentile = percentile;
+        this.maxLatency = maxLatency;
+        return this;
+    }
+
+    /**
+     * Highest fraction of failed requests a passing probe may have
+     */
+    public SaturationSearch maxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+        return this;
+    }
+
+    /**
+     * Rate of the first probe, in requests per second
+     */
+    public SaturationSearch startRate(double startRate) {
+        if (startRate <= 0) {
+            throw new IllegalArgumentException("Start rate must be positive, got: " + startRate);
+        }
+        this.startRate = startRate;
+        return this;
+    }
+
+    /**
+     * Rate the search never goes beyond, in requests per second
+     */
+    public SaturationSearch maxRate(double maxRate) {
+        this.maxRate = maxRate;
+        return this;
+    }
+
+    /**
+     * Stop once the failing rate is within this fraction of the passing rate, 0.05 by default
+     */
+    public SaturationSearch precision(double precision) {
+        if (precision <= 0) {
+            throw new IllegalArgumentException("Precision must be positive, got: " + precision);
+        }
+        this.precision = precision;
+        return this;
+    }
+
+    /**
+     * How long each probe runs at its rate
+     */
+    public SaturationSearch probeDuration(Duration probeDuration) {
+        this.probeDuration = probeDuration;
+        return this;
+    }
+
+    public SaturationSearch maxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public SaturationResult run() throws InterruptedException {
+        List<SaturationResult.Probe> probes = new ArrayList<>();
+
+        // Exponential phase: double until the first failure or the rate cap
+        double passing = 0;
+        double failing = 0;
+        for (double rate = Math.min(startRate, maxRate); ; rate = Math.min(rate * 2, maxRate)) {
+            SaturationResult.Probe probe = probe(rate);
+            probes.add(probe);
+            if (!probe.isPassed()) {
+                failing = rate;
+                break;
+            }
+            passing = rate;
+            if (rate >= maxRate) {
+                break;
+            }
+        }
+
+        // Binary phase between the last passing and the first failing rate
+        while (failing > 0 && passing > 0 && (failing - passing) / passing > precision) {
+            double rate = (passing + failing) / 2;
+            SaturationResult.Probe probe = probe(rate);
+            probes.add(probe);
+            if (probe.isPassed()) {
+                passing = rate;
+            } else {
+                failing = rate;
+            }
+        }
+        return new SaturationResult(percentile, maxLatency, probes, passing, failing);
+    }
+
+    private SaturationResult.Probe probe(double rate) throws InterruptedException {
+        LoadResult result = OpenLoadGenerator.of(ArrivalProfile.constant(rate, probeDuration))
+                .operation(operation)
+                .maxInFlight(maxInFlight)
+                .run();
+
+        double latencyMillis = result.getResponseTime().percentileMillis(percentile);
+        boolean passed = result.getDropped() == 0
+                && result.getCompleted() == result.getScheduled()
+                && result.getErrorRate() <= maxErrorRate
+                && latencyMillis <= maxLatency.toNanos() / 1e6;
+        return new SaturationResult.Probe(rate, result, passed);
+    }
+}
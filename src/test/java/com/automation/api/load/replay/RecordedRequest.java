@@ -0,0 +1,61 @@
+package com.automation.api.load.replay;
+
+/**
+ * One request of a traffic log: what was sent, when, and the status it got when it was recorded
+ */
+public final class RecordedRequest {
+    private final long line;
+    private final String method;
+    private final String pathAndQuery;
+    private final String body;
+    private final Long timestampMillis;
+    private final Integer status;
+
+    public RecordedRequest(long line, String method, String pathAndQuery, String body, Long timestampMillis, Integer status) {
+        this.line = line;
+        this.method = method;
+        this.pathAndQuery = pathAndQuery;
+        this.body = body;
+        this.timestampMillis = timestampMillis;
+        this.status = status;
+    }
+
+    /**
+     * Get the line of the log the request was read from, starting at 1
+     */
+    public long getLine() {
+        return line;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the path including the query string, e.g. "/comments?postId=1"
+     */
+    public String getPathAndQuery() {
+        return pathAndQuery;
+    }
+
+    /**
+     * Get the request body, null when the request had none
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Get when the request was originally sent, null when the log has no timestamp for it
+     */
+    public Long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Get the status code originally received, null when it was not recorded
+     */
+    public Integer getStatus() {
+        return status;
+    }
+}
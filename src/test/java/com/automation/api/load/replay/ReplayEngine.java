@@ -0,0 +1,203 @@
+package com.automation.api.load.replay;
+
+import com.automation.api.client.StatusOnlyClient;
+import com.automation.api.config.ApiConfig;
+import com.automation.api.load.LatencyHistogram;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a JSON Lines traffic log (see {@link RequestLogReader}) at its original pace, faster, or as fast as possible
+ * The log is streamed, so its size is not limited by memory. In timed modes every request is due at its
+ * recorded offset divided by the speed-up, and its latency is measured from that due time, so a server
+ * that falls behind shows up in the percentiles instead of silently slowing the replay down.
+ *
+ * <pre>
+ * ReplayResult result = ReplayEngine.of(Path.of("traffic.jsonl")).accelerated(4).run(requestSpec);
+ * </pre>
+ */
+public final class ReplayEngine {
+    private static final int MAX_MISMATCH_SAMPLES = 20;
+
+    private final Path log;
+    private double speedUp = 1;
+    private boolean timed = true;
+    private int maxInFlight = 256;
+    private Duration drainTimeout = Duration.ofSeconds(60);
+
+    private ReplayEngine(Path log) {
+        this.log = log;
+    }
+
+    public static ReplayEngine of(Path log) {
+        return new ReplayEngine(log);
+    }
+
+    /**
+     * Send every request at its recorded offset from the first one
+     */
+    public ReplayEngine originalTiming() {
+        return accelerated(1);
+    }
+
+    /**
+     * Send requests at their recorded offsets divided by a factor, e.g. 4 replays an hour in 15 minutes
+     */
+    public ReplayEngine accelerated(double factor) {
+        if (factor <= 0) {
+            throw new IllegalArgumentException("Speed-up factor must be positive, got: " + factor);
+        }
+        this.speedUp = factor;
+        this.timed = true;
+        return this;
+    }
+
+    /**
+     * Ignore the timestamps and keep {@link #maxInFlight(int)} requests outstanding at all times
+     */
+    public ReplayEngine asFastAsPossible() {
+        this.timed = false;
+        return this;
+    }
+
+    /**
+     * Most requests outstanding at once, reading the log pauses while the limit is reached
+     */
+    public ReplayEngine maxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight must be positive, got: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public ReplayEngine drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    /**
+     * Replay the log against the base URI and headers of a request specification
+     */
+    public ReplayResult run(RequestSpecification spec) throws IOException, InterruptedException {
+        StatusOnlyClient client = StatusOnlyClient.using(spec);
+        LatencyHistogram latency = new LatencyHistogram();
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        List<ReplayResult.Mismatch> mismatches = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong failures = new AtomicLong();
+        AtomicLong matched = new AtomicLong();
+        AtomicLong mismatched = new AtomicLong();
+        AtomicLong unrecorded = new AtomicLong();
+        long replayed = 0;
+        long skipped;
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long start = System.nanoTime();
+        Long firstTimestamp = null;
+        long previousDue = start;
+        try (RequestLogReader reader = RequestLogReader.open(log)) {
+            while (reader.hasNext()) {
+                RecordedRequest request = reader.next();
+
+                // Requests without a timestamp follow the previous one immediately
+                long due = System.nanoTime();
+                if (timed) {
+                    due = previousDue;
+                    if (request.getTimestampMillis() != null) {
+                        if (firstTimestamp == null) {
+                            firstTimestamp = request.getTimestampMillis();
+                        }
+                        long offsetNanos = TimeUnit.MILLISECONDS.toNanos(request.getTimestampMillis() - firstTimestamp);
+                        due = start + Math.max(0, (long) (offsetNanos / speedUp));
+                    }
+                    previousDue = due;
+                    sleepUntil(due);
+                }
+
+                inFlight.acquire();
+                replayed++;
+                long dueAt = due;
+                executor.execute(() -> {
+                    try {
+                        int status = client.send(request.getMethod(), request.getPathAndQuery(), request.getBody()).statusCode();
+                        statuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+                        if (request.getStatus() == null) {
+                            unrecorded.incrementAndGet();
+                        } else if (request.getStatus() == status) {
+                            matched.incrementAndGet();
+                        } else {
+                            mismatched.incrementAndGet();
+                            if (mismatches.size() < MAX_MISMATCH_SAMPLES) {
+                                mismatches.add(new ReplayResult.Mismatch(request, status));
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latency.recordNanos(System.nanoTime() - dueAt);
+                        inFlight.release();
+                    }
+                });
+            }
+            skipped = reader.getSkipped();
+        } finally {
+            executor.shutdown();
+        }
+
+        if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        return new ReplayResult(Duration.ofNanos(System.nanoTime() - start), replayed, skipped, failures.get(),
+                matched.get(), mismatched.get(), unrecorded.get(), statuses, mismatches, latency);
+    }
+
+    /**
+     * Replay a log against BASE_URL
+     * Arguments: the log path and optionally the speed: "original" (default), "max" or a factor such as "4x"
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayEngine <log.jsonl> [original|max|<factor>x]");
+            System.exit(2);
+        }
+        ReplayEngine engine = of(Path.of(args[0]));
+        String speed = args.length > 1 ? args[1] : "original";
+        if (speed.equals("max")) {
+            engine.asFastAsPossible();
+        } else if (!speed.equals("original")) {
+            engine.accelerated(Double.parseDouble(speed.endsWith("x") ? speed.substring(0, speed.length() - 1) : speed));
+        }
+
+        RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(ApiConfig.getBaseUrl())
+                .setContentType(ApiConfig.getContentType())
+                .addHeader("Accept", ApiConfig.getAcceptHeader())
+                .build();
+        System.out.print(engine.run(spec).describe());
+    }
+
+    private static void sleepUntil(long deadline) throws InterruptedException {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.automation.api.load.replay;
+
+import com.automation.api.load.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outcome of a replay: status codes compared with the recorded ones, and latency percentiles
+ */
+public final class ReplayResult {
+
+    /**
+     * A replayed request whose status differs from the recorded one
+     */
+    public static final class Mismatch {
+        private final RecordedRequest request;
+        private final int actualStatus;
+
+        Mismatch(RecordedRequest request, int actualStatus) {
+            this.request = request;
+            this.actualStatus = actualStatus;
+        }
+
+        public RecordedRequest getRequest() {
+            return request;
+        }
+
+        public int getActualStatus() {
+            return actualStatus;
+        }
+
+        public String describe() {
+            return "line " + request.getLine() + ": " + request.getMethod() + " " + request.getPathAndQuery()
+                    + " recorded " + request.getStatus() + ", replayed " + actualStatus;
+        }
+    }
+
+    private final Duration elapsed;
+    private final long replayed;
+    private final long skipped;
+    private final long failures;
+    private final long matched;
+    private final long mismatched;
+    private final long unrecorded;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+    private final List<Mismatch> mismatches;
+    private final LatencyHistogram latency;
+
+    ReplayResult(Duration elapsed, long replayed, long skipped, long failures, long matched, long mismatched,
+                 long unrecorded, Map<Integer, AtomicLong> statuses, List<Mismatch> mismatches, LatencyHistogram latency) {
+        this.elapsed = elapsed;
+        this.replayed = replayed;
+        this.skipped = skipped;
+        this.failures = failures;
+        this.matched = matched;
+        this.mismatched = mismatched;
+        this.unrecorded = unrecorded;
+        statuses.forEach((status, count) -> statusCounts.put(status, count.get()));
+        this.mismatches = List.copyOf(mismatches);
+        this.latency = latency;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public long getReplayed() {
+        return replayed;
+    }
+
+    /**
+     * Get the number of log lines that held no request
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Get the number of requests that got no response at all
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getMatched() {
+        return matched;
+    }
+
+    public long getMismatched() {
+        return mismatched;
+    }
+
+    /**
+     * Get the number of requests whose log line carried no status to compare with
+     */
+    public long getUnrecorded() {
+        return unrecorded;
+    }
+
+    /**
+     * Get how often each status code was received
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    /**
+     * Get the first mismatches, at most 20, in completion order
+     */
+    public List<Mismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public String describe() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "%d replayed in %.1f s, %d skipped lines, %d failures%n"
+                        + "status: %d matched, %d mismatched, %d not recorded, received %s%n"
+                        + "latency: p50 %.1f ms  p90 %.1f ms  p99 %.1f ms  p99.9 %.1f ms  max %.1f ms%n",
+                replayed, elapsed.toNanos() / 1e9, skipped, failures, matched, mismatched, unrecorded, statusCounts,
+                latency.percentileMillis(50), latency.percentileMillis(90), latency.percentileMillis(99),
+                latency.percentileMillis(99.9), latency.getMaxMicros() / 1_000.0));
+        for (Mismatch mismatch : mismatches) {
+            text.append("  ").append(mismatch.describe()).append('\n');
+        }
+        return text.toString();
+    }
+}
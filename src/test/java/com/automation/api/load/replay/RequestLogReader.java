@@ -0,0 +1,149 @@
+package com.automation.api.load.replay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams a JSON Lines traffic log one request at a time, never holding more than one line in memory
+ * Each line is an object with "method" and "path", and optionally "query" (object or string),
+ * "body" (any JSON or a string), "timestamp" (epoch milliseconds or ISO-8601) and "status".
+ * Blank lines, malformed JSON and objects without method and path are skipped and counted.
+ */
+public final class RequestLogReader implements Iterator<RecordedRequest>, Closeable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private long line;
+    private long skipped;
+    private RecordedRequest next;
+
+    public RequestLogReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static RequestLogReader open(Path log) throws IOException {
+        return new RequestLogReader(Files.newBufferedReader(log, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String text;
+            try {
+                text = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the request log", e);
+            }
+            if (text == null) {
+                return false;
+            }
+            line++;
+            next = parse(text);
+            if (next == null) {
+                skipped++;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public RecordedRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        RecordedRequest request = next;
+        next = null;
+        return request;
+    }
+
+    /**
+     * Get the number of lines read so far that held no request
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private RecordedRequest parse(String text) {
+        if (text.isBlank()) {
+            return null;
+        }
+        JsonNode json;
+        try {
+            json = MAPPER.readTree(text);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        if (!json.isObject() || !json.path("method").isTextual() || !json.path("path").isTextual()) {
+            return null;
+        }
+
+        String path = json.get("path").asText();
+        String query = query(json.get("query"));
+        if (!query.isEmpty()) {
+            path += (path.contains("?") ? "&" : "?") + query;
+        }
+
+        JsonNode body = json.get("body");
+        String bodyText = body == null || body.isNull() ? null : body.isTextual() ? body.asText() : body.toString();
+        JsonNode status = json.get("status");
+        return new RecordedRequest(line, json.get("method").asText().toUpperCase(Locale.ROOT), path, bodyText,
+                timestamp(json.get("timestamp")), status != null && status.canConvertToInt() ? status.asInt() : null);
+    }
+
+    private static String query(JsonNode query) {
+        if (query == null || query.isNull()) {
+            return "";
+        }
+        if (query.isTextual()) {
+            return query.asText().startsWith("?") ? query.asText().substring(1) : query.asText();
+        }
+        StringBuilder text = new StringBuilder();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = query.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            Iterable<JsonNode> values = field.getValue().isArray() ? field.getValue() : List.of(field.getValue());
+            for (JsonNode value : values) {
+                text.append(text.length() == 0 ? "" : "&")
+                        .append(URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value.asText(), StandardCharsets.UTF_8));
+            }
+        }
+        return text.toString();
+    }
+
+    private static Long timestamp(JsonNode timestamp) {
+        if (timestamp == null || timestamp.isNull()) {
+            return null;
+        }
+        if (timestamp.isNumber()) {
+            return timestamp.asLong();
+        }
+        try {
+            return Instant.parse(timestamp.asText()).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.automation.api.load.scenario;
+
+import com.automation.api.client.StatusOnlyClient;
+
+import java.util.Random;
+
+/**
+ * One operation of a compiled scenario: method, path and payload templates and the id distribution
+ */
+public final class CompiledOperation {
+    private final String name;
+    private final String method;
+    private final Template path;
+    private final Template payload;
+    private final IdDistribution ids;
+
+    CompiledOperation(String name, String method, Template path, Template payload, IdDistribution ids) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.payload = payload;
+        this.ids = ids;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Draw the id the next request addresses, 0 for operations without ids
+     */
+    public int sampleId(Random random) {
+        return ids == null ? 0 : ids.sample(random);
+    }
+
+    public String path(int id) {
+        return path.render(id);
+    }
+
+    /**
+     * Get the payload for an id, null for operations without one
+     */
+    public String payload(int id) {
+        return payload == null ? null : payload.render(id);
+    }
+
+    int execute(StatusOnlyClient client, Random random) {
+        int id = sampleId(random);
+        return client.send(method, path(id), payload(id)).statusCode();
+    }
+}
@@ -0,0 +1,110 @@
+package com.automation.api.load.scenario;
+
+import com.automation.api.client.StatusOnlyClient;
+import com.automation.api.load.ArrivalProfile;
+import com.automation.api.load.LatencyHistogram;
+import com.automation.api.load.LoadOperation;
+import com.automation.api.load.LoadResult;
+import com.automation.api.load.OpenLoadGenerator;
+import com.automation.api.standin.Latency;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiled scenario, ready to run: every arrival starts a session of weighted operations with think times between them
+ * Picking an operation is a binary search over the cumulative weights and rendering a request
+ * only joins precomputed fragments around the drawn id.
+ */
+public final class ExecutionPlan {
+    private final String name;
+    private final ArrivalProfile profile;
+    private final int steps;
+    private final Latency thinkTime;
+    private final CompiledOperation[] operations;
+    private final double[] cumulativeWeights;
+
+    ExecutionPlan(String name, ArrivalProfile profile, int steps, Latency thinkTime,
+                  List<CompiledOperation> operations, double[] weights) {
+        this.name = name;
+        this.profile = profile;
+        this.steps = steps;
+        this.thinkTime = thinkTime;
+        this.operations = operations.toArray(new CompiledOperation[0]);
+        this.cumulativeWeights = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ArrivalProfile getProfile() {
+        return profile;
+    }
+
+    public List<CompiledOperation> getOperations() {
+        return List.of(operations);
+    }
+
+    /**
+     * Get the index of an operation drawn according to the weights
+     */
+    public int pick(Random random) {
+        double roll = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, roll);
+        // An exact hit on a boundary belongs to the next operation, like any roll above it
+        return Math.min(index >= 0 ? index + 1 : -index - 1, operations.length - 1);
+    }
+
+    /**
+     * Run the scenario against the base URI, headers and query parameters of a request specification
+     */
+    public ScenarioResult run(RequestSpecification spec) throws InterruptedException {
+        StatusOnlyClient client = StatusOnlyClient.using(spec);
+        LatencyHistogram[] latencies = new LatencyHistogram[operations.length];
+        AtomicLong[] errors = new AtomicLong[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            latencies[i] = new LatencyHistogram();
+            errors[i] = new AtomicLong();
+        }
+
+        LoadOperation session = () -> {
+            Random random = ThreadLocalRandom.current();
+            int worst = 0;
+            for (int step = 0; step < steps; step++) {
+                if (step > 0) {
+                    Thread.sleep(thinkTime.sampleMillis(random));
+                }
+                int index = pick(random);
+                long start = System.nanoTime();
+                int status;
+                try {
+                    status = operations[index].execute(client, random);
+                } catch (RuntimeException e) {
+                    errors[index].incrementAndGet();
+                    throw e;
+                } finally {
+                    latencies[index].recordNanos(System.nanoTime() - start);
+                }
+                if (status >= 400) {
+                    errors[index].incrementAndGet();
+                }
+                worst = Math.max(worst, status);
+            }
+            return worst;
+        };
+
+        LoadResult sessions = OpenLoadGenerator.of(profile).operation(session).run();
+        return new ScenarioResult(name, sessions, getOperations(), List.of(latencies),
+                Arrays.stream(errors).mapToLong(AtomicLong::get).toArray());
+    }
+}
@@ -0,0 +1,50 @@
+package com.automation.api.load.scenario;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Distribution of the resource ids a scenario operation addresses
+ */
+@FunctionalInterface
+public interface IdDistribution {
+
+    /**
+     * Draw one id
+     */
+    int sample(Random random);
+
+    /**
+     * Every id between min and max, both inclusive, equally likely
+     */
+    static IdDistribution uniform(int min, int max) {
+        if (max < min) {
+            throw new IllegalArgumentException("Id range is empty: " + min + ".." + max);
+        }
+        return random -> min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Ids 1..max with probability proportional to 1 / rank^skew, so id 1 is the hottest
+     * The cumulative distribution is computed once, sampling is a binary search over it
+     */
+    static IdDistribution zipf(int max, double skew) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("Zipf max must be positive, got: " + max);
+        }
+        if (skew <= 0) {
+            throw new IllegalArgumentException("Zipf skew must be positive, got: " + skew);
+        }
+        double[] cumulative = new double[max];
+        double sum = 0;
+        for (int rank = 1; rank <= max; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = sum;
+        }
+        double total = sum;
+        return random -> {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            return (index >= 0 ? index : -index - 1) + 1;
+        };
+    }
+}
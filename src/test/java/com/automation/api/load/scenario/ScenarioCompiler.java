@@ -0,0 +1,216 @@
+package com.automation.api.load.scenario;
+
+import com.automation.api.load.ArrivalProfile;
+import com.automation.api.standin.Latency;
+import com.automation.api.utils.Resource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles a declarative workload scenario, JSON or YAML, into an {@link ExecutionPlan}
+ * Everything that does not depend on the drawn id is resolved here once: testdata references,
+ * payload serialization, the weight table and the Zipf tables. See the README for the format.
+ */
+public final class ScenarioCompiler {
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper YAML = new ObjectMapper(new YAMLFactory());
+    private static final String TESTDATA_PACKAGE = "com.automation.api.testdata.";
+    private static final Pattern REFERENCE = Pattern.compile("\\$\\{(\\w+)\\.(\\w+)}");
+    private static final Pattern DURATION = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ms|s|m)");
+
+    private ScenarioCompiler() {
+    }
+
+    /**
+     * Compile a scenario from the test classpath, e.g. "scenarios/mixed-traffic.yaml"
+     */
+    public static ExecutionPlan compileResource(String resource) throws IOException {
+        try (InputStream in = ScenarioCompiler.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Scenario not found on the classpath: " + resource);
+            }
+            return compile((isYaml(resource) ? YAML : JSON).readTree(in));
+        }
+    }
+
+    public static ExecutionPlan compileFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return compile((isYaml(file.toString()) ? YAML : JSON).readTree(in));
+        }
+    }
+
+    public static ExecutionPlan compile(JsonNode scenario) {
+        String name = scenario.path("name").asText("scenario");
+        ArrivalProfile profile = arrival(required(scenario, "arrival"));
+
+        JsonNode session = scenario.path("session");
+        int steps = session.path("steps").asInt(1);
+        if (steps <= 0) {
+            throw new IllegalArgumentException("Session steps must be positive, got: " + steps);
+        }
+        Latency thinkTime = session.has("thinkTime") ? thinkTime(session.get("thinkTime")) : Latency.none();
+
+        List<CompiledOperation> operations = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (JsonNode operation : required(scenario, "operations")) {
+            double weight = operation.path("weight").asDouble(1);
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Operation weight must be positive, got: " + operation);
+            }
+            operations.add(operation(operation));
+            weights.add(weight);
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + name + " has no operation");
+        }
+        return new ExecutionPlan(name, profile, steps, thinkTime, operations,
+                weights.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    private static ArrivalProfile arrival(JsonNode stages) {
+        ArrivalProfile profile = ArrivalProfile.startingAt(0);
+        for (JsonNode stage : stages) {
+            Duration duration = duration(required(stage, "duration"));
+            if (stage.has("rate")) {
+                profile.step(stage.get("rate").asDouble(), duration);
+            } else if (stage.has("rampTo")) {
+                profile.rampTo(stage.get("rampTo").asDouble(), duration);
+            } else if (stage.has("spike")) {
+                profile.spike(stage.get("spike").asDouble(), duration);
+            } else {
+                throw new IllegalArgumentException("Arrival stage needs one of rate, rampTo or spike: " + stage);
+            }
+        }
+        return profile;
+    }
+
+    private static Latency thinkTime(JsonNode spec) {
+        String distribution = spec.path("distribution").asText("fixed");
+        switch (distribution) {
+            case "fixed":
+                return Latency.fixed(duration(required(spec, "value")).toMillis());
+            case "uniform":
+                return Latency.uniform(duration(required(spec, "min")).toMillis(), duration(required(spec, "max")).toMillis());
+            case "exponential":
+                return Latency.exponential(duration(required(spec, "mean")).toMillis());
+            default:
+                throw new IllegalArgumentException("Unknown think time distribution: " + distribution);
+        }
+    }
+
+    private static CompiledOperation operation(JsonNode spec) {
+        String method = required(spec, "method").asText().toUpperCase(Locale.ROOT);
+        String path = required(spec, "path").asText();
+        if (!path.startsWith("/") || Resource.fromSegment(path.split("[/?]")[1]) == null) {
+            throw new IllegalArgumentException("Unknown resource in operation path: " + path);
+        }
+
+        Template payload = null;
+        if (spec.has("payload")) {
+            // An exact "${id}" value becomes a JSON number, an embedded one part of the string
+            String json = resolveReferences(spec.get("payload")).toString()
+                    .replace("\"" + Template.ID + "\"", Template.ID);
+            payload = Template.of(json);
+        }
+
+        Template pathTemplate = Template.of(path);
+        IdDistribution ids = spec.has("id") ? ids(spec.get("id")) : null;
+        if (ids == null && (pathTemplate.hasId() || (payload != null && payload.hasId()))) {
+            throw new IllegalArgumentException("Operation uses ${id} but has no id distribution: " + spec);
+        }
+        String name = spec.path("name").asText(method + " " + path);
+        return new CompiledOperation(name, method, pathTemplate, payload, ids);
+    }
+
+    private static IdDistribution ids(JsonNode spec) {
+        String distribution = spec.path("distribution").asText("uniform");
+        switch (distribution) {
+            case "uniform":
+                return IdDistribution.uniform(spec.path("min").asInt(1), required(spec, "max").asInt());
+            case "zipf":
+                return IdDistribution.zipf(required(spec, "max").asInt(), spec.path("skew").asDouble(1.0));
+            default:
+                throw new IllegalArgumentException("Unknown id distribution: " + distribution);
+        }
+    }
+
+    /**
+     * Replace "${Class.FIELD}" references to testdata constants, keeping the constant's JSON type for exact references
+     */
+    private static JsonNode resolveReferences(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode resolved = JsonNodeFactory.instance.objectNode();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                resolved.set(field.getKey(), resolveReferences(field.getValue()));
+            }
+            return resolved;
+        }
+        if (!node.isTextual()) {
+            return node;
+        }
+
+        String text = node.asText();
+        Matcher exact = REFERENCE.matcher(text);
+        if (exact.matches()) {
+            return JSON.valueToTree(constant(exact.group(1), exact.group(2)));
+        }
+        Matcher embedded = REFERENCE.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (embedded.find()) {
+            embedded.appendReplacement(result, Matcher.quoteReplacement(
+                    String.valueOf(constant(embedded.group(1), embedded.group(2)))));
+        }
+        embedded.appendTail(result);
+        return JsonNodeFactory.instance.textNode(result.toString());
+    }
+
+    private static Object constant(String className, String field) {
+        try {
+            return Class.forName(TESTDATA_PACKAGE + className).getField(field).get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unknown testdata constant: " + className + "." + field, e);
+        }
+    }
+
+    private static Duration duration(JsonNode value) {
+        if (value.isNumber()) {
+            return Duration.ofMillis(value.asLong());
+        }
+        Matcher matcher = DURATION.matcher(value.asText().trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Duration must look like 500ms, 30s or 2m, got: " + value.asText());
+        }
+        double amount = Double.parseDouble(matcher.group(1));
+        long unitMillis = matcher.group(2).equals("ms") ? 1 : matcher.group(2).equals("s") ? 1_000 : 60_000;
+        return Duration.ofMillis(Math.round(amount * unitMillis));
+    }
+
+    private static JsonNode required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Missing '" + field + "' in scenario element: " + node);
+        }
+        return value;
+    }
+
+    private static boolean isYaml(String name) {
+        return name.endsWith(".yaml") || name.endsWith(".yml");
+    }
+}
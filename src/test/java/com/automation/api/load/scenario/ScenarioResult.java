@@ -0,0 +1,60 @@
+package com.automation.api.load.scenario;
+
+import com.automation.api.load.LatencyHistogram;
+import com.automation.api.load.LoadResult;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a scenario run: the session-level load result and the latency and errors of every operation
+ */
+public final class ScenarioResult {
+    private final String name;
+    private final LoadResult sessions;
+    private final List<CompiledOperation> operations;
+    private final List<LatencyHistogram> latencies;
+    private final long[] errors;
+
+    ScenarioResult(String name, LoadResult sessions, List<CompiledOperation> operations,
+                   List<LatencyHistogram> latencies, long[] errors) {
+        this.name = name;
+        this.sessions = sessions;
+        this.operations = operations;
+        this.latencies = latencies;
+        this.errors = errors.clone();
+    }
+
+    /**
+     * Get the result per session, response time spanning the whole session including think times
+     */
+    public LoadResult getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Get the latency of one operation, in the order of the scenario file
+     */
+    public LatencyHistogram getLatency(int operation) {
+        return latencies.get(operation);
+    }
+
+    public long getRequests(int operation) {
+        return latencies.get(operation).getCount();
+    }
+
+    public long getErrors(int operation) {
+        return errors[operation];
+    }
+
+    public String describe() {
+        StringBuilder text = new StringBuilder("Scenario ").append(name).append('\n').append(sessions.describe());
+        for (int i = 0; i < operations.size(); i++) {
+            LatencyHistogram latency = latencies.get(i);
+            text.append(String.format(Locale.ROOT, "  %-30s %7d requests %5d errors  p50 %8.1f ms  p99 %8.1f ms%n",
+                    operations.get(i).getName(), latency.getCount(), errors[i],
+                    latency.percentileMillis(50), latency.percentileMillis(99)));
+        }
+        return text.toString();
+    }
+}
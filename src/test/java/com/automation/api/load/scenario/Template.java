@@ -0,0 +1,44 @@
+package com.automation.api.load.scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text with {@code ${id}} holes, split once into fixed fragments so rendering is only concatenation
+ */
+final class Template {
+    static final String ID = "${id}";
+
+    private final String[] fragments;
+
+    private Template(String[] fragments) {
+        this.fragments = fragments;
+    }
+
+    static Template of(String text) {
+        List<String> fragments = new ArrayList<>();
+        int from = 0;
+        for (int at = text.indexOf(ID); at >= 0; at = text.indexOf(ID, from)) {
+            fragments.add(text.substring(from, at));
+            from = at + ID.length();
+        }
+        fragments.add(text.substring(from));
+        return new Template(fragments.toArray(new String[0]));
+    }
+
+    boolean hasId() {
+        return fragments.length > 1;
+    }
+
+    String render(int id) {
+        if (fragments.length == 1) {
+            return fragments[0];
+        }
+        String value = Integer.toString(id);
+        StringBuilder text = new StringBuilder(fragments[0]);
+        for (int i = 1; i < fragments.length; i++) {
+            text.append(value).append(fragments[i]);
+        }
+        return text.toString();
+    }
+}
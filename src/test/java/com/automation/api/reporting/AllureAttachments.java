@@ -0,0 +1,86 @@
+package com.automation.api.reporting;
+
+import com.automation.api.config.ApiConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes attachments to the current Allure test case under the run-wide limits
+ * Identical payloads are written once, named after their SHA-256, and every later test
+ * links to the existing file. Once the run budget is spent further attachments are skipped.
+ */
+public final class AllureAttachments {
+    private static final AttachmentPolicy POLICY = AttachmentPolicy.fromConfig();
+    private static final AttachmentBudget BUDGET = new AttachmentBudget(ApiConfig.getAttachRunBudgetBytes());
+    private static final Set<String> WRITTEN = ConcurrentHashMap.newKeySet();
+
+    private AllureAttachments() {
+    }
+
+    /**
+     * Get the policy configured for this run
+     */
+    public static AttachmentPolicy policy() {
+        return POLICY;
+    }
+
+    /**
+     * Attach the recorded exchanges of the finishing test according to the policy
+     */
+    public static void attachExchanges(List<RecordedExchange> exchanges, boolean failed) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCase().isEmpty()) {
+            return;
+        }
+
+        int skipped = 0;
+        for (AttachmentContent content : POLICY.render(exchanges, failed)) {
+            if (!attach(lifecycle, content)) {
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            String note = skipped + " attachment(s) skipped: the run attachment budget of "
+                    + BUDGET.getLimit() + " bytes is spent";
+            Allure.addAttachment("Attachments skipped", "text/plain", note, ".txt");
+        }
+    }
+
+    private static boolean attach(AllureLifecycle lifecycle, AttachmentContent content) {
+        String hash = sha256(content.getBytes());
+        String source = hash + "-attachment" + content.getExtension();
+
+        // Only the first test carrying a payload pays for it, later ones link to the same file
+        if (!WRITTEN.contains(source)) {
+            if (!BUDGET.tryReserve(content.getBytes().length)) {
+                return false;
+            }
+            if (WRITTEN.add(source)) {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(content.getBytes()));
+            }
+        }
+
+        lifecycle.updateTestCase(testResult -> testResult.getAttachments().add(new Attachment()
+                .setName(content.getName())
+                .setType(content.getType())
+                .setSource(source)));
+        return true;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.automation.api.reporting;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Total number of attachment bytes a test run may still write, shared by parallel tests
+ */
+public final class AttachmentBudget {
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+
+    public AttachmentBudget(long limitBytes) {
+        this.limit = limitBytes;
+    }
+
+    /**
+     * Reserve room for an attachment
+     *
+     * @return true when the bytes fit in the remaining budget and were reserved
+     */
+    public boolean tryReserve(long bytes) {
+        while (true) {
+            long current = used.get();
+            if (current + bytes > limit) {
+                return false;
+            }
+            if (used.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    public long getUsed() {
+        return used.get();
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+}
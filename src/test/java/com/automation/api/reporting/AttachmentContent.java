@@ -0,0 +1,40 @@
+package com.automation.api.reporting;
+
+/**
+ * One attachment ready to be written to the Allure results
+ */
+public final class AttachmentContent {
+    private final String name;
+    private final String type;
+    private final String extension;
+    private final byte[] bytes;
+
+    public AttachmentContent(String name, String type, String extension, byte[] bytes) {
+        this.name = name;
+        this.type = type;
+        this.extension = extension;
+        this.bytes = bytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the MIME type Allure uses to render the attachment
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Get the file extension including the leading dot, e.g. ".json"
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+}
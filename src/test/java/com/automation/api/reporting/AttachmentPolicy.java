@@ -0,0 +1,125 @@
+package com.automation.api.reporting;
+
+import com.automation.api.config.ApiConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decides which HTTP exchanges of a test become Allure attachments and in which form
+ * Passing tests get a one-line-per-request summary, failing tests also get their bodies.
+ * Bodies larger than the inline limit are truncated, and optionally attached in full as gzip.
+ */
+public final class AttachmentPolicy {
+
+    /**
+     * When request and response bodies are attached
+     */
+    public enum Mode {
+        /** Attach nothing */
+        NEVER,
+        /** Attach a summary for every test and bodies only for failed tests */
+        FAILURE,
+        /** Attach bodies for every test */
+        ALWAYS
+    }
+
+    private final Mode mode;
+    private final int maxInlineBytes;
+    private final boolean gzipLarge;
+
+    public AttachmentPolicy(Mode mode, int maxInlineBytes, boolean gzipLarge) {
+        this.mode = mode;
+        this.maxInlineBytes = maxInlineBytes;
+        this.gzipLarge = gzipLarge;
+    }
+
+    /**
+     * Build the policy from the ALLURE_ATTACH_* configuration
+     */
+    public static AttachmentPolicy fromConfig() {
+        return new AttachmentPolicy(
+                Mode.valueOf(ApiConfig.getAttachMode().toUpperCase()),
+                ApiConfig.getAttachMaxInlineBytes(),
+                ApiConfig.isAttachGzipEnabled());
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Turn the exchanges of one test into attachments
+     */
+    public List<AttachmentContent> render(List<RecordedExchange> exchanges, boolean failed) {
+        List<AttachmentContent> attachments = new ArrayList<>();
+        if (mode == Mode.NEVER || exchanges.isEmpty()) {
+            return attachments;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        for (RecordedExchange exchange : exchanges) {
+            summary.append(exchange.describe())
+                    .append(", ").append(exchange.getResponseBody().length).append(" bytes\n");
+        }
+        attachments.add(new AttachmentContent("HTTP exchanges", "text/plain", ".txt",
+                summary.toString().getBytes(StandardCharsets.UTF_8)));
+
+        if (!failed && mode != Mode.ALWAYS) {
+            return attachments;
+        }
+
+        for (RecordedExchange exchange : exchanges) {
+            if (exchange.getRequestBody().length > 0) {
+                addBody(attachments, "Request " + exchange.getMethod() + " " + exchange.getUri(),
+                        "application/json", exchange.getRequestBody());
+            }
+            if (exchange.getResponseBody().length > 0) {
+                addBody(attachments, "Response " + exchange.describe(),
+                        exchange.getResponseContentType(), exchange.getResponseBody());
+            }
+        }
+        return attachments;
+    }
+
+    private void addBody(List<AttachmentContent> attachments, String name, String contentType, byte[] body) {
+        boolean json = contentType != null && contentType.toLowerCase().contains("json");
+        if (body.length <= maxInlineBytes) {
+            attachments.add(new AttachmentContent(name, json ? "application/json" : "text/plain", json ? ".json" : ".txt", body));
+            return;
+        }
+
+        // A cut JSON document no longer parses, so the preview is attached as plain text
+        byte[] preview = new byte[maxInlineBytes];
+        System.arraycopy(body, 0, preview, 0, maxInlineBytes);
+        String note = "\n... [truncated, showing " + maxInlineBytes + " of " + body.length + " bytes]";
+        attachments.add(new AttachmentContent(name + " (truncated)", "text/plain", ".txt",
+                concat(preview, note.getBytes(StandardCharsets.UTF_8))));
+
+        if (gzipLarge) {
+            attachments.add(new AttachmentContent(name + " (full, gzip)", "application/gzip",
+                    json ? ".json.gz" : ".txt.gz", gzip(body)));
+        }
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not compress attachment", e);
+        }
+        return out.toByteArray();
+    }
+}
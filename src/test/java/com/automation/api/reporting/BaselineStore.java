@@ -0,0 +1,71 @@
+package com.automation.api.reporting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only directory of past runs, one gzipped file per run named after its start time
+ * Files are never rewritten, so pruning old runs is just deleting the oldest files.
+ */
+public final class BaselineStore {
+    private static final String PREFIX = "run-";
+    private static final String SUFFIX = ".tsv.gz";
+
+    private final Path directory;
+
+    public BaselineStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Store a run as a new file
+     *
+     * @return the file written
+     */
+    public Path append(PerformanceRun run) throws IOException {
+        // Zero padding keeps the lexical and the chronological order the same, "_" sorts after "."
+        Path file = directory.resolve(String.format("%s%015d%s", PREFIX, run.getStartedAt(), SUFFIX));
+        for (int attempt = 1; Files.exists(file); attempt++) {
+            file = directory.resolve(String.format("%s%015d_%d%s", PREFIX, run.getStartedAt(), attempt, SUFFIX));
+        }
+        run.write(file);
+        return file;
+    }
+
+    /**
+     * Load the most recent runs, oldest first
+     */
+    public List<PerformanceRun> latest(int count) throws IOException {
+        List<Path> files = runFiles();
+        List<PerformanceRun> runs = new ArrayList<>();
+        for (Path file : files.subList(Math.max(0, files.size() - count), files.size())) {
+            runs.add(PerformanceRun.read(file));
+        }
+        return runs;
+    }
+
+    private List<Path> runFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
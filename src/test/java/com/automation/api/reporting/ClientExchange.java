@@ -0,0 +1,114 @@
+package com.automation.api.reporting;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One request/response pair sent by a client outside REST Assured, as handed to an {@link ExchangeListener}
+ * Headers are keyed by name as the client sent or received them; the response body is null when the client
+ * discarded or streamed it rather than reading it whole.
+ */
+public final class ClientExchange {
+    private final String method;
+    private final String uri;
+    private final Map<String, List<String>> requestHeaders;
+    private final byte[] requestBody;
+    private final int statusCode;
+    private final Map<String, List<String>> responseHeaders;
+    private final byte[] responseBody;
+    private final Instant startedAt;
+    private final long waitNanos;
+    private final long receiveNanos;
+
+    public ClientExchange(String method, String uri, Map<String, List<String>> requestHeaders, byte[] requestBody,
+                          int statusCode, Map<String, List<String>> responseHeaders, byte[] responseBody,
+                          Instant startedAt, long waitNanos, long receiveNanos) {
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody != null ? requestBody : new byte[0];
+        this.statusCode = statusCode;
+        this.responseHeaders = responseHeaders;
+        this.responseBody = responseBody;
+        this.startedAt = startedAt;
+        this.waitNanos = waitNanos;
+        this.receiveNanos = receiveNanos;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public Map<String, List<String>> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public byte[] getRequestBody() {
+        return requestBody;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Map<String, List<String>> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    /**
+     * Get the response body, null when it was not read whole
+     */
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Get the time from sending the request to receiving the response headers
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * Get the time spent reading the body after the headers, 0 when it was not read
+     */
+    public long getReceiveNanos() {
+        return receiveNanos;
+    }
+
+    public long getTimeMillis() {
+        return (waitNanos + receiveNanos) / 1_000_000;
+    }
+
+    /**
+     * Get the first value of a request header, ignoring the case of its name, null when it was not sent
+     */
+    public String requestHeader(String name) {
+        return first(requestHeaders, name);
+    }
+
+    /**
+     * Get the first value of a response header, ignoring the case of its name, null when it was not received
+     */
+    public String responseHeader(String name) {
+        return first(responseHeaders, name);
+    }
+
+    private static String first(Map<String, List<String>> headers, String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.automation.api.reporting;
+
+/**
+ * Receives exchanges sent without REST Assured, so they are recorded like the ones passing the filters
+ * The recording filters implement it; {@code StatusOnlyClient} hands every exchange to the ones on its request specification.
+ */
+public interface ExchangeListener {
+
+    void onExchange(ClientExchange exchange);
+}
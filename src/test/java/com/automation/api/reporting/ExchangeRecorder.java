@@ -0,0 +1,89 @@
+package com.automation.api.reporting;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * REST Assured filter keeping the most recent exchanges of one test so they can be attached to the report
+ * Only the last {@code capacity} exchanges are kept, which bounds memory in sweeps issuing many requests
+ */
+public final class ExchangeRecorder implements Filter, ExchangeListener {
+    private final int capacity;
+    private final Deque<RecordedExchange> exchanges = new ArrayDeque<>();
+
+    public ExchangeRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Recorder capacity must be positive, got: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        record(new RecordedExchange(
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                requestBodyOf(requestSpec),
+                response.statusCode(),
+                response.contentType(),
+                response.asByteArray(),
+                elapsed));
+        return response;
+    }
+
+    @Override
+    public void onExchange(ClientExchange exchange) {
+        record(new RecordedExchange(
+                exchange.getMethod(),
+                exchange.getUri(),
+                exchange.getRequestBody(),
+                exchange.getStatusCode(),
+                exchange.responseHeader("Content-Type"),
+                exchange.getResponseBody(),
+                exchange.getTimeMillis()));
+    }
+
+    /**
+     * Get the recorded exchanges, oldest first
+     */
+    public synchronized List<RecordedExchange> snapshot() {
+        return new ArrayList<>(exchanges);
+    }
+
+    public synchronized void clear() {
+        exchanges.clear();
+    }
+
+    private synchronized void record(RecordedExchange exchange) {
+        if (exchanges.size() == capacity) {
+            exchanges.removeFirst();
+        }
+        exchanges.addLast(exchange);
+    }
+
+    static byte[] requestBodyOf(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+}
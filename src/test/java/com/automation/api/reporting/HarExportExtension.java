@@ -0,0 +1,50 @@
+package com.automation.api.reporting;
+
+import com.automation.api.config.ApiConfig;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit 5 extension opening a HAR page per test and closing the HAR file once the whole run is over
+ * Each page is named after the test's unique id, so runs can be compared test by test.
+ */
+public class HarExportExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(HarExportExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!ApiConfig.isHarExportEnabled()) {
+            return;
+        }
+        // The root store is closed once, after the last test of the run
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(HarCloser.class, key -> new HarCloser(), HarCloser.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (ApiConfig.isHarExportEnabled()) {
+            HarRecorder.shared().startPage(context.getUniqueId(), context.getDisplayName());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (ApiConfig.isHarExportEnabled()) {
+            HarRecorder.shared().endPage();
+        }
+    }
+
+    /**
+     * Completes the HAR document when the root context closes
+     */
+    private static final class HarCloser implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() throws Throwable {
+            HarRecorder.closeShared();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.automation.api.reporting;
+
+import com.automation.api.config.ApiConfig;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * REST Assured filter writing every exchange to a HAR file through a {@link HarWriter}
+ * Entries refer to the page of the recorder from {@link #forPage(String)}: the page travels with the request
+ * specification, so requests a test sends from pooled or forked threads still land on its page (see
+ * {@link HarExportExtension}). Neither REST Assured nor the JDK client expose connection set-up or when the
+ * request was fully sent, so blocked, dns, connect and ssl are -1 ("not available" in HAR), send is 0 and wait
+ * covers sending the request up to the parsed response, as the timings' comment says; receive is the reading of
+ * the body afterwards.
+ */
+public final class HarRecorder implements Filter, ExchangeListener {
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    private static HarRecorder shared;
+
+    private final HarWriter writer;
+    private final int maxBodyBytes;
+    private final String pageId;
+
+    public HarRecorder(HarWriter writer, int maxBodyBytes) {
+        this(writer, maxBodyBytes, null);
+    }
+
+    private HarRecorder(HarWriter writer, int maxBodyBytes, String pageId) {
+        if (maxBodyBytes < 0) {
+            throw new IllegalArgumentException("Max body bytes must not be negative, got: " + maxBodyBytes);
+        }
+        this.writer = writer;
+        this.maxBodyBytes = maxBodyBytes;
+        this.pageId = pageId;
+    }
+
+    /**
+     * Get the recorder of this run, creating HAR_FILE on first use
+     */
+    public static synchronized HarRecorder shared() {
+        if (shared == null) {
+            try {
+                shared = new HarRecorder(HarWriter.open(Path.of(ApiConfig.getHarFile())), ApiConfig.getHarMaxBodyBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create HAR file " + ApiConfig.getHarFile(), e);
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Close the recorder of this run if one was created
+     */
+    static synchronized void closeShared() throws IOException {
+        if (shared != null) {
+            shared.writer.close();
+        }
+    }
+
+    public HarWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Get a recorder writing to the same file whose entries refer to a page, whatever thread sends them
+     */
+    public HarRecorder forPage(String id) {
+        return new HarRecorder(writer, maxBodyBytes, id);
+    }
+
+    /**
+     * Add a page, which entries join through {@link #forPage(String)}
+     */
+    public void startPage(String id, String title) {
+        writer.addPage(id, title, Instant.now());
+    }
+
+    /**
+     * Flush the entries written so far, once a page has received its requests
+     */
+    public void endPage() {
+        writer.flush();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long received = System.nanoTime();
+        byte[] body = response.asByteArray();
+        long end = System.nanoTime();
+
+        // "HTTP/1.1 200 OK"
+        String statusLine = response.getStatusLine() == null ? "" : response.getStatusLine();
+        ObjectNode entry = entry(startedAt, (received - start) / 1e6, (end - received) / 1e6);
+        entry.set("request", request(requestSpec.getMethod(), requestSpec.getURI(), headers(requestSpec.getHeaders()),
+                requestSpec.getContentType(), ExchangeRecorder.requestBodyOf(requestSpec)));
+        entry.set("response", response(response.statusCode(), statusLine, headers(response.getHeaders()),
+                response.contentType(), body, response.getHeader("Location")));
+        writer.writeEntry(entry);
+        return response;
+    }
+
+    @Override
+    public void onExchange(ClientExchange exchange) {
+        ObjectNode entry = entry(exchange.getStartedAt(), exchange.getWaitNanos() / 1e6, exchange.getReceiveNanos() / 1e6);
+        entry.set("request", request(exchange.getMethod(), exchange.getUri(), headers(exchange.getRequestHeaders()),
+                exchange.requestHeader("Content-Type"), exchange.getRequestBody()));
+        entry.set("response", response(exchange.getStatusCode(), "", headers(exchange.getResponseHeaders()),
+                exchange.responseHeader("Content-Type"), exchange.getResponseBody(), exchange.responseHeader("Location")));
+        writer.writeEntry(entry);
+    }
+
+    private ObjectNode entry(Instant startedAt, double wait, double receive) {
+        ObjectNode entry = JSON.objectNode()
+                .put("startedDateTime", startedAt.toString())
+                .put("time", wait + receive);
+        if (pageId != null) {
+            entry.put("pageref", pageId);
+        }
+        entry.putObject("cache");
+        entry.putObject("timings")
+                .put("blocked", -1)
+                .put("dns", -1)
+                .put("connect", -1)
+                .put("ssl", -1)
+                .put("send", 0)
+                .put("wait", wait)
+                .put("receive", receive)
+                .put("comment", "send not measured separately, wait includes it");
+        return entry;
+    }
+
+    private ObjectNode request(String method, String uri, ArrayNode headers, String contentType, byte[] body) {
+        ObjectNode request = JSON.objectNode()
+                .put("method", method)
+                .put("url", uri)
+                .put("httpVersion", "HTTP/1.1");
+        request.putArray("cookies");
+        request.set("headers", headers);
+
+        ArrayNode queryString = request.putArray("queryString");
+        String query = URI.create(uri).getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                queryString.addObject()
+                        .put("name", URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8))
+                        .put("value", eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+
+        if (body.length > 0) {
+            ObjectNode postData = request.putObject("postData")
+                    .put("mimeType", contentType == null ? "" : contentType);
+            capture(postData, body, contentType);
+        }
+        request.put("headersSize", -1).put("bodySize", body.length);
+        return request;
+    }
+
+    /**
+     * Build the response, whose body is null when the client did not read it: its size is then unknown (-1)
+     */
+    private ObjectNode response(int status, String statusLine, ArrayNode headers, String contentType, byte[] body,
+                                String location) {
+        String[] parts = statusLine.split(" ", 3);
+        String mimeType = contentType == null ? "" : contentType;
+        int size = body == null ? -1 : body.length;
+
+        ObjectNode result = JSON.objectNode()
+                .put("status", status)
+                .put("statusText", parts.length == 3 ? parts[2] : "")
+                .put("httpVersion", parts.length > 0 && parts[0].startsWith("HTTP/") ? parts[0] : "HTTP/1.1");
+        result.putArray("cookies");
+        result.set("headers", headers);
+        ObjectNode content = result.putObject("content")
+                .put("size", size)
+                .put("mimeType", mimeType);
+        if (body == null) {
+            content.put("comment", "not read by the client");
+        } else {
+            capture(content, body, mimeType);
+        }
+        result.put("redirectURL", location == null ? "" : location)
+                .put("headersSize", -1)
+                .put("bodySize", size);
+        return result;
+    }
+
+    /**
+     * Add the body as "text" up to the capture limit, base64-encoded unless the content type is textual
+     */
+    private void capture(ObjectNode target, byte[] body, String contentType) {
+        if (maxBodyBytes == 0 || body.length == 0) {
+            return;
+        }
+        int length = Math.min(body.length, maxBodyBytes);
+        if (isText(contentType)) {
+            target.put("text", new String(body, 0, length, StandardCharsets.UTF_8));
+        } else {
+            byte[] captured = length == body.length ? body : Arrays.copyOf(body, length);
+            target.put("text", Base64.getEncoder().encodeToString(captured)).put("encoding", "base64");
+        }
+        if (length < body.length) {
+            target.put("comment", "truncated to " + length + " of " + body.length + " bytes");
+        }
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return true;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml")
+                || type.contains("javascript") || type.contains("x-www-form-urlencoded");
+    }
+
+    private static ArrayNode headers(Headers headers) {
+        ArrayNode result = JSON.arrayNode();
+        for (Header header : headers) {
+            result.addObject().put("name", header.getName()).put("value", header.getValue());
+        }
+        return result;
+    }
+
+    private static ArrayNode headers(Map<String, List<String>> headers) {
+        ArrayNode result = JSON.arrayNode();
+        headers.forEach((name, values) -> values.forEach(value -> result.addObject().put("name", name).put("value", value)));
+        return result;
+    }
+}
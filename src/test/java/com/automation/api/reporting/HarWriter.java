@@ -0,0 +1,148 @@
+package com.automation.api.reporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streams a HAR 1.2 file: entries are appended as they arrive instead of being collected in memory
+ * Entries are serialized on the calling thread, only the append to the buffered file is serialized,
+ * so parallel tests do not wait on each other's JSON. Pages are small and few, they are kept until
+ * {@link #close()} and written after the entries, HAR readers do not depend on key order.
+ * A file that cannot be written is logged once and further entries are dropped, the tests go on.
+ */
+public final class HarWriter implements Closeable {
+    private static final Logger logger = Logger.getLogger(HarWriter.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final byte[] SEPARATOR = ",\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path file;
+    private final OutputStream out;
+    private final List<ObjectNode> pages = new ArrayList<>();
+    private long entries;
+    private boolean failed;
+    private boolean closed;
+
+    private HarWriter(Path file, OutputStream out) {
+        this.file = file;
+        this.out = out;
+    }
+
+    /**
+     * Create or replace the file and write the log header
+     */
+    public static HarWriter open(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        HarWriter writer = new HarWriter(file, new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        ObjectNode creator = MAPPER.createObjectNode()
+                .put("name", "placeholder-api-tests")
+                .put("version", "1.0");
+        String header = "{\"log\":{\"version\":\"1.2\",\"creator\":" + MAPPER.writeValueAsString(creator) + ",\"entries\":[\n";
+        writer.out.write(header.getBytes(StandardCharsets.UTF_8));
+        return writer;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Append an entry, see <a href="http://www.softwareishard.com/blog/har-12-spec/#entries">HAR 1.2 entries</a>
+     */
+    public void writeEntry(ObjectNode entry) {
+        byte[] bytes;
+        try {
+            bytes = MAPPER.writeValueAsBytes(entry);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        synchronized (this) {
+            if (closed || failed) {
+                return;
+            }
+            try {
+                if (entries > 0) {
+                    out.write(SEPARATOR);
+                }
+                out.write(bytes);
+                entries++;
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Register a page that entries can refer to through their "pageref"
+     */
+    public synchronized void addPage(String id, String title, Instant startedAt) {
+        ObjectNode page = MAPPER.createObjectNode()
+                .put("startedDateTime", startedAt.toString())
+                .put("id", id)
+                .put("title", title);
+        page.putObject("pageTimings").put("onContentLoad", -1).put("onLoad", -1);
+        pages.add(page);
+    }
+
+    public synchronized long getEntryCount() {
+        return entries;
+    }
+
+    /**
+     * Push buffered entries to the file so it can be inspected while the run goes on
+     */
+    public synchronized void flush() {
+        if (closed || failed) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Write the pages and close the log, the file is a complete HAR document afterwards
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!failed) {
+                StringBuilder tail = new StringBuilder("\n],\"pages\":[");
+                for (int i = 0; i < pages.size(); i++) {
+                    tail.append(i == 0 ? "\n" : ",\n").append(MAPPER.writeValueAsString(pages.get(i)));
+                }
+                out.write(tail.append("\n]}}\n").toString().getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private synchronized void fail(IOException e) {
+        if (!failed) {
+            failed = true;
+            logger.log(Level.WARNING, "HAR export to " + file + " stopped, further entries are dropped", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.automation.api.reporting;
+
+import com.automation.api.config.ApiConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.TestResult;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JUnit 5 extension recording test durations and, once the whole run is over, comparing it to the baseline
+ * The run is appended to the baseline store, the comparison is written to Allure as its own test case,
+ * and with PERF_FAIL_ON_REGRESSION=true a regression fails the build.
+ */
+public class PerformanceBaselineExtension implements BeforeAllCallback, BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final Logger logger = Logger.getLogger(PerformanceBaselineExtension.class.getName());
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PerformanceBaselineExtension.class);
+    private static final String START = "start";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!ApiConfig.isPerfBaselineEnabled()) {
+            return;
+        }
+        // The root store is closed once, after the last test of the run
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RunFinisher.class, key -> new RunFinisher(), RunFinisher.class);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove(START, Long.class);
+        if (start != null && ApiConfig.isPerfBaselineEnabled()) {
+            PerformanceRecorder.shared().recordTest(context.getUniqueId(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Persists the run and compares it against the rolling baseline when the root context closes
+     */
+    private static final class RunFinisher implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() throws Throwable {
+            PerformanceRun run = PerformanceRecorder.shared().toRun();
+            if (run.getEndpointLatencies().isEmpty() && run.getTestDurations().isEmpty()) {
+                return;
+            }
+
+            BaselineStore store = new BaselineStore(Path.of(ApiConfig.getPerfBaselineDir()));
+            List<PerformanceRun> baseline = store.latest(ApiConfig.getPerfBaselineRuns());
+            store.append(run);
+            if (baseline.isEmpty()) {
+                logger.log(Level.INFO, "No performance baseline yet, stored the first run in " + store.getDirectory());
+                return;
+            }
+
+            RegressionDetector detector = new RegressionDetector(
+                    ApiConfig.getPerfRegressionAlpha(), ApiConfig.getPerfRegressionMinRatio(), 20);
+            List<RegressionDetector.Comparison> comparisons = detector.compare(run, baseline);
+            List<RegressionDetector.Comparison> regressions = comparisons.stream()
+                    .filter(RegressionDetector.Comparison::isRegression)
+                    .toList();
+
+            String report = report(run, baseline, comparisons);
+            logger.log(regressions.isEmpty() ? Level.INFO : Level.WARNING, report);
+            writeAllureResult(regressions, report);
+
+            if (!regressions.isEmpty() && ApiConfig.isPerfFailOnRegression()) {
+                throw new AssertionError(regressions.size() + " endpoint(s) regressed against the performance baseline\n" + report);
+            }
+        }
+
+        private static String report(PerformanceRun run, List<PerformanceRun> baseline,
+                                     List<RegressionDetector.Comparison> comparisons) {
+            StringBuilder report = new StringBuilder()
+                    .append("Compared against ").append(baseline.size()).append(" previous run(s)\n\n")
+                    .append("Endpoints\n");
+            for (RegressionDetector.Comparison comparison : comparisons) {
+                report.append("  ").append(comparison.describe()).append('\n');
+            }
+
+            // A single duration per test and run is too little for a significance test, so test
+            // durations are only listed against their baseline median for context
+            report.append("\nTests slower than twice their baseline median\n");
+            for (Map.Entry<String, Long> test : run.getTestDurations().entrySet()) {
+                long[] previous = baseline.stream()
+                        .map(PerformanceRun::getTestDurations)
+                        .filter(durations -> durations.containsKey(test.getKey()))
+                        .mapToLong(durations -> durations.get(test.getKey()))
+                        .toArray();
+                if (previous.length > 0 && test.getValue() > 2 * RegressionDetector.median(previous)) {
+                    report.append(String.format(Locale.ROOT, "  %s: %d ms (baseline median %.0f ms)%n",
+                            test.getKey(), test.getValue(), RegressionDetector.median(previous)));
+                }
+            }
+            return report.toString();
+        }
+
+        private static void writeAllureResult(List<RegressionDetector.Comparison> regressions, String report) {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String uuid = UUID.randomUUID().toString();
+            String message = regressions.isEmpty()
+                    ? "No endpoint regressed against the baseline"
+                    : regressions.size() + " endpoint(s) regressed against the baseline";
+
+            lifecycle.scheduleTestCase(new TestResult()
+                    .setUuid(uuid)
+                    .setName("Performance baseline comparison")
+                    .setFullName(PerformanceBaselineExtension.class.getName())
+                    .setHistoryId("performance-baseline")
+                    .setStatus(regressions.isEmpty() ? Status.PASSED : Status.FAILED)
+                    .setStatusDetails(new StatusDetails().setMessage(message)));
+            lifecycle.startTestCase(uuid);
+            lifecycle.addAttachment("Baseline comparison", "text/plain", ".txt", report.getBytes(StandardCharsets.UTF_8));
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.automation.api.reporting;
+
+import com.automation.api.standin.FaultProfiles;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Collects request latencies per endpoint and test durations for the current run
+ * Each endpoint keeps a uniform reservoir sample so long sweeps do not grow memory without bound.
+ * Requests sent with a fault profile are skipped, injected latency says nothing about the API.
+ */
+public final class PerformanceRecorder implements Filter, ExchangeListener {
+    private static final PerformanceRecorder SHARED = new PerformanceRecorder(2000);
+
+    private final int samplesPerEndpoint;
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, Reservoir> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Long> tests = new ConcurrentHashMap<>();
+
+    public PerformanceRecorder(int samplesPerEndpoint) {
+        if (samplesPerEndpoint <= 0) {
+            throw new IllegalArgumentException("Samples per endpoint must be positive, got: " + samplesPerEndpoint);
+        }
+        this.samplesPerEndpoint = samplesPerEndpoint;
+    }
+
+    /**
+     * Get the recorder of this run
+     */
+    public static PerformanceRecorder shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        if (!requestSpec.getHeaders().hasHeaderWithName(FaultProfiles.HEADER)) {
+            recordRequest(endpointKey(requestSpec.getMethod(), requestSpec.getURI()), elapsed);
+        }
+        return response;
+    }
+
+    @Override
+    public void onExchange(ClientExchange exchange) {
+        if (exchange.requestHeader(FaultProfiles.HEADER) == null) {
+            recordRequest(endpointKey(exchange.getMethod(), exchange.getUri()), exchange.getTimeMillis());
+        }
+    }
+
+    public void recordRequest(String endpoint, long millis) {
+        endpoints.computeIfAbsent(endpoint, key -> new Reservoir(samplesPerEndpoint)).add(millis);
+    }
+
+    public void recordTest(String testId, long millis) {
+        tests.put(testId, millis);
+    }
+
+    /**
+     * Freeze what was recorded so far into a run
+     */
+    public PerformanceRun toRun() {
+        Map<String, long[]> latencies = new ConcurrentHashMap<>();
+        endpoints.forEach((key, reservoir) -> latencies.put(key, reservoir.samples()));
+        return new PerformanceRun(startedAt, latencies, tests);
+    }
+
+    /**
+     * Build the endpoint key: method, host, path with numeric segments replaced by {id}, and sorted query names
+     * e.g. "GET 127.0.0.1/comments?postId" for /comments?postId=1 and /comments?postId=7 on the stand-in.
+     * The port is left out because the stand-in listens on a different one every run.
+     */
+    public static String endpointKey(String method, String uri) {
+        URI parsed = URI.create(uri);
+        StringBuilder key = new StringBuilder(method).append(' ');
+        if (parsed.getHost() != null) {
+            key.append(parsed.getHost());
+        }
+        String path = parsed.getRawPath() == null || parsed.getRawPath().isEmpty() ? "/" : parsed.getRawPath();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                key.append('/').append(segment.chars().allMatch(Character::isDigit) ? "{id}" : segment);
+            }
+        }
+        if (path.equals("/")) {
+            key.append('/');
+        }
+
+        if (parsed.getRawQuery() != null && !parsed.getRawQuery().isEmpty()) {
+            TreeSet<String> names = new TreeSet<>();
+            for (String pair : parsed.getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                names.add(eq < 0 ? pair : pair.substring(0, eq));
+            }
+            key.append('?').append(String.join("&", names));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Algorithm R reservoir: every sample seen has the same chance of being kept
+     */
+    private static final class Reservoir {
+        private final long[] samples;
+        private long seen;
+
+        Reservoir(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void add(long value) {
+            if (seen < samples.length) {
+                samples[(int) seen] = value;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+                if (slot < samples.length) {
+                    samples[(int) slot] = value;
+                }
+            }
+            seen++;
+        }
+
+        synchronized long[] samples() {
+            return Arrays.copyOf(samples, (int) Math.min(seen, samples.length));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.automation.api.reporting;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Latency samples per endpoint and duration per test of one run
+ * Stored as a gzipped, tab-separated file: "E key ms,ms,..." and "T testId ms" lines
+ */
+public final class PerformanceRun {
+    private final long startedAt;
+    private final Map<String, long[]> endpointLatencies;
+    private final Map<String, Long> testDurations;
+
+    public PerformanceRun(long startedAt, Map<String, long[]> endpointLatencies, Map<String, Long> testDurations) {
+        this.startedAt = startedAt;
+        this.endpointLatencies = new TreeMap<>(endpointLatencies);
+        this.testDurations = new TreeMap<>(testDurations);
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Get the latency samples in milliseconds per endpoint key, e.g. "GET 127.0.0.1/posts/{id}"
+     */
+    public Map<String, long[]> getEndpointLatencies() {
+        return endpointLatencies;
+    }
+
+    /**
+     * Get the duration in milliseconds per test unique id
+     */
+    public Map<String, Long> getTestDurations() {
+        return testDurations;
+    }
+
+    /**
+     * Write the run to a new file, never modifying an existing one
+     */
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW)),
+                StandardCharsets.UTF_8))) {
+            out.write("R\t" + startedAt + "\n");
+            for (Map.Entry<String, long[]> endpoint : endpointLatencies.entrySet()) {
+                StringBuilder line = new StringBuilder("E\t").append(endpoint.getKey()).append('\t');
+                long[] samples = endpoint.getValue();
+                for (int i = 0; i < samples.length; i++) {
+                    line.append(i == 0 ? "" : ",").append(samples[i]);
+                }
+                out.write(line.append('\n').toString());
+            }
+            for (Map.Entry<String, Long> test : testDurations.entrySet()) {
+                out.write("T\t" + test.getKey() + "\t" + test.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Read a run written by {@link #write(Path)}
+     */
+    public static PerformanceRun read(Path file) throws IOException {
+        long startedAt = 0;
+        Map<String, long[]> latencies = new TreeMap<>();
+        Map<String, Long> durations = new TreeMap<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] fields = line.split("\t");
+                switch (fields[0]) {
+                    case "R":
+                        startedAt = Long.parseLong(fields[1]);
+                        break;
+                    case "E":
+                        latencies.put(fields[1], fields.length < 3 || fields[2].isEmpty()
+                                ? new long[0]
+                                : Arrays.stream(fields[2].split(",")).mapToLong(Long::parseLong).toArray());
+                        break;
+                    case "T":
+                        durations.put(fields[1], Long.parseLong(fields[2]));
+                        break;
+                    default:
+                        // Unknown record types are skipped so older readers accept newer files
+                        break;
+                }
+            }
+        }
+        return new PerformanceRun(startedAt, latencies, durations);
+    }
+}
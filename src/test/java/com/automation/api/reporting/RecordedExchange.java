@@ -0,0 +1,60 @@
+package com.automation.api.reporting;
+
+/**
+ * One request/response pair captured by {@link ExchangeRecorder}
+ */
+public final class RecordedExchange {
+    private final String method;
+    private final String uri;
+    private final byte[] requestBody;
+    private final int statusCode;
+    private final String responseContentType;
+    private final byte[] responseBody;
+    private final long timeMillis;
+
+    public RecordedExchange(String method, String uri, byte[] requestBody,
+                            int statusCode, String responseContentType, byte[] responseBody, long timeMillis) {
+        this.method = method;
+        this.uri = uri;
+        this.requestBody = requestBody != null ? requestBody : new byte[0];
+        this.statusCode = statusCode;
+        this.responseContentType = responseContentType;
+        this.responseBody = responseBody != null ? responseBody : new byte[0];
+        this.timeMillis = timeMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public byte[] getRequestBody() {
+        return requestBody;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseContentType() {
+        return responseContentType;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * One-line description used in summaries and attachment names, e.g. "GET /posts/1 -> 200 (12 ms)"
+     */
+    public String describe() {
+        return method + " " + uri + " -> " + statusCode + " (" + timeMillis + " ms)";
+    }
+}
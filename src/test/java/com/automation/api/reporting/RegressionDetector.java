@@ -0,0 +1,183 @@
+package com.automation.api.reporting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the endpoint latencies of a run against the pooled samples of earlier runs
+ * An endpoint regresses when a one-sided Mann-Whitney U test says the current samples are
+ * stochastically larger (p below alpha) and the median grew by at least the minimum ratio,
+ * so a statistically real but irrelevant shift of a millisecond is not reported.
+ */
+public final class RegressionDetector {
+
+    /**
+     * Outcome of comparing one endpoint against its baseline
+     */
+    public static final class Comparison {
+        private final String endpoint;
+        private final int baselineSamples;
+        private final int currentSamples;
+        private final double baselineMedian;
+        private final double currentMedian;
+        private final double pValue;
+        private final boolean regression;
+
+        Comparison(String endpoint, int baselineSamples, int currentSamples,
+                   double baselineMedian, double currentMedian, double pValue, boolean regression) {
+            this.endpoint = endpoint;
+            this.baselineSamples = baselineSamples;
+            this.currentSamples = currentSamples;
+            this.baselineMedian = baselineMedian;
+            this.currentMedian = currentMedian;
+            this.pValue = pValue;
+            this.regression = regression;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public double getBaselineMedian() {
+            return baselineMedian;
+        }
+
+        public double getCurrentMedian() {
+            return currentMedian;
+        }
+
+        public double getPValue() {
+            return pValue;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+
+        public String describe() {
+            return String.format(Locale.ROOT, "%s%s: median %.1f ms -> %.1f ms (n=%d vs %d, p=%.4f)",
+                    regression ? "REGRESSION " : "", endpoint, baselineMedian, currentMedian,
+                    baselineSamples, currentSamples, pValue);
+        }
+    }
+
+    private final double alpha;
+    private final double minMedianRatio;
+    private final int minSamples;
+
+    public RegressionDetector(double alpha, double minMedianRatio, int minSamples) {
+        this.alpha = alpha;
+        this.minMedianRatio = minMedianRatio;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Compare every endpoint of the current run that has enough samples on both sides
+     */
+    public List<Comparison> compare(PerformanceRun current, List<PerformanceRun> baseline) {
+        Map<String, long[]> pooled = new TreeMap<>();
+        for (PerformanceRun run : baseline) {
+            run.getEndpointLatencies().forEach((endpoint, samples) -> pooled.merge(endpoint, samples, RegressionDetector::concat));
+        }
+
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : current.getEndpointLatencies().entrySet()) {
+            long[] before = pooled.get(entry.getKey());
+            long[] now = entry.getValue();
+            if (before == null || before.length < minSamples || now.length < minSamples) {
+                continue;
+            }
+            double baselineMedian = median(before);
+            double currentMedian = median(now);
+            double pValue = mannWhitneyGreater(now, before);
+            boolean regression = pValue < alpha && currentMedian >= baselineMedian * minMedianRatio;
+            comparisons.add(new Comparison(entry.getKey(), before.length, now.length,
+                    baselineMedian, currentMedian, pValue, regression));
+        }
+        return comparisons;
+    }
+
+    /**
+     * One-sided Mann-Whitney U test that sample x tends to be larger than sample y
+     * Uses the normal approximation with tie correction and continuity correction.
+     *
+     * @return the p-value
+     */
+    public static double mannWhitneyGreater(long[] x, long[] y) {
+        int n1 = x.length;
+        int n2 = y.length;
+        int n = n1 + n2;
+
+        // Sort the pooled values remembering which sample each one came from
+        long[] tagged = new long[n];
+        for (int i = 0; i < n1; i++) {
+            tagged[i] = x[i];
+        }
+        for (int i = 0; i < n2; i++) {
+            tagged[n1 + i] = y[i];
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(tagged[a], tagged[b]));
+
+        // Average ranks over ties and accumulate the tie correction term
+        double rankSumX = 0;
+        double tieTerm = 0;
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && tagged[order[end + 1]] == tagged[order[start]]) {
+                end++;
+            }
+            double rank = (start + end) / 2.0 + 1;
+            for (int i = start; i <= end; i++) {
+                if (order[i] < n1) {
+                    rankSumX += rank;
+                }
+            }
+            double ties = end - start + 1;
+            tieTerm += ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = rankSumX - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    static double median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static double normalCdf(double z) {
+        return 0.5 * erfc(-z / Math.sqrt(2));
+    }
+
+    // Complementary error function, Numerical Recipes erfcc, relative error below 1.2e-7
+    private static double erfc(double x) {
+        double t = 1.0 / (1.0 + 0.5 * Math.abs(x));
+        double result = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? result : 2.0 - result;
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,218 @@
+package com.automation.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of JSON trees for the stand-in's snapshot and write-ahead log
+ * Values carry a one-byte tag instead of being tokenized from text. Field names are written once
+ * per stream and referenced by index afterwards, the handful of names of a resource repeat in every entity.
+ */
+final class BinaryJson {
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte STRING = 6;
+    private static final byte ARRAY = 7;
+    private static final byte OBJECT = 8;
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private BinaryJson() {
+    }
+
+    /**
+     * Writes trees to one stream, sharing the field name table between them
+     */
+    static final class Encoder {
+        private final DataOutput out;
+        private final Map<String, Integer> names = new HashMap<>();
+
+        Encoder(DataOutput out) {
+            this.out = out;
+        }
+
+        void write(JsonNode node) throws IOException {
+            switch (node.getNodeType()) {
+                case OBJECT:
+                    out.writeByte(OBJECT);
+                    writeSize(node.size());
+                    for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        writeName(field.getKey());
+                        write(field.getValue());
+                    }
+                    break;
+                case ARRAY:
+                    out.writeByte(ARRAY);
+                    writeSize(node.size());
+                    for (JsonNode element : node) {
+                        write(element);
+                    }
+                    break;
+                case STRING:
+                    out.writeByte(STRING);
+                    writeString(node.textValue());
+                    break;
+                case NUMBER:
+                    if (node.isInt()) {
+                        out.writeByte(INT);
+                        out.writeInt(node.intValue());
+                    } else if (node.canConvertToLong() && node.isIntegralNumber()) {
+                        out.writeByte(LONG);
+                        out.writeLong(node.longValue());
+                    } else {
+                        out.writeByte(DOUBLE);
+                        out.writeDouble(node.doubleValue());
+                    }
+                    break;
+                case BOOLEAN:
+                    out.writeByte(node.booleanValue() ? TRUE : FALSE);
+                    break;
+                default:
+                    // Null, and node types JSON bodies never produce
+                    out.writeByte(NULL);
+                    break;
+            }
+        }
+
+        private void writeName(String name) throws IOException {
+            Integer index = names.get(name);
+            if (index != null) {
+                writeSize(index);
+                return;
+            }
+            // The next free index announces a new name
+            writeSize(names.size());
+            names.put(name, names.size());
+            writeString(name);
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeSize(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeSize(int value) throws IOException {
+            // Unsigned LEB128: 7 bits per byte, high bit set while more bytes follow
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    /**
+     * Reads trees from a buffer written by one {@link Encoder}
+     */
+    static final class Decoder {
+        private final ByteBuffer in;
+        private final List<String> names = new ArrayList<>();
+
+        Decoder(ByteBuffer in) {
+            this.in = in;
+        }
+
+        JsonNode read() {
+            byte tag = in.get();
+            switch (tag) {
+                case OBJECT: {
+                    int size = readSize();
+                    ObjectNode object = NODES.objectNode();
+                    for (int i = 0; i < size; i++) {
+                        String name = readName();
+                        object.set(name, read());
+                    }
+                    return object;
+                }
+                case ARRAY: {
+                    int size = readSize();
+                    ArrayNode array = NODES.arrayNode(size);
+                    for (int i = 0; i < size; i++) {
+                        array.add(read());
+                    }
+                    return array;
+                }
+                case STRING:
+                    return NODES.textNode(readString());
+                case INT:
+                    return NODES.numberNode(in.getInt());
+                case LONG:
+                    return NODES.numberNode(in.getLong());
+                case DOUBLE:
+                    return NODES.numberNode(in.getDouble());
+                case TRUE:
+                    return NODES.booleanNode(true);
+                case FALSE:
+                    return NODES.booleanNode(false);
+                case NULL:
+                    return NODES.nullNode();
+                default:
+                    throw new IllegalStateException("Unknown binary JSON tag " + tag + " at " + (in.position() - 1));
+            }
+        }
+
+        ObjectNode readObject() {
+            JsonNode node = read();
+            if (!(node instanceof ObjectNode)) {
+                throw new IllegalStateException("Expected a binary JSON object, got " + node.getNodeType());
+            }
+            return (ObjectNode) node;
+        }
+
+        private String readName() {
+            int index = readSize();
+            if (index < names.size()) {
+                return names.get(index);
+            }
+            if (index != names.size()) {
+                throw new IllegalStateException("Binary JSON name index " + index + " skips ahead of " + names.size());
+            }
+            String name = readString();
+            names.add(name);
+            return name;
+        }
+
+        private String readString() {
+            int length = readSize();
+            String value;
+            if (in.hasArray()) {
+                value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            } else {
+                byte[] bytes = new byte[length];
+                in.get(in.position(), bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            in.position(in.position() + length);
+            return value;
+        }
+
+        private int readSize() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = in.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
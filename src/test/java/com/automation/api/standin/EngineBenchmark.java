@@ -0,0 +1,293 @@
+package com.automation.api.standin;
+
+import com.automation.api.load.LatencyHistogram;
+import com.automation.api.utils.Endpoints;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the stand-in engines under many concurrent keep-alive connections
+ * Every connection is a virtual thread sending GET requests back to back over one socket, so the
+ * number of requests in flight equals the number of connections. All connections are opened before
+ * the clock starts. A connection the server closes is counted and opened again.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.automation.api.standin.EngineBenchmark [connections] [seconds] [path]}
+ */
+public final class EngineBenchmark {
+    public static final int DEFAULT_CONNECTIONS = 10_000;
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 30_000;
+
+    private final int connections;
+    private Duration duration = Duration.ofSeconds(10);
+    private String path = Endpoints.postById(1);
+
+    private EngineBenchmark(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("At least one connection is needed, got: " + connections);
+        }
+        this.connections = connections;
+    }
+
+    /**
+     * Benchmark with a number of concurrent connections
+     */
+    public static EngineBenchmark of(int connections) {
+        return new EngineBenchmark(connections);
+    }
+
+    /**
+     * How long requests are sent once every connection is open, 10 s by default
+     */
+    public EngineBenchmark duration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * The path every request gets, /posts/1 by default
+     */
+    public EngineBenchmark path(String path) {
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * Start a stand-in on the engine, run the benchmark against it and stop it
+     */
+    public Result run(StandInEngine engine) throws InterruptedException {
+        try (StandInServer server = StandInServer.start(0, null, engine)) {
+            return run(engine, new InetSocketAddress("127.0.0.1", server.getPort()));
+        }
+    }
+
+    private Result run(StandInEngine engine, InetSocketAddress address) throws InterruptedException {
+        byte[] request = ("GET " + path + " HTTP/1.1\r\nHost: " + address.getHostString() + ":" + address.getPort()
+                + "\r\nAccept: application/json\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong opened = new AtomicLong();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong reconnects = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(connections);
+        CountDownLatch go = new CountDownLatch(1);
+        long[] window = new long[2];
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < connections; i++) {
+            clients.execute(() -> {
+                Socket socket = null;
+                try {
+                    socket = connect(address);
+                    opened.incrementAndGet();
+                } catch (IOException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    ready.countDown();
+                }
+                try {
+                    go.await();
+                    InputStream in = socket == null ? null : new BufferedInputStream(socket.getInputStream());
+                    while (System.nanoTime() < window[1]) {
+                        if (socket == null) {
+                            socket = connect(address);
+                            in = new BufferedInputStream(socket.getInputStream());
+                            reconnects.incrementAndGet();
+                        }
+                        long start = System.nanoTime();
+                        try {
+                            OutputStream out = socket.getOutputStream();
+                            out.write(request);
+                            out.flush();
+                            int status = readResponse(in);
+                            latency.recordNanos(System.nanoTime() - start);
+                            requests.incrementAndGet();
+                            if (status != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                            closeQuietly(socket);
+                            socket = null;
+                        }
+                    }
+                } catch (IOException e) {
+                    errors.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    closeQuietly(socket);
+                }
+            });
+        }
+
+        ready.await();
+        window[0] = System.nanoTime();
+        window[1] = window[0] + duration.toNanos();
+        go.countDown();
+        clients.shutdown();
+        if (!clients.awaitTermination(duration.toMillis() + CONNECT_TIMEOUT_MILLIS * 2L, TimeUnit.MILLISECONDS)) {
+            clients.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - window[0]);
+        return new Result(engine, connections, opened.get(), requests.get(), errors.get(), reconnects.get(), elapsed, latency);
+    }
+
+    private static Socket connect(InetSocketAddress address) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+            return socket;
+        } catch (IOException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    /**
+     * Read one response with a Content-Length body and return its status
+     */
+    private static int readResponse(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream(256);
+        // The last four bytes read, the head ends at CR LF CR LF
+        int last = 0;
+        while (last != 0x0D0A0D0A) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Connection closed by the server");
+            }
+            head.write(b);
+            last = (last << 8) | b;
+        }
+
+        String[] lines = head.toString(StandardCharsets.ISO_8859_1).split("\r\n");
+        int status = Integer.parseInt(lines[0].split(" ")[1]);
+        long length = 0;
+        for (String line : lines) {
+            if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                length = Long.parseLong(line.substring(15).trim());
+            }
+        }
+        in.skipNBytes(length);
+        return status;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+
+    /**
+     * Outcome of one benchmark run
+     */
+    public static final class Result {
+        private final StandInEngine engine;
+        private final int connections;
+        private final long opened;
+        private final long requests;
+        private final long errors;
+        private final long reconnects;
+        private final Duration elapsed;
+        private final LatencyHistogram latency;
+
+        private Result(StandInEngine engine, int connections, long opened, long requests, long errors,
+                       long reconnects, Duration elapsed, LatencyHistogram latency) {
+            this.engine = engine;
+            this.connections = connections;
+            this.opened = opened;
+            this.requests = requests;
+            this.errors = errors;
+            this.reconnects = reconnects;
+            this.elapsed = elapsed;
+            this.latency = latency;
+        }
+
+        public StandInEngine getEngine() {
+            return engine;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        /**
+         * Get how many connections were open when the clock started
+         */
+        public long getOpened() {
+            return opened;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        /**
+         * Get failed connects, failed requests and non-200 responses
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Get how often a connection had to be opened again after the server closed it
+         */
+        public long getReconnects() {
+            return reconnects;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        public double getThroughput() {
+            return requests / Math.max(1e-9, elapsed.toNanos() / 1e9);
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public String describe() {
+            return String.format(Locale.ROOT,
+                    "%s: %d of %d connections open, %d requests in %.1f s (%.0f req/s), %d errors, %d reconnects, "
+                            + "p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    engine.getName(), opened, connections, requests, elapsed.toNanos() / 1e9, getThroughput(),
+                    errors, reconnects, latency.percentileMillis(50), latency.percentileMillis(99),
+                    latency.getMaxMicros() / 1e3);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONNECTIONS;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 10);
+        EngineBenchmark benchmark = of(connections).duration(duration);
+        if (args.length > 2) {
+            benchmark.path(args[2]);
+        }
+        for (StandInEngine engine : StandInEngine.values()) {
+            System.out.print(benchmark.run(engine).describe());
+        }
+    }
+}
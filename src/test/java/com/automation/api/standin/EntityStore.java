@@ -0,0 +1,394 @@
+package com.automation.api.standin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lock-free store of the entities of one resource, indexed directly by their int id
+ * Ids are handed out by a counter, so the store is a two-level array instead of a map:
+ * no boxing, no hashing, and a scan visits entities in id order like JSONPlaceholder lists them.
+ * Chunks are allocated on first use with a compare-and-set. Writes replace whole entities,
+ * a stored {@link ObjectNode} is never modified, so readers may serialize it without locking.
+ * A store can sit on top of generated entities (see {@link SeedData}): ids up to the generated count
+ * that were never written are produced on every read, and deleting one leaves a tombstone in its slot.
+ * Secondary indexes (see {@link SecondaryIndex}) and the text index (see {@link TextIndex}) are brought up to date
+ * after every write.
+ */
+public final class EntityStore {
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 1 << 12;
+
+    /**
+     * Highest id the store can hold, about 16.7 million
+     */
+    public static final int MAX_ID = MAX_CHUNKS * CHUNK_SIZE - 1;
+
+    // Marks a deleted generated entity, which would otherwise come back on the next read
+    private static final ObjectNode DELETED = new ObjectMapper().createObjectNode();
+
+    private final AtomicReferenceArray<AtomicReferenceArray<ObjectNode>> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger lastId = new AtomicInteger();
+    private final AtomicInteger size = new AtomicInteger();
+    // Bumped after every change, so anything derived from a scan can tell whether it is still current
+    private final AtomicLong version = new AtomicLong();
+    private final IntFunction<ObjectNode> generator;
+    private final int generated;
+    private final List<SecondaryIndex> indexes = new CopyOnWriteArrayList<>();
+    private volatile TextIndex text;
+
+    /**
+     * Create a store holding entities whose "id" fields are set, e.g. the seed data
+     */
+    public EntityStore(List<ObjectNode> entities) {
+        this(null, 0);
+        for (ObjectNode entity : entities) {
+            put(entity.get("id").asInt(), entity);
+        }
+    }
+
+    /**
+     * Create a store whose ids 1 to count start out as generated entities, created ids continue after them
+     */
+    public EntityStore(IntFunction<ObjectNode> generator, int count) {
+        this.generator = generator;
+        this.generated = count;
+        this.lastId.set(count);
+        this.size.set(count);
+    }
+
+    /**
+     * Get an entity, or null when it does not exist
+     */
+    public ObjectNode get(int id) {
+        AtomicReferenceArray<ObjectNode> chunk = slot(id, false);
+        return resolve(id, chunk == null ? null : chunk.get(id & CHUNK_MASK));
+    }
+
+    /**
+     * Store an entity under the next free id, which is written to its "id" field
+     *
+     * @return the stored entity
+     */
+    public ObjectNode create(ObjectNode entity) {
+        int id = allocateId();
+        entity.put("id", id);
+        put(id, entity);
+        return entity;
+    }
+
+    /**
+     * Hand out the next free id without storing anything under it yet
+     */
+    public int allocateId() {
+        int id = lastId.incrementAndGet();
+        if (id > MAX_ID) {
+            throw new IllegalStateException("Entity store is full at id " + MAX_ID);
+        }
+        return id;
+    }
+
+    /**
+     * Make sure ids up to the given one are never handed out, used to restore a store from disk
+     */
+    void reserveThrough(int id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Store an entity under an id whether or not one exists, used to restore a store from disk
+     *
+     * @return the entity previously stored under the id, or null
+     */
+    public ObjectNode put(int id, ObjectNode entity) {
+        ObjectNode previous = resolve(id, slot(id, true).getAndSet(id & CHUNK_MASK, entity));
+        lastId.accumulateAndGet(id, Math::max);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        version.incrementAndGet();
+        indexed(id);
+        return previous;
+    }
+
+    /**
+     * Replace an existing entity, the "id" field of the replacement is set to the id
+     *
+     * @return the stored entity, or null when there is no entity to replace
+     */
+    public ObjectNode replace(int id, ObjectNode entity) {
+        AtomicReferenceArray<ObjectNode> chunk = slot(id, isGenerated(id));
+        if (chunk == null) {
+            return null;
+        }
+        entity.put("id", id);
+        while (true) {
+            ObjectNode current = chunk.get(id & CHUNK_MASK);
+            if (resolve(id, current) == null) {
+                return null;
+            }
+            // A delete racing with the update wins, the update then reports the entity as missing
+            if (chunk.compareAndSet(id & CHUNK_MASK, current, entity)) {
+                version.incrementAndGet();
+                indexed(id);
+                return entity;
+            }
+        }
+    }
+
+    /**
+     * Change an existing entity, the "id" field of the changed entity is set to the id
+     * The change gets the current entity and returns the new one without modifying it; when a concurrent write
+     * gets in first, the change is applied again to what that write stored.
+     *
+     * @return the stored entity, or null when there is no entity to change
+     */
+    public ObjectNode update(int id, UnaryOperator<ObjectNode> change) {
+        AtomicReferenceArray<ObjectNode> chunk = slot(id, isGenerated(id));
+        if (chunk == null) {
+            return null;
+        }
+        while (true) {
+            ObjectNode current = chunk.get(id & CHUNK_MASK);
+            ObjectNode entity = resolve(id, current);
+            if (entity == null) {
+                return null;
+            }
+            ObjectNode changed = change.apply(entity);
+            changed.put("id", id);
+            if (chunk.compareAndSet(id & CHUNK_MASK, current, changed)) {
+                version.incrementAndGet();
+                indexed(id);
+                return changed;
+            }
+        }
+    }
+
+    /**
+     * Remove an entity, its id is never handed out again
+     *
+     * @return the removed entity, or null when it did not exist
+     */
+    public ObjectNode delete(int id) {
+        AtomicReferenceArray<ObjectNode> chunk = slot(id, isGenerated(id));
+        if (chunk == null) {
+            return null;
+        }
+        while (true) {
+            ObjectNode current = chunk.get(id & CHUNK_MASK);
+            ObjectNode removed = resolve(id, current);
+            if (removed == null) {
+                return null;
+            }
+            if (chunk.compareAndSet(id & CHUNK_MASK, current, isGenerated(id) ? DELETED : null)) {
+                size.decrementAndGet();
+                version.incrementAndGet();
+                indexed(id);
+                return removed;
+            }
+        }
+    }
+
+    /**
+     * Visit the entities in id order
+     * Entities created or deleted during the scan may or may not be visited, the others always are.
+     */
+    public void forEach(Consumer<ObjectNode> action) {
+        forEachWhile(entity -> {
+            action.accept(entity);
+            return true;
+        });
+    }
+
+    /**
+     * Visit the entities in id order until the action returns false
+     */
+    public void forEachWhile(Predicate<ObjectNode> action) {
+        scan(1, MAX_ID, false, action);
+    }
+
+    /**
+     * Visit the entities with ids from fromId to toId, both included, in ascending or descending order
+     * until the action returns false
+     */
+    public void scan(int fromId, int toId, boolean descending, Predicate<ObjectNode> action) {
+        int first = Math.max(1, fromId);
+        int last = Math.min(toId, lastId.get());
+        if (descending) {
+            for (int id = last; id >= first; ) {
+                AtomicReferenceArray<ObjectNode> chunk = chunks.get(id >>> CHUNK_BITS);
+                int chunkFirst = Math.max(first, id & ~CHUNK_MASK);
+                if (chunk == null && chunkFirst > generated) {
+                    id = chunkFirst - 1;
+                    continue;
+                }
+                for (; id >= chunkFirst; id--) {
+                    ObjectNode entity = resolve(id, chunk == null ? null : chunk.get(id & CHUNK_MASK));
+                    if (entity != null && !action.test(entity)) {
+                        return;
+                    }
+                }
+            }
+            return;
+        }
+        for (int id = first; id <= last; ) {
+            AtomicReferenceArray<ObjectNode> chunk = chunks.get(id >>> CHUNK_BITS);
+            int chunkLast = Math.min(last, id | CHUNK_MASK);
+            // Nothing was ever written to the chunk and nothing in it is generated
+            if (chunk == null && id > generated) {
+                id = chunkLast + 1;
+                continue;
+            }
+            for (; id <= chunkLast; id++) {
+                ObjectNode entity = resolve(id, chunk == null ? null : chunk.get(id & CHUNK_MASK));
+                if (entity != null && !action.test(entity)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit the slots that were written, in id order: stored entities, and null for deleted generated ones
+     * Together with the generator this is the whole content of the store, which is what a snapshot keeps.
+     */
+    public void forEachWritten(BiConsumer<Integer, ObjectNode> action) {
+        int last = lastId.get();
+        for (int chunkIndex = 0; chunkIndex <= last >>> CHUNK_BITS; chunkIndex++) {
+            AtomicReferenceArray<ObjectNode> chunk = chunks.get(chunkIndex);
+            if (chunk == null) {
+                continue;
+            }
+            for (int offset = 0; offset < CHUNK_SIZE; offset++) {
+                ObjectNode entity = chunk.get(offset);
+                if (entity != null) {
+                    action.accept((chunkIndex << CHUNK_BITS) + offset, entity == DELETED ? null : entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Index an int field, e.g. a foreign key, and keep the index up to date on every write from now on
+     *
+     * @param generatedPerValue how many consecutive generated ids share each value, as laid out by
+     *                          {@link SeedData#parentId}, 0 when the value does not follow from the id
+     */
+    SecondaryIndex index(String field, int generatedPerValue) {
+        SecondaryIndex index = new SecondaryIndex(this, field, generatedPerValue);
+        indexes.add(index);
+        forEachWritten((id, entity) -> index.update(id));
+        return index;
+    }
+
+    /**
+     * Get the index of a field, or null when the field is not indexed
+     */
+    SecondaryIndex getIndex(String field) {
+        for (SecondaryIndex index : indexes) {
+            if (index.getField().equals(field)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Make the words of some fields searchable, the index is built on the first search
+     */
+    TextIndex indexText(List<String> fields) {
+        text = new TextIndex(this, fields);
+        return text;
+    }
+
+    /**
+     * Get the text index, or null when no field is searchable
+     */
+    TextIndex getTextIndex() {
+        return text;
+    }
+
+    /**
+     * Get the number of ids, from 1 on, that start out as generated entities
+     */
+    int getGenerated() {
+        return generated;
+    }
+
+    /**
+     * Get the highest id handed out so far, deleted ids included
+     */
+    public int getLastId() {
+        return lastId.get();
+    }
+
+    /**
+     * Get the number of changes made so far
+     * Read it before a scan: if it still has the same value later, the result of the scan is still current.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get the number of stored entities
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Get the entity a slot stands for, generating it when the slot was never written
+     */
+    private ObjectNode resolve(int id, ObjectNode stored) {
+        if (stored == DELETED) {
+            return null;
+        }
+        if (stored == null && isGenerated(id)) {
+            return generator.apply(id);
+        }
+        return stored;
+    }
+
+    private void indexed(int id) {
+        for (SecondaryIndex index : indexes) {
+            index.update(id);
+        }
+        TextIndex text = this.text;
+        if (text != null) {
+            text.update(id);
+        }
+    }
+
+    private boolean isGenerated(int id) {
+        return id >= 1 && id <= generated;
+    }
+
+    private AtomicReferenceArray<ObjectNode> slot(int id, boolean create) {
+        if (id < 1 || id > MAX_ID) {
+            if (create) {
+                throw new IllegalArgumentException("Entity id out of range: " + id);
+            }
+            return null;
+        }
+        int index = id >>> CHUNK_BITS;
+        AtomicReferenceArray<ObjectNode> chunk = chunks.get(index);
+        if (chunk == null && create) {
+            chunks.compareAndSet(index, null, new AtomicReferenceArray<>(CHUNK_SIZE));
+            chunk = chunks.get(index);
+        }
+        return chunk;
+    }
+}
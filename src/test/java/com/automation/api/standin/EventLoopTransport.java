@@ -0,0 +1,654 @@
+package com.automation.api.standin;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Transport of the {@link StandInEngine#EVENT_LOOP} engine: a few selector threads serve every connection
+ * The first loop accepts connections and deals them out round-robin. A connection belongs to one loop,
+ * which reads and parses its requests and writes its responses, so connection state needs no locking.
+ * Handlers may block (fault latency, durable writes), so they run on virtual threads and hand their
+ * response back to the loop. A connection runs one request at a time: pipelined requests wait in its
+ * buffer and are answered in order, and reading pauses until the current response is queued.
+ * Response bodies are written with gathering writes straight from their buffers, cached direct buffers included.
+ * Streamed and trickled bodies are written chunked by their handler thread, which waits while
+ * {@value #MAX_PENDING_CHUNKS} chunks are queued, so a slow client holds back the producer instead of filling the heap.
+ */
+final class EventLoopTransport implements StandInTransport {
+    static final int DEFAULT_LOOPS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final Logger logger = Logger.getLogger(EventLoopTransport.class.getName());
+    private static final int BACKLOG = 4096;
+    private static final int READ_BUFFER_BYTES = 16 * 1024;
+    private static final int MAX_HEAD_BYTES = 64 * 1024;
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+    private static final int STREAM_CHUNK_BYTES = 64 * 1024;
+    private static final int MAX_PENDING_CHUNKS = 16;
+    private static final byte[] HEAD_END = {'\r', '\n', '\r', '\n'};
+
+    private final ServerSocketChannel acceptor;
+    private final EventLoop[] loops;
+    private final ExecutorService handlers;
+    private final Function<StandInRequest, StandInResponse> handler;
+    private final int port;
+    private volatile boolean closed;
+
+    EventLoopTransport(int port, int loopCount, Function<StandInRequest, StandInResponse> handler) throws IOException {
+        if (loopCount < 1) {
+            throw new IllegalArgumentException("At least one event loop is needed, got: " + loopCount);
+        }
+        this.handler = handler;
+        this.handlers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stand-in-handler-", 0).factory());
+        this.acceptor = ServerSocketChannel.open();
+        this.acceptor.bind(new InetSocketAddress("127.0.0.1", port), BACKLOG);
+        this.acceptor.configureBlocking(false);
+        this.port = ((InetSocketAddress) acceptor.getLocalAddress()).getPort();
+
+        this.loops = new EventLoop[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new EventLoop(i);
+        }
+        acceptor.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        for (EventLoop loop : loops) {
+            loop.thread.start();
+        }
+    }
+
+    @Override
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (EventLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        for (EventLoop loop : loops) {
+            try {
+                loop.thread.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        try {
+            acceptor.close();
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Could not close the stand-in acceptor", e);
+        }
+        handlers.shutdownNow();
+    }
+
+    private final class EventLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        // Work handed over by handler threads, run by the loop between selects
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // Only used by the first loop, which accepts
+        private int nextLoop;
+
+        EventLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "stand-in-event-loop-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Run a task on this loop's thread
+         */
+        void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    selector.select();
+                    runTasks();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                            continue;
+                        }
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.onReadable();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        } catch (RuntimeException e) {
+                            // One broken connection must not take the loop and its other connections down
+                            logger.log(Level.SEVERE, "Stand-in connection failed", e);
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                if (!closed) {
+                    logger.log(Level.SEVERE, "Stand-in event loop failed", e);
+                }
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    closeQuietly(key);
+                }
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    logger.log(Level.FINE, "Could not close a stand-in selector", e);
+                }
+            }
+        }
+
+        private void runTasks() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "Stand-in event loop task failed", e);
+                }
+            }
+        }
+
+        private void accept() {
+            while (true) {
+                SocketChannel channel;
+                try {
+                    channel = acceptor.accept();
+                    if (channel == null) {
+                        return;
+                    }
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                } catch (IOException e) {
+                    // Usually out of file descriptors, the connection stays in the backlog until there is room
+                    logger.log(Level.WARNING, "Stand-in could not accept a connection", e);
+                    return;
+                }
+                EventLoop loop = loops[nextLoop];
+                nextLoop = (nextLoop + 1) % loops.length;
+                if (loop == this) {
+                    register(channel);
+                } else {
+                    loop.execute(() -> loop.register(channel));
+                }
+            }
+        }
+
+        private void register(SocketChannel channel) {
+            try {
+                Connection connection = new Connection(this, channel);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Could not register a stand-in connection", e);
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    /**
+     * One client connection, only ever touched by the thread of its loop
+     */
+    private final class Connection {
+        private final EventLoop loop;
+        private final SocketChannel channel;
+        private SelectionKey key;
+        // In write mode: everything before the position was read and not consumed yet
+        private ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        // A request is with its handler, the next one waits until its response is queued
+        private boolean busy;
+        private boolean closeWhenFlushed;
+        // Read by the handler thread of a streamed response, which stops writing once it is set
+        private volatile boolean closed;
+        // Permits of the streamed response being written, returned as its buffers are written out
+        private Semaphore credit;
+        // Buffers queued before the streamed response, their writes return no permits
+        private int uncredited;
+
+        Connection(EventLoop loop, SocketChannel channel) {
+            this.loop = loop;
+            this.channel = channel;
+        }
+
+        void onReadable() {
+            try {
+                if (!in.hasRemaining()) {
+                    grow(in.capacity() * 2);
+                }
+                if (channel.read(in) < 0) {
+                    close();
+                    return;
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            processRequests();
+        }
+
+        /**
+         * Start the next buffered request, if there is a complete one and none is in progress
+         */
+        private void processRequests() {
+            if (closed) {
+                return;
+            }
+            if (!busy && !closeWhenFlushed) {
+                parseNext();
+            }
+            updateInterest();
+        }
+
+        private void parseNext() {
+            int filled = in.position();
+            int headEnd = indexOf(in.array(), filled, HEAD_END);
+            if (headEnd < 0) {
+                if (filled >= MAX_HEAD_BYTES) {
+                    reject(431, "Request headers too large");
+                }
+                return;
+            }
+            int bodyStart = headEnd + HEAD_END.length;
+
+            String[] lines = new String(in.array(), 0, headEnd, StandardCharsets.ISO_8859_1).split("\r\n");
+            String[] requestLine = lines[0].split(" ");
+            if (requestLine.length != 3 || !requestLine[2].startsWith("HTTP/1.")) {
+                reject(400, "Malformed request line");
+                return;
+            }
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon <= 0) {
+                    reject(400, "Malformed header line");
+                    return;
+                }
+                headers.computeIfAbsent(lines[i].substring(0, colon).trim(), name -> new ArrayList<>())
+                        .add(lines[i].substring(colon + 1).trim());
+            }
+            if (headers.containsKey("Transfer-Encoding")) {
+                reject(501, "Chunked request bodies are not supported");
+                return;
+            }
+
+            int length;
+            try {
+                List<String> contentLength = headers.get("Content-Length");
+                length = contentLength == null ? 0 : Integer.parseInt(contentLength.get(0));
+            } catch (NumberFormatException e) {
+                reject(400, "Malformed Content-Length");
+                return;
+            }
+            if (length < 0 || length > MAX_BODY_BYTES) {
+                reject(413, "Request body too large");
+                return;
+            }
+            if (filled < bodyStart + length) {
+                grow(bodyStart + length);
+                return;
+            }
+
+            URI target;
+            try {
+                target = new URI(requestLine[1]);
+            } catch (URISyntaxException e) {
+                reject(400, "Malformed request target");
+                return;
+            }
+            byte[] body = Arrays.copyOfRange(in.array(), bodyStart, bodyStart + length);
+            in.flip().position(bodyStart + length);
+            in.compact();
+
+            String connection = headers.containsKey("Connection") ? headers.get("Connection").get(0) : "";
+            boolean keepAlive = requestLine[2].equals("HTTP/1.1")
+                    ? !connection.equalsIgnoreCase("close")
+                    : connection.equalsIgnoreCase("keep-alive");
+            dispatch(new StandInRequest(requestLine[0], target.getPath(), target.getRawQuery(), headers, body), keepAlive);
+        }
+
+        private void dispatch(StandInRequest request, boolean keepAlive) {
+            busy = true;
+            try {
+                handlers.execute(() -> {
+                    StandInResponse response = handler.apply(request);
+                    if (response.isDropped()) {
+                        loop.execute(this::close);
+                    } else if (response.isTrickled() || response.isStreamed()) {
+                        stream(response, keepAlive);
+                    } else {
+                        loop.execute(() -> respond(response, keepAlive));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The transport is closing
+                close();
+            }
+        }
+
+        private void respond(StandInResponse response, boolean keepAlive) {
+            ByteBuffer body = response.getBodyBuffer();
+            queue(head(response, "Content-Length: " + body.remaining(), keepAlive));
+            if (body.hasRemaining()) {
+                queue(body);
+            }
+            finish(keepAlive);
+        }
+
+        /**
+         * Send the body chunked, paced when it is trickled, runs on the handler thread
+         */
+        private void stream(StandInResponse response, boolean keepAlive) {
+            try {
+                ChunkedOutput out = new ChunkedOutput(head(response, "Transfer-Encoding: chunked", keepAlive));
+                if (response.isTrickled()) {
+                    byte[] body = response.getBody();
+                    for (int offset = 0; offset < body.length; offset += response.getTrickleChunkBytes()) {
+                        out.write(body, offset, Math.min(response.getTrickleChunkBytes(), body.length - offset));
+                        out.flush();
+                        Thread.sleep(response.getTrickleDelayMillis());
+                    }
+                } else {
+                    response.getBodyWriter().writeTo(out);
+                }
+                out.end(keepAlive);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                loop.execute(this::close);
+            } catch (IOException | RuntimeException e) {
+                // The client went away or the body failed half way, the response cannot be completed
+                logger.log(Level.FINE, "Stand-in could not stream a response", e);
+                loop.execute(this::close);
+            }
+        }
+
+        private void reject(int status, String message) {
+            respond(StandInResponse.error(status, message), false);
+        }
+
+        /**
+         * The response is queued: close after it, or go on with the next pipelined request
+         */
+        private void finish(boolean keepAlive) {
+            busy = false;
+            if (!keepAlive) {
+                closeWhenFlushed = true;
+            }
+            flush();
+            processRequests();
+        }
+
+        private void queue(ByteBuffer buffer) {
+            if (closed) {
+                return;
+            }
+            out.add(buffer);
+            flush();
+        }
+
+        void flush() {
+            if (closed) {
+                return;
+            }
+            try {
+                while (!out.isEmpty()) {
+                    long written = channel.write(out.toArray(new ByteBuffer[0]));
+                    while (!out.isEmpty() && !out.peek().hasRemaining()) {
+                        out.poll();
+                        if (uncredited > 0) {
+                            uncredited--;
+                        } else if (credit != null) {
+                            credit.release();
+                        }
+                    }
+                    if (written == 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            if (out.isEmpty() && closeWhenFlushed) {
+                close();
+                return;
+            }
+            updateInterest();
+        }
+
+        private void updateInterest() {
+            if (closed) {
+                return;
+            }
+            int ops = 0;
+            if (!busy && !closeWhenFlushed) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (!out.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(ops);
+        }
+
+        private void grow(int capacity) {
+            if (in.capacity() >= capacity) {
+                return;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(capacity, in.capacity() * 2));
+            in.flip();
+            grown.put(in);
+            in = grown;
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(key);
+            if (credit != null) {
+                // Wakes a handler waiting to queue a chunk, it then finds the connection closed
+                credit.release(MAX_PENDING_CHUNKS);
+            }
+        }
+
+        /**
+         * Chunked body written on a handler thread and queued on the loop, one chunk per full buffer or flush
+         */
+        private final class ChunkedOutput extends OutputStream {
+            private final Semaphore permits = new Semaphore(MAX_PENDING_CHUNKS);
+            private final byte[] buffer = new byte[STREAM_CHUNK_BYTES];
+            private int count;
+
+            ChunkedOutput(ByteBuffer head) throws IOException {
+                acquire();
+                loop.execute(() -> {
+                    credit = permits;
+                    uncredited = out.size();
+                    if (closed) {
+                        permits.release(MAX_PENDING_CHUNKS);
+                    }
+                    queue(head);
+                });
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                if (count == buffer.length) {
+                    flush();
+                }
+                buffer[count++] = (byte) b;
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                while (length > 0) {
+                    if (count == buffer.length) {
+                        flush();
+                    }
+                    int copied = Math.min(length, buffer.length - count);
+                    System.arraycopy(bytes, offset, buffer, count, copied);
+                    count += copied;
+                    offset += copied;
+                    length -= copied;
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (count == 0) {
+                    return;
+                }
+                byte[] size = (Integer.toHexString(count) + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+                ByteBuffer chunk = ByteBuffer.allocate(size.length + count + 2)
+                        .put(size).put(buffer, 0, count).put((byte) '\r').put((byte) '\n')
+                        .flip();
+                count = 0;
+                acquire();
+                loop.execute(() -> queue(chunk));
+            }
+
+            /**
+             * Send what is buffered and the last chunk, which completes the response
+             */
+            void end(boolean keepAlive) throws IOException {
+                flush();
+                ByteBuffer last = ByteBuffer.wrap("0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                acquire();
+                loop.execute(() -> {
+                    queue(last);
+                    finish(keepAlive);
+                });
+            }
+
+            private void acquire() throws IOException {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while streaming a response");
+                }
+                if (closed) {
+                    throw new IOException("Connection closed while streaming a response");
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer head(StandInResponse response, String framing, boolean keepAlive) {
+        StringBuilder head = new StringBuilder(256)
+                .append("HTTP/1.1 ").append(response.getStatus()).append(' ').append(reason(response.getStatus()))
+                .append("\r\n");
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append(framing).append("\r\n");
+        if (!keepAlive) {
+            head.append("Connection: close\r\n");
+        }
+        head.append("\r\n");
+        return ByteBuffer.wrap(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String reason(int status) {
+        switch (status) {
+            case 200:
+                return "OK";
+            case 201:
+                return "Created";
+            case 400:
+                return "Bad Request";
+            case 404:
+                return "Not Found";
+            case 405:
+                return "Method Not Allowed";
+            case 413:
+                return "Content Too Large";
+            case 429:
+                return "Too Many Requests";
+            case 431:
+                return "Request Header Fields Too Large";
+            case 500:
+                return "Internal Server Error";
+            case 501:
+                return "Not Implemented";
+            case 503:
+                return "Service Unavailable";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Find the first occurrence of a byte sequence in the first length bytes of an array
+     */
+    private static int indexOf(byte[] array, int length, byte[] sequence) {
+        outer:
+        for (int i = 0; i <= length - sequence.length; i++) {
+            for (int j = 0; j < sequence.length; j++) {
+                if (array[i + j] != sequence[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        if (key == null) {
+            return;
+        }
+        key.cancel();
+        closeQuietly(key.channel());
+    }
+
+    private static void closeQuietly(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Could not close a stand-in channel", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.automation.api.standin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Named set of per-endpoint fault rules
+ * The first rule matching a request path wins; requests matching no rule pass through untouched
+ * Random decisions come from a seeded generator so a profile replays the same sequence after {@link #reset()}
+ */
+public final class FaultProfile {
+    private static final long DEFAULT_SEED = 7L;
+
+    private final String name;
+    private final long seed;
+    private final List<FaultRule> rules = new ArrayList<>();
+    private Random random;
+
+    public FaultProfile(String name) {
+        this(name, DEFAULT_SEED);
+    }
+
+    public FaultProfile(String name, long seed) {
+        this.name = name;
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    public FaultProfile rule(FaultRule rule) {
+        rules.add(rule);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<FaultRule> getRules() {
+        return Collections.unmodifiableList(rules);
+    }
+
+    /**
+     * Restart the random sequence from the profile seed
+     */
+    public synchronized void reset() {
+        random = new Random(seed);
+    }
+
+    /**
+     * Run a request through the profile
+     * Latency is slept before the decision, then the request is dropped, failed or forwarded to the handler
+     * When the rule has a capacity, the request first waits for a free worker slot and holds it throughout
+     */
+    public StandInResponse apply(StandInRequest request, Function<StandInRequest, StandInResponse> handler) {
+        FaultRule rule = ruleFor(request.getPath());
+        if (rule == null) {
+            return handler.apply(request);
+        }
+
+        Semaphore capacity = rule.getCapacity();
+        if (capacity == null) {
+            return applyRule(rule, request, handler);
+        }
+        capacity.acquireUninterruptibly();
+        try {
+            return applyRule(rule, request, handler);
+        } finally {
+            capacity.release();
+        }
+    }
+
+    private StandInResponse applyRule(FaultRule rule, StandInRequest request,
+                                      Function<StandInRequest, StandInResponse> handler) {
+        long delay;
+        double dropRoll;
+        double errorRoll;
+        int errorStatus;
+        synchronized (this) {
+            delay = rule.getLatency().sampleMillis(random);
+            dropRoll = random.nextDouble();
+            errorRoll = random.nextDouble();
+            int[] statuses = rule.getErrorStatuses();
+            errorStatus = statuses[random.nextInt(statuses.length)];
+        }
+
+        sleep(delay);
+
+        if (dropRoll < rule.getDropRate()) {
+            return StandInResponse.dropped();
+        }
+        if (errorRoll < rule.getErrorRate()) {
+            StandInResponse error = StandInResponse.error(errorStatus, "Injected fault from profile " + name);
+            if (errorStatus == 429 || errorStatus == 503) {
+                error.header("Retry-After", "1");
+            }
+            return error;
+        }
+
+        StandInResponse response = handler.apply(request);
+        if (rule.getTrickleChunkBytes() > 0) {
+            response.trickle(rule.getTrickleChunkBytes(), rule.getTrickleDelayMillis());
+        }
+        return response;
+    }
+
+    private FaultRule ruleFor(String path) {
+        for (FaultRule rule : rules) {
+            if (rule.matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Endpoints;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of fault profiles known to the stand-in
+ * Requests select a profile by name through the {@link #HEADER} header, which {@link WithFaults} sets per test
+ */
+public final class FaultProfiles {
+    public static final String HEADER = "X-Fault-Profile";
+
+    // Built-in profile names
+    public static final String SLOW = "slow";
+    public static final String LONG_TAIL = "long-tail";
+    public static final String FLAKY = "flaky";
+    public static final String THROTTLED = "throttled";
+    public static final String UNAVAILABLE = "unavailable";
+    public static final String SERVER_ERROR = "server-error";
+    public static final String TRICKLE_PHOTOS = "trickle-photos";
+    public static final String DROP = "drop";
+    public static final String CONSTRAINED = "constrained";
+
+    private static final Map<String, FaultProfile> PROFILES = new ConcurrentHashMap<>();
+
+    static {
+        register(new FaultProfile(SLOW)
+                .rule(FaultRule.forAllEndpoints().latency(Latency.uniform(200, 400))));
+        register(new FaultProfile(LONG_TAIL)
+                .rule(FaultRule.forAllEndpoints().latency(Latency.exponential(50))));
+        register(new FaultProfile(FLAKY)
+                .rule(FaultRule.forAllEndpoints().errors(0.3, 500, 503)));
+        register(new FaultProfile(THROTTLED)
+                .rule(FaultRule.forAllEndpoints().errors(1.0, 429)));
+        register(new FaultProfile(UNAVAILABLE)
+                .rule(FaultRule.forAllEndpoints().errors(1.0, 503)));
+        register(new FaultProfile(SERVER_ERROR)
+                .rule(FaultRule.forAllEndpoints().errors(1.0, 500)));
+        register(new FaultProfile(TRICKLE_PHOTOS)
+                .rule(FaultRule.forEndpoint(Endpoints.PHOTOS).trickle(16 * 1024, 20)));
+        register(new FaultProfile(DROP)
+                .rule(FaultRule.forAllEndpoints().drops(1.0)));
+        register(new FaultProfile(CONSTRAINED)
+                .rule(FaultRule.forAllEndpoints().latency(Latency.fixed(20)).capacity(4)));
+    }
+
+    private FaultProfiles() {
+    }
+
+    /**
+     * Register a profile, replacing any existing profile with the same name
+     */
+    public static void register(FaultProfile profile) {
+        PROFILES.put(profile.getName(), profile);
+    }
+
+    /**
+     * Look up a profile by name
+     *
+     * @throws IllegalArgumentException when no profile has that name
+     */
+    public static FaultProfile get(String name) {
+        FaultProfile profile = PROFILES.get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown fault profile: " + name);
+        }
+        return profile;
+    }
+}
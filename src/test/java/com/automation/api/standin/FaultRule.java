@@ -0,0 +1,133 @@
+package com.automation.api.standin;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Faults applied to every request whose path starts with the rule's endpoint
+ * Built through {@link #forEndpoint(String)} or {@link #forAllEndpoints()}
+ */
+public final class FaultRule {
+    private final String endpoint;
+    private Latency latency = Latency.none();
+    private double errorRate;
+    private int[] errorStatuses = {500};
+    private double dropRate;
+    private int trickleChunkBytes;
+    private long trickleDelayMillis;
+    private Semaphore capacity;
+
+    private FaultRule(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Create a rule for one endpoint, e.g. {@code Endpoints.PHOTOS}, which also covers "/photos/{id}"
+     */
+    public static FaultRule forEndpoint(String endpoint) {
+        return new FaultRule(endpoint);
+    }
+
+    /**
+     * Create a rule matching every path
+     */
+    public static FaultRule forAllEndpoints() {
+        return new FaultRule("/");
+    }
+
+    public FaultRule latency(Latency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Answer the given fraction of requests with one of the statuses, e.g. 500, 503 or 429
+     */
+    public FaultRule errors(double rate, int... statuses) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1, got: " + rate);
+        }
+        if (statuses.length == 0) {
+            throw new IllegalArgumentException("At least one error status is required");
+        }
+        this.errorRate = rate;
+        this.errorStatuses = statuses.clone();
+        return this;
+    }
+
+    /**
+     * Close the connection without a response for the given fraction of requests
+     */
+    public FaultRule drops(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Drop rate must be between 0 and 1, got: " + rate);
+        }
+        this.dropRate = rate;
+        return this;
+    }
+
+    /**
+     * Write response bodies in chunks of the given size with a pause between chunks
+     */
+    public FaultRule trickle(int chunkBytes, long delayMillis) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("Trickle chunk size must be positive, got: " + chunkBytes);
+        }
+        this.trickleChunkBytes = chunkBytes;
+        this.trickleDelayMillis = delayMillis;
+        return this;
+    }
+
+    /**
+     * Serve at most the given number of matching requests at once, later ones queue in arrival order
+     * Together with a latency this models a server with a fixed number of workers and a finite throughput
+     */
+    public FaultRule capacity(int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + maxConcurrent);
+        }
+        this.capacity = new Semaphore(maxConcurrent, true);
+        return this;
+    }
+
+    /**
+     * Check whether the rule applies to a request path
+     */
+    public boolean matches(String path) {
+        return endpoint.equals("/") || path.equals(endpoint) || path.startsWith(endpoint + "/");
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Latency getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int[] getErrorStatuses() {
+        return errorStatuses.clone();
+    }
+
+    public double getDropRate() {
+        return dropRate;
+    }
+
+    public int getTrickleChunkBytes() {
+        return trickleChunkBytes;
+    }
+
+    public long getTrickleDelayMillis() {
+        return trickleDelayMillis;
+    }
+
+    /**
+     * Get the worker slots of the rule, null when its requests are not limited
+     */
+    public Semaphore getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,138 @@
+package com.automation.api.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Transport of the {@link StandInEngine#VIRTUAL_THREADS} engine: the JDK HTTP server with a virtual thread per exchange
+ */
+final class HttpServerTransport implements StandInTransport {
+    private static final int BACKLOG = 4096;
+    private static final int STREAM_BUFFER_BYTES = 64 * 1024;
+
+    static {
+        // Without TCP_NODELAY the response headers and body of a keep-alive exchange wait on
+        // Nagle's algorithm and the client's delayed ACK, adding about 40 ms to every request.
+        // The JDK server reads the property once, so it is set before the first server is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Function<StandInRequest, StandInResponse> handler;
+
+    HttpServerTransport(int port, Function<StandInRequest, StandInResponse> handler) throws IOException {
+        this.handler = handler;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stand-in-worker-", 0).factory());
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), BACKLOG);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    @Override
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            write(exchange, handler.apply(toRequest(exchange)));
+        }
+    }
+
+    private static StandInRequest toRequest(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        return new StandInRequest(
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().getPath(),
+                exchange.getRequestURI().getRawQuery(),
+                exchange.getRequestHeaders(),
+                body);
+    }
+
+    private static void write(HttpExchange exchange, StandInResponse response) throws IOException {
+        if (response.isDropped()) {
+            // Closing an exchange before the headers are sent closes the underlying connection
+            return;
+        }
+
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+        }
+
+        if (response.isStreamed() && !response.isTrickled()) {
+            // A length of 0 makes the server send the body chunked, written as it is produced
+            exchange.sendResponseHeaders(response.getStatus(), 0);
+            try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), STREAM_BUFFER_BYTES)) {
+                response.getBodyWriter().writeTo(out);
+            }
+            return;
+        }
+
+        if (!response.isTrickled()) {
+            ByteBuffer body = response.getBodyBuffer();
+            exchange.sendResponseHeaders(response.getStatus(), body.hasRemaining() ? body.remaining() : -1);
+            if (body.hasRemaining()) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    write(out, body);
+                }
+            }
+            return;
+        }
+
+        // Chunked transfer so the client sees the body arrive piece by piece
+        byte[] body = response.getBody();
+        exchange.sendResponseHeaders(response.getStatus(), 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int offset = 0; offset < body.length; offset += response.getTrickleChunkBytes()) {
+                int length = Math.min(response.getTrickleChunkBytes(), body.length - offset);
+                out.write(body, offset, length);
+                out.flush();
+                Thread.sleep(response.getTrickleDelayMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Write a body buffer, straight from its array when it has one
+     * The JDK server only takes arrays, so a direct buffer goes through the small transfer array of a stream channel,
+     * copied but never re-encoded. Every exchange runs on a new virtual thread, a per-thread chunk would not be reused.
+     */
+    private static void write(OutputStream out, ByteBuffer body) throws IOException {
+        if (body.hasArray()) {
+            out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+            return;
+        }
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.automation.api.standin;
+
+import java.util.Arrays;
+
+/**
+ * Growable int array of ids, kept sorted and free of duplicates by {@link #add} and {@link #remove}
+ * Used by the stand-in indexes, where boxing millions of ids would cost more than the entities themselves.
+ */
+final class IdList {
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at >= 0) {
+            return;
+        }
+        at = -at - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, at, ids, at + 1, size - at);
+        ids[at] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at >= 0) {
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Append another list's ids, the result is sorted again by {@link #toSortedArray()}
+     */
+    void addAll(IdList list) {
+        if (size + list.size > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length * 2, size + list.size));
+        }
+        System.arraycopy(list.ids, 0, ids, size, list.size);
+        size += list.size;
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toSortedArray() {
+        int[] sorted = Arrays.copyOf(ids, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
@@ -0,0 +1,44 @@
+package com.automation.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Applies JSON merge patches (RFC 7386) to stored entities
+ * Stored entities are never modified (see {@link EntityStore}), so the result is a new object. Only the objects on
+ * the path of a patched field are copied, and copied shallowly: every field the patch does not touch is the very
+ * node the original held, shared rather than duplicated.
+ */
+final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Merge a patch into an object: null removes a field, an object is merged into the field, anything else replaces it
+     *
+     * @return the patched object, the target and the patch are left as they were
+     */
+    static ObjectNode apply(ObjectNode target, ObjectNode patch) {
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        result.setAll(target);
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                result.remove(field.getKey());
+            } else if (value.isObject()) {
+                JsonNode current = result.get(field.getKey());
+                ObjectNode base = current instanceof ObjectNode ? (ObjectNode) current : JsonNodeFactory.instance.objectNode();
+                result.set(field.getKey(), apply(base, (ObjectNode) value));
+            } else {
+                result.set(field.getKey(), value);
+            }
+        }
+        return result;
+    }
+}
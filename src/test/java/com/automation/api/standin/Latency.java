@@ -0,0 +1,50 @@
+package com.automation.api.standin;
+
+import java.util.Random;
+
+/**
+ * Latency distribution sampled by the stand-in before answering a request
+ */
+@FunctionalInterface
+public interface Latency {
+
+    /**
+     * Draw one delay in milliseconds
+     */
+    long sampleMillis(Random random);
+
+    /**
+     * No added latency
+     */
+    static Latency none() {
+        return random -> 0L;
+    }
+
+    /**
+     * Always the same delay
+     */
+    static Latency fixed(long millis) {
+        return random -> millis;
+    }
+
+    /**
+     * Delay drawn uniformly between min and max, both inclusive
+     */
+    static Latency uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+    }
+
+    /**
+     * Delay drawn from a normal distribution, clamped at zero
+     */
+    static Latency normal(long meanMillis, long stdDevMillis) {
+        return random -> Math.max(0L, Math.round(meanMillis + random.nextGaussian() * stdDevMillis));
+    }
+
+    /**
+     * Delay drawn from an exponential distribution, which gives the long tail real backends show
+     */
+    static Latency exponential(long meanMillis) {
+        return random -> Math.round(-meanMillis * Math.log(1.0 - random.nextDouble()));
+    }
+}
@@ -0,0 +1,180 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized bodies of collection responses, one entry per resource and query
+ * Bodies are kept in read-only direct buffers, next to a gzip variant compressed once when the entry is made,
+ * so a repeated list request is answered without serializing or compressing anything.
+ * An entry remembers the {@link EntityStore#getVersion() version} of the store it was built from
+ * and is only served while the store is unchanged; writes invalidate without touching the cache.
+ */
+public final class ResponseCache {
+    /**
+     * Bodies smaller than this are not worth compressing
+     */
+    public static final int GZIP_MIN_BYTES = 1024;
+
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+
+    // Rough guess of the gzip variant's size before compressing, the exact size is checked once it is built
+    private static final int EXPECTED_GZIP_RATIO = 8;
+
+    private final Map<Resource, Map<String, Entry>> entries = new EnumMap<>(Resource.class);
+    private final long maxBytes;
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Create a cache holding at most about maxBytes of bodies, gzip variants included
+     */
+    public ResponseCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Max bytes must not be negative, got: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        for (Resource resource : Resource.values()) {
+            entries.put(resource, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * One cached response: its body, the gzip variant when there is one, and the X-Total-Count to send
+     */
+    static final class Entry {
+        private final long version;
+        private final ByteBuffer body;
+        private final ByteBuffer gzip;
+        private final int totalCount;
+
+        private Entry(long version, ByteBuffer body, ByteBuffer gzip, int totalCount) {
+            this.version = version;
+            this.body = body;
+            this.gzip = gzip;
+            this.totalCount = totalCount;
+        }
+
+        ByteBuffer body() {
+            return body.duplicate();
+        }
+
+        /**
+         * @return the compressed body, or null when the body is too small to be compressed
+         */
+        ByteBuffer gzip() {
+            return gzip == null ? null : gzip.duplicate();
+        }
+
+        /**
+         * @return the total number of matches, or -1 when the response is not paginated
+         */
+        int totalCount() {
+            return totalCount;
+        }
+
+        private int size() {
+            return body.capacity() + (gzip == null ? 0 : gzip.capacity());
+        }
+    }
+
+    /**
+     * Get the entry for a query, provided it was built from the given version of the store
+     *
+     * @return the entry, or null when there is none or it is out of date
+     */
+    Entry get(Resource resource, String key, long version) {
+        Entry entry = entries.get(resource).get(key);
+        if (entry == null || entry.version != version) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * Cache a freshly serialized body built from the given version of the store
+     * A body that would not fit is wrapped as it is and not cached, without copying or compressing it.
+     *
+     * @return the new entry
+     */
+    Entry put(Resource resource, String key, long version, byte[] body, int totalCount) {
+        long expected = body.length + (body.length < GZIP_MIN_BYTES ? 0 : body.length / EXPECTED_GZIP_RATIO);
+        if (expected > maxBytes) {
+            return new Entry(version, ByteBuffer.wrap(body), null, totalCount);
+        }
+        Entry entry = new Entry(version, direct(body), body.length < GZIP_MIN_BYTES ? null : direct(gzip(body)), totalCount);
+        if (entry.size() > maxBytes) {
+            return entry;
+        }
+        Entry previous = entries.get(resource).put(key, entry);
+        long total = bytes.addAndGet(entry.size() - (previous == null ? 0 : previous.size()));
+        if (total > maxBytes) {
+            evictStale(resource, key);
+        }
+        return entry;
+    }
+
+    /**
+     * Make room by dropping everything but the entry just added
+     * Views go out of date with every write anyway, so there is little to gain from a finer policy.
+     */
+    private void evictStale(Resource keptResource, String keptKey) {
+        for (Map.Entry<Resource, Map<String, Entry>> views : entries.entrySet()) {
+            views.getValue().entrySet().removeIf(view -> {
+                if (views.getKey() == keptResource && view.getKey().equals(keptKey)) {
+                    return false;
+                }
+                bytes.addAndGet(-view.getValue().size());
+                return true;
+            });
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the bytes held by cached bodies and their gzip variants
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    private static ByteBuffer direct(byte[] content) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+        buffer.put(content).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,398 @@
+package com.automation.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Index of an int field of one {@link EntityStore}, e.g. the albumId of photos, from value to the ids holding it
+ * Generated entities are not stored: their value follows from their id, so their ids are found by arithmetic.
+ * Only entities whose value does not follow from their id are kept, in primitive open-addressing maps
+ * from value to a sorted id array and from id back to its value. Every candidate is read back from the
+ * store and checked against the query, so a generated id that was rewritten or deleted since does no harm.
+ */
+final class SecondaryIndex {
+    // Entry states of an id: its value follows from its id or it does not exist, it has an int value, or another one
+    private static final byte DERIVED = 0;
+    private static final byte VALUE = 1;
+    private static final byte OTHER = 2;
+
+    private final EntityStore store;
+    private final String field;
+    private final int perValue;
+    private final int generated;
+    private final IdLists byValue = new IdLists();
+    private final IdList other = new IdList();
+    private final IdStates states = new IdStates();
+
+    SecondaryIndex(EntityStore store, String field, int generatedPerValue) {
+        this.store = store;
+        this.field = field;
+        this.perValue = generatedPerValue;
+        this.generated = generatedPerValue > 0 ? store.getGenerated() : 0;
+    }
+
+    String getField() {
+        return field;
+    }
+
+    /**
+     * Bring the entry of one id up to date with the store, called after every write to the id
+     * Writers may race, but the last one to get here reads the final state of the entity.
+     */
+    synchronized void update(int id) {
+        ObjectNode entity = store.get(id);
+        JsonNode node = entity == null ? null : entity.get(field);
+        byte state;
+        int value = 0;
+        if (entity == null) {
+            state = DERIVED;
+        } else {
+            Integer parsed = node == null ? null : parseInt(node.asText());
+            if (parsed == null) {
+                state = OTHER;
+            } else {
+                state = id <= generated && parsed == derivedValue(id) ? DERIVED : VALUE;
+                value = state == VALUE ? parsed : 0;
+            }
+        }
+
+        int slot = states.slot(id);
+        byte previousState = states.state(slot);
+        int previousValue = states.value(slot);
+        if (previousState == state && previousValue == value) {
+            return;
+        }
+        if (previousState == VALUE) {
+            byValue.get(previousValue).remove(id);
+        } else if (previousState == OTHER) {
+            other.remove(id);
+        }
+        if (state == VALUE) {
+            byValue.getOrCreate(value).add(id);
+        } else if (state == OTHER) {
+            other.add(id);
+        }
+        states.set(slot, id, state, value);
+    }
+
+    /**
+     * Visit the ids whose value may lie between low and high, both included, in ascending order until the action
+     * returns false. With includeOther, ids holding a value that is not an int are visited as well.
+     */
+    void forEachCandidate(int low, int high, boolean includeOther, IntPredicate action) {
+        int[] written;
+        synchronized (this) {
+            IdList ids = new IdList();
+            if (low == high) {
+                IdList exact = byValue.get(low);
+                if (exact != null) {
+                    ids.addAll(exact);
+                }
+            } else {
+                byValue.forEach((value, list) -> {
+                    if (value >= low && value <= high) {
+                        ids.addAll(list);
+                    }
+                });
+            }
+            if (includeOther) {
+                ids.addAll(other);
+            }
+            written = ids.toSortedArray();
+        }
+
+        // Generated ids of the values in range form one run, merged with the written ids
+        long from = 1;
+        long to = 0;
+        if (generated > 0) {
+            int maxValue = derivedValue(generated);
+            if (low <= maxValue && high >= 1) {
+                from = (long) (Math.max(low, 1) - 1) * perValue + 1;
+                to = Math.min((long) Math.min(high, maxValue) * perValue, generated);
+            }
+        }
+        int i = 0;
+        long next = from;
+        while (i < written.length || next <= to) {
+            int id;
+            if (next > to || (i < written.length && written[i] < next)) {
+                id = written[i++];
+            } else {
+                id = (int) next++;
+                // A generated id rewritten with another value in range is among the written ids as well
+                if (i < written.length && written[i] == id) {
+                    i++;
+                }
+            }
+            if (!action.test(id)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Visit every id in order of value, ids whose value is not an int last, or in reverse order of value with
+     * those ids first, until the action returns false. Ids of equal value are visited in ascending order either
+     * way, as a stable sort of entities listed by id leaves them. Ids are visited whether or not they still exist.
+     */
+    void forEachInOrder(boolean descending, IntPredicate action) {
+        long[] keys;
+        int[] others;
+        int[] moved;
+        synchronized (this) {
+            long[][] collected = {new long[16]};
+            int[] count = {0};
+            byValue.forEach((value, list) -> {
+                for (int k = 0; k < list.size(); k++) {
+                    if (count[0] == collected[0].length) {
+                        collected[0] = Arrays.copyOf(collected[0], count[0] * 2);
+                    }
+                    collected[0][count[0]++] = key(value, list.get(k), descending);
+                }
+            });
+            keys = Arrays.copyOf(collected[0], count[0]);
+            others = other.toSortedArray();
+            moved = states.idsNotDerived(generated);
+        }
+        Arrays.sort(keys);
+
+        if (descending) {
+            for (int id : others) {
+                if (!action.test(id)) {
+                    return;
+                }
+            }
+        }
+        int p = descending ? keys.length - 1 : 0;
+        int step = descending ? -1 : 1;
+        int g = generated == 0 ? 0 : descending ? firstOfValue(derivedValue(generated)) : 1;
+        while (true) {
+            // Generated ids now holding another value are visited through their written value instead
+            while (g != 0 && Arrays.binarySearch(moved, g) >= 0) {
+                g = nextGenerated(g, descending);
+            }
+            boolean hasKey = p >= 0 && p < keys.length;
+            if (g == 0 && !hasKey) {
+                break;
+            }
+            int id;
+            if (hasKey && (g == 0 || Long.compare(keys[p], key(derivedValue(g), g, descending)) * step < 0)) {
+                id = idOf(keys[p], descending);
+                p += step;
+            } else {
+                id = g;
+                g = nextGenerated(g, descending);
+            }
+            if (!action.test(id)) {
+                return;
+            }
+        }
+        if (!descending) {
+            for (int id : others) {
+                if (!action.test(id)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pack a value and an id into a long whose natural order is the walk order, read from the end when descending
+     * The value takes the high half, the id the low half, inverted when descending so that equal values
+     * read backwards still come out in ascending id order.
+     */
+    private static long key(int value, int id, boolean descending) {
+        return ((long) value << 32) | (descending ? 0xFFFFFFFFL - id : id);
+    }
+
+    private static int idOf(long key, boolean descending) {
+        long low = key & 0xFFFFFFFFL;
+        return (int) (descending ? 0xFFFFFFFFL - low : low);
+    }
+
+    /**
+     * Get the generated id after another in walk order, 0 once there is none
+     */
+    private int nextGenerated(int id, boolean descending) {
+        if (!descending) {
+            return id < generated ? id + 1 : 0;
+        }
+        int value = derivedValue(id);
+        if (id < generated && derivedValue(id + 1) == value) {
+            return id + 1;
+        }
+        return value > 1 ? firstOfValue(value - 1) : 0;
+    }
+
+    private int firstOfValue(int value) {
+        return (value - 1) * perValue + 1;
+    }
+
+    private int derivedValue(int id) {
+        return (id - 1) / perValue + 1;
+    }
+
+    static Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private interface ValueVisitor {
+        void visit(int value, IdList ids);
+    }
+
+    /**
+     * Open-addressing map from value to the sorted ids holding it, lists are kept when they empty
+     */
+    private static final class IdLists {
+        private int[] keys = new int[16];
+        private IdList[] lists = new IdList[16];
+        private int count;
+
+        IdList get(int value) {
+            int slot = find(value);
+            return lists[slot];
+        }
+
+        IdList getOrCreate(int value) {
+            int slot = find(value);
+            if (lists[slot] == null) {
+                if ((count + 1) * 2 > keys.length) {
+                    grow();
+                    slot = find(value);
+                }
+                keys[slot] = value;
+                lists[slot] = new IdList();
+                count++;
+            }
+            return lists[slot];
+        }
+
+        void forEach(ValueVisitor visitor) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (lists[slot] != null) {
+                    visitor.visit(keys[slot], lists[slot]);
+                }
+            }
+        }
+
+        private int find(int value) {
+            int mask = keys.length - 1;
+            int slot = mix(value) & mask;
+            while (lists[slot] != null && keys[slot] != value) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            IdList[] oldLists = lists;
+            keys = new int[oldKeys.length * 2];
+            lists = new IdList[oldKeys.length * 2];
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldLists[slot] != null) {
+                    int target = find(oldKeys[slot]);
+                    keys[target] = oldKeys[slot];
+                    lists[target] = oldLists[slot];
+                }
+            }
+        }
+    }
+
+    /**
+     * Open-addressing map from id to its entry state and value, ids are never 0 so 0 marks a free slot
+     */
+    private static final class IdStates {
+        private int[] ids = new int[16];
+        private byte[] states = new byte[16];
+        private int[] values = new int[16];
+        private int count;
+
+        /**
+         * Find the slot of an id, or the free slot where it would go
+         */
+        int slot(int id) {
+            if ((count + 1) * 2 > ids.length) {
+                grow();
+            }
+            int mask = ids.length - 1;
+            int slot = mix(id) & mask;
+            while (ids[slot] != 0 && ids[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        byte state(int slot) {
+            return states[slot];
+        }
+
+        int value(int slot) {
+            return values[slot];
+        }
+
+        void set(int slot, int id, byte state, int value) {
+            if (ids[slot] == 0) {
+                ids[slot] = id;
+                count++;
+            }
+            states[slot] = state;
+            values[slot] = value;
+        }
+
+        /**
+         * Get the sorted ids up to a limit whose value does not follow from their id
+         */
+        int[] idsNotDerived(int limit) {
+            int[] found = new int[16];
+            int size = 0;
+            for (int slot = 0; slot < ids.length; slot++) {
+                if (ids[slot] != 0 && ids[slot] <= limit && states[slot] != DERIVED) {
+                    if (size == found.length) {
+                        found = Arrays.copyOf(found, size * 2);
+                    }
+                    found[size++] = ids[slot];
+                }
+            }
+            found = Arrays.copyOf(found, size);
+            Arrays.sort(found);
+            return found;
+        }
+
+        private void grow() {
+            int[] oldIds = ids;
+            byte[] oldStates = states;
+            int[] oldValues = values;
+            ids = new int[oldIds.length * 2];
+            states = new byte[oldIds.length * 2];
+            values = new int[oldIds.length * 2];
+            int mask = ids.length - 1;
+            for (int slot = 0; slot < oldIds.length; slot++) {
+                if (oldIds[slot] != 0) {
+                    int target = mix(oldIds[slot]) & mask;
+                    while (ids[target] != 0) {
+                        target = (target + 1) & mask;
+                    }
+                    ids[target] = oldIds[slot];
+                    states[target] = oldStates[slot];
+                    values[target] = oldValues[slot];
+                }
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
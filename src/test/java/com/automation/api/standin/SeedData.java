@@ -0,0 +1,274 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Resource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic seed dataset with the same shape as JSONPlaceholder, at a scale factor from 1 to 1000
+ * At 1x there are 10 users, 100 posts, 500 comments, 100 albums, 5000 photos and 200 todos, every
+ * count grows with the scale. Entities are generated one at a time from a random sequence seeded by
+ * their resource and id, so any entity can be produced on demand without the others: a store can
+ * serve millions of rows while holding none of them. The same id gives the same entity at every scale.
+ * Foreign keys follow from the ids, e.g. photos 1-50 belong to album 1 and albums 1-10 to user 1.
+ */
+public final class SeedData {
+    public static final int USERS = 10;
+    public static final int POSTS_PER_USER = 10;
+    public static final int COMMENTS_PER_POST = 5;
+    public static final int ALBUMS_PER_USER = 10;
+    public static final int PHOTOS_PER_ALBUM = 50;
+    public static final int TODOS_PER_USER = 20;
+    public static final int MAX_SCALE = 1000;
+
+    private static final long SEED = 42L;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim",
+            "ad", "minim", "veniam", "quis", "nostrud", "exercitation", "ullamco", "laboris", "nisi", "aliquip",
+            "ex", "ea", "commodo", "consequat", "duis", "aute", "irure", "in", "reprehenderit", "voluptate"
+    };
+
+    private final int scale;
+
+    private SeedData(int scale) {
+        this.scale = scale;
+    }
+
+    /**
+     * Get the dataset at a scale factor, 1 matches JSONPlaceholder
+     */
+    public static SeedData atScale(int scale) {
+        if (scale < 1 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 1 and " + MAX_SCALE + ", got: " + scale);
+        }
+        return new SeedData(scale);
+    }
+
+    /**
+     * Build the full 1x dataset in memory, one list per resource ordered by id
+     */
+    public static Map<Resource, List<ObjectNode>> generate() {
+        return atScale(1).materialize();
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Get how many entities of a resource each parent entity has, 0 for users
+     */
+    public static int perParent(Resource resource) {
+        switch (resource) {
+            case POSTS:
+                return POSTS_PER_USER;
+            case COMMENTS:
+                return COMMENTS_PER_POST;
+            case ALBUMS:
+                return ALBUMS_PER_USER;
+            case PHOTOS:
+                return PHOTOS_PER_ALBUM;
+            case TODOS:
+                return TODOS_PER_USER;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Get the fields of a resource that hold free text, e.g. the title and body of posts
+     */
+    public static List<String> textFields(Resource resource) {
+        switch (resource) {
+            case USERS:
+                return List.of("name", "username", "email");
+            case POSTS:
+                return List.of("title", "body");
+            case COMMENTS:
+                return List.of("name", "email", "body");
+            case ALBUMS:
+            case PHOTOS:
+            case TODOS:
+            default:
+                return List.of("title");
+        }
+    }
+
+    /**
+     * Get the number of entities of a resource at this scale, their ids run from 1 to the count
+     */
+    public int count(Resource resource) {
+        return resource.getParent() == null ? USERS * scale : count(resource.getParent()) * perParent(resource);
+    }
+
+    /**
+     * Get the id of the parent of a generated entity, e.g. the album of a photo
+     */
+    public static int parentId(Resource resource, int id) {
+        return (id - 1) / perParent(resource) + 1;
+    }
+
+    /**
+     * Generate one entity, always the same for the same resource and id
+     *
+     * @return the entity, or null when the id is not part of the dataset at this scale
+     */
+    public ObjectNode entity(Resource resource, int id) {
+        if (id < 1 || id > count(resource)) {
+            return null;
+        }
+        SplittableRandom random = new SplittableRandom(SEED ^ ((long) resource.ordinal() << 32) ^ id);
+        switch (resource) {
+            case USERS:
+                return user(id, random);
+            case POSTS:
+                return post(id, random);
+            case COMMENTS:
+                return comment(id, random);
+            case ALBUMS:
+                return album(id, random);
+            case PHOTOS:
+                return photo(id, random);
+            case TODOS:
+            default:
+                return todo(id, random);
+        }
+    }
+
+    /**
+     * Create one store per resource on top of this dataset, nothing is generated before it is read
+     */
+    public Map<Resource, EntityStore> stores() {
+        Map<Resource, EntityStore> stores = new EnumMap<>(Resource.class);
+        for (Resource resource : Resource.values()) {
+            stores.put(resource, new EntityStore(id -> entity(resource, id), count(resource)));
+        }
+        return stores;
+    }
+
+    /**
+     * Build the whole dataset in memory, only sensible at small scales
+     */
+    public Map<Resource, List<ObjectNode>> materialize() {
+        Map<Resource, List<ObjectNode>> data = new EnumMap<>(Resource.class);
+        for (Resource resource : Resource.values()) {
+            List<ObjectNode> entities = new ArrayList<>(count(resource));
+            for (int id = 1; id <= count(resource); id++) {
+                entities.add(entity(resource, id));
+            }
+            data.put(resource, entities);
+        }
+        return data;
+    }
+
+    private static ObjectNode post(int id, SplittableRandom random) {
+        ObjectNode post = MAPPER.createObjectNode();
+        post.put("userId", parentId(Resource.POSTS, id));
+        post.put("id", id);
+        post.put("title", sentence(random, 4, 8));
+        post.put("body", paragraph(random, 4));
+        return post;
+    }
+
+    private static ObjectNode comment(int id, SplittableRandom random) {
+        ObjectNode comment = MAPPER.createObjectNode();
+        comment.put("postId", parentId(Resource.COMMENTS, id));
+        comment.put("id", id);
+        comment.put("name", sentence(random, 3, 6));
+        comment.put("email", word(random) + "." + word(random) + "@example.com");
+        comment.put("body", paragraph(random, 4));
+        return comment;
+    }
+
+    private static ObjectNode album(int id, SplittableRandom random) {
+        ObjectNode album = MAPPER.createObjectNode();
+        album.put("userId", parentId(Resource.ALBUMS, id));
+        album.put("id", id);
+        album.put("title", sentence(random, 2, 6));
+        return album;
+    }
+
+    private static ObjectNode photo(int id, SplittableRandom random) {
+        // Six hex digits with leading zeros, the top bit keeps them and is cut off
+        String color = Integer.toHexString(0x1000000 | random.nextInt(0x1000000)).substring(1);
+        ObjectNode photo = MAPPER.createObjectNode();
+        photo.put("albumId", parentId(Resource.PHOTOS, id));
+        photo.put("id", id);
+        photo.put("title", sentence(random, 3, 8));
+        photo.put("url", "https://via.placeholder.com/600/" + color);
+        photo.put("thumbnailUrl", "https://via.placeholder.com/150/" + color);
+        return photo;
+    }
+
+    private static ObjectNode todo(int id, SplittableRandom random) {
+        ObjectNode todo = MAPPER.createObjectNode();
+        todo.put("userId", parentId(Resource.TODOS, id));
+        todo.put("id", id);
+        todo.put("title", sentence(random, 3, 7));
+        todo.put("completed", random.nextBoolean());
+        return todo;
+    }
+
+    private static ObjectNode user(int id, SplittableRandom random) {
+        String first = capitalize(word(random));
+        String last = capitalize(word(random));
+
+        ObjectNode user = MAPPER.createObjectNode();
+        user.put("id", id);
+        user.put("name", first + " " + last);
+        user.put("username", first + "." + last + id);
+        user.put("email", first.toLowerCase() + "@" + last.toLowerCase() + ".biz");
+
+        ObjectNode address = user.putObject("address");
+        address.put("street", capitalize(word(random)) + " Street");
+        address.put("suite", "Apt. " + (100 + random.nextInt(900)));
+        address.put("city", capitalize(word(random)) + "ville");
+        address.put("zipcode", String.format("%05d-%04d", random.nextInt(100000), random.nextInt(10000)));
+        ObjectNode geo = address.putObject("geo");
+        geo.put("lat", String.format(Locale.ROOT, "%.4f", random.nextDouble() * 180 - 90));
+        geo.put("lng", String.format(Locale.ROOT, "%.4f", random.nextDouble() * 360 - 180));
+
+        user.put("phone", String.format("1-%03d-%03d-%04d", random.nextInt(1000), random.nextInt(1000), random.nextInt(10000)));
+        user.put("website", last.toLowerCase() + ".org");
+
+        ObjectNode company = user.putObject("company");
+        company.put("name", last + " Group");
+        company.put("catchPhrase", capitalize(sentence(random, 3, 3)));
+        company.put("bs", sentence(random, 3, 3));
+        return user;
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String sentence(SplittableRandom random, int minWords, int maxWords) {
+        int count = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder sb = new StringBuilder(word(random));
+        for (int i = 1; i < count; i++) {
+            sb.append(' ').append(word(random));
+        }
+        return sb.toString();
+    }
+
+    private static String paragraph(SplittableRandom random, int lines) {
+        StringBuilder sb = new StringBuilder(sentence(random, 6, 10));
+        for (int i = 1; i < lines; i++) {
+            sb.append('\n').append(sentence(random, 6, 10));
+        }
+        return sb.toString();
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
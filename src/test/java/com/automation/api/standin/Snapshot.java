@@ -0,0 +1,140 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Resource;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary image of all six entity stores, loaded by mapping the file and decoding it in one pass
+ * Generated entities are not stored: the snapshot records the scale of the {@link SeedData} underneath
+ * and only the slots written on top of it. Layout: magic, scale, resource count, then per resource its
+ * ordinal, last id, slot count and (id, flag, binary JSON when the flag is ENTITY) triples, and a CRC-32
+ * of everything before it. Files are written to a temporary name and moved into place, so a crash
+ * leaves either the old snapshot or the new one.
+ */
+final class Snapshot {
+    private static final byte[] MAGIC = "SISNAP02".getBytes(StandardCharsets.US_ASCII);
+    private static final byte ENTITY = 1;
+    private static final byte DELETED = 2;
+
+    private Snapshot() {
+    }
+
+    /**
+     * Write the stores, concurrent writes may or may not be included (see {@link StoreJournal})
+     */
+    static void write(Path file, int scale, Map<Resource, EntityStore> stores) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream stream = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(stream, crc), 1 << 16))) {
+            out.write(MAGIC);
+            out.writeInt(scale);
+            out.writeInt(stores.size());
+            BinaryJson.Encoder encoder = new BinaryJson.Encoder(out);
+            for (Map.Entry<Resource, EntityStore> entry : stores.entrySet()) {
+                EntityStore store = entry.getValue();
+                // The count is written ahead of the slots, so the references are collected in one pass first
+                int lastId = store.getLastId();
+                List<Integer> ids = new ArrayList<>();
+                List<ObjectNode> entities = new ArrayList<>();
+                store.forEachWritten((id, entity) -> {
+                    ids.add(id);
+                    entities.add(entity);
+                });
+                out.writeInt(entry.getKey().ordinal());
+                out.writeInt(lastId);
+                out.writeInt(ids.size());
+                for (int i = 0; i < ids.size(); i++) {
+                    out.writeInt(ids.get(i));
+                    if (entities.get(i) == null) {
+                        out.writeByte(DELETED);
+                    } else {
+                        out.writeByte(ENTITY);
+                        encoder.write(entities.get(i));
+                    }
+                }
+            }
+            out.flush();
+            // The checksum covers everything before it, so it is written to the raw stream
+            stream.write(ByteBuffer.allocate(Long.BYTES).putLong(crc.getValue()).array());
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load stores written by {@link #write(Path, int, Map)}
+     *
+     * @throws IllegalStateException when the file is truncated or corrupt
+     * @throws IllegalArgumentException when the file holds data at another scale
+     */
+    static Map<Resource, EntityStore> read(Path file, int scale) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (data.capacity() < MAGIC.length + Integer.BYTES + Long.BYTES) {
+                throw new IllegalStateException("Snapshot " + file + " is truncated");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data.slice(0, data.capacity() - Long.BYTES));
+            if (crc.getValue() != data.getLong(data.capacity() - Long.BYTES)) {
+                throw new IllegalStateException("Snapshot " + file + " fails its checksum");
+            }
+
+            byte[] magic = new byte[MAGIC.length];
+            data.get(0, magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IllegalStateException("Snapshot " + file + " has an unknown format");
+            }
+            ByteBuffer in = data.slice(MAGIC.length, data.capacity() - MAGIC.length - Long.BYTES);
+            int written = in.getInt();
+            if (written != scale) {
+                throw new IllegalArgumentException("Snapshot " + file + " holds data at scale " + written
+                        + ", not " + scale);
+            }
+            BinaryJson.Decoder decoder = new BinaryJson.Decoder(in);
+            Map<Resource, EntityStore> stores = SeedData.atScale(scale).stores();
+            int resources = in.getInt();
+            for (int r = 0; r < resources; r++) {
+                EntityStore store = stores.get(Resource.values()[in.getInt()]);
+                store.reserveThrough(in.getInt());
+                int count = in.getInt();
+                for (int i = 0; i < count; i++) {
+                    int id = in.getInt();
+                    byte flag = in.get();
+                    if (flag == ENTITY) {
+                        store.put(id, decoder.readObject());
+                    } else if (flag == DELETED) {
+                        store.delete(id);
+                    } else {
+                        throw new IllegalStateException("Snapshot " + file + " has an unknown slot flag " + flag);
+                    }
+                }
+            }
+            return stores;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IllegalStateException("Snapshot " + file + " is malformed", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.automation.api.standin;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Server engines the stand-in can run on, selected with STAND_IN_ENGINE or when starting a {@link StandInServer}
+ * Both serve the same router and apply the same faults, they differ in how connections are handled
+ */
+public enum StandInEngine {
+    /**
+     * The JDK HTTP server, every exchange handled on a virtual thread of its own
+     */
+    VIRTUAL_THREADS("virtual-threads"),
+
+    /**
+     * Non-blocking NIO selectors on a small fixed set of threads, with keep-alive and HTTP/1.1 pipelining
+     */
+    EVENT_LOOP("event-loop");
+
+    private final String name;
+
+    StandInEngine(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the name used in STAND_IN_ENGINE, e.g. "event-loop"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Find an engine by its name
+     */
+    public static StandInEngine fromName(String name) {
+        for (StandInEngine engine : values()) {
+            if (engine.name.equals(name.trim().toLowerCase(Locale.ROOT))) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("Unknown stand-in engine: " + name + ", expected one of "
+                + Arrays.stream(values()).map(StandInEngine::getName).toList());
+    }
+}
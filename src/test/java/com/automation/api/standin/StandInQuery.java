@@ -0,0 +1,333 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Endpoints;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * The json-server operators of a collection request: field filters, ranges and sorting
+ * {@code field=value} may repeat to match any of the values, {@code field_gte} and {@code field_lte} bound a field
+ * from below and above, and {@code _sort} with {@code _order} orders the result by comma-separated fields.
+ * Values compare as numbers when both sides are numbers, as text otherwise. Matches are looked up by id
+ * or through a {@link SecondaryIndex} where the filters allow it, and a sort on the id or an indexed field
+ * walks the store in that order, so a page of it is found without sorting anything. {@code q} keeps the
+ * entities holding every word of it in their text fields, as found by the store's {@link TextIndex}.
+ */
+final class StandInQuery {
+    private static final String ID = "id";
+
+    private final Map<String, List<String>> filters = new LinkedHashMap<>();
+    private final Map<String, String> lowerBounds = new LinkedHashMap<>();
+    private final Map<String, String> upperBounds = new LinkedHashMap<>();
+    private final List<String> sortFields = new ArrayList<>();
+    private final List<Boolean> sortDescending = new ArrayList<>();
+    private String search;
+    // Ids found by the search, looked up once per query
+    private int[] searched;
+
+    private StandInQuery() {
+    }
+
+    /**
+     * Read the operators out of the query parameters, pagination parameters are left to the caller
+     */
+    static StandInQuery parse(Map<String, List<String>> parameters) {
+        StandInQuery query = new StandInQuery();
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            String last = parameter.getValue().get(parameter.getValue().size() - 1);
+            if (name.equals(Endpoints.SEARCH_PARAM)) {
+                // Without any word the search leaves every entity in
+                query.search = TextIndex.words(last).isEmpty() ? null : last;
+                continue;
+            }
+            if (name.startsWith("_") || name.equals(Endpoints.FORMAT_PARAM)) {
+                // Other underscore-prefixed parameters are pagination or operators the stand-in ignores
+                continue;
+            }
+            if (name.endsWith(Endpoints.GTE_SUFFIX)) {
+                query.lowerBounds.put(name.substring(0, name.length() - Endpoints.GTE_SUFFIX.length()), last);
+            } else if (name.endsWith(Endpoints.LTE_SUFFIX)) {
+                query.upperBounds.put(name.substring(0, name.length() - Endpoints.LTE_SUFFIX.length()), last);
+            } else {
+                query.filters.put(name, parameter.getValue());
+            }
+        }
+
+        List<String> orders = split(parameters.get(Endpoints.ORDER_PARAM));
+        for (String field : split(parameters.get(Endpoints.SORT_PARAM))) {
+            int index = query.sortFields.size();
+            query.sortFields.add(field);
+            query.sortDescending.add(index < orders.size() && orders.get(index).equalsIgnoreCase("desc"));
+        }
+        return query;
+    }
+
+    /**
+     * Check whether any filter or range narrows the result down
+     */
+    boolean isFiltered() {
+        return search != null || !filters.isEmpty() || !lowerBounds.isEmpty() || !upperBounds.isEmpty();
+    }
+
+    /**
+     * Count the matches in a store without visiting them, possible without filters or with a search alone
+     *
+     * @return the number of matches, or -1 when only visiting them tells
+     */
+    int count(EntityStore store) {
+        if (!filters.isEmpty() || !lowerBounds.isEmpty() || !upperBounds.isEmpty()) {
+            return -1;
+        }
+        return search == null ? store.size() : searched(store).length;
+    }
+
+    /**
+     * Check an entity against the filters and ranges, the search is applied through the candidate ids instead
+     */
+    boolean matches(ObjectNode entity) {
+        for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+            JsonNode value = entity.get(filter.getKey());
+            if (value == null || !filter.getValue().contains(value.asText())) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, String> bound : lowerBounds.entrySet()) {
+            JsonNode value = entity.get(bound.getKey());
+            if (value == null || compare(value, bound.getValue()) < 0) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, String> bound : upperBounds.entrySet()) {
+            JsonNode value = entity.get(bound.getKey());
+            if (value == null || compare(value, bound.getValue()) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visit the matching entities of a store in result order until the action returns false
+     */
+    void forEachMatch(EntityStore store, Predicate<ObjectNode> action) {
+        int[] candidates = candidates(store);
+        boolean descending = !sortDescending.isEmpty() && sortDescending.get(0);
+        String sortField = sortFields.isEmpty() ? ID : sortFields.get(0);
+        SecondaryIndex sortIndex = sortFields.size() == 1 ? store.getIndex(sortField) : null;
+
+        if (sortFields.size() <= 1 && sortField.equals(ID)) {
+            if (candidates != null) {
+                for (int i = 0; i < candidates.length; i++) {
+                    ObjectNode entity = store.get(candidates[descending ? candidates.length - 1 - i : i]);
+                    if (entity != null && matches(entity) && !action.test(entity)) {
+                        return;
+                    }
+                }
+                return;
+            }
+            int from = idBound(lowerBounds, 1, RoundingMode.CEILING);
+            int to = idBound(upperBounds, EntityStore.MAX_ID, RoundingMode.FLOOR);
+            store.scan(from, to, descending, entity -> !matches(entity) || action.test(entity));
+            return;
+        }
+
+        if (sortIndex != null && candidates == null) {
+            sortIndex.forEachInOrder(descending, id -> {
+                ObjectNode entity = store.get(id);
+                return entity == null || !matches(entity) || action.test(entity);
+            });
+            return;
+        }
+
+        // Any other order is established by sorting the matches
+        List<ObjectNode> matches = new ArrayList<>();
+        StandInQuery unsorted = withoutSort();
+        unsorted.forEachMatch(store, entity -> {
+            matches.add(entity);
+            return true;
+        });
+        matches.sort(comparator());
+        for (ObjectNode entity : matches) {
+            if (!action.test(entity)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Look up the ids that can match, most selective lookup first
+     *
+     * @return the candidate ids in ascending order, or null when the filters leave only a scan
+     */
+    private int[] candidates(EntityStore store) {
+        int[] found = lookup(store);
+        if (search == null) {
+            return found;
+        }
+        return found == null ? searched(store) : intersect(found, searched(store));
+    }
+
+    private int[] searched(EntityStore store) {
+        if (searched == null) {
+            TextIndex text = store.getTextIndex();
+            searched = text == null ? new int[0] : text.search(search);
+        }
+        return searched;
+    }
+
+    private int[] lookup(EntityStore store) {
+        if (filters.containsKey(ID)) {
+            return ints(filters.get(ID));
+        }
+        for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+            SecondaryIndex index = store.getIndex(filter.getKey());
+            // A value that is not an int can still match as text, which only a scan finds
+            if (index != null && filter.getValue().stream().allMatch(value -> SecondaryIndex.parseInt(value) != null)) {
+                IdCollector collected = new IdCollector();
+                for (int value : ints(filter.getValue())) {
+                    index.forEachCandidate(value, value, false, collected);
+                }
+                return collected.toSortedArray();
+            }
+        }
+        for (Map.Entry<String, String> bound : lowerBounds.entrySet()) {
+            SecondaryIndex index = store.getIndex(bound.getKey());
+            Integer low = SecondaryIndex.parseInt(bound.getValue());
+            Integer high = SecondaryIndex.parseInt(upperBounds.get(bound.getKey()));
+            if (index != null && low != null && high != null) {
+                IdCollector collected = new IdCollector();
+                index.forEachCandidate(low, high, true, collected);
+                return collected.toSortedArray();
+            }
+        }
+        return null;
+    }
+
+    private StandInQuery withoutSort() {
+        StandInQuery query = new StandInQuery();
+        query.search = search;
+        query.searched = searched;
+        query.filters.putAll(filters);
+        query.lowerBounds.putAll(lowerBounds);
+        query.upperBounds.putAll(upperBounds);
+        return query;
+    }
+
+    private Comparator<ObjectNode> comparator() {
+        Comparator<ObjectNode> comparator = null;
+        for (int i = 0; i < sortFields.size(); i++) {
+            String field = sortFields.get(i);
+            Comparator<ObjectNode> byField = (a, b) -> compare(a.get(field), b.get(field));
+            if (sortDescending.get(i)) {
+                byField = byField.reversed();
+            }
+            comparator = comparator == null ? byField : comparator.thenComparing(byField);
+        }
+        // The matches arrive in id order and the sort is stable, so equal entities stay in id order
+        return comparator;
+    }
+
+    /**
+     * Compare two field values, missing values sort last
+     */
+    private static int compare(JsonNode a, JsonNode b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : 1) : -1;
+        }
+        if (a.isNumber() && b.isNumber()) {
+            return a.decimalValue().compareTo(b.decimalValue());
+        }
+        return a.asText().compareTo(b.asText());
+    }
+
+    private static int compare(JsonNode value, String bound) {
+        if (value.isNumber()) {
+            try {
+                return value.decimalValue().compareTo(new BigDecimal(bound));
+            } catch (NumberFormatException e) {
+                // Not a number, compared as text below
+            }
+        }
+        return value.asText().compareTo(bound);
+    }
+
+    /**
+     * Turn a bound on the id into the end of a scan, ids are ints so a fractional bound is rounded inwards
+     */
+    private static int idBound(Map<String, String> bounds, int unbounded, RoundingMode inwards) {
+        String bound = bounds.get(ID);
+        if (bound == null) {
+            return unbounded;
+        }
+        try {
+            BigDecimal clamped = new BigDecimal(bound).max(BigDecimal.ZERO).min(BigDecimal.valueOf(EntityStore.MAX_ID));
+            return clamped.setScale(0, inwards).intValue();
+        } catch (NumberFormatException e) {
+            // Compared as text, the filter decides on every entity
+            return unbounded;
+        }
+    }
+
+    private static int[] ints(List<String> values) {
+        int[] ints = new int[values.size()];
+        int count = 0;
+        for (String value : values) {
+            Integer parsed = SecondaryIndex.parseInt(value);
+            if (parsed != null) {
+                ints[count++] = parsed;
+            }
+        }
+        return Arrays.stream(ints, 0, count).sorted().distinct().toArray();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        return Arrays.stream(a).filter(id -> Arrays.binarySearch(b, id) >= 0).toArray();
+    }
+
+    private static List<String> split(List<String> values) {
+        List<String> parts = new ArrayList<>();
+        if (values != null) {
+            for (String value : values) {
+                for (String part : value.split(",")) {
+                    if (!part.isBlank()) {
+                        parts.add(part.trim());
+                    }
+                }
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Collects candidate ids, possibly from several lookups
+     */
+    private static final class IdCollector implements IntPredicate {
+        private int[] ids = new int[16];
+        private int size;
+
+        @Override
+        public boolean test(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+            return true;
+        }
+
+        int[] toSortedArray() {
+            return Arrays.stream(ids, 0, size).sorted().distinct().toArray();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.automation.api.standin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transport-independent response produced by the stand-in
+ * Besides status, headers and body it carries the transport-level faults the engine must apply
+ */
+public final class StandInResponse {
+    public static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson; charset=utf-8";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int status;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    // Exactly one of the three is set
+    private final byte[] body;
+    private final ByteBuffer buffer;
+    private final BodyWriter writer;
+
+    // Transport faults, applied by the server engine while writing
+    private boolean drop;
+    private int trickleChunkBytes;
+    private long trickleDelayMillis;
+
+    public StandInResponse(int status, byte[] body) {
+        this.status = status;
+        this.body = body != null ? body : new byte[0];
+        this.buffer = null;
+        this.writer = null;
+    }
+
+    /**
+     * Create a response whose body is served from a buffer as is, e.g. a cached direct buffer
+     * The buffer's content must not change afterwards, it is only read through duplicates.
+     */
+    public StandInResponse(int status, ByteBuffer body) {
+        this.status = status;
+        this.body = null;
+        this.buffer = body != null ? body : ByteBuffer.allocate(0);
+        this.writer = null;
+    }
+
+    /**
+     * Create a response whose body is written while it is sent, for bodies too large to hold in memory
+     * The length is not known up front, so engines send it with chunked transfer encoding.
+     */
+    public StandInResponse(int status, BodyWriter body) {
+        this.status = status;
+        this.body = null;
+        this.buffer = null;
+        this.writer = body;
+    }
+
+    /**
+     * Create a JSON response with the headers JSONPlaceholder sends
+     */
+    public static StandInResponse json(int status, byte[] body) {
+        return new StandInResponse(status, body)
+                .header("Content-Type", JSON_CONTENT_TYPE)
+                .header("Cache-Control", "max-age=43200");
+    }
+
+    /**
+     * Create a JSON response from an already serialized body held in a buffer
+     */
+    public static StandInResponse json(int status, ByteBuffer body) {
+        return new StandInResponse(status, body)
+                .header("Content-Type", JSON_CONTENT_TYPE)
+                .header("Cache-Control", "max-age=43200");
+    }
+
+    /**
+     * Create a JSON response whose body is written while it is sent
+     */
+    public static StandInResponse json(int status, BodyWriter body) {
+        return new StandInResponse(status, body)
+                .header("Content-Type", JSON_CONTENT_TYPE)
+                .header("Cache-Control", "max-age=43200");
+    }
+
+    /**
+     * Create a newline-delimited JSON response, one entity per line, whose body is written while it is sent
+     */
+    public static StandInResponse ndjson(int status, BodyWriter body) {
+        return new StandInResponse(status, body)
+                .header("Content-Type", NDJSON_CONTENT_TYPE)
+                .header("Cache-Control", "max-age=43200");
+    }
+
+    /**
+     * Create a JSON response from an already serialized string
+     */
+    public static StandInResponse json(int status, String body) {
+        return json(status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create a JSON error response with a single "error" message field
+     * The message is escaped by Jackson, it may echo paths and parameters of the request as they were sent.
+     */
+    public static StandInResponse error(int status, String message) {
+        try {
+            return json(status, MAPPER.writeValueAsBytes(MAPPER.createObjectNode().put("error", message)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a response whose connection is closed without sending anything
+     */
+    public static StandInResponse dropped() {
+        StandInResponse response = new StandInResponse(0, (byte[]) null);
+        response.drop = true;
+        return response;
+    }
+
+    public StandInResponse header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * Ask the engine to write the body in small chunks with a pause between them
+     */
+    public StandInResponse trickle(int chunkBytes, long delayMillis) {
+        this.trickleChunkBytes = chunkBytes;
+        this.trickleDelayMillis = delayMillis;
+        return this;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the body as an array, copied out of the buffer or written into one when it is not held as an array
+     */
+    public byte[] getBody() {
+        if (body != null) {
+            return body;
+        }
+        if (writer != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                writer.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return copy;
+    }
+
+    /**
+     * Get the body as a buffer of its own position and limit, without copying the content
+     */
+    public ByteBuffer getBodyBuffer() {
+        return buffer != null ? buffer.duplicate() : ByteBuffer.wrap(getBody());
+    }
+
+    public int getBodyLength() {
+        return buffer != null ? buffer.remaining() : getBody().length;
+    }
+
+    /**
+     * Check whether the body is written while it is sent, see {@link #getBodyWriter()}
+     */
+    public boolean isStreamed() {
+        return writer != null;
+    }
+
+    /**
+     * Get the writer producing a streamed body, or null when the body is held in memory
+     */
+    public BodyWriter getBodyWriter() {
+        return writer;
+    }
+
+    public boolean isDropped() {
+        return drop;
+    }
+
+    public boolean isTrickled() {
+        return trickleChunkBytes > 0;
+    }
+
+    public int getTrickleChunkBytes() {
+        return trickleChunkBytes;
+    }
+
+    public long getTrickleDelayMillis() {
+        return trickleDelayMillis;
+    }
+
+    /**
+     * Produces a response body straight into the connection
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,527 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Routes stand-in requests to the six JSONPlaceholder resources
+ * Unlike JSONPlaceholder, writes persist: created entities can be read back, updates replace them, patches are merged
+ * into them (see {@link JsonMergePatch}) and deletes remove them.
+ * Each resource lives in its own {@link EntityStore}, so parallel writes do not contend on a shared lock.
+ * With a {@link StoreJournal} writes are also logged to disk and answered once they are durable.
+ * Collection responses are served from a {@link ResponseCache} until the next write to their resource.
+ * Pages are cut during the scan, so only the requested window is ever held, and an unpaginated listing of more than
+ * {@value #STREAM_THRESHOLD} entities, filtered or not, is streamed instead of cached. With {@code format=ndjson},
+ * or an Accept header asking for {@value #NDJSON_MEDIA_TYPE}, any listing is streamed as one entity per line.
+ * Foreign keys are indexed, so filters and sorts on them do not scan (see {@link StandInQuery}), and the text
+ * fields of every resource can be searched with {@code q} through a {@link TextIndex}.
+ * A POST to {@value Endpoints#BATCH} carries up to {@value #MAX_BATCH_OPERATIONS} operations, which are handled in order
+ * as if each had been sent on its own; the response lists their statuses and bodies in the same order.
+ */
+public class StandInRouter {
+    /**
+     * Store size above which a complete listing is written while it is sent rather than built in memory
+     */
+    public static final int STREAM_THRESHOLD = 100_000;
+
+    /**
+     * Media type of a listing with one JSON entity per line
+     */
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    /**
+     * Most operations a batch may carry
+     */
+    public static final int MAX_BATCH_OPERATIONS = 1000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<Resource, EntityStore> stores = new EnumMap<>(Resource.class);
+    private final StoreJournal journal;
+    private final ResponseCache cache = new ResponseCache();
+    // Creates the stores of a fork, views of the seed data that copy nothing until written
+    private final Supplier<Map<Resource, EntityStore>> seedStores;
+
+    public StandInRouter(Map<Resource, List<ObjectNode>> data) {
+        this(() -> {
+            Map<Resource, EntityStore> stores = new EnumMap<>(Resource.class);
+            for (Resource resource : Resource.values()) {
+                stores.put(resource, new EntityStore(data.getOrDefault(resource, List.of())));
+            }
+            return stores;
+        }, null);
+    }
+
+    /**
+     * Serve a generated dataset, at any scale (see {@link SeedData#atScale(int)})
+     */
+    public StandInRouter(SeedData seed) {
+        this(seed::stores, null);
+    }
+
+    /**
+     * Serve the stores recovered by a journal and log every write to it
+     */
+    public StandInRouter(StoreJournal journal) {
+        this(SeedData.atScale(journal.getScale())::stores, journal);
+    }
+
+    private StandInRouter(Supplier<Map<Resource, EntityStore>> seedStores, StoreJournal journal) {
+        this.seedStores = seedStores;
+        this.journal = journal;
+        stores.putAll(journal == null ? seedStores.get() : journal.getStores());
+        index();
+    }
+
+    /**
+     * Create a router serving the seed data in stores of its own, for writes that must not be seen here
+     * The seed data is not copied: entities are generated or shared until the fork writes them.
+     * Writes to the fork are kept in memory only, even when this router logs to a journal.
+     */
+    public StandInRouter fork() {
+        return new StandInRouter(seedStores, null);
+    }
+
+    private void index() {
+        for (Resource resource : Resource.values()) {
+            if (resource.getForeignKey() != null) {
+                stores.get(resource).index(resource.getForeignKey(), SeedData.perParent(resource));
+            }
+            stores.get(resource).indexText(SeedData.textFields(resource));
+        }
+    }
+
+    public ResponseCache getResponseCache() {
+        return cache;
+    }
+
+    /**
+     * Handle one request and produce its response
+     */
+    public StandInResponse handle(StandInRequest request) {
+        String[] segments = request.getPath().replaceAll("^/+|/+$", "").split("/");
+        if (segments.length == 1 && Endpoints.BATCH.equals("/" + segments[0])) {
+            try {
+                return request.getMethod().equals("POST") ? batch(request)
+                        : StandInResponse.error(405, "Method not allowed: " + request.getMethod());
+            } catch (JsonProcessingException e) {
+                return StandInResponse.error(400, "Malformed JSON body");
+            } catch (IOException e) {
+                return StandInResponse.error(500, e.getMessage());
+            }
+        }
+        Resource resource = Resource.fromSegment(segments[0]);
+        if (resource == null || segments.length > 2) {
+            return StandInResponse.error(404, "Not found: " + request.getPath());
+        }
+
+        Integer id = null;
+        if (segments.length == 2) {
+            id = parseInt(segments[1]);
+            if (id == null) {
+                return StandInResponse.error(404, "Not found: " + request.getPath());
+            }
+        }
+
+        try {
+            switch (request.getMethod()) {
+                case "GET":
+                    return id == null ? list(resource, request) : get(resource, id);
+                case "POST":
+                    return id == null ? create(resource, request) : StandInResponse.error(404, "Not found");
+                case "PUT":
+                    return id == null ? StandInResponse.error(404, "Not found") : update(resource, id, request);
+                case "PATCH":
+                    return id == null ? StandInResponse.error(404, "Not found") : patch(resource, id, request);
+                case "DELETE":
+                    return id == null ? StandInResponse.error(404, "Not found") : delete(resource, id);
+                default:
+                    return StandInResponse.error(405, "Method not allowed: " + request.getMethod());
+            }
+        } catch (JsonProcessingException e) {
+            return StandInResponse.error(400, "Malformed JSON body");
+        } catch (IOException e) {
+            return StandInResponse.error(500, e.getMessage());
+        }
+    }
+
+    private StandInResponse list(Resource resource, StandInRequest request) throws IOException {
+        EntityStore store = stores.get(resource);
+        StandInQuery query = StandInQuery.parse(request.getQuery());
+        if (wantsNdjson(request)) {
+            // The total is not known before the scan, a page is cut while it is written
+            int known = query.count(store);
+            int[] window = pageWindow(request, known >= 0 ? known : Integer.MAX_VALUE);
+            return StandInResponse.ndjson(200, out -> writeLines(store, query, window, out));
+        }
+        if (store.size() > STREAM_THRESHOLD && !query.isFiltered() && pageWindow(request, store.size()) == null) {
+            return StandInResponse.json(200, out -> writeAll(store, query, out));
+        }
+        // Parameter order does not change the result, so it does not split the cache either
+        String key = new TreeMap<>(request.getQuery()).toString();
+        // Read before the scan: a write during the scan bumps it, and the entry is never served
+        long version = store.getVersion();
+        ResponseCache.Entry entry = cache.get(resource, key, version);
+        if (entry == null) {
+            entry = serializeList(resource, request, query, key, version);
+        }
+        if (entry == null) {
+            // A filter or search matching more than the threshold at a large scale, streamed like a full listing
+            return StandInResponse.json(200, out -> writeAll(store, query, out));
+        }
+
+        StandInResponse response;
+        ByteBuffer gzip = entry.gzip();
+        if (gzip != null && acceptsGzip(request)) {
+            response = StandInResponse.json(200, gzip).header("Content-Encoding", "gzip");
+        } else {
+            response = StandInResponse.json(200, entry.body());
+        }
+        response.header("Vary", "Accept-Encoding");
+        if (entry.totalCount() >= 0) {
+            response.header("X-Total-Count", String.valueOf(entry.totalCount()));
+        }
+        return response;
+    }
+
+    /**
+     * Build and cache the body of a listing
+     *
+     * @return the entry, or null when the listing is not paginated and has more than {@value #STREAM_THRESHOLD} matches
+     */
+    private ResponseCache.Entry serializeList(Resource resource, StandInRequest request, StandInQuery query, String key,
+                                              long version) throws IOException {
+        EntityStore store = stores.get(resource);
+        // When the total is known before the scan, e.g. without filters, the scan can stop at the end of the page
+        int known = query.count(store);
+        int[] window = pageWindow(request, known >= 0 ? known : Integer.MAX_VALUE);
+        int from = window == null ? 0 : window[0];
+        int to = window == null ? Integer.MAX_VALUE : window[1];
+
+        ArrayNode result = MAPPER.createArrayNode();
+        int[] matches = new int[1];
+        boolean[] tooLarge = new boolean[1];
+        query.forEachMatch(store, entity -> {
+            if (window == null && matches[0] == STREAM_THRESHOLD) {
+                tooLarge[0] = true;
+                return false;
+            }
+            if (matches[0] >= from && matches[0] < to) {
+                result.add(entity);
+            }
+            matches[0]++;
+            return known < 0 || matches[0] < to;
+        });
+        if (tooLarge[0]) {
+            return null;
+        }
+        int total = known >= 0 ? known : matches[0];
+        return cache.put(resource, key, version, MAPPER.writeValueAsBytes(result), window == null ? -1 : total);
+    }
+
+    /**
+     * Write every entity of a store as one JSON array in the order of the query, the body of a streamed listing
+     */
+    private static void writeAll(EntityStore store, StandInQuery query, OutputStream out) throws IOException {
+        JsonGenerator generator = MAPPER.getFactory().createGenerator(out);
+        generator.writeStartArray();
+        try {
+            query.forEachMatch(store, entity -> {
+                try {
+                    MAPPER.writeTree(generator, entity);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    /**
+     * Write the entities of a window of the matches one per line, each line a complete JSON object
+     */
+    private static void writeLines(EntityStore store, StandInQuery query, int[] window, OutputStream out) throws IOException {
+        int from = window == null ? 0 : window[0];
+        int to = window == null ? Integer.MAX_VALUE : window[1];
+        JsonGenerator generator = MAPPER.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        int[] matches = new int[1];
+        try {
+            query.forEachMatch(store, entity -> {
+                try {
+                    if (matches[0] >= from && matches[0] < to) {
+                        MAPPER.writeTree(generator, entity);
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                matches[0]++;
+                return matches[0] < to;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+
+    private static boolean wantsNdjson(StandInRequest request) {
+        if (Endpoints.NDJSON_FORMAT.equals(request.queryParam(Endpoints.FORMAT_PARAM))) {
+            return true;
+        }
+        String accepted = request.header("Accept");
+        return accepted != null && accepted.toLowerCase(Locale.ROOT).contains(NDJSON_MEDIA_TYPE);
+    }
+
+    /**
+     * Whether the Accept-Encoding header lines, together, give gzip a non-zero quality
+     * An explicit gzip token wins over "*", and a request without the header gets the identity body.
+     */
+    private static boolean acceptsGzip(StandInRequest request) {
+        List<String> lines = request.getHeaders().get("Accept-Encoding");
+        if (lines == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String line : lines) {
+            for (String token : line.split(",")) {
+                String[] parts = token.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                double quality = 1.0;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzip = gzip == null ? quality : Math.max(gzip, quality);
+                } else if (coding.equals("*")) {
+                    any = any == null ? quality : Math.max(any, quality);
+                }
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return any != null && any > 0;
+    }
+
+    /**
+     * Resolve the json-server pagination parameters into a [from, to) window over the matches
+     * Supports _page with _limit (limit defaults to 10), and _start with _end or _limit
+     *
+     * Bounds are computed in long, so a page far past the end is empty rather than wrapped around to the start.
+     *
+     * @return the window, or null when the request is not paginated
+     * @throws IllegalArgumentException when _page or _limit is negative
+     */
+    private static int[] pageWindow(StandInRequest request, int total) {
+        Integer page = parseInt(request.queryParam(Endpoints.PAGE_PARAM));
+        Integer limit = parseInt(request.queryParam(Endpoints.LIMIT_PARAM));
+        Integer start = parseInt(request.queryParam(Endpoints.START_PARAM));
+        Integer end = parseInt(request.queryParam(Endpoints.END_PARAM));
+
+        if (page == null && limit == null && start == null && end == null) {
+            return null;
+        }
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException(Endpoints.PAGE_PARAM + " must not be negative, got: " + page);
+        }
+        if (limit != null && limit < 0) {
+            throw new IllegalArgumentException(Endpoints.LIMIT_PARAM + " must not be negative, got: " + limit);
+        }
+
+        long from = 0;
+        long to = total;
+        if (page != null) {
+            long size = limit != null ? limit : 10;
+            from = (Math.max(page, 1) - 1L) * size;
+            to = from + size;
+        } else if (start != null) {
+            from = start;
+            to = end != null ? end : limit != null ? (long) start + limit : total;
+        } else if (end != null) {
+            to = end;
+        } else if (limit != null) {
+            to = limit;
+        }
+
+        from = Math.max(0, Math.min(from, total));
+        to = Math.max(from, Math.min(to, total));
+        return new int[] {(int) from, (int) to};
+    }
+
+    private StandInResponse get(Resource resource, int id) throws IOException {
+        ObjectNode entity = stores.get(resource).get(id);
+        if (entity == null) {
+            return StandInResponse.json(404, "{}");
+        }
+        return StandInResponse.json(200, MAPPER.writeValueAsBytes(entity));
+    }
+
+    private StandInResponse create(Resource resource, StandInRequest request) throws IOException {
+        ObjectNode body = readObject(request);
+        String missing = missingField(resource, body);
+        if (missing != null) {
+            return StandInResponse.error(400, "Missing required field: " + missing);
+        }
+        ObjectNode created = journal != null ? journal.create(resource, body) : stores.get(resource).create(body);
+        return StandInResponse.json(201, MAPPER.writeValueAsBytes(created));
+    }
+
+    private StandInResponse update(Resource resource, int id, StandInRequest request) throws IOException {
+        if (stores.get(resource).get(id) == null) {
+            return StandInResponse.json(404, "{}");
+        }
+        ObjectNode body = readObject(request);
+        ObjectNode replaced = journal != null ? journal.replace(resource, id, body) : stores.get(resource).replace(id, body);
+        if (replaced == null) {
+            return StandInResponse.json(404, "{}");
+        }
+        return StandInResponse.json(200, MAPPER.writeValueAsBytes(replaced));
+    }
+
+    private StandInResponse patch(Resource resource, int id, StandInRequest request) throws IOException {
+        if (stores.get(resource).get(id) == null) {
+            return StandInResponse.json(404, "{}");
+        }
+        ObjectNode patch = readObject(request);
+        // The id names the entity, a patch cannot move it
+        patch.remove("id");
+        ObjectNode patched = journal != null ? journal.patch(resource, id, patch)
+                : stores.get(resource).update(id, entity -> JsonMergePatch.apply(entity, patch));
+        if (patched == null) {
+            return StandInResponse.json(404, "{}");
+        }
+        return StandInResponse.json(200, MAPPER.writeValueAsBytes(patched));
+    }
+
+    private StandInResponse delete(Resource resource, int id) {
+        ObjectNode deleted = journal != null ? journal.delete(resource, id) : stores.get(resource).delete(id);
+        if (deleted == null) {
+            return StandInResponse.json(404, "{}");
+        }
+        return StandInResponse.json(200, "{}");
+    }
+
+    private StandInResponse batch(StandInRequest request) throws IOException {
+        JsonNode operations = request.getBody().length == 0 ? null : MAPPER.readTree(request.getBody());
+        if (!(operations instanceof ArrayNode)) {
+            return StandInResponse.error(400, "Expected a JSON array of operations");
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            return StandInResponse.error(400, "A batch carries at most " + MAX_BATCH_OPERATIONS + " operations, got: "
+                    + operations.size());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * operations.size());
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (JsonNode operation : operations) {
+                StandInResponse response = operation(operation);
+                generator.writeStartObject();
+                generator.writeNumberField("status", response.getStatus());
+                // Every response of the router is JSON already, it is copied in rather than parsed again
+                generator.writeFieldName("body");
+                generator.writeRawValue(new String(response.getBody(), StandardCharsets.UTF_8));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        return StandInResponse.json(200, out.toByteArray());
+    }
+
+    /**
+     * Handle one operation of a batch, an object with a "method", a "path" that may carry a query, and a "body"
+     */
+    private StandInResponse operation(JsonNode operation) throws IOException {
+        String method = operation.path("method").textValue();
+        String target = operation.path("path").textValue();
+        if (method == null || target == null) {
+            return StandInResponse.error(400, "An operation needs a method and a path");
+        }
+        int query = target.indexOf('?');
+        String path = query < 0 ? target : target.substring(0, query);
+        if (path.replaceAll("/+$", "").equals(Endpoints.BATCH)) {
+            return StandInResponse.error(400, "Batches cannot be nested");
+        }
+        JsonNode body = operation.get("body");
+        byte[] bytes = body == null || body.isNull() ? null : MAPPER.writeValueAsBytes(body);
+        StandInResponse response;
+        try {
+            response = handle(new StandInRequest(method, path, query < 0 ? null : target.substring(query + 1), Map.of(), bytes));
+        } catch (IllegalArgumentException e) {
+            return StandInResponse.error(400, e.getMessage());
+        }
+        // A listing of one entity per line is no JSON value the batch response could hold
+        if (!StandInResponse.JSON_CONTENT_TYPE.equals(response.getHeaders().get("Content-Type"))) {
+            return StandInResponse.error(400, "Only JSON responses can be batched");
+        }
+        // Copying a streamed listing into the batch would hold it in memory all at once, which streaming avoids
+        if (response.isStreamed()) {
+            return StandInResponse.error(400, "Listings over " + STREAM_THRESHOLD + " entities are streamed and cannot be"
+                    + " batched, ask for a page");
+        }
+        return response;
+    }
+
+    private static ObjectNode readObject(StandInRequest request) throws IOException {
+        if (request.getBody().length == 0) {
+            return MAPPER.createObjectNode();
+        }
+        JsonNode node = MAPPER.readTree(request.getBody());
+        if (!(node instanceof ObjectNode)) {
+            throw new JsonProcessingException("Expected a JSON object") { };
+        }
+        return (ObjectNode) node;
+    }
+
+    private static String missingField(Resource resource, ObjectNode body) {
+        for (String field : resource.getRequiredFields()) {
+            if (!body.hasNonNull(field)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.automation.api.standin;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Local stand-in for JSONPlaceholder serving the {@code Endpoints} paths from seeded in-memory data
+ * Lets tests run without network access and with injected faults (see {@link FaultProfiles}).
+ * The seed data can be scaled up to 1000x JSONPlaceholder's size (see {@link SeedData}).
+ * With isolation on, requests carrying a {@value #NAMESPACE_HEADER} header are served from a namespace of
+ * their own, so tests running in parallel do not see each other's writes (see {@link #setIsolation(boolean)}).
+ * <p>
+ * Run standalone with {@code java -cp <test classpath> com.automation.api.standin.StandInServer},
+ * configured like {@link #shared()}, and point BASE_URL at it. Every response carries a {@value #MARKER_HEADER}
+ * header, which tells the harness it is talking to a stand-in (see {@link #isStandIn(String)}).
+ */
+public final class StandInServer implements AutoCloseable {
+    /**
+     * Request header naming the namespace a request is served from, set by the harness to the running test's id
+     */
+    public static final String NAMESPACE_HEADER = "X-Stand-In-Namespace";
+
+    /**
+     * Namespaces kept at most, the least recently used one is dropped beyond that
+     */
+    public static final int MAX_NAMESPACES = 256;
+
+    /**
+     * Response header every stand-in sends, naming its engine
+     */
+    public static final String MARKER_HEADER = "X-Stand-In";
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Logger logger = Logger.getLogger(StandInServer.class.getName());
+    private static StandInServer shared;
+    // Base URLs of the stand-ins running in this process, and what probing other base URLs found
+    private static final Set<String> RUNNING = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Boolean> PROBED = new ConcurrentHashMap<>();
+
+    private final StandInTransport transport;
+    private final StandInEngine engine;
+    private final StandInRouter router;
+    private final StoreJournal journal;
+    private volatile FaultProfile defaultProfile;
+    private volatile boolean isolation;
+    private final Map<String, StandInRouter> namespaces = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StandInRouter> eldest) {
+            return size() > MAX_NAMESPACES;
+        }
+    };
+
+    private StandInServer(int port, Path dataDirectory, StandInEngine engine, int scale) throws IOException {
+        this.journal = dataDirectory == null ? null : StoreJournal.open(dataDirectory, scale);
+        this.router = journal == null ? new StandInRouter(SeedData.atScale(scale)) : new StandInRouter(journal);
+        this.engine = engine;
+        try {
+            this.transport = engine == StandInEngine.EVENT_LOOP
+                    ? new EventLoopTransport(port, EventLoopTransport.DEFAULT_LOOPS, this::respond)
+                    : new HttpServerTransport(port, this::respond);
+        } catch (IOException e) {
+            if (journal != null) {
+                journal.close();
+            }
+            throw e;
+        }
+        RUNNING.add(getBaseUrl());
+    }
+
+    /**
+     * Start a new stand-in on the given port, 0 picks a free port
+     */
+    public static StandInServer start(int port) {
+        return start(port, null);
+    }
+
+    /**
+     * Start a new stand-in whose data survives restarts, kept in a directory (see {@link StoreJournal})
+     * Null keeps the data in memory only
+     */
+    public static StandInServer start(int port, Path dataDirectory) {
+        return start(port, dataDirectory, StandInEngine.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Start a new stand-in on a given engine
+     */
+    public static StandInServer start(int port, Path dataDirectory, StandInEngine engine) {
+        return start(port, dataDirectory, engine, 1);
+    }
+
+    /**
+     * Start a new stand-in serving the seed data at a scale factor from 1 to {@value SeedData#MAX_SCALE}
+     */
+    public static StandInServer start(int port, Path dataDirectory, StandInEngine engine, int scale) {
+        try {
+            return new StandInServer(port, dataDirectory, engine, scale);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start stand-in server on port " + port, e);
+        }
+    }
+
+    /**
+     * Get the stand-in shared by the whole test run, starting it on first use
+     * The port comes from the STAND_IN_PORT system property or environment variable, a free port otherwise.
+     * STAND_IN_DATA_DIR, set the same way, makes its data durable across restarts,
+     * STAND_IN_ENGINE picks the engine, "virtual-threads" by default, and STAND_IN_SCALE the data scale, 1 by default.
+     * Isolation is on, so tests sharing it can write without affecting each other.
+     */
+    public static synchronized StandInServer shared() {
+        if (shared == null) {
+            String port = System.getProperty("STAND_IN_PORT", System.getenv().getOrDefault("STAND_IN_PORT", "0"));
+            String dataDirectory = System.getProperty("STAND_IN_DATA_DIR", System.getenv("STAND_IN_DATA_DIR"));
+            String engine = System.getProperty("STAND_IN_ENGINE", System.getenv().getOrDefault("STAND_IN_ENGINE", "virtual-threads"));
+            String scale = System.getProperty("STAND_IN_SCALE", System.getenv().getOrDefault("STAND_IN_SCALE", "1"));
+            shared = start(Integer.parseInt(port),
+                    dataDirectory == null || dataDirectory.isBlank() ? null : Path.of(dataDirectory),
+                    StandInEngine.fromName(engine), Integer.parseInt(scale));
+            shared.setIsolation(true);
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "stand-in-shutdown"));
+            logger.log(Level.INFO, "Stand-in server listening on " + shared.getBaseUrl() + " (" + engine + ", "
+                    + scale + "x data)");
+        }
+        return shared;
+    }
+
+    public int getPort() {
+        return transport.getPort();
+    }
+
+    /**
+     * Get the base URL to use in place of BASE_URL
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    /**
+     * Check whether a stand-in serves a base URL, e.g. a standalone one behind BASE_URL
+     * Stand-ins of this process are known without a request. Other base URLs are probed once per run for the
+     * {@value #MARKER_HEADER} header, and count as no stand-in when they do not answer.
+     */
+    public static boolean isStandIn(String baseUrl) {
+        return RUNNING.contains(baseUrl) || PROBED.computeIfAbsent(baseUrl, StandInServer::probe);
+    }
+
+    private static boolean probe(String baseUrl) {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl)).timeout(PROBE_TIMEOUT).GET().build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).headers().firstValue(MARKER_HEADER).isPresent();
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Apply a fault profile to requests that do not select one through the header, null to disable
+     */
+    public void setDefaultFaultProfile(String name) {
+        this.defaultProfile = name == null ? null : FaultProfiles.get(name);
+    }
+
+    /**
+     * Serve requests carrying a {@value #NAMESPACE_HEADER} header from their namespace, off by default
+     * A namespace starts as a copy-on-write view of the seed data when the first write arrives in it,
+     * until then its requests are served like any other. Writes in a namespace are kept in memory only.
+     * Turning isolation off drops every namespace.
+     */
+    public void setIsolation(boolean isolation) {
+        this.isolation = isolation;
+        if (!isolation) {
+            synchronized (namespaces) {
+                namespaces.clear();
+            }
+        }
+    }
+
+    /**
+     * Get the number of namespaces written to and still kept
+     */
+    public int getNamespaceCount() {
+        synchronized (namespaces) {
+            return namespaces.size();
+        }
+    }
+
+    public StandInEngine getEngine() {
+        return engine;
+    }
+
+    public ResponseCache getResponseCache() {
+        return router.getResponseCache();
+    }
+
+    /**
+     * Get the journal keeping the data durable, or null when the data is in memory only
+     */
+    public StoreJournal getJournal() {
+        return journal;
+    }
+
+    @Override
+    public void close() {
+        RUNNING.remove(getBaseUrl());
+        transport.close();
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not close the stand-in journal", e);
+            }
+        }
+    }
+
+    /**
+     * Produce the response to a request, the handler every engine calls
+     */
+    private StandInResponse respond(StandInRequest request) {
+        StandInResponse response;
+        try {
+            response = dispatch(request);
+        } catch (IllegalArgumentException e) {
+            response = StandInResponse.error(400, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Stand-in failed to handle " + request.getMethod() + " " + request.getPath(), e);
+            response = StandInResponse.error(500, String.valueOf(e.getMessage()));
+        }
+        return response.header(MARKER_HEADER, engine.getName());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        StandInServer server = shared();
+        System.out.println("Stand-in server listening on " + server.getBaseUrl());
+        // Serves until the process is stopped, the shutdown hook closes it
+        Thread.currentThread().join();
+    }
+
+    private StandInResponse dispatch(StandInRequest request) {
+        StandInRouter target = routerFor(request);
+        String profileName = request.header(FaultProfiles.HEADER);
+        FaultProfile profile = profileName != null ? FaultProfiles.get(profileName) : defaultProfile;
+        if (profile == null) {
+            return target.handle(request);
+        }
+        return profile.apply(request, target::handle);
+    }
+
+    /**
+     * Find the router of the request's namespace, forking it on the namespace's first write
+     */
+    private StandInRouter routerFor(StandInRequest request) {
+        String namespace = isolation ? request.header(NAMESPACE_HEADER) : null;
+        if (namespace == null) {
+            return router;
+        }
+        boolean write = !request.getMethod().equals("GET") && !request.getMethod().equals("HEAD");
+        synchronized (namespaces) {
+            StandInRouter forked = namespaces.get(namespace);
+            if (forked == null && write) {
+                forked = router.fork();
+                namespaces.put(namespace, forked);
+            }
+            return forked != null ? forked : router;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.automation.api.standin;
+
+/**
+ * Network side of a stand-in engine: accepts connections, reads requests and writes responses
+ * Every request goes to the server's handler, and the transport faults of its response (drops,
+ * trickled bodies) are applied while writing.
+ */
+interface StandInTransport extends AutoCloseable {
+
+    int getPort();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,421 @@
+package com.automation.api.standin;
+
+import com.automation.api.utils.Resource;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Makes the stand-in's entity stores durable: writes go to a write-ahead log, which is compacted into snapshots
+ * The directory holds snapshot-N.bin, the stores as they were when wal-N.log was started, and the logs
+ * from N on. Startup maps the newest intact snapshot and replays the logs after it; with no snapshot the
+ * seed data is generation 0. The seed data is generated at the journal's scale and never written out,
+ * snapshots only keep what was written on top of it, so a directory belongs to one scale. Log records set or remove one entity,
+ * or merge a patch into it; replayed in order from any state between a snapshot's start and the log's end, they
+ * end in the same stores, which matters because snapshots are taken while writes continue into the next log.
+ * A merge record holds the patch rather than the patched entity, so partial updates of large entities log little.
+ *
+ * <pre>
+ * StandInServer standIn = StandInServer.start(0, Path.of("soak-data"));
+ * </pre>
+ */
+public final class StoreJournal implements Closeable {
+    private static final Logger logger = Logger.getLogger(StoreJournal.class.getName());
+    private static final Pattern FILE_NAME = Pattern.compile("(snapshot|wal)-(\\d{10})\\.(bin|log)");
+    private static final byte SET = 1;
+    private static final byte REMOVE = 2;
+    private static final byte MERGE = 3;
+
+    /**
+     * Log capacity after which a new log is started and the old one compacted, 64 MB
+     */
+    public static final int DEFAULT_WAL_CAPACITY = 64 << 20;
+
+    /**
+     * Time after which a log with records is compacted even when it is not full
+     */
+    public static final Duration DEFAULT_COMPACT_INTERVAL = Duration.ofSeconds(30);
+
+    private final Path directory;
+    private final SeedData seed;
+    private final Map<Resource, EntityStore> stores;
+    private final int walCapacity;
+    private final Object appendLock = new Object();
+    private final Object compactLock = new Object();
+    private final ScheduledExecutorService compactor;
+    private final Duration recoveryTime;
+    private WriteAheadLog wal;
+    private long generation;
+    private long snapshotGeneration;
+    private long records;
+    private long syncs;
+    private boolean closed;
+
+    private StoreJournal(Path directory, SeedData seed, int walCapacity, Duration compactInterval) throws IOException {
+        this.directory = directory;
+        this.seed = seed;
+        this.walCapacity = walCapacity;
+        Files.createDirectories(directory);
+
+        long start = System.nanoTime();
+        List<Long> snapshots = generations("snapshot");
+        Map<Resource, EntityStore> recovered = null;
+        for (int i = snapshots.size() - 1; i >= 0 && recovered == null; i--) {
+            try {
+                recovered = Snapshot.read(snapshotPath(snapshots.get(i)), seed.getScale());
+                snapshotGeneration = snapshots.get(i);
+            } catch (IllegalStateException e) {
+                logger.log(Level.WARNING, "Skipping unreadable stand-in snapshot", e);
+            }
+        }
+        if (recovered == null) {
+            recovered = seed.stores();
+        }
+        this.stores = recovered;
+
+        generation = snapshotGeneration;
+        for (long log : generations("wal")) {
+            if (log >= snapshotGeneration) {
+                long replayed = WriteAheadLog.replay(walPath(log), this::apply);
+                logger.log(Level.FINE, "Replayed " + replayed + " record(s) of " + walPath(log));
+                generation = Math.max(generation, log);
+            }
+        }
+        this.recoveryTime = Duration.ofNanos(System.nanoTime() - start);
+
+        generation++;
+        this.wal = WriteAheadLog.create(walPath(generation), walCapacity);
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // The state just recovered is what the new log starts from, snapshotting it makes the next start a plain load
+        if (generation > snapshotGeneration + 1 || snapshots.isEmpty()) {
+            long recoveredGeneration = generation;
+            compactor.execute(() -> writeSnapshot(recoveredGeneration));
+        }
+        compactor.scheduleWithFixedDelay(this::compactIfWritten,
+                compactInterval.toMillis(), compactInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open the journal in a directory with the default log capacity and compaction interval
+     */
+    public static StoreJournal open(Path directory) {
+        return open(directory, 1);
+    }
+
+    /**
+     * Open the journal of a dataset generated at a scale factor (see {@link SeedData#atScale(int)})
+     *
+     * @throws IllegalArgumentException when the directory holds data at another scale
+     */
+    public static StoreJournal open(Path directory, int scale) {
+        return open(directory, scale, DEFAULT_WAL_CAPACITY, DEFAULT_COMPACT_INTERVAL);
+    }
+
+    /**
+     * Open the journal in a directory, recovering the stores from its snapshot and logs
+     */
+    public static StoreJournal open(Path directory, int walCapacity, Duration compactInterval) {
+        return open(directory, 1, walCapacity, compactInterval);
+    }
+
+    /**
+     * Open the journal of a scaled dataset in a directory, recovering the stores from its snapshot and logs
+     */
+    public static StoreJournal open(Path directory, int scale, int walCapacity, Duration compactInterval) {
+        SeedData seed = SeedData.atScale(scale);
+        if (walCapacity < 1024) {
+            throw new IllegalArgumentException("Log capacity must be at least 1024 bytes, got: " + walCapacity);
+        }
+        try {
+            return new StoreJournal(directory, seed, walCapacity, compactInterval);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the stand-in journal in " + directory, e);
+        }
+    }
+
+    /**
+     * Get the recovered stores, writes must go through this journal to be durable
+     */
+    public Map<Resource, EntityStore> getStores() {
+        return stores;
+    }
+
+    public int getScale() {
+        return seed.getScale();
+    }
+
+    /**
+     * Get how long loading the snapshot and replaying the logs took
+     */
+    public Duration getRecoveryTime() {
+        return recoveryTime;
+    }
+
+    /**
+     * Get the number of log records written since the journal was opened
+     */
+    public long getRecords() {
+        synchronized (appendLock) {
+            return records + wal.getRecords();
+        }
+    }
+
+    /**
+     * Get the number of disk syncs since the journal was opened, below the record count when commits were grouped
+     */
+    public long getSyncs() {
+        synchronized (appendLock) {
+            return syncs + wal.getSyncs();
+        }
+    }
+
+    /**
+     * Store an entity under the next id of its resource
+     *
+     * @return the stored entity once its record is on disk
+     */
+    public ObjectNode create(Resource resource, ObjectNode entity) {
+        EntityStore store = stores.get(resource);
+        int id = store.allocateId();
+        entity.put("id", id);
+        return commit(set(resource, id, entity), () -> {
+            store.put(id, entity);
+            return entity;
+        });
+    }
+
+    /**
+     * Replace an existing entity
+     *
+     * @return the stored entity once its record is on disk, or null when there is no entity to replace
+     */
+    public ObjectNode replace(Resource resource, int id, ObjectNode entity) {
+        entity.put("id", id);
+        return commit(set(resource, id, entity), () -> stores.get(resource).replace(id, entity));
+    }
+
+    /**
+     * Merge a JSON merge patch (RFC 7386) into an existing entity, its "id" is kept
+     *
+     * @return the patched entity once the patch is on disk, or null when there is no entity to patch
+     */
+    public ObjectNode patch(Resource resource, int id, ObjectNode patch) {
+        return commit(merge(resource, id, patch),
+                () -> stores.get(resource).update(id, entity -> JsonMergePatch.apply(entity, patch)));
+    }
+
+    /**
+     * Remove an entity
+     *
+     * @return the removed entity once its record is on disk, or null when it did not exist
+     */
+    public ObjectNode delete(Resource resource, int id) {
+        return commit(remove(resource, id), () -> stores.get(resource).delete(id));
+    }
+
+    /**
+     * Start a new log and write a snapshot of the stores as of its start, then drop older files
+     */
+    public void compact() {
+        long snapshotAt;
+        synchronized (appendLock) {
+            rotate();
+            snapshotAt = generation;
+        }
+        writeSnapshot(snapshotAt);
+    }
+
+    /**
+     * Compact one last time, so the next start only loads a snapshot, and stop the background work
+     */
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+        }
+        compact();
+        synchronized (appendLock) {
+            closed = true;
+            wal.close();
+        }
+    }
+
+    private ObjectNode commit(byte[] record, Supplier<ObjectNode> apply) {
+        WriteAheadLog log;
+        int position;
+        ObjectNode result;
+        // Applying and appending under one lock keeps the log in the order the stores changed.
+        // Both are short: the record was encoded beforehand and the disk sync happens outside.
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IllegalStateException("Stand-in journal is closed");
+            }
+            if (!wal.hasRoom(record.length)) {
+                rotate();
+                if (!wal.hasRoom(record.length)) {
+                    throw new IllegalArgumentException("Entity of " + record.length + " bytes exceeds the log capacity");
+                }
+                long full = generation;
+                compactor.execute(() -> writeSnapshot(full));
+            }
+            result = apply.get();
+            if (result == null) {
+                return null;
+            }
+            log = wal;
+            position = wal.append(record);
+        }
+        log.awaitDurable(position);
+        return result;
+    }
+
+    /**
+     * Close the current log and start the next generation, called with the append lock held
+     */
+    private void rotate() {
+        try {
+            records += wal.getRecords();
+            syncs += wal.getSyncs();
+            wal.close();
+            generation++;
+            wal = WriteAheadLog.create(walPath(generation), walCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start stand-in log " + (generation + 1), e);
+        }
+    }
+
+    private void compactIfWritten() {
+        boolean written;
+        synchronized (appendLock) {
+            written = !closed && wal.getWritten() > 0;
+        }
+        if (written) {
+            compact();
+        }
+    }
+
+    private void writeSnapshot(long snapshotAt) {
+        synchronized (compactLock) {
+            if (snapshotAt <= snapshotGeneration) {
+                return;
+            }
+            try {
+                long start = System.nanoTime();
+                Snapshot.write(snapshotPath(snapshotAt), seed.getScale(), stores);
+                snapshotGeneration = snapshotAt;
+                for (long old : generations("snapshot")) {
+                    if (old < snapshotAt) {
+                        Files.deleteIfExists(snapshotPath(old));
+                    }
+                }
+                for (long old : generations("wal")) {
+                    if (old < snapshotAt) {
+                        Files.deleteIfExists(walPath(old));
+                    }
+                }
+                logger.log(Level.FINE, "Wrote stand-in snapshot " + snapshotAt + " in "
+                        + (System.nanoTime() - start) / 1_000_000 + " ms");
+            } catch (IOException | RuntimeException e) {
+                // The logs since the last snapshot stay in place, nothing is lost
+                logger.log(Level.WARNING, "Could not write stand-in snapshot " + snapshotAt, e);
+            }
+        }
+    }
+
+    private void apply(ByteBuffer record) {
+        byte type = record.get();
+        Resource resource = Resource.values()[record.get()];
+        int id = record.getInt();
+        if (type == SET) {
+            stores.get(resource).put(id, new BinaryJson.Decoder(record).readObject());
+        } else if (type == REMOVE) {
+            stores.get(resource).delete(id);
+        } else if (type == MERGE) {
+            ObjectNode patch = new BinaryJson.Decoder(record).readObject();
+            stores.get(resource).update(id, entity -> JsonMergePatch.apply(entity, patch));
+        } else {
+            throw new IllegalStateException("Unknown stand-in log record type " + type);
+        }
+    }
+
+    private static byte[] set(Resource resource, int id, ObjectNode entity) {
+        return encode(SET, resource, id, entity);
+    }
+
+    private static byte[] merge(Resource resource, int id, ObjectNode patch) {
+        return encode(MERGE, resource, id, patch);
+    }
+
+    private static byte[] encode(byte type, Resource resource, int id, ObjectNode object) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            out.writeByte(resource.ordinal());
+            out.writeInt(id);
+            new BinaryJson.Encoder(out).write(object);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] remove(Resource resource, int id) {
+        return ByteBuffer.allocate(6).put(REMOVE).put((byte) resource.ordinal()).putInt(id).array();
+    }
+
+    private List<Long> generations(String kind) throws IOException {
+        List<Long> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && matcher.group(1).equals(kind)) {
+                    found.add(Long.parseLong(matcher.group(2)));
+                }
+            }
+        }
+        Collections.sort(found);
+        return found;
+    }
+
+    private Path snapshotPath(long generation) {
+        return directory.resolve(String.format("snapshot-%010d.bin", generation));
+    }
+
+    private Path walPath(long generation) {
+        return directory.resolve(String.format("wal-%010d.log", generation));
+    }
+}
@@ -0,0 +1,266 @@
+package com.automation.api.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over the text fields of one {@link EntityStore}, from each word to the ids containing it
+ * The index is built on the first search, from whatever the store holds by then. Its posting lists are
+ * sorted ids stored as variable-length deltas, about a byte per id, and never change once written. Ids
+ * written since are marked dirty: their entries in those lists are skipped, and their current words are
+ * kept in small sorted lists beside them. Once too many ids are dirty, the two are merged into new posting
+ * lists without reading the store again. A search therefore always finds exactly the entities that
+ * currently hold every word, without reading any of them.
+ */
+final class TextIndex {
+    private static final Term[] NO_TERMS = new Term[0];
+
+    private final EntityStore store;
+    private final List<String> fields;
+    private final Map<String, Term> terms = new HashMap<>();
+    // Words of each dirty id as it is now, empty once it is deleted
+    private final Map<Integer, Term[]> dirty = new HashMap<>();
+    private boolean built;
+
+    TextIndex(EntityStore store, List<String> fields) {
+        this.store = store;
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Split text into lower-case words, runs of letters and digits, each word once
+     */
+    static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Bring the entry of one id up to date with the store, called after every write to the id
+     * Writes before the first search need nothing: the build reads them from the store.
+     */
+    synchronized void update(int id) {
+        if (!built) {
+            return;
+        }
+        Term[] previous = dirty.get(id);
+        if (previous != null) {
+            for (Term term : previous) {
+                term.written.remove(id);
+            }
+        }
+        ObjectNode entity = store.get(id);
+        Term[] current = entity == null ? NO_TERMS : termsOf(entity);
+        for (Term term : current) {
+            term.written.add(id);
+        }
+        dirty.put(id, current);
+        if (dirty.size() > Math.max(1024, store.size() / 16)) {
+            merge();
+        }
+    }
+
+    /**
+     * Find the ids of the entities holding every word of a query, in ascending order
+     */
+    int[] search(String query) {
+        Set<String> words = words(query);
+        List<int[]> lists = new ArrayList<>();
+        synchronized (this) {
+            if (!built) {
+                build();
+            }
+            int[] dirtyIds = dirty.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            for (String word : words) {
+                Term term = terms.get(word);
+                if (term == null) {
+                    return new int[0];
+                }
+                lists.add(term.ids(dirtyIds));
+            }
+        }
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        // Intersect from the shortest list, which bounds the result
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private void build() {
+        Map<String, PostingWriter> writers = new HashMap<>();
+        store.forEach(entity -> {
+            int id = entity.get("id").asInt();
+            for (String word : wordsOf(entity)) {
+                writers.computeIfAbsent(word, w -> new PostingWriter()).add(id);
+            }
+        });
+        for (Map.Entry<String, PostingWriter> writer : writers.entrySet()) {
+            Term term = new Term();
+            term.postings = writer.getValue().toPostings();
+            term.count = writer.getValue().count;
+            terms.put(writer.getKey(), term);
+        }
+        built = true;
+    }
+
+    /**
+     * Fold the words of the dirty ids into new posting lists
+     */
+    private void merge() {
+        int[] dirtyIds = dirty.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        for (Term term : terms.values()) {
+            PostingWriter writer = new PostingWriter();
+            for (int id : term.ids(dirtyIds)) {
+                writer.add(id);
+            }
+            term.postings = writer.toPostings();
+            term.count = writer.count;
+            term.written.clear();
+        }
+        dirty.clear();
+    }
+
+    private Set<String> wordsOf(ObjectNode entity) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String field : fields) {
+            JsonNode value = entity.get(field);
+            if (value != null && value.isValueNode()) {
+                words.addAll(words(value.asText()));
+            }
+        }
+        return words;
+    }
+
+    private Term[] termsOf(ObjectNode entity) {
+        Set<String> words = wordsOf(entity);
+        Term[] found = new Term[words.size()];
+        int i = 0;
+        for (String word : words) {
+            found[i++] = terms.computeIfAbsent(word, w -> new Term());
+        }
+        return found;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * One word: its posting list, and the dirty ids currently holding it
+     */
+    private static final class Term {
+        private byte[] postings = new byte[0];
+        private int count;
+        private final IdList written = new IdList();
+
+        /**
+         * Decode the posting list without the dirty ids and merge in the dirty ids holding the word
+         */
+        int[] ids(int[] dirtyIds) {
+            int[] ids = new int[this.count + written.size()];
+            int count = 0;
+            int w = 0;
+            int d = 0;
+            int previous = 0;
+            int at = 0;
+            while (at < postings.length || w < written.size()) {
+                int next = Integer.MAX_VALUE;
+                int decodedAt = at;
+                if (at < postings.length) {
+                    int delta = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = postings[decodedAt++];
+                        delta |= (b & 0x7F) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    next = previous + delta;
+                }
+                int id;
+                if (w < written.size() && written.get(w) < next) {
+                    id = written.get(w++);
+                } else {
+                    previous = next;
+                    at = decodedAt;
+                    while (d < dirtyIds.length && dirtyIds[d] < next) {
+                        d++;
+                    }
+                    if (d < dirtyIds.length && dirtyIds[d] == next) {
+                        continue;
+                    }
+                    id = next;
+                }
+                ids[count++] = id;
+            }
+            return count == ids.length ? ids : Arrays.copyOf(ids, count);
+        }
+    }
+
+    /**
+     * Encodes ascending ids as the variable-length differences between them, seven bits per byte
+     */
+    private static final class PostingWriter {
+        private byte[] bytes = new byte[16];
+        private int size;
+        private int previous;
+        private int count;
+
+        void add(int id) {
+            count++;
+            int delta = id - previous;
+            previous = id;
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((delta & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes[size++] = (byte) delta;
+        }
+
+        byte[] toPostings() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.automation.api.standin;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Select a stand-in fault profile for a test method or every test of a class
+ * A method annotation overrides the class annotation
+ * Only honoured by tests extending {@code StandInSetUp}
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WithFaults {
+
+    /**
+     * Name of a profile registered in {@link FaultProfiles}
+     */
+    String value();
+}
@@ -0,0 +1,229 @@
+package com.automation.api.standin;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * One generation of the stand-in's write-ahead log: a memory-mapped file of length-prefixed, checksummed records
+ * Appending is a copy into the mapping. A committer thread forces everything appended since its last
+ * pass to disk in one call, so concurrent writers share a single sync (group commit): the more writers
+ * wait, the more records each sync covers. The file is zero-filled ahead of the last record, a zero
+ * length marks the end, and a checksum mismatch marks a record torn by a crash.
+ */
+final class WriteAheadLog implements Closeable {
+    private static final int HEADER_BYTES = 8;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+    private final Thread committer;
+    private int written;
+    private int durable;
+    private long records;
+    private long syncs;
+    private boolean closed;
+
+    private WriteAheadLog(Path file, int capacity) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.committer = new Thread(this::commitLoop, "stand-in-wal-" + file.getFileName());
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    /**
+     * Create a new, empty log file of a fixed capacity
+     */
+    static WriteAheadLog create(Path file, int capacity) throws IOException {
+        return new WriteAheadLog(file, capacity);
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Check whether a record fits, keeping room for the zero length that ends the log
+     * Callers serialize appends, see {@link StoreJournal}
+     */
+    boolean hasRoom(int payloadLength) {
+        return (long) written + HEADER_BYTES + payloadLength + Integer.BYTES <= buffer.capacity();
+    }
+
+    /**
+     * Copy a record into the mapping, callers serialize appends
+     *
+     * @return the log position after the record, pass it to {@link #awaitDurable(int)}
+     */
+    int append(byte[] payload) {
+        if (!hasRoom(payload.length)) {
+            throw new IllegalStateException("Write-ahead log " + file + " is full");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        int start = written;
+        buffer.put(start + HEADER_BYTES, payload);
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(start, payload.length);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-ahead log " + file + " is closed");
+            }
+            written = start + HEADER_BYTES + payload.length;
+            records++;
+            progress.signalAll();
+            return written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Block until the log is on disk up to a position returned by {@link #append(byte[])}
+     */
+    void awaitDurable(int position) {
+        lock.lock();
+        try {
+            while (durable < position) {
+                progress.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the bytes appended so far
+     */
+    int getWritten() {
+        lock.lock();
+        try {
+            return written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getRecords() {
+        lock.lock();
+        try {
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get how many times the log was forced to disk, fewer than records when commits were grouped
+     */
+    long getSyncs() {
+        lock.lock();
+        try {
+            return syncs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Force the remaining records to disk and stop the committer
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            progress.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    private void commitLoop() {
+        while (true) {
+            int from;
+            int to;
+            lock.lock();
+            try {
+                while (written == durable && !closed) {
+                    progress.awaitUninterruptibly();
+                }
+                if (written == durable) {
+                    return;
+                }
+                from = durable;
+                to = written;
+            } finally {
+                lock.unlock();
+            }
+
+            buffer.force(from, to - from);
+
+            lock.lock();
+            try {
+                durable = to;
+                syncs++;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Hand every intact record of a log file to a consumer, in order
+     * Reading stops at the end marker or at the first torn record.
+     *
+     * @return the number of records read
+     */
+    static long replay(Path file, Consumer<ByteBuffer> consumer) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int position = 0;
+            CRC32 crc = new CRC32();
+            while (position + HEADER_BYTES <= log.capacity()) {
+                int length = log.getInt(position);
+                if (length <= 0 || (long) position + HEADER_BYTES + length > log.capacity()) {
+                    break;
+                }
+                ByteBuffer payload = log.slice(position + HEADER_BYTES, length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != log.getInt(position + Integer.BYTES)) {
+                    break;
+                }
+                consumer.accept(payload);
+                count++;
+                position += HEADER_BYTES + length;
+            }
+        }
+        return count;
+    }
+}
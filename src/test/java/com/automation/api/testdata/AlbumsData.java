@@ -3,7 +3,8 @@ package com.automation.api.testdata;
 
 public class AlbumsData {
     public static final int DEFAULT_ALBUM_ID = 1;
-    public static final int INVALID_ID = 99999;
+    // Above every stand-in id: 100 albums per scale step, so 99999 is a real album at STAND_IN_SCALE=1000
+    public static final int INVALID_ID = 999999999;
 
     public static final String ALBUM_TITLE = "Test Album Title";
 
@@ -2,7 +2,8 @@ package com.automation.api.testdata;
 
 public class CommentsData {
 	public static final int DEFAULT_COMMENT_ID = 1;
-	public static final int INVALID_ID = 99999;
+	// Above every stand-in id: 500 comments per scale step, so 99999 is a real comment from STAND_IN_SCALE=200 up
+	public static final int INVALID_ID = 999999999;
 
 	public static final int DEFAULT_COMMENT_POST_ID = 1;
 	public static final String COMMENT_NAME = "Test Comment Author";
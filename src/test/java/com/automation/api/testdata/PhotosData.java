@@ -2,7 +2,8 @@ package com.automation.api.testdata;
 
 public class PhotosData {
     public static final int DEFAULT_PHOTO_ID = 1;
-    public static final int INVALID_ID = 99999;
+    // Above every stand-in id: 5000 photos per scale step, so 99999 is a real photo from STAND_IN_SCALE=20 up
+    public static final int INVALID_ID = 999999999;
     public static final int DEFAULT_PHOTO_ALBUM_ID = 1;
     public static final String PHOTO_TITLE = "Test Photo Title";
     public static final String PHOTO_URL = "https://via.placeholder.com/600/92c952";
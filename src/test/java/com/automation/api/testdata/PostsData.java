@@ -2,7 +2,8 @@ package com.automation.api.testdata;
 
 public class PostsData {
     public static final int DEFAULT_POST_ID = 1;
-    public static final int INVALID_ID = 99999;
+    // Above every stand-in id: 100 posts per scale step, so 99999 is a real post at STAND_IN_SCALE=1000
+    public static final int INVALID_ID = 999999999;
 
     public static final int POST_USER_ID = 1;
     public static final String POST_TITLE = "Test Post Title";
@@ -2,7 +2,8 @@ package com.automation.api.testdata;
 
 public class TodosData {
     public static final int DEFAULT_TODO_ID = 1;
-    public static final int INVALID_ID = 99999;
+    // Above every stand-in id: 200 todos per scale step, so 99999 is a real todo from STAND_IN_SCALE=500 up
+    public static final int INVALID_ID = 999999999;
     
     public static final int DEFAULT_TODO_USER_ID = 1;
     public static final String TODO_TITLE = "Test Todo Title";
@@ -1,10 +1,10 @@
 package com.automation.api.tests.albums;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.testdata.AlbumsData;
 import com.automation.api.utils.Endpoints;
 
-import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -30,15 +30,9 @@ public class DeleteAlbumsTests extends SetUp {
     @Test
     @DisplayName("Validate API handles deletion of albums that do not exist gracefully")
     public void testDeleteInvalidAlbum() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .delete(Endpoints.albumById(AlbumsData.INVALID_ID))
-        .then()
-                .extract()
-                .response(); // Extract the response to perform custom assertions
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid album deletion, got: " + statusCode);
     }
@@ -1,6 +1,7 @@
 package com.automation.api.tests.albums;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.config.ApiConfig;
 import com.automation.api.testdata.AlbumsData;
 import com.automation.api.utils.Endpoints;
@@ -61,15 +62,9 @@ public class GetAlbumsTests extends SetUp {
     @Test
     @DisplayName("Validate API handles non-existent album requests gracefully")
     public void testGetInvalidAlbum() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .get(Endpoints.albumById(AlbumsData.INVALID_ID))
-        .then()
-                .extract() 
-                .response(); // Extract the response to perform custom assertions
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid album, got: " + statusCode);
     }
@@ -0,0 +1,54 @@
+package com.automation.api.tests.albums;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.testdata.AlbumsData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PATCH Albums API Tests")
+public class PatchAlbumsTests extends SetUp {
+
+    @Test
+    @DisplayName("Validate API updates one field of an existing album and keeps the others")
+    public void testPatchAlbum() {
+        given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.ALBUMS).set("title", AlbumsData.UPDATED_ALBUM_TITLE).toJson())
+        .when()
+                .patch(Endpoints.albumById(AlbumsData.DEFAULT_ALBUM_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(AlbumsData.DEFAULT_ALBUM_ID))
+                .body("title", equalTo(AlbumsData.UPDATED_ALBUM_TITLE))
+                .body("userId", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Validate API handles patch of invalid Album gracefully")
+    public void testPatchInvalidAlbum() {
+        Response resp = given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.ALBUMS).set("title", AlbumsData.UPDATED_ALBUM_TITLE).toJson())
+        .when()
+                .patch(Endpoints.albumById(AlbumsData.INVALID_ID))
+        .then()
+                .extract()
+                .response();
+
+        int statusCode = resp.statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid album patch, got: " + statusCode);
+    }
+}
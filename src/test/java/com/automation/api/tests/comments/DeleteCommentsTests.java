@@ -1,10 +1,10 @@
 package com.automation.api.tests.comments;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.testdata.CommentsData;
 import com.automation.api.utils.Endpoints;
 
-import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -29,15 +29,9 @@ public class DeleteCommentsTests extends SetUp {
     @Test
     @DisplayName("Validate API handles deletion of non-existent comments gracefully")
     public void testDeleteInvalidComment() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .delete(Endpoints.commentById(CommentsData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid comment deletion, got: " + statusCode);
     }
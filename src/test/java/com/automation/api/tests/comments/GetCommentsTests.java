@@ -1,6 +1,7 @@
 package com.automation.api.tests.comments;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.config.ApiConfig;
 import com.automation.api.testdata.CommentsData;
 import com.automation.api.utils.Endpoints;
@@ -77,15 +78,9 @@ public class GetCommentsTests extends SetUp {
     @Test
     @DisplayName("Validate API handles request for non-existent comments gracefully")
     public void testGetInvalidComment() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .get(Endpoints.commentById(CommentsData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid comment, got: " + statusCode);
     }
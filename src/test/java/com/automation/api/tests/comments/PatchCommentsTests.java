@@ -0,0 +1,56 @@
+package com.automation.api.tests.comments;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.testdata.CommentsData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PATCH Comments API Tests")
+public class PatchCommentsTests extends SetUp {
+
+    @Test
+    @DisplayName("Validate API updates one field of an existing comment and keeps the others")
+    public void testPatchComment() {
+        given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.COMMENTS).set("body", CommentsData.UPDATED_COMMENT_BODY).toJson())
+        .when()
+                .patch(Endpoints.commentById(CommentsData.DEFAULT_COMMENT_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(CommentsData.DEFAULT_COMMENT_ID))
+                .body("body", equalTo(CommentsData.UPDATED_COMMENT_BODY))
+                .body("name", notNullValue())
+                .body("email", notNullValue())
+                .body("postId", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Validate API handles patch of invalid Comment gracefully")
+    public void testPatchInvalidComment() {
+        Response resp = given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.COMMENTS).set("body", CommentsData.UPDATED_COMMENT_BODY).toJson())
+        .when()
+                .patch(Endpoints.commentById(CommentsData.INVALID_ID))
+        .then()
+                .extract()
+                .response();
+
+        int statusCode = resp.statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid comment patch, got: " + statusCode);
+    }
+}
@@ -0,0 +1,120 @@
+package com.automation.api.tests.diff;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.diff.Cassette;
+import com.automation.api.diff.DiffTarget;
+import com.automation.api.diff.DifferentialResult;
+import com.automation.api.diff.DifferentialRunner;
+import com.automation.api.diff.JsonDiff;
+import com.automation.api.reporting.HarRecorder;
+import com.automation.api.reporting.HarWriter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Differential Testing Tests")
+public class DifferentialTests extends StandInSetUp {
+
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final int SECOND_POST_ID = 2;
+    private static final String DRIFTED_TITLE = "Drifted Title";
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Record reads, a create, a delete and the reads after them from a stand-in of its own into a HAR cassette
+     */
+    private Cassette record() throws IOException {
+        Path file = directory.resolve("recorded.har");
+        HarRecorder recorder = new HarRecorder(HarWriter.open(file), MAX_BODY_BYTES);
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).addFilter(recorder).build();
+            given().spec(spec).get(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(200);
+            given().spec(spec).queryParam("userId", PostsData.POST_USER_ID).get(Endpoints.POSTS).then().statusCode(200);
+            given().spec(spec).get(Endpoints.userById(PostsData.POST_USER_ID)).then().statusCode(200);
+            given().spec(spec).queryParam("postId", PostsData.DEFAULT_POST_ID).get(Endpoints.COMMENTS).then().statusCode(200);
+            int created = given().spec(spec).contentType(ContentType.JSON)
+                    .body("{\"title\": \"" + PostsData.POST_TITLE + "\", \"body\": \"" + PostsData.POST_BODY
+                            + "\", \"userId\": " + PostsData.POST_USER_ID + "}")
+                    .post(Endpoints.POSTS)
+                    .then().statusCode(201).extract().path("id");
+            given().spec(spec).get(Endpoints.postById(created)).then().statusCode(200);
+            given().spec(spec).delete(Endpoints.postById(SECOND_POST_ID)).then().statusCode(200);
+            given().spec(spec).get(Endpoints.postById(SECOND_POST_ID)).then().statusCode(404);
+            given().spec(spec).get(Endpoints.postById(PostsData.INVALID_ID)).then().statusCode(404);
+        }
+        recorder.getWriter().close();
+        return Cassette.load(file);
+    }
+
+    @Test
+    @DisplayName("Validate a stand-in answering like the recording gives no mismatches")
+    public void testMatchingTarget() throws IOException {
+        Cassette cassette = record();
+        assertEquals(9, cassette.getRequests().size());
+
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            DifferentialResult result = DifferentialRunner.of(cassette.getRequests())
+                    .run(DiffTarget.cassette(cassette), DiffTarget.live(spec));
+
+            Allure.addAttachment("Differential run", "text/plain", result.describe(), ".txt");
+            assertEquals(9, result.getCompared());
+            assertEquals(0, result.getBodiesSkipped());
+            assertEquals(List.of(), result.getMismatches(), result.describe());
+        }
+    }
+
+    @Test
+    @DisplayName("Validate a drifted field is reported at its path in every response holding it")
+    public void testDriftedTarget() throws IOException {
+        Cassette cassette = record();
+
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).contentType(ContentType.JSON).body("{\"title\": \"" + DRIFTED_TITLE + "\"}")
+                    .patch(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+                    .then().statusCode(200);
+
+            DifferentialResult result = DifferentialRunner.of(cassette.getRequests())
+                    .run(DiffTarget.cassette(cassette), DiffTarget.live(spec));
+            Allure.addAttachment("Differential run", "text/plain", result.describe(), ".txt");
+
+            List<DifferentialResult.Mismatch> mismatches = result.getMismatches();
+            assertEquals(2, mismatches.size(), result.describe());
+            assertEquals(Endpoints.postById(PostsData.DEFAULT_POST_ID), mismatches.get(0).getRequest().getPathAndQuery());
+            assertEquals(Endpoints.POSTS + "?userId=" + PostsData.POST_USER_ID, mismatches.get(1).getRequest().getPathAndQuery());
+            assertEquals(List.of("$.title"), mismatches.get(0).getDifferences().stream().map(JsonDiff.Difference::getPath).toList());
+            assertEquals(List.of("$[0].title"), mismatches.get(1).getDifferences().stream().map(JsonDiff.Difference::getPath).toList());
+            assertEquals(DRIFTED_TITLE, mismatches.get(1).getDifferences().get(0).getActual().asText());
+        }
+
+        // With titles left out, what is left matches
+        cassette.rewind();
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).contentType(ContentType.JSON).body("{\"title\": \"" + DRIFTED_TITLE + "\"}")
+                    .patch(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+                    .then().statusCode(200);
+            DifferentialResult result = DifferentialRunner.of(cassette.getRequests())
+                    .diff(JsonDiff.of().ignoring("title"))
+                    .run(DiffTarget.cassette(cassette), DiffTarget.live(spec));
+            assertEquals(List.of(), result.getMismatches(), result.describe());
+        }
+    }
+}
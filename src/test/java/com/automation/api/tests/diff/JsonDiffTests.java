@@ -0,0 +1,135 @@
+package com.automation.api.tests.diff;
+
+import com.automation.api.diff.JsonDiff;
+import com.automation.api.standin.SeedData;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JSON Diff Tests")
+public class JsonDiffTests {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int ELEMENTS = 5000;
+    private static final int RUNS = 20;
+
+    private static JsonNode json(String text) throws IOException {
+        return MAPPER.readTree(text);
+    }
+
+    private static List<String> describe(List<JsonDiff.Difference> differences) {
+        List<String> descriptions = new ArrayList<>();
+        differences.forEach(difference -> descriptions.add(difference.describe()));
+        return descriptions;
+    }
+
+    private static ArrayNode photos() {
+        SeedData seed = SeedData.atScale(1);
+        ArrayNode photos = MAPPER.createArrayNode();
+        for (int id = 1; id <= ELEMENTS; id++) {
+            photos.add(seed.entity(Resource.PHOTOS, id));
+        }
+        return photos;
+    }
+
+    @Test
+    @DisplayName("Validate field order is ignored and differences are named by their path")
+    public void testObjectDifferences() throws IOException {
+        JsonNode expected = json("{\"id\": 1, \"address\": {\"city\": \"Gwenborough\", \"geo\": [1, 2]}, \"active\": true}");
+
+        assertEquals(List.of(), JsonDiff.of().compare(expected,
+                json("{\"address\": {\"geo\": [1.0, 2], \"city\": \"Gwenborough\"}, \"active\": true, \"id\": 1}")));
+
+        List<JsonDiff.Difference> differences = JsonDiff.of().compare(expected,
+                json("{\"id\": \"1\", \"address\": {\"city\": \"Paris\", \"geo\": [1, 3]}, \"website\": null}"));
+        assertEquals(List.of(
+                "changed $.id: 1 -> \"1\"",
+                "changed $.address.city: \"Gwenborough\" -> \"Paris\"",
+                "changed $.address.geo[1]: 2 -> 3",
+                "missing $.active: true",
+                "unexpected $.website: null"), describe(differences));
+
+        assertEquals(List.of(), JsonDiff.of().ignoring("city", "geo", "active").compare(expected,
+                json("{\"id\": 1, \"address\": {\"city\": \"Paris\"}}")));
+        assertEquals(List.of(JsonDiff.Kind.REORDERED),
+                JsonDiff.of().compare(json("[1, 2, 3]"), json("[3, 2, 1]")).stream().map(JsonDiff.Difference::getKind).toList());
+    }
+
+    @Test
+    @DisplayName("Validate shape-only comparison ignores values but not types and fields")
+    public void testShapeOnly() throws IOException {
+        JsonDiff shape = JsonDiff.of().shapeOnly();
+        JsonNode expected = json("{\"id\": 1, \"title\": \"qui est esse\", \"completed\": false}");
+
+        assertEquals(List.of(), shape.compare(expected, json("{\"title\": \"lorem\", \"completed\": true, \"id\": 7}")));
+        assertEquals(List.of("changed $.id: 1 -> \"7\"", "missing $.completed: false"),
+                describe(shape.compare(expected, json("{\"id\": \"7\", \"title\": \"lorem\"}"))));
+    }
+
+    @Test
+    @DisplayName("Validate 5000-element arrays are diffed in linear time down to the elements that differ")
+    public void testLargeArrays() {
+        ArrayNode expected = photos();
+        ArrayNode actual = expected.deepCopy();
+        ((ObjectNode) actual.get(2500)).put("title", "changed");
+        actual.remove(10);
+        actual.add(((ObjectNode) expected.get(0)).deepCopy().put("id", ELEMENTS + 1));
+
+        List<JsonDiff.Difference> differences = JsonDiff.of().compare(expected, actual);
+        assertEquals(3, differences.size(), describe(differences).toString());
+        assertEquals(JsonDiff.Kind.MISSING, differences.get(0).getKind());
+        assertEquals("$[10]", differences.get(0).getPath());
+        assertEquals("changed $[2500].title: \"" + expected.get(2500).get("title").asText() + "\" -> \"changed\"",
+                differences.get(1).describe());
+        assertEquals(JsonDiff.Kind.UNEXPECTED, differences.get(2).getKind());
+        assertEquals(ELEMENTS + 1, differences.get(2).getActual().get("id").asInt());
+
+        List<JsonNode> elements = new ArrayList<>();
+        expected.forEach(elements::add);
+        Collections.shuffle(elements, new Random(1));
+        ArrayNode shuffled = MAPPER.createArrayNode().addAll(elements);
+
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            assertEquals(List.of(JsonDiff.Kind.REORDERED),
+                    JsonDiff.of().compare(expected, shuffled).stream().map(JsonDiff.Difference::getKind).toList());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        // What a diff without hashes does: look for every element among all the others
+        long start = System.nanoTime();
+        int found = 0;
+        for (JsonNode element : expected) {
+            for (JsonNode candidate : shuffled) {
+                if (element.equals(candidate)) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        long quadratic = System.nanoTime() - start;
+        assertEquals(ELEMENTS, found);
+
+        String report = String.format(Locale.ROOT, "%d shuffled photos%nHashed diff: %.1f ms (best of %d)%n"
+                + "Pairwise search: %.1f ms%n", ELEMENTS, best / 1e6, RUNS, quadratic / 1e6);
+        Allure.addAttachment("Diff of 5000 elements", "text/plain", report, ".txt");
+        assertTrue(best < quadratic, report);
+        assertTrue(best < 200_000_000L, report);
+    }
+}
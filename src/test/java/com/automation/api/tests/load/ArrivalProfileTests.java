@@ -0,0 +1,64 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.load.ArrivalProfile;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Arrival Profile Tests")
+public class ArrivalProfileTests {
+
+    private static List<Long> offsets(ArrivalProfile profile) {
+        List<Long> offsets = new ArrayList<>();
+        ArrivalProfile.Schedule schedule = profile.schedule();
+        for (long offset = schedule.nextOffsetNanos(); offset >= 0; offset = schedule.nextOffsetNanos()) {
+            offsets.add(offset);
+        }
+        return offsets;
+    }
+
+    @Test
+    @DisplayName("Validate a constant rate spaces arrivals evenly")
+    public void testConstantRate() {
+        List<Long> offsets = offsets(ArrivalProfile.constant(10, Duration.ofSeconds(2)));
+
+        assertEquals(20, offsets.size());
+        for (int i = 0; i < offsets.size(); i++) {
+            assertEquals(i * 100_000_000L, offsets.get(i), 1_000, "Arrival " + i + " should be 100 ms after the previous one");
+        }
+    }
+
+    @Test
+    @DisplayName("Validate a ramp schedules the integral of its rate with shrinking gaps")
+    public void testRamp() {
+        List<Long> offsets = offsets(ArrivalProfile.startingAt(0).rampTo(20, Duration.ofSeconds(2)));
+
+        assertEquals(20, offsets.size(), "A ramp from 0 to 20 req/s over 2 s averages 10 req/s");
+        for (int i = 2; i < offsets.size(); i++) {
+            assertTrue(offsets.get(i) - offsets.get(i - 1) < offsets.get(i - 1) - offsets.get(i - 2),
+                    "Gaps should shrink while the rate grows");
+        }
+        assertTrue(offsets.get(offsets.size() - 1) < 2_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("Validate a spike returns to the rate before it")
+    public void testSpike() {
+        ArrivalProfile profile = ArrivalProfile.startingAt(10)
+                .hold(Duration.ofSeconds(1))
+                .spike(100, Duration.ofSeconds(1))
+                .hold(Duration.ofSeconds(1));
+
+        assertEquals(3, profile.getStages().size());
+        assertEquals(10, profile.getStages().get(2).getStartRate());
+        assertEquals(120, profile.getArrivals());
+        assertEquals(120, offsets(profile).size());
+        assertEquals(Duration.ofSeconds(3), profile.getDuration());
+    }
+}
@@ -0,0 +1,86 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.load.ArrivalProfile;
+import com.automation.api.load.LoadController;
+import com.automation.api.load.LoadPlan;
+import com.automation.api.load.LoadResult;
+import com.automation.api.load.LoadWorker;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Distributed Load Tests")
+public class DistributedLoadTests extends StandInSetUp {
+
+    private static final int WORKERS = 3;
+
+    @Test
+    @DisplayName("Validate worker processes share the plan and their results merge into one report")
+    public void testWorkersOnLocalhost() throws IOException, InterruptedException {
+        LoadPlan plan = new LoadPlan(standIn.getBaseUrl(),
+                List.of(Endpoints.postById(1), Endpoints.COMMENTS + "?postId=1"),
+                ArrivalProfile.constant(60, Duration.ofSeconds(2)));
+
+        List<Process> processes = new ArrayList<>();
+        try (LoadController controller = LoadController.listen(0)) {
+            for (int i = 1; i <= WORKERS; i++) {
+                processes.add(startWorker(controller.getPort(), "worker-" + i));
+            }
+            controller.awaitWorkers(WORKERS, Duration.ofSeconds(60));
+
+            LoadResult result = controller.run(plan);
+            Allure.addAttachment("Merged load result", "text/plain", result.describe(), ".txt");
+
+            assertEquals(WORKERS, controller.getWorkerResults().size());
+            for (LoadResult worker : controller.getWorkerResults()) {
+                assertEquals(40, worker.getScheduled(), "Every worker should run a third of the arrivals");
+            }
+            assertEquals(120, result.getScheduled(), result.describe());
+            assertEquals(120, result.getCompleted(), result.describe());
+            assertEquals(0, result.getErrors(), result.describe());
+            assertEquals(120, result.getResponseTime().getCount(), "Merged histogram should hold every request");
+        } finally {
+            processes.forEach(Process::destroy);
+        }
+    }
+
+    @Test
+    @DisplayName("Validate a connection that never says hello is dropped instead of stalling the controller")
+    public void testSilentConnectionIsDropped() throws IOException {
+        try (LoadController controller = LoadController.listen(0);
+             Socket silent = new Socket("127.0.0.1", controller.getPort());
+             Socket worker = new Socket("127.0.0.1", controller.getPort())) {
+            Writer hello = new OutputStreamWriter(worker.getOutputStream(), StandardCharsets.UTF_8);
+            hello.write("{\"type\": \"hello\", \"name\": \"worker-1\"}\n");
+            hello.flush();
+            silent.setSoTimeout(30_000);
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> controller.awaitWorkers(1, Duration.ofMinutes(5)));
+            assertEquals(1, controller.getWorkerCount());
+            assertEquals(-1, silent.getInputStream().read(), "The silent connection should have been closed");
+        }
+    }
+
+    private static Process startWorker(int controllerPort, String name) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                LoadWorker.class.getName(), "127.0.0.1", String.valueOf(controllerPort), name)
+                .inheritIO()
+                .start();
+    }
+}
@@ -0,0 +1,48 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.load.LatencyHistogram;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Latency Histogram Tests")
+public class LatencyHistogramTests {
+
+    @Test
+    @DisplayName("Validate percentiles stay within the bucket precision")
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000, histogram.percentileMicros(50), 50_000 * 0.04);
+        assertEquals(99_000, histogram.percentileMicros(99), 99_000 * 0.04);
+        assertEquals(100_000, histogram.percentileMicros(100));
+    }
+
+    @Test
+    @DisplayName("Validate merged histograms equal one histogram of all values")
+    public void testMerge() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        LatencyHistogram all = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            fast.recordMicros(micros);
+            slow.recordMicros(micros * 1_000);
+            all.recordMicros(micros);
+            all.recordMicros(micros * 1_000);
+        }
+
+        fast.merge(slow);
+
+        assertEquals(all.getCount(), fast.getCount());
+        assertEquals(all.getMaxMicros(), fast.getMaxMicros());
+        for (double percentile : new double[]{10, 50, 90, 99, 99.9}) {
+            assertEquals(all.percentileMicros(percentile), fast.percentileMicros(percentile));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.load.ArrivalProfile;
+import com.automation.api.load.LatencyHistogram;
+import com.automation.api.load.LoadResult;
+import com.automation.api.load.OpenLoadGenerator;
+import com.automation.api.standin.FaultProfile;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.FaultRule;
+import com.automation.api.standin.Latency;
+import com.automation.api.standin.WithFaults;
+import com.automation.api.utils.Endpoints;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Open-model Load Generation Tests")
+public class OpenLoadTests extends StandInSetUp {
+
+    private static final String FIXED_100MS = "fixed-100ms";
+    private static final double MAX_RATE = 50;
+    private static final int CALIBRATION_REQUESTS = 20;
+
+    static {
+        FaultProfiles.register(new FaultProfile(FIXED_100MS)
+                .rule(FaultRule.forAllEndpoints().latency(Latency.fixed(100))));
+    }
+
+    /**
+     * Rate this runner sustains with headroom: half of what one caller reaches back to back, at most 50 per second
+     * The stand-in shares the CPU with the generator, so a fixed rate would measure the machine rather than the generator.
+     */
+    private double sustainableRate() {
+        long start = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_REQUESTS; i++) {
+            given().spec(requestSpec).get(Endpoints.postById(i + 1)).then().statusCode(200);
+        }
+        double perSecond = CALIBRATION_REQUESTS / ((System.nanoTime() - start) / 1e9);
+        return Math.max(1, Math.min(MAX_RATE, perSecond / 2));
+    }
+
+    @Test
+    @DisplayName("Validate a constant arrival rate is sustained against a healthy server")
+    public void testConstantRate() throws InterruptedException {
+        AtomicInteger id = new AtomicInteger();
+        double rate = sustainableRate();
+
+        LoadResult result = OpenLoadGenerator.of(ArrivalProfile.constant(rate, Duration.ofSeconds(2)))
+                .operation(() -> given()
+                        .spec(requestSpec)
+                        .get(Endpoints.postById(id.incrementAndGet() % 100 + 1))
+                        .statusCode())
+                .run();
+
+        assertEquals(2 * rate, result.getScheduled(), 1, result.describe());
+        assertEquals(result.getScheduled(), result.getCompleted(), result.describe());
+        assertEquals(0, result.getErrors(), result.describe());
+        assertEquals(0, result.getDropped(), result.describe());
+        assertEquals(rate, result.getThroughput(), 0.3 * rate, "Target " + rate + " req/s: " + result.describe());
+    }
+
+    @Test
+    @WithFaults(FIXED_100MS)
+    @DisplayName("Validate time spent queued behind slow requests is part of the response time")
+    public void testCoordinatedOmissionIsCorrected() throws InterruptedException {
+        // A single lane serializes the requests like one busy connection would: 20 arrivals per second
+        // against 100 ms per request leaves every arrival waiting longer than the previous one.
+        // Timing only the request inside the lane is what a closed loop would report.
+        // A lock, not a monitor: a virtual thread blocked in a synchronized block pins its carrier, which the
+        // in-process stand-in needs to answer.
+        ReentrantLock lane = new ReentrantLock();
+        LatencyHistogram closedLoop = new LatencyHistogram();
+
+        LoadResult result = OpenLoadGenerator.of(ArrivalProfile.constant(20, Duration.ofSeconds(1)))
+                .operation(() -> {
+                    lane.lock();
+                    try {
+                        long start = System.nanoTime();
+                        int status = given().spec(requestSpec).get(Endpoints.postById(1)).statusCode();
+                        closedLoop.recordNanos(System.nanoTime() - start);
+                        return status;
+                    } finally {
+                        lane.unlock();
+                    }
+                })
+                .run();
+
+        assertEquals(20, result.getCompleted(), result.describe());
+        assertTrue(closedLoop.percentileMillis(99) < 1_000, "Each request alone should take about 100 ms");
+        assertTrue(result.getResponseTime().percentileMillis(99) > 4 * closedLoop.percentileMillis(99),
+                "Response time should include the time spent waiting for the lane: " + result.describe());
+    }
+
+    @Test
+    @WithFaults(FIXED_100MS)
+    @DisplayName("Validate arrivals beyond the in-flight limit are dropped instead of delayed")
+    public void testInFlightLimit() throws InterruptedException {
+        LoadResult result = OpenLoadGenerator.of(ArrivalProfile.constant(100, Duration.ofMillis(500)))
+                .maxInFlight(5)
+                .operation(() -> given().spec(requestSpec).get(Endpoints.postById(1)).statusCode())
+                .run();
+
+        assertEquals(50, result.getScheduled());
+        assertTrue(result.getDropped() > 0, result.describe());
+        assertEquals(result.getScheduled(), result.getCompleted() + result.getDropped());
+    }
+}
@@ -0,0 +1,126 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.load.replay.RecordedRequest;
+import com.automation.api.load.replay.ReplayEngine;
+import com.automation.api.load.replay.ReplayResult;
+import com.automation.api.load.replay.RequestLogReader;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Traffic Replay Tests")
+public class ReplayTests extends StandInSetUp {
+
+    private static final int REQUESTS = 20;
+    private static final long SPAN_MILLIS = 950;
+    private static final int MISSING_POST_ID = 99999;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Write a log of 20 requests spread over 950 ms, one of them recorded with the wrong status
+     */
+    private Path writeLog() throws IOException {
+        long start = 1_700_000_000_000L;
+        List<String> lines = new ArrayList<>();
+        lines.add("not a request");
+        for (int i = 0; i < REQUESTS; i++) {
+            long timestamp = start + i * SPAN_MILLIS / (REQUESTS - 1);
+            if (i == 7) {
+                lines.add("{\"timestamp\":" + timestamp + ",\"method\":\"GET\",\"path\":\""
+                        + Endpoints.postById(MISSING_POST_ID) + "\",\"status\":200}");
+            } else if (i % 5 == 0) {
+                lines.add("{\"timestamp\":" + timestamp + ",\"method\":\"GET\",\"path\":\"" + Endpoints.COMMENTS
+                        + "\",\"query\":{\"postId\":" + PostsData.DEFAULT_POST_ID + "},\"status\":200}");
+            } else {
+                lines.add("{\"timestamp\":" + timestamp + ",\"method\":\"GET\",\"path\":\""
+                        + Endpoints.postById(i + 1) + "\",\"status\":200}");
+            }
+        }
+        lines.add("");
+        Path log = directory.resolve("traffic.jsonl");
+        Files.write(log, lines, StandardCharsets.UTF_8);
+        return log;
+    }
+
+    @Test
+    @DisplayName("Validate the log reader parses queries, bodies and timestamps and skips junk lines")
+    public void testReaderParsesLines() throws IOException {
+        String log = "{\"method\":\"get\",\"path\":\"/comments\",\"query\":{\"postId\":[1,2]}}\n"
+                + "{broken\n"
+                + "{\"method\":\"POST\",\"path\":\"/posts\",\"body\":{\"title\":\"a\"},"
+                + "\"timestamp\":\"2024-01-01T00:00:00Z\",\"status\":201}\n"
+                + "{\"path\":\"/posts\"}\n";
+        List<RecordedRequest> requests = new ArrayList<>();
+        try (RequestLogReader reader = new RequestLogReader(new BufferedReader(new StringReader(log)))) {
+            reader.forEachRemaining(requests::add);
+            assertEquals(2, reader.getSkipped(), "Malformed and incomplete lines should be skipped");
+        }
+
+        assertEquals(2, requests.size());
+        assertEquals("GET", requests.get(0).getMethod());
+        assertEquals("/comments?postId=1&postId=2", requests.get(0).getPathAndQuery());
+        assertNull(requests.get(0).getStatus());
+
+        RecordedRequest post = requests.get(1);
+        assertEquals(3, post.getLine());
+        assertEquals("{\"title\":\"a\"}", post.getBody());
+        assertEquals(1_704_067_200_000L, post.getTimestampMillis());
+        assertEquals(201, post.getStatus());
+    }
+
+    @Test
+    @DisplayName("Validate replaying at the original pace keeps the recorded timing and reports status mismatches")
+    public void testOriginalTiming() throws IOException, InterruptedException {
+        ReplayResult result = ReplayEngine.of(writeLog()).originalTiming().run(requestSpec);
+        Allure.addAttachment("Replay at original pace", "text/plain", result.describe(), ".txt");
+
+        assertEquals(REQUESTS, result.getReplayed(), result.describe());
+        assertEquals(2, result.getSkipped(), result.describe());
+        assertEquals(0, result.getFailures(), result.describe());
+        assertEquals(REQUESTS - 1, result.getMatched(), result.describe());
+        assertEquals(1, result.getMismatched(), result.describe());
+        assertEquals(404, result.getMismatches().get(0).getActualStatus());
+        assertEquals(Endpoints.postById(MISSING_POST_ID), result.getMismatches().get(0).getRequest().getPathAndQuery());
+        assertTrue(result.getElapsed().toMillis() >= SPAN_MILLIS, "Replay should take the recorded span: " + result.describe());
+    }
+
+    @Test
+    @DisplayName("Validate an accelerated replay compresses the recorded timing by its factor")
+    public void testAcceleratedTiming() throws IOException, InterruptedException {
+        ReplayResult result = ReplayEngine.of(writeLog()).accelerated(4).run(requestSpec);
+        Allure.addAttachment("Replay at 4x", "text/plain", result.describe(), ".txt");
+
+        assertEquals(REQUESTS, result.getReplayed(), result.describe());
+        assertTrue(result.getElapsed().toMillis() >= SPAN_MILLIS / 4, result.describe());
+        assertTrue(result.getElapsed().toMillis() < SPAN_MILLIS, "Replay at 4x should beat the recorded span: " + result.describe());
+    }
+
+    @Test
+    @DisplayName("Validate an as-fast-as-possible replay ignores timestamps and bounds the requests in flight")
+    public void testAsFastAsPossible() throws IOException, InterruptedException {
+        ReplayResult result = ReplayEngine.of(writeLog()).asFastAsPossible().maxInFlight(4).run(requestSpec);
+        Allure.addAttachment("Replay as fast as possible", "text/plain", result.describe(), ".txt");
+
+        assertEquals(REQUESTS, result.getReplayed(), result.describe());
+        assertEquals(REQUESTS - 1, result.getMatched(), result.describe());
+        assertTrue(result.getElapsed().toMillis() < SPAN_MILLIS, "Timestamps should be ignored: " + result.describe());
+    }
+}
@@ -0,0 +1,84 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.load.LatencyHistogram;
+import com.automation.api.load.LoadOperation;
+import com.automation.api.load.SaturationResult;
+import com.automation.api.load.SaturationSearch;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.WithFaults;
+import com.automation.api.testdata.CommentsData;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Saturation Search Tests")
+@WithFaults(FaultProfiles.CONSTRAINED)
+public class SaturationSearchTests extends StandInSetUp {
+
+    // The constrained profile serves 4 requests at a time at 20 ms each, at most 200 req/s
+    private static final double CAPACITY = 200;
+    private static final int WARM_UP_REQUESTS = 20;
+    private static final int BASELINE_REQUESTS = 30;
+
+    @Test
+    @DisplayName("Validate the search finds the knee where latency rises past an SLO derived from the unloaded baseline")
+    public void testFindsKnee() throws Exception {
+        // GETs of GetPostsTests and GetCommentsTests as one endpoint set
+        LoadOperation reads = LoadOperation.cycle(
+                () -> given().spec(requestSpec).get(Endpoints.postById(PostsData.DEFAULT_POST_ID)).statusCode(),
+                () -> given().spec(requestSpec).get(Endpoints.commentById(CommentsData.DEFAULT_COMMENT_ID)).statusCode(),
+                () -> given().spec(requestSpec).queryParam("postId", CommentsData.DEFAULT_COMMENT_POST_ID).get(Endpoints.COMMENTS).statusCode());
+
+        // What one caller sees on an idle server scales the SLO and the rates to the machine running the test
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            reads.execute();
+        }
+        LatencyHistogram baseline = new LatencyHistogram();
+        for (int i = 0; i < BASELINE_REQUESTS; i++) {
+            long start = System.nanoTime();
+            assertEquals(200, reads.execute());
+            baseline.recordNanos(System.nanoTime() - start);
+        }
+        double baselineMillis = baseline.percentileMillis(99);
+        double callerRate = 1_000 / baseline.percentileMillis(50);
+        Duration slo = Duration.ofMillis(Math.round(4 * baselineMillis));
+        double startRate = callerRate / 4;
+
+        SaturationResult result = SaturationSearch.of(reads)
+                .slo(99, slo)
+                .startRate(startRate)
+                .maxRate(16 * callerRate)
+                .precision(0.1)
+                .probeDuration(Duration.ofSeconds(1))
+                .run();
+
+        String report = String.format(Locale.ROOT, "Unloaded p50 %.1f ms, p99 %.1f ms%n", baseline.percentileMillis(50),
+                baselineMillis) + result.describe();
+        Allure.addAttachment("Saturation curve", "text/plain", report, ".txt");
+        assertTrue(result.getKneeRate() >= startRate, "A constrained server still sustains light load:\n" + report);
+        assertTrue(result.getFirstFailingRate() > result.getKneeRate(), report);
+        assertTrue(result.getKneeRate() < CAPACITY * 1.1, "The knee cannot exceed the server capacity:\n" + report);
+        assertTrue(result.getPeakThroughput() < CAPACITY * 1.2, report);
+        assertTrue(result.getProbes().size() >= 3, "Expected exponential and binary probes:\n" + report);
+
+        // Latency rises with the rate: no rate passes above one that failed, and the top of the curve is past the SLO
+        List<SaturationResult.Probe> curve = result.getCurve();
+        double lowestFailing = curve.stream().filter(probe -> !probe.isPassed())
+                .mapToDouble(SaturationResult.Probe::getRate).min().orElse(Double.MAX_VALUE);
+        assertTrue(curve.stream().filter(SaturationResult.Probe::isPassed).allMatch(probe -> probe.getRate() < lowestFailing), report);
+        double lowest = curve.get(0).getResult().getResponseTime().percentileMillis(99);
+        double highest = curve.get(curve.size() - 1).getResult().getResponseTime().percentileMillis(99);
+        assertTrue(lowest <= slo.toMillis() && highest > lowest, report);
+    }
+}
@@ -0,0 +1,107 @@
+package com.automation.api.tests.load;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.load.scenario.CompiledOperation;
+import com.automation.api.load.scenario.ExecutionPlan;
+import com.automation.api.load.scenario.IdDistribution;
+import com.automation.api.load.scenario.ScenarioCompiler;
+import com.automation.api.load.scenario.ScenarioResult;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Declarative Workload Scenario Tests")
+public class ScenarioTests extends StandInSetUp {
+
+    private static final String SCENARIO = "scenarios/mixed-traffic.yaml";
+
+    @Test
+    @DisplayName("Validate operations are drawn according to their weights")
+    public void testWeightedMix() throws IOException {
+        ExecutionPlan plan = ScenarioCompiler.compileResource(SCENARIO);
+        Random random = new Random(42);
+        int[] picks = new int[plan.getOperations().size()];
+
+        for (int i = 0; i < 100_000; i++) {
+            picks[plan.pick(random)]++;
+        }
+
+        double[] expected = {0.70, 0.15, 0.10, 0.03, 0.02};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], picks[i] / 100_000.0, 0.01, "Share of " + plan.getOperations().get(i).getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Validate payload templates resolve testdata constants and the drawn id")
+    public void testPayloadTemplate() throws IOException {
+        CompiledOperation update = ScenarioCompiler.compileResource(SCENARIO).getOperations().get(3);
+
+        String payload = update.payload(42);
+
+        assertEquals("/posts/42", update.path(42));
+        assertEquals(42, new ObjectMapper().readTree(payload).get("id").asInt(), "Exact ${id} should be a JSON number");
+        assertTrue(payload.contains("\"title\":\"" + PostsData.UPDATED_POST_TITLE + " 42\""), payload);
+        assertTrue(payload.contains("\"userId\":" + PostsData.POST_USER_ID), "Int constants should stay numbers: " + payload);
+    }
+
+    @Test
+    @DisplayName("Validate Zipf ids favour the lowest ids")
+    public void testZipfIds() {
+        IdDistribution zipf = IdDistribution.zipf(100, 1.1);
+        Random random = new Random(42);
+        int[] counts = new int[101];
+
+        for (int i = 0; i < 100_000; i++) {
+            counts[zipf.sample(random)]++;
+        }
+
+        assertEquals(0, counts[0], "Ids start at 1");
+        assertTrue(counts[1] > counts[2] && counts[2] > counts[10] && counts[10] > counts[100],
+                "Hotter ranks should be drawn more often");
+    }
+
+    @Test
+    @DisplayName("Validate the scenario runs against the stand-in without errors")
+    public void testRunScenario() throws IOException, InterruptedException {
+        // Writes persist, a stand-in of this test's own keeps them out of the shared seed data
+        ScenarioResult result;
+        try (StandInServer server = StandInServer.start(0)) {
+            result = ScenarioCompiler.compileResource(SCENARIO).run(newRequestSpecBuilder(server.getBaseUrl()).build());
+        }
+        Allure.addAttachment("Scenario result", "text/plain", result.describe(), ".txt");
+
+        // 20 sessions in the first second and 40 while ramping to 60 req/s, two requests each
+        assertEquals(60, result.getSessions().getCompleted(), result.describe());
+        long requests = 0;
+        for (int i = 0; i < 5; i++) {
+            requests += result.getRequests(i);
+        }
+        assertEquals(120, requests, result.describe());
+
+        // Drawing an already deleted comment again is a genuine 404, every other operation must succeed
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, result.getErrors(i), result.describe());
+        }
+    }
+
+    @Test
+    @DisplayName("Validate scenarios naming unknown resources are rejected")
+    public void testUnknownResource() {
+        String scenario = "{\"arrival\": [{\"rate\": 1, \"duration\": \"1s\"}],"
+                + " \"operations\": [{\"method\": \"GET\", \"path\": \"/invoices/1\"}]}";
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> ScenarioCompiler.compile(new ObjectMapper().readTree(scenario)));
+        assertTrue(error.getMessage().contains("/invoices/1"));
+    }
+}
@@ -1,10 +1,10 @@
 package com.automation.api.tests.photos;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.testdata.PhotosData;
 import com.automation.api.utils.Endpoints;
 
-import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -29,15 +29,9 @@ public class DeletePhotosTests extends SetUp {
     @Test
     @DisplayName("Validate API handles deletion of non-existent photos gracefully")
     public void testDeleteInvalidPhoto() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .delete(Endpoints.photoById(PhotosData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid photo deletion, got: " + statusCode);
     }
@@ -1,6 +1,7 @@
 package com.automation.api.tests.photos;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.config.ApiConfig;
 import com.automation.api.testdata.PhotosData;
 import com.automation.api.utils.Endpoints;
@@ -61,15 +62,9 @@ public class GetPhotosTests extends SetUp {
     @Test
     @DisplayName("Validate API handles invalid photo with 404 status")
     public void testGetInvalidPhoto() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .get(Endpoints.photoById(PhotosData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid photo, got: " + statusCode);
     }
@@ -0,0 +1,56 @@
+package com.automation.api.tests.photos;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.testdata.PhotosData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PATCH Photos API Tests")
+public class PatchPhotosTests extends SetUp {
+
+    @Test
+    @DisplayName("Validate API updates one field of an existing photo and keeps the others")
+    public void testPatchPhoto() {
+        given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.PHOTOS).set("title", PhotosData.UPDATED_PHOTO_TITLE).toJson())
+        .when()
+                .patch(Endpoints.photoById(PhotosData.DEFAULT_PHOTO_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(PhotosData.DEFAULT_PHOTO_ID))
+                .body("title", equalTo(PhotosData.UPDATED_PHOTO_TITLE))
+                .body("url", notNullValue())
+                .body("thumbnailUrl", notNullValue())
+                .body("albumId", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Validate API handles patch of invalid Photo gracefully")
+    public void testPatchInvalidPhoto() {
+        Response resp = given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.PHOTOS).set("title", PhotosData.UPDATED_PHOTO_TITLE).toJson())
+        .when()
+                .patch(Endpoints.photoById(PhotosData.INVALID_ID))
+        .then()
+                .extract()
+                .response();
+
+        int statusCode = resp.statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid photo patch, got: " + statusCode);
+    }
+}
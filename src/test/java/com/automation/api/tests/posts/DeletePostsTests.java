@@ -1,10 +1,10 @@
 package com.automation.api.tests.posts;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.testdata.PostsData;
 import com.automation.api.utils.Endpoints;
 
-import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -29,15 +29,9 @@ public class DeletePostsTests extends SetUp {
     @Test
     @DisplayName("Validate API handles deletion of invalid post gracefully")
     public void testDeleteInvalidPost() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .delete(Endpoints.postById(PostsData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid post deletion, got: " + statusCode);
     }
@@ -1,6 +1,7 @@
 package com.automation.api.tests.posts;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.config.ApiConfig;
 import com.automation.api.testdata.PostsData;
 import com.automation.api.utils.Endpoints;
@@ -62,15 +63,9 @@ public class GetPostsTests extends SetUp {
     @Test
     @DisplayName("Validate API handles invalid Posts requests gracefully")
     public void testGetInvalidPost() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .get(Endpoints.postById(PostsData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertTrue(statusCode == 404,
                 "Expected status 404 for invalid post, got: " + statusCode);
@@ -0,0 +1,55 @@
+package com.automation.api.tests.posts;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PATCH Posts API Tests")
+public class PatchPostsTests extends SetUp {
+
+    @Test
+    @DisplayName("Validate API updates one field of an existing post and keeps the others")
+    public void testPatchPost() {
+        given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.POSTS).set("title", PostsData.UPDATED_POST_TITLE).toJson())
+        .when()
+                .patch(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(PostsData.DEFAULT_POST_ID))
+                .body("title", equalTo(PostsData.UPDATED_POST_TITLE))
+                .body("body", notNullValue())
+                .body("userId", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Validate API handles patch of invalid Post gracefully")
+    public void testPatchInvalidPost() {
+        Response resp = given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.POSTS).set("title", PostsData.UPDATED_POST_TITLE).toJson())
+        .when()
+                .patch(Endpoints.postById(PostsData.INVALID_ID))
+        .then()
+                .extract()
+                .response();
+
+        int statusCode = resp.statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid post patch, got: " + statusCode);
+    }
+}
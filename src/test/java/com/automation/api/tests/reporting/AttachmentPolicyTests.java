@@ -0,0 +1,94 @@
+package com.automation.api.tests.reporting;
+
+import com.automation.api.reporting.AttachmentBudget;
+import com.automation.api.reporting.AttachmentContent;
+import com.automation.api.reporting.AttachmentPolicy;
+import com.automation.api.reporting.RecordedExchange;
+import com.automation.api.utils.Endpoints;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Allure Attachment Policy Tests")
+public class AttachmentPolicyTests {
+
+    private static final int MAX_INLINE_BYTES = 1024;
+
+    private static RecordedExchange exchange(int bodyBytes) {
+        byte[] body = new byte[bodyBytes];
+        Arrays.fill(body, (byte) 'x');
+        return new RecordedExchange("GET", Endpoints.PHOTOS, null, 200, "application/json; charset=utf-8", body, 5);
+    }
+
+    @Test
+    @DisplayName("Validate passing tests only get a summary in failure mode")
+    public void testSummaryOnlyWhenPassing() {
+        AttachmentPolicy policy = new AttachmentPolicy(AttachmentPolicy.Mode.FAILURE, MAX_INLINE_BYTES, true);
+
+        List<AttachmentContent> attachments = policy.render(List.of(exchange(100)), false);
+
+        assertEquals(1, attachments.size(), "Expected only the summary attachment");
+        String summary = new String(attachments.get(0).getBytes(), StandardCharsets.UTF_8);
+        assertTrue(summary.contains("GET " + Endpoints.PHOTOS + " -> 200"), "Summary should describe the exchange: " + summary);
+    }
+
+    @Test
+    @DisplayName("Validate failing tests get small bodies attached as JSON")
+    public void testSmallBodyOnFailure() {
+        AttachmentPolicy policy = new AttachmentPolicy(AttachmentPolicy.Mode.FAILURE, MAX_INLINE_BYTES, true);
+
+        List<AttachmentContent> attachments = policy.render(List.of(exchange(100)), true);
+
+        assertEquals(2, attachments.size());
+        assertEquals("application/json", attachments.get(1).getType());
+        assertEquals(100, attachments.get(1).getBytes().length);
+    }
+
+    @Test
+    @DisplayName("Validate large bodies are truncated and attached in full as gzip")
+    public void testLargeBodyIsTruncatedAndCompressed() throws IOException {
+        AttachmentPolicy policy = new AttachmentPolicy(AttachmentPolicy.Mode.FAILURE, MAX_INLINE_BYTES, true);
+
+        List<AttachmentContent> attachments = policy.render(List.of(exchange(100_000)), true);
+
+        assertEquals(3, attachments.size());
+        AttachmentContent preview = attachments.get(1);
+        assertEquals("text/plain", preview.getType());
+        assertTrue(preview.getBytes().length < 2 * MAX_INLINE_BYTES, "Preview should be bounded by the inline limit");
+
+        AttachmentContent full = attachments.get(2);
+        assertEquals("application/gzip", full.getType());
+        assertTrue(full.getBytes().length < 100_000, "Gzip attachment should be smaller than the body");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(full.getBytes()))) {
+            assertEquals(100_000, in.readAllBytes().length, "Gzip attachment should hold the full body");
+        }
+    }
+
+    @Test
+    @DisplayName("Validate never mode attaches nothing even for failures")
+    public void testNeverMode() {
+        AttachmentPolicy policy = new AttachmentPolicy(AttachmentPolicy.Mode.NEVER, MAX_INLINE_BYTES, true);
+
+        assertTrue(policy.render(List.of(exchange(100)), true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Validate the run budget refuses attachments once spent")
+    public void testBudget() {
+        AttachmentBudget budget = new AttachmentBudget(1000);
+
+        assertTrue(budget.tryReserve(600));
+        assertFalse(budget.tryReserve(600), "Second reservation should exceed the budget");
+        assertTrue(budget.tryReserve(400));
+        assertEquals(1000, budget.getUsed());
+    }
+}
@@ -0,0 +1,152 @@
+package com.automation.api.tests.reporting;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.StatusOnlyClient;
+import com.automation.api.reporting.HarRecorder;
+import com.automation.api.reporting.HarWriter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HAR Export Tests")
+public class HarExportTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_BODY_BYTES = 256;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Validate entries written from parallel threads form one valid HAR document")
+    public void testParallelWrites() throws IOException, InterruptedException {
+        Path file = directory.resolve("parallel.har");
+        HarWriter writer = HarWriter.open(file);
+        writer.addPage("page-1", "Parallel writes", Instant.now());
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    writer.writeEntry(JsonNodeFactory.instance.objectNode()
+                            .put("pageref", "page-1")
+                            .put("_id", thread + "-" + i));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writer.close();
+
+        JsonNode log = MAPPER.readTree(file.toFile()).get("log");
+        assertEquals("1.2", log.get("version").asText());
+        assertEquals(1, log.get("pages").size());
+        assertEquals(4000, log.get("entries").size());
+        Set<String> ids = new HashSet<>();
+        log.get("entries").forEach(entry -> ids.add(entry.get("_id").asText()));
+        assertEquals(4000, ids.size(), "Every entry should be written exactly once");
+    }
+
+    @Test
+    @DisplayName("Validate exchanges are exported with timings, page reference and bodies cut at the capture limit")
+    public void testExchangesAreExported() throws IOException, ExecutionException, InterruptedException {
+        Path file = directory.resolve("exchanges.har");
+        HarRecorder recorder = new HarRecorder(HarWriter.open(file), MAX_BODY_BYTES);
+        // A pooled thread started before the page still records on it, the page goes with the filter
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.submit(() -> { }).get();
+        recorder.startPage("test-1", "Exchanges");
+        HarRecorder page = recorder.forPage("test-1");
+
+        // The created post persists, a stand-in of this test's own keeps it out of the shared seed data
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            pool.submit(() -> given()
+                    .spec(spec)
+                    .filter(page)
+                    .queryParam("userId", PostsData.POST_USER_ID)
+            .when()
+                    .get(Endpoints.POSTS)
+            .then()
+                    .statusCode(200)).get();
+            given()
+                    .spec(spec)
+                    .filter(page)
+                    .contentType(ContentType.JSON)
+                    .body("{\"title\": \"" + PostsData.POST_TITLE + "\", \"body\": \"" + PostsData.POST_BODY
+                            + "\", \"userId\": " + PostsData.POST_USER_ID + "}")
+            .when()
+                    .post(Endpoints.POSTS)
+            .then()
+                    .statusCode(201);
+            // Status-only requests skip REST Assured but are still handed to the recorder
+            assertEquals(404, StatusOnlyClient.using(given().spec(spec).filter(page))
+                    .get(Endpoints.postById(PostsData.INVALID_ID)).statusCode());
+        } finally {
+            pool.shutdown();
+        }
+
+        recorder.endPage();
+        recorder.getWriter().close();
+
+        JsonNode log = MAPPER.readTree(file.toFile()).get("log");
+        assertEquals("test-1", log.get("pages").get(0).get("id").asText());
+        JsonNode entries = log.get("entries");
+        assertEquals(3, entries.size());
+
+        JsonNode list = entries.get(0);
+        assertEquals("test-1", list.get("pageref").asText());
+        assertEquals("GET", list.get("request").get("method").asText());
+        assertEquals("userId", list.get("request").get("queryString").get(0).get("name").asText());
+        assertEquals(200, list.get("response").get("status").asInt());
+        JsonNode content = list.get("response").get("content");
+        assertTrue(content.get("size").asInt() > MAX_BODY_BYTES, "The post list should exceed the capture limit");
+        assertEquals(MAX_BODY_BYTES, content.get("text").asText().length());
+        assertTrue(content.get("comment").asText().startsWith("truncated"), content.toString());
+
+        JsonNode timings = list.get("timings");
+        assertEquals(-1, timings.get("connect").asInt());
+        assertTrue(timings.get("wait").asDouble() > 0, timings.toString());
+        assertEquals(list.get("time").asDouble(),
+                timings.get("send").asDouble() + timings.get("wait").asDouble() + timings.get("receive").asDouble(), 1e-6);
+        assertTrue(timings.has("comment"), "The send/wait split is not measured and should say so");
+
+        JsonNode create = entries.get(1);
+        assertEquals(201, create.get("response").get("status").asInt());
+        assertTrue(create.get("request").get("postData").get("text").asText().contains(PostsData.POST_TITLE));
+        assertFalse(create.get("response").get("content").has("comment"), "A small body should be captured whole");
+
+        JsonNode statusOnly = entries.get(2);
+        assertEquals("test-1", statusOnly.get("pageref").asText());
+        assertEquals(404, statusOnly.get("response").get("status").asInt());
+        assertEquals(-1, statusOnly.get("response").get("content").get("size").asInt());
+    }
+}
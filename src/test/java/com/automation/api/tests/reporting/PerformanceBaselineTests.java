@@ -0,0 +1,98 @@
+package com.automation.api.tests.reporting;
+
+import com.automation.api.reporting.BaselineStore;
+import com.automation.api.reporting.PerformanceRecorder;
+import com.automation.api.reporting.PerformanceRun;
+import com.automation.api.reporting.RegressionDetector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Performance Baseline Tests")
+public class PerformanceBaselineTests {
+
+    private static final String ENDPOINT = "GET 127.0.0.1/posts/{id}";
+
+    private static long[] latencies(long seed, double medianMillis) {
+        Random random = new Random(seed);
+        long[] samples = new long[200];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = Math.round(medianMillis * Math.exp(0.3 * random.nextGaussian()));
+        }
+        return samples;
+    }
+
+    private static PerformanceRun run(long startedAt, long[] samples) {
+        return new PerformanceRun(startedAt, Map.of(ENDPOINT, samples), Map.of("[test:1]", 40L));
+    }
+
+    @Test
+    @DisplayName("Validate the Mann-Whitney U test separates shifted from identical distributions")
+    public void testMannWhitney() {
+        double shifted = RegressionDetector.mannWhitneyGreater(latencies(1, 60), latencies(2, 40));
+        double same = RegressionDetector.mannWhitneyGreater(latencies(3, 40), latencies(4, 40));
+        double faster = RegressionDetector.mannWhitneyGreater(latencies(5, 30), latencies(6, 40));
+
+        assertTrue(shifted < 0.001, "Slower samples should be significant, p=" + shifted);
+        assertTrue(same > 0.01, "Samples from one distribution should not be significant, p=" + same);
+        assertTrue(faster > 0.99, "Faster samples are not a regression, p=" + faster);
+    }
+
+    @Test
+    @DisplayName("Validate a slower endpoint is reported as a regression")
+    public void testRegressionDetected() {
+        RegressionDetector detector = new RegressionDetector(0.01, 1.2, 20);
+        List<PerformanceRun> baseline = List.of(run(1, latencies(1, 40)), run(2, latencies(2, 40)));
+
+        List<RegressionDetector.Comparison> comparisons = detector.compare(run(3, latencies(3, 60)), baseline);
+
+        assertEquals(1, comparisons.size());
+        assertTrue(comparisons.get(0).isRegression(), comparisons.get(0).describe());
+    }
+
+    @Test
+    @DisplayName("Validate a significant but small shift is not a regression")
+    public void testSmallShiftIgnored() {
+        RegressionDetector detector = new RegressionDetector(0.01, 1.2, 20);
+        List<PerformanceRun> baseline = List.of(run(1, latencies(1, 40)), run(2, latencies(2, 40)));
+
+        RegressionDetector.Comparison comparison = detector.compare(run(3, latencies(3, 44)), baseline).get(0);
+
+        assertFalse(comparison.isRegression(), comparison.describe());
+    }
+
+    @Test
+    @DisplayName("Validate runs are stored one file each and read back oldest first")
+    public void testStoreRoundTrip(@TempDir Path directory) throws IOException {
+        BaselineStore store = new BaselineStore(directory);
+        store.append(run(100, new long[]{1, 2, 3}));
+        store.append(run(200, new long[]{4, 5}));
+        store.append(run(300, new long[]{6}));
+
+        List<PerformanceRun> latest = store.latest(2);
+
+        assertEquals(2, latest.size());
+        assertEquals(200, latest.get(0).getStartedAt());
+        assertArrayEquals(new long[]{4, 5}, latest.get(0).getEndpointLatencies().get(ENDPOINT));
+        assertEquals(40L, latest.get(1).getTestDurations().get("[test:1]"));
+    }
+
+    @Test
+    @DisplayName("Validate endpoint keys group requests by host, path shape and query names")
+    public void testEndpointKey() {
+        assertEquals("GET 127.0.0.1/posts/{id}", PerformanceRecorder.endpointKey("GET", "http://127.0.0.1:4312/posts/7"));
+        assertEquals("GET example.com/comments?postId",
+                PerformanceRecorder.endpointKey("GET", "https://example.com/comments?postId=3"));
+        assertEquals("GET example.com/photos?_limit&_page",
+                PerformanceRecorder.endpointKey("GET", "https://example.com/photos?_page=2&_limit=10"));
+    }
+}
@@ -0,0 +1,182 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.BatchClient;
+import com.automation.api.client.BatchResult;
+import com.automation.api.client.StatusOnlyClient;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInEngine;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.TodosData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Batch Request Tests")
+public class BatchTests extends StandInSetUp {
+
+    private static final int TODOS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String TODO = "{\"title\": \"" + TodosData.TODO_TITLE + "\", \"completed\": " + TodosData.TODO_COMPLETED
+            + ", \"userId\": " + TodosData.DEFAULT_TODO_USER_ID + "}";
+
+    @Test
+    @DisplayName("Validate a batch answers every operation in order with its own status and body")
+    public void testBatchEndpoint() {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            String operations = "["
+                    + "{\"method\": \"POST\", \"path\": \"" + Endpoints.TODOS + "\", \"body\": " + TODO + "},"
+                    + "{\"method\": \"PATCH\", \"path\": \"" + Endpoints.todoById(TodosData.DEFAULT_TODO_ID)
+                    + "\", \"body\": {\"title\": \"" + TodosData.UPDATED_TODO_TITLE + "\"}},"
+                    + "{\"method\": \"DELETE\", \"path\": \"" + Endpoints.todoById(2) + "\"},"
+                    + "{\"method\": \"GET\", \"path\": \"" + Endpoints.todoById(TodosData.INVALID_ID) + "\"},"
+                    + "{\"method\": \"GET\", \"path\": \"" + Endpoints.TODOS + "?userId=2&" + Endpoints.LIMIT_PARAM + "=3\"},"
+                    + "{\"method\": \"POST\", \"path\": \"" + Endpoints.BATCH + "\", \"body\": []},"
+                    + "{\"path\": \"" + Endpoints.TODOS + "\"}"
+                    + "]";
+
+            given().spec(spec).contentType(ContentType.JSON).body(operations).post(Endpoints.BATCH)
+                    .then().statusCode(200)
+                    .body("status", contains(201, 200, 200, 404, 200, 400, 400))
+                    .body("[0].body.title", equalTo(TodosData.TODO_TITLE))
+                    .body("[1].body.id", equalTo(TodosData.DEFAULT_TODO_ID))
+                    .body("[1].body.title", equalTo(TodosData.UPDATED_TODO_TITLE))
+                    .body("[4].body.userId", contains(2, 2, 2));
+
+            // The operations took effect as if they had been sent one by one
+            given().spec(spec).get(Endpoints.todoById(2)).then().statusCode(404);
+            given().spec(spec).get(Endpoints.todoById(TodosData.DEFAULT_TODO_ID))
+                    .then().statusCode(200).body("title", equalTo(TodosData.UPDATED_TODO_TITLE));
+
+            given().spec(spec).contentType(ContentType.JSON).body(TODO).post(Endpoints.BATCH).then().statusCode(400);
+            given().spec(spec).get(Endpoints.BATCH).then().statusCode(405);
+        }
+    }
+
+    @Test
+    @DisplayName("Validate streamed listings are refused inside a batch and error bodies stay valid JSON")
+    public void testStreamedOperationsAreRefused() {
+        try (StandInServer server = StandInServer.start(0, null, StandInEngine.VIRTUAL_THREADS, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            // A backslash and a control character in the path are echoed in the error message
+            String operations = "["
+                    + "{\"method\": \"GET\", \"path\": \"" + Endpoints.PHOTOS + "\"},"
+                    + "{\"method\": \"GET\", \"path\": \"" + Endpoints.PHOTOS + "?" + Endpoints.FORMAT_PARAM + "="
+                    + Endpoints.NDJSON_FORMAT + "&" + Endpoints.LIMIT_PARAM + "=2\"},"
+                    + "{\"method\": \"GET\", \"path\": \"" + Endpoints.PHOTOS + "?" + Endpoints.LIMIT_PARAM + "=2\"},"
+                    + "{\"method\": \"GET\", \"path\": \"/un\\\\known\\u0001\"}"
+                    + "]";
+
+            given().spec(spec).contentType(ContentType.JSON).body(operations).post(Endpoints.BATCH)
+                    .then().statusCode(200)
+                    .body("status", contains(400, 400, 200, 404))
+                    .body("[0].body.error", containsString("streamed"))
+                    .body("[2].body", hasSize(2))
+                    .body("[3].body.error", equalTo("Not found: /un\\known\u0001"));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate the batch client groups operations by size and by linger time")
+    public void testClientGroupsOperations() throws Exception {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+
+            // A linger this long never fires below, every batch is sent because it is full
+            try (BatchClient batch = BatchClient.using(spec).maxBatchSize(BATCH_SIZE).linger(Duration.ofMinutes(1))) {
+                List<CompletableFuture<BatchResult>> created = new ArrayList<>();
+                for (int i = 0; i < 4 * BATCH_SIZE; i++) {
+                    created.add(batch.post(Endpoints.TODOS, TODO));
+                }
+                Set<Integer> ids = new HashSet<>();
+                for (CompletableFuture<BatchResult> result : created) {
+                    assertEquals(201, result.get(30, TimeUnit.SECONDS).statusCode(), result.get().body());
+                    ids.add(result.get().path("id"));
+                }
+                assertEquals(4 * BATCH_SIZE, ids.size(), "Every caller should get its own entity back");
+                assertEquals(4, batch.getBatches());
+            }
+
+            // Fewer operations than a batch holds go out once the first has lingered
+            try (BatchClient batch = BatchClient.using(spec).linger(Duration.ofMillis(20))) {
+                CompletableFuture<BatchResult> found = batch.get(Endpoints.todoById(TodosData.DEFAULT_TODO_ID));
+                CompletableFuture<BatchResult> missing = batch.get(Endpoints.todoById(TodosData.INVALID_ID));
+                assertEquals(TodosData.DEFAULT_TODO_ID, (int) found.get(30, TimeUnit.SECONDS).path("id"));
+                assertEquals(404, missing.get(30, TimeUnit.SECONDS).statusCode());
+                assertEquals(1, batch.getBatches());
+                assertThrows(IllegalStateException.class, () -> batch.maxInFlight(2),
+                        "The senders are started by the first operation, a later limit would be ignored");
+            }
+
+            // A batch the server refuses fails its operations and is not counted
+            RequestSpecification failing = newRequestSpecBuilder(server.getBaseUrl())
+                    .addHeader(FaultProfiles.HEADER, FaultProfiles.SERVER_ERROR).build();
+            try (BatchClient batch = BatchClient.using(failing).linger(Duration.ofMillis(20))) {
+                CompletableFuture<BatchResult> refused = batch.get(Endpoints.todoById(TodosData.DEFAULT_TODO_ID));
+                assertThrows(ExecutionException.class, () -> refused.get(30, TimeUnit.SECONDS));
+                assertEquals(0, batch.getBatches());
+                assertEquals(0, batch.getOperations());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> BatchClient.using(requestSpec).post(Endpoints.TODOS, "{title"));
+    }
+
+    @Test
+    @DisplayName("Validate batching seeds todos in a tenth of the round-trips and less time")
+    public void testBatchingCutsRoundTrips() throws Exception {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+
+            StatusOnlyClient single = StatusOnlyClient.using(spec);
+            long start = System.nanoTime();
+            for (int i = 0; i < TODOS; i++) {
+                assertEquals(201, single.post(Endpoints.TODOS, TODO).statusCode());
+            }
+            long oneByOne = System.nanoTime() - start;
+
+            long batches;
+            start = System.nanoTime();
+            try (BatchClient batch = BatchClient.using(spec).maxBatchSize(BATCH_SIZE)) {
+                List<CompletableFuture<BatchResult>> created = new ArrayList<>();
+                for (int i = 0; i < TODOS; i++) {
+                    created.add(batch.post(Endpoints.TODOS, TODO));
+                }
+                for (CompletableFuture<BatchResult> result : created) {
+                    assertEquals(201, result.get(30, TimeUnit.SECONDS).statusCode());
+                }
+                batches = batch.getBatches();
+            }
+            long batched = System.nanoTime() - start;
+
+            String report = String.format(Locale.ROOT, "%d todos%nOne by one: %d round-trips, %.0f ms%n"
+                            + "Batched by %d: %d round-trips, %.0f ms%n", TODOS, TODOS, oneByOne / 1e6, BATCH_SIZE, batches,
+                    batched / 1e6);
+            Allure.addAttachment("Batched seeding", "text/plain", report, ".txt");
+            assertTrue(batches * 10 <= TODOS, report);
+            assertTrue(batched < oneByOne, report);
+            given().spec(spec).queryParam(Endpoints.LIMIT_PARAM, 1).get(Endpoints.TODOS)
+                    .then().statusCode(200).header("X-Total-Count", String.valueOf(200 + 2 * TODOS));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.standin.StoreJournal;
+import com.automation.api.testdata.CommentsData;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Durable Stand-in Store Tests")
+public class DurableStoreTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int SEED_POSTS = SeedData.USERS * SeedData.POSTS_PER_USER;
+    private static final int WAL_CAPACITY = 1 << 20;
+    private static final Duration NO_BACKGROUND_COMPACTION = Duration.ofHours(1);
+
+    @TempDir
+    private Path directory;
+
+    private static ObjectNode post(String title) {
+        return MAPPER.createObjectNode()
+                .put("title", title)
+                .put("body", PostsData.POST_BODY)
+                .put("userId", PostsData.POST_USER_ID);
+    }
+
+    /**
+     * Copy the journal files as they are on disk right now, which is what a crash would leave behind
+     */
+    private static Path copyAsCrashed(Path source, Path target) throws IOException {
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.filter(file -> !file.toString().endsWith(".tmp")).toList()) {
+                Files.copy(file, target.resolve(file.getFileName()));
+            }
+        }
+        return target;
+    }
+
+    @Test
+    @DisplayName("Validate writes survive a stand-in restart")
+    public void testWritesSurviveRestart() {
+        Path data = directory.resolve("data");
+        try (StandInServer server = StandInServer.start(0, data)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).contentType(ContentType.JSON).body(post(PostsData.POST_TITLE).toString())
+                    .post(Endpoints.POSTS).then().statusCode(201).body("id", equalTo(SEED_POSTS + 1));
+            given().spec(spec).contentType(ContentType.JSON).body(post(PostsData.UPDATED_POST_TITLE).toString())
+                    .put(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(200);
+            given().spec(spec).delete(Endpoints.commentById(CommentsData.DEFAULT_COMMENT_ID)).then().statusCode(200);
+        }
+
+        try (StandInServer server = StandInServer.start(0, data)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).get(Endpoints.postById(SEED_POSTS + 1))
+                    .then().statusCode(200).body("title", equalTo(PostsData.POST_TITLE));
+            given().spec(spec).get(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+                    .then().statusCode(200).body("title", equalTo(PostsData.UPDATED_POST_TITLE));
+            given().spec(spec).get(Endpoints.commentById(CommentsData.DEFAULT_COMMENT_ID)).then().statusCode(404);
+            given().spec(spec).contentType(ContentType.JSON).body(post(PostsData.POST_TITLE).toString())
+                    .post(Endpoints.POSTS).then().statusCode(201).body("id", equalTo(SEED_POSTS + 2));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate acknowledged writes are recovered from the log after a crash")
+    public void testRecoveryAfterCrash() throws Exception {
+        Path data = directory.resolve("data");
+        StoreJournal journal = StoreJournal.open(data, WAL_CAPACITY, NO_BACKGROUND_COMPACTION);
+        Path crashed;
+        try {
+            // Waits for the initial snapshot, so the copy below does not race with background work
+            journal.compact();
+
+            ExecutorService writers = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int w = 0; w < 8; w++) {
+                    int writer = w;
+                    futures.add(writers.submit(() -> {
+                        for (int i = 0; i < 100; i++) {
+                            journal.create(Resource.POSTS, post(PostsData.POST_TITLE + " " + writer + "-" + i));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                writers.shutdownNow();
+            }
+            journal.delete(Resource.POSTS, PostsData.DEFAULT_POST_ID);
+            Allure.addAttachment("Group commit", "text/plain",
+                    journal.getRecords() + " records in " + journal.getSyncs() + " disk syncs", ".txt");
+
+            crashed = copyAsCrashed(data, directory.resolve("crashed"));
+        } finally {
+            journal.close();
+        }
+
+        StoreJournal recovered = StoreJournal.open(crashed, WAL_CAPACITY, NO_BACKGROUND_COMPACTION);
+        try {
+            assertEquals(SEED_POSTS + 800 - 1, recovered.getStores().get(Resource.POSTS).size());
+            assertNull(recovered.getStores().get(Resource.POSTS).get(PostsData.DEFAULT_POST_ID));
+            assertEquals(SEED_POSTS + 800, recovered.getStores().get(Resource.POSTS).getLastId());
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Validate a snapshot restores the full dataset faster than parsing it as JSON")
+    public void testSnapshotRestore() throws IOException {
+        Path data = directory.resolve("data");
+        StoreJournal.open(data, WAL_CAPACITY, NO_BACKGROUND_COMPACTION).close();
+
+        // The same dataset as JSON documents, one per resource, like seed files would hold it
+        Map<Resource, List<ObjectNode>> seed = SeedData.generate();
+        List<byte[]> documents = new ArrayList<>();
+        for (List<ObjectNode> entities : seed.values()) {
+            documents.add(MAPPER.writeValueAsBytes(entities));
+        }
+
+        long jsonNanos = Long.MAX_VALUE;
+        long snapshotNanos = Long.MAX_VALUE;
+        StoreJournal restored = null;
+        // Best of five, the first rounds mostly measure class loading and the JIT
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            int parsed = 0;
+            for (byte[] document : documents) {
+                parsed += MAPPER.readTree(document).size();
+            }
+            jsonNanos = Math.min(jsonNanos, System.nanoTime() - start);
+            assertTrue(parsed > 0);
+
+            restored = StoreJournal.open(data, WAL_CAPACITY, NO_BACKGROUND_COMPACTION);
+            snapshotNanos = Math.min(snapshotNanos, restored.getRecoveryTime().toNanos());
+            restored.close();
+        }
+        Allure.addAttachment("Restore time", "text/plain", String.format(Locale.ROOT,
+                "JSON parse: %.1f ms%nsnapshot restore: %.1f ms%n", jsonNanos / 1e6, snapshotNanos / 1e6), ".txt");
+
+        for (Resource resource : Resource.values()) {
+            assertEquals(seed.get(resource).size(), restored.getStores().get(resource).size(), resource.name());
+        }
+        assertEquals(seed.get(Resource.USERS).get(0), restored.getStores().get(Resource.USERS).get(1),
+                "Nested objects should be restored field for field");
+    }
+}
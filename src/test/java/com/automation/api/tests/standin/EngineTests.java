@@ -0,0 +1,135 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.EngineBenchmark;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInEngine;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Server Engine Tests")
+public class EngineTests extends StandInSetUp {
+
+    private static final int PHOTOS = SeedData.USERS * SeedData.ALBUMS_PER_USER * SeedData.PHOTOS_PER_ALBUM;
+
+    /**
+     * Read the responses of pipelined requests and return the body of each
+     */
+    private static List<String> readBodies(BufferedReader reader, int responses) throws IOException {
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < responses; i++) {
+            int length = -1;
+            String line;
+            while (!(line = reader.readLine()).isEmpty()) {
+                if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    length = Integer.parseInt(line.substring(15).trim());
+                }
+            }
+            assertTrue(length >= 0, "Responses should carry a Content-Length");
+            char[] body = new char[length];
+            int read = 0;
+            while (read < length) {
+                read += reader.read(body, read, length - read);
+            }
+            bodies.add(new String(body));
+        }
+        return bodies;
+    }
+
+    @Test
+    @DisplayName("Validate both engines serve the same API")
+    public void testEnginesServeTheSameApi() {
+        for (StandInEngine engine : StandInEngine.values()) {
+            try (StandInServer server = StandInServer.start(0, null, engine)) {
+                RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+
+                given().spec(spec).get(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+                        .then().statusCode(200).body("id", equalTo(PostsData.DEFAULT_POST_ID));
+                given().spec(spec).queryParam(Endpoints.PAGE_PARAM, 2).queryParam(Endpoints.LIMIT_PARAM, 5)
+                        .get(Endpoints.PHOTOS)
+                        .then().statusCode(200).header("X-Total-Count", String.valueOf(PHOTOS)).body("size()", equalTo(5));
+                given().spec(spec).contentType(ContentType.JSON)
+                        .body("{\"title\": \"" + PostsData.POST_TITLE + "\", \"body\": \"" + PostsData.POST_BODY
+                                + "\", \"userId\": " + PostsData.POST_USER_ID + "}")
+                        .post(Endpoints.POSTS).then().statusCode(201).body("title", equalTo(PostsData.POST_TITLE));
+                given().spec(spec).get(Endpoints.postById(PostsData.INVALID_ID)).then().statusCode(404);
+                given().spec(spec).header(FaultProfiles.HEADER, FaultProfiles.THROTTLED)
+                        .get(Endpoints.POSTS).then().statusCode(429).header("Retry-After", "1");
+                given().spec(spec).header(FaultProfiles.HEADER, FaultProfiles.TRICKLE_PHOTOS)
+                        .queryParam("albumId", 1)
+                        .get(Endpoints.PHOTOS).then().statusCode(200).body("size()", equalTo(SeedData.PHOTOS_PER_ALBUM));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Validate the event loop answers pipelined requests in order on one connection")
+    public void testPipelining() throws IOException {
+        try (StandInServer server = StandInServer.start(0, null, StandInEngine.EVENT_LOOP);
+             Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            StringBuilder requests = new StringBuilder();
+            for (int id = 1; id <= 5; id++) {
+                requests.append("GET ").append(Endpoints.postById(id)).append(" HTTP/1.1\r\nHost: 127.0.0.1\r\n\r\n");
+            }
+            // All five requests leave in one write, before any response is read
+            OutputStream out = socket.getOutputStream();
+            out.write(requests.toString().getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            List<String> bodies = readBodies(reader, 5);
+            for (int id = 1; id <= 5; id++) {
+                assertTrue(bodies.get(id - 1).contains("\"id\":" + id + ","), "Response " + id + " out of order: " + bodies.get(id - 1));
+            }
+
+            // The connection stays open for more
+            out.write(("GET " + Endpoints.postById(6) + " HTTP/1.1\r\nHost: 127.0.0.1\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            assertTrue(readBodies(reader, 1).get(0).contains("\"id\":6,"));
+            assertNull(reader.readLine(), "Connection: close should end the connection after the response");
+        }
+    }
+
+    @Test
+    @DisplayName("Validate both engines hold many concurrent keep-alive connections")
+    public void testConcurrentConnections() throws InterruptedException {
+        // The bundled benchmark runs 10k connections, a few hundred keep the suite fast and within file limits
+        EngineBenchmark benchmark = EngineBenchmark.of(500).duration(Duration.ofSeconds(2));
+        StringBuilder report = new StringBuilder();
+        for (StandInEngine engine : StandInEngine.values()) {
+            EngineBenchmark.Result result = benchmark.run(engine);
+            report.append(result.describe());
+
+            assertEquals(500, result.getOpened(), result.describe());
+            assertTrue(result.getRequests() > 500, result.describe());
+            if (engine == StandInEngine.EVENT_LOOP) {
+                assertEquals(0, result.getErrors(), result.describe());
+                assertEquals(0, result.getReconnects(), "Keep-alive connections should stay open: " + result.describe());
+            }
+        }
+        Allure.addAttachment("Engine benchmark", "text/plain", report.toString(), ".txt");
+    }
+}
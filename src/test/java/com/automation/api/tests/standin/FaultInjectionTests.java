@@ -0,0 +1,120 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.WithFaults;
+import com.automation.api.testdata.PhotosData;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Fault Injection Tests")
+public class FaultInjectionTests extends StandInSetUp {
+
+    @Test
+    @DisplayName("Validate stand-in serves posts normally when no fault profile is selected")
+    public void testNoFaults() {
+        given()
+                .spec(requestSpec)
+        .when()
+                .get(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(PostsData.DEFAULT_POST_ID));
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.SLOW)
+    @DisplayName("Validate slow profile delays every response by at least 200ms")
+    public void testSlowProfile() {
+        given()
+                .spec(requestSpec)
+        .when()
+                .get(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+        .then()
+                .statusCode(200)
+                .time(greaterThanOrEqualTo(200L));
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.UNAVAILABLE)
+    @DisplayName("Validate unavailable profile answers 503 with a Retry-After header")
+    public void testUnavailableProfile() {
+        given()
+                .spec(requestSpec)
+        .when()
+                .get(Endpoints.POSTS)
+        .then()
+                .statusCode(503)
+                .header("Retry-After", notNullValue());
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.THROTTLED)
+    @DisplayName("Validate throttled profile answers 429")
+    public void testThrottledProfile() {
+        Response resp = given()
+                .spec(requestSpec)
+        .when()
+                .get(Endpoints.POSTS)
+        .then()
+                .extract()
+                .response();
+
+        assertEquals(429, resp.statusCode(), "Expected status 429 from throttled profile, got: " + resp.statusCode());
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.FLAKY)
+    @DisplayName("Validate flaky profile fails some but not all requests")
+    public void testFlakyProfile() {
+        int failures = 0;
+        for (int i = 0; i < 50; i++) {
+            int statusCode = given()
+                    .spec(requestSpec)
+            .when()
+                    .get(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+            .then()
+                    .extract()
+                    .statusCode();
+            if (statusCode != 200) {
+                assertTrue(statusCode == 500 || statusCode == 503, "Unexpected status from flaky profile: " + statusCode);
+                failures++;
+            }
+        }
+
+        assertTrue(failures > 0 && failures < 50, "Expected some injected failures out of 50, got: " + failures);
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.TRICKLE_PHOTOS)
+    @DisplayName("Validate trickled photos still arrive complete")
+    public void testTricklePhotos() {
+        given()
+                .spec(requestSpec)
+                .queryParam("albumId", PhotosData.DEFAULT_PHOTO_ALBUM_ID)
+        .when()
+                .get(Endpoints.PHOTOS)
+        .then()
+                .statusCode(200)
+                .body("size()", greaterThan(0))
+                .body("albumId", everyItem(equalTo(PhotosData.DEFAULT_PHOTO_ALBUM_ID)));
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.DROP)
+    @DisplayName("Validate drop profile closes the connection without a response")
+    public void testDropProfile() {
+        assertThrows(Exception.class, () -> given()
+                .spec(requestSpec)
+        .when()
+                .get(Endpoints.POSTS));
+    }
+}
@@ -0,0 +1,69 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.EntityGraph;
+import com.automation.api.client.GraphFetcher;
+import com.automation.api.standin.SeedData;
+import com.automation.api.testdata.UsersData;
+import com.automation.api.utils.Resource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Relationship Graph Fetch Tests")
+public class GraphFetchTests extends StandInSetUp {
+
+    @Test
+    @DisplayName("Validate a user's whole graph is fetched with a handful of batched requests")
+    public void testFetchUserGraph() {
+        EntityGraph graph = GraphFetcher.using(requestSpec).fetch(Resource.USERS, UsersData.DEFAULT_USER_ID);
+
+        assertEquals(1, graph.size(Resource.USERS));
+        assertEquals(SeedData.POSTS_PER_USER, graph.size(Resource.POSTS));
+        assertEquals(SeedData.POSTS_PER_USER * SeedData.COMMENTS_PER_POST, graph.size(Resource.COMMENTS));
+        assertEquals(SeedData.ALBUMS_PER_USER, graph.size(Resource.ALBUMS));
+        assertEquals(SeedData.ALBUMS_PER_USER * SeedData.PHOTOS_PER_ALBUM, graph.size(Resource.PHOTOS));
+        assertEquals(SeedData.TODOS_PER_USER, graph.size(Resource.TODOS));
+
+        // Root, then posts/albums/todos, then comments/photos: one request per resource instead of one per parent
+        assertEquals(6, graph.getRequestCount(), "Expected one batched request per resource");
+    }
+
+    @Test
+    @DisplayName("Validate every comment in a user's graph belongs to one of the user's posts")
+    public void testGraphCoherence() {
+        EntityGraph graph = GraphFetcher.using(requestSpec)
+                .only(Resource.POSTS, Resource.COMMENTS)
+                .fetch(Resource.USERS, UsersData.DEFAULT_USER_ID);
+
+        for (Map<String, Object> post : graph.all(Resource.POSTS)) {
+            assertEquals(UsersData.DEFAULT_USER_ID, post.get("userId"), "Post should belong to the root user");
+            int postId = (Integer) post.get("id");
+            assertEquals(SeedData.COMMENTS_PER_POST, graph.childrenOf(Resource.POSTS, postId, Resource.COMMENTS).size(),
+                    "Unexpected comment count for post " + postId);
+        }
+        for (Map<String, Object> comment : graph.all(Resource.COMMENTS)) {
+            assertNotNull(graph.get(Resource.POSTS, (Integer) comment.get("postId")),
+                    "Comment " + comment.get("id") + " references a post outside the graph");
+        }
+        assertEquals(0, graph.size(Resource.ALBUMS), "Albums were not included");
+    }
+
+    @Test
+    @DisplayName("Validate small batch sizes split filter queries without duplicating entities")
+    public void testSmallBatches() {
+        EntityGraph graph = GraphFetcher.using(requestSpec)
+                .only(Resource.ALBUMS, Resource.PHOTOS)
+                .batchSize(3)
+                .fetch(Resource.USERS, 1, 2, 2);
+
+        assertEquals(2, graph.size(Resource.USERS));
+        assertEquals(2 * SeedData.ALBUMS_PER_USER * SeedData.PHOTOS_PER_ALBUM, graph.size(Resource.PHOTOS));
+        // 1 root + 1 albums request + 20 albums in batches of 3
+        assertEquals(1 + 1 + 7, graph.getRequestCount());
+    }
+}
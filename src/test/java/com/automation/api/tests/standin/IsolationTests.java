@@ -0,0 +1,132 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Test Isolation Tests")
+public class IsolationTests extends StandInSetUp {
+
+    private static final int TESTS = 32;
+
+    private static final String POST = "{\"title\": \"" + PostsData.POST_TITLE + "\", \"body\": \"" + PostsData.POST_BODY
+            + "\", \"userId\": " + PostsData.POST_USER_ID + "}";
+
+    @BeforeEach
+    public void withoutDefaultSpec() {
+        // The requests below pick their namespace themselves, the default spec would add this test's to all of them
+        RestAssured.requestSpecification = null;
+    }
+
+    private static RequestSpecification inNamespace(StandInServer server, String namespace) {
+        return given().baseUri(server.getBaseUrl()).header(StandInServer.NAMESPACE_HEADER, namespace);
+    }
+
+    @Test
+    @DisplayName("Validate the harness isolates this test's writes on the shared stand-in")
+    public void testHarnessSetsNamespace() {
+        assertNotNull(namespace, "The harness should name a namespace for every test");
+        assertTrue(namespace.endsWith("[method:testHarnessSetsNamespace()]"), namespace);
+
+        given().spec(requestSpec).delete(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(200);
+        given().spec(requestSpec).get(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(404);
+
+        // A request without the header, like any other test's, still sees the seed data
+        given().baseUri(standIn.getBaseUrl()).get(Endpoints.postById(PostsData.DEFAULT_POST_ID))
+                .then().statusCode(200).body("id", equalTo(PostsData.DEFAULT_POST_ID));
+    }
+
+    @Test
+    @DisplayName("Validate namespaces start from the seed data and do not see each other's writes")
+    public void testNamespacesAreIndependent() {
+        try (StandInServer server = StandInServer.start(0)) {
+            server.setIsolation(true);
+            int nextId = SeedData.USERS * SeedData.POSTS_PER_USER + 1;
+
+            // Reads alone do not create a namespace
+            inNamespace(server, "a").get(Endpoints.postById(1)).then().statusCode(200);
+            assertEquals(0, server.getNamespaceCount());
+
+            inNamespace(server, "a").delete(Endpoints.postById(1)).then().statusCode(200);
+            inNamespace(server, "a").contentType(ContentType.JSON).body(POST).post(Endpoints.POSTS)
+                    .then().statusCode(201).body("id", equalTo(nextId));
+            inNamespace(server, "b").contentType(ContentType.JSON).body(POST).post(Endpoints.POSTS)
+                    .then().statusCode(201).body("id", equalTo(nextId));
+            assertEquals(2, server.getNamespaceCount());
+
+            inNamespace(server, "a").get(Endpoints.postById(1)).then().statusCode(404);
+            inNamespace(server, "a").get(Endpoints.POSTS).then().statusCode(200).body("size()", equalTo(nextId - 1));
+            inNamespace(server, "b").get(Endpoints.postById(1)).then().statusCode(200);
+            inNamespace(server, "c").get(Endpoints.postById(1)).then().statusCode(200);
+            given().baseUri(server.getBaseUrl()).get(Endpoints.postById(nextId)).then().statusCode(404);
+
+            server.setIsolation(false);
+            assertEquals(0, server.getNamespaceCount());
+            inNamespace(server, "a").get(Endpoints.postById(1)).then().statusCode(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Validate parallel tests deleting the same post do not break each other")
+    public void testParallelCrud() throws Exception {
+        try (StandInServer server = StandInServer.start(0)) {
+            server.setIsolation(true);
+            ExecutorService executor = Executors.newFixedThreadPool(TESTS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> tests = new ArrayList<>();
+            try {
+                for (int i = 0; i < TESTS; i++) {
+                    String namespace = "test-" + i;
+                    boolean deletes = i % 2 == 0;
+                    tests.add(executor.submit(() -> {
+                        start.await();
+                        long begin = System.nanoTime();
+                        // Half the tests delete post 1, the other half read it like GetPostsTests does
+                        if (deletes) {
+                            inNamespace(server, namespace).delete(Endpoints.postById(1)).then().statusCode(200);
+                            inNamespace(server, namespace).get(Endpoints.postById(1)).then().statusCode(404);
+                        } else {
+                            inNamespace(server, namespace).get(Endpoints.postById(1))
+                                    .then().statusCode(200).body("id", equalTo(1));
+                        }
+                        return System.nanoTime() - begin;
+                    }));
+                }
+                start.countDown();
+                long slowest = 0;
+                for (Future<Long> test : tests) {
+                    slowest = Math.max(slowest, test.get());
+                }
+                Allure.addAttachment("Parallel isolated tests", "text/plain", String.format(Locale.ROOT,
+                        "%d tests, %d namespaces written, slowest test %.1f ms%n", TESTS, server.getNamespaceCount(),
+                        slowest / 1e6), ".txt");
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(TESTS / 2, server.getNamespaceCount());
+            given().baseUri(server.getBaseUrl()).get(Endpoints.postById(1)).then().statusCode(200);
+        }
+    }
+}
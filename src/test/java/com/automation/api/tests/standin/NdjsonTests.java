@@ -0,0 +1,134 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.NdjsonReader;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInEngine;
+import com.automation.api.standin.StandInRouter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in NDJSON Streaming Tests")
+public class NdjsonTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final SeedData LARGEST = SeedData.atScale(SeedData.MAX_SCALE);
+    // Heap a streamed listing may take on top of what was used before it, both sides together
+    private static final long MAX_HEAP_GROWTH = 32L << 20;
+
+    private static int[] ids(String ndjson) throws IOException {
+        String[] lines = ndjson.split("\n");
+        int[] ids = new int[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode record = MAPPER.readTree(lines[i]);
+            assertTrue(record.isObject(), lines[i]);
+            ids[i] = record.get("id").asInt();
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Validate format=ndjson lists one entity per line, chunked, with filters and pagination")
+    public void testNdjsonFormat() throws IOException {
+        String all = given().spec(requestSpec).queryParam(Endpoints.FORMAT_PARAM, Endpoints.NDJSON_FORMAT)
+                .get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .header("Content-Type", startsWith(StandInRouter.NDJSON_MEDIA_TYPE))
+                .header("Transfer-Encoding", equalTo("chunked"))
+                .extract().asString();
+        assertTrue(all.endsWith("\n"), "Every line should end with a newline");
+        assertEquals(SeedData.USERS * SeedData.POSTS_PER_USER, ids(all).length);
+
+        String page = given().spec(requestSpec).queryParam(Endpoints.FORMAT_PARAM, Endpoints.NDJSON_FORMAT)
+                .queryParam("userId", 1).queryParam(Endpoints.START_PARAM, 2).queryParam(Endpoints.LIMIT_PARAM, 3)
+                .get(Endpoints.POSTS)
+                .then().statusCode(200).extract().asString();
+        assertArrayEquals(new int[] {3, 4, 5}, ids(page));
+
+        // Asking for the media type does the same as the parameter
+        String sorted = given().spec(requestSpec).header("Accept", StandInRouter.NDJSON_MEDIA_TYPE)
+                .queryParam(Endpoints.SORT_PARAM, "id").queryParam(Endpoints.ORDER_PARAM, "desc")
+                .queryParam(Endpoints.LIMIT_PARAM, 2)
+                .get(Endpoints.TODOS)
+                .then().statusCode(200).extract().asString();
+        int todos = SeedData.USERS * SeedData.TODOS_PER_USER;
+        assertArrayEquals(new int[] {todos, todos - 1}, ids(sorted));
+    }
+
+    @Test
+    @DisplayName("Validate the reader consumes a 1000x collection with constant memory on both sides")
+    public void testStreamAtScaleInConstantMemory() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        StringBuilder report = new StringBuilder();
+        for (StandInEngine engine : StandInEngine.values()) {
+            try (StandInServer server = StandInServer.start(0, null, engine, SeedData.MAX_SCALE)) {
+                RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+                System.gc();
+                long before = memory.getHeapMemoryUsage().getUsed();
+                long[] peak = new long[1];
+                int[] lastId = new int[1];
+
+                long start = System.nanoTime();
+                long count = NdjsonReader.using(spec).forEach(Endpoints.COMMENTS, comment -> {
+                    int id = (Integer) comment.get("id");
+                    assertEquals(lastId[0] + 1, id, "Records should arrive in id order");
+                    lastId[0] = id;
+                    if (id % 100_000 == 0) {
+                        System.gc();
+                        peak[0] = Math.max(peak[0], memory.getHeapMemoryUsage().getUsed() - before);
+                    }
+                });
+                long nanos = System.nanoTime() - start;
+
+                assertEquals(LARGEST.count(Resource.COMMENTS), count, engine.getName());
+                report.append(String.format(Locale.ROOT, "%s: %,d comments in %.1f s, heap growth at most %.1f MB%n",
+                        engine.getName(), count, nanos / 1e9, peak[0] / 1e6));
+                assertTrue(peak[0] < MAX_HEAP_GROWTH, report.toString());
+            }
+        }
+        Allure.addAttachment("NDJSON at 1000x", "text/plain", report.toString(), ".txt");
+    }
+
+    @Test
+    @DisplayName("Validate closing a stream early stops the transfer and leaves the stand-in serving")
+    public void testEarlyClose() {
+        try (StandInServer server = StandInServer.start(0, null, StandInEngine.EVENT_LOOP, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            NdjsonReader reader = NdjsonReader.using(spec);
+
+            long start = System.nanoTime();
+            List<Map<String, Object>> first;
+            try (Stream<Map<String, Object>> photos = reader.stream(Endpoints.PHOTOS)) {
+                first = photos.limit(10).toList();
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(10, first.size());
+            // Reading all 5 million photos takes far longer, the server only got as far as the connection let it
+            assertTrue(millis < 5_000, "Taking 10 photos took " + millis + " ms");
+
+            try (Stream<Map<String, Object>> comments = reader.stream(Endpoints.COMMENTS + "?postId=70000")) {
+                assertEquals(SeedData.COMMENTS_PER_POST, comments.filter(comment -> comment.get("postId").equals(70_000)).count());
+            }
+        }
+    }
+}
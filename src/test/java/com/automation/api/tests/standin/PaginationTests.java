@@ -0,0 +1,104 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.PageIterator;
+import com.automation.api.client.Paginator;
+import com.automation.api.standin.SeedData;
+import com.automation.api.testdata.PhotosData;
+import com.automation.api.utils.Endpoints;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Paginated Fetch Tests")
+public class PaginationTests extends StandInSetUp {
+
+    private static final int TOTAL_PHOTOS = SeedData.USERS * SeedData.ALBUMS_PER_USER * SeedData.PHOTOS_PER_ALBUM;
+
+    @Test
+    @DisplayName("Validate stand-in returns one page with the total count header")
+    public void testStandInPage() {
+        given()
+                .spec(requestSpec)
+                .queryParam(Endpoints.PAGE_PARAM, 2)
+                .queryParam(Endpoints.LIMIT_PARAM, 10)
+        .when()
+                .get(Endpoints.POSTS)
+        .then()
+                .statusCode(200)
+                .header("X-Total-Count", equalTo("100"))
+                .body("size()", equalTo(10))
+                .body("[0].id", equalTo(11));
+    }
+
+    @Test
+    @DisplayName("Validate pages past the end are empty and negative page parameters are rejected")
+    public void testStandInPageBounds() {
+        // (3 - 1) * 1500000000 overflows an int, the page is still past the end
+        given().spec(requestSpec).queryParam(Endpoints.PAGE_PARAM, 3).queryParam(Endpoints.LIMIT_PARAM, 1_500_000_000)
+                .get(Endpoints.POSTS)
+                .then().statusCode(200).header("X-Total-Count", equalTo("100")).body("size()", equalTo(0));
+        given().spec(requestSpec).queryParam(Endpoints.START_PARAM, 10).queryParam(Endpoints.LIMIT_PARAM, Integer.MAX_VALUE)
+                .get(Endpoints.POSTS)
+                .then().statusCode(200).body("size()", equalTo(90)).body("[0].id", equalTo(11));
+
+        given().spec(requestSpec).queryParam(Endpoints.LIMIT_PARAM, -1).get(Endpoints.POSTS).then().statusCode(400);
+        given().spec(requestSpec).queryParam(Endpoints.PAGE_PARAM, -2).get(Endpoints.POSTS).then().statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Validate paginator streams every photo in order with concurrent prefetch")
+    public void testStreamAllPhotos() {
+        int expectedId = 1;
+        try (Stream<Map<String, Object>> photos = Paginator.over(requestSpec, Endpoints.PHOTOS).pageSize(500).maxInFlight(3).stream()) {
+            for (Map<String, Object> photo : (Iterable<Map<String, Object>>) photos::iterator) {
+                assertEquals(expectedId++, photo.get("id"), "Photos should arrive in id order");
+            }
+        }
+
+        assertEquals(TOTAL_PHOTOS + 1, expectedId, "Expected every photo to be streamed exactly once");
+    }
+
+    @Test
+    @DisplayName("Validate paginator applies filters and handles a short last page")
+    public void testFilteredPagesWithStartStyle() {
+        List<Map<String, Object>> photos;
+        try (Stream<Map<String, Object>> stream = Paginator.over(requestSpec, Endpoints.PHOTOS)
+                .where("albumId", PhotosData.DEFAULT_PHOTO_ALBUM_ID)
+                .style(Paginator.Style.START)
+                .pageSize(7)
+                .stream()) {
+            photos = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(SeedData.PHOTOS_PER_ALBUM, photos.size(), "Expected every photo of the album");
+        assertTrue(photos.stream().allMatch(photo -> photo.get("albumId").equals(PhotosData.DEFAULT_PHOTO_ALBUM_ID)),
+                "Every photo should belong to the filtered album");
+    }
+
+    @Test
+    @DisplayName("Validate paginator can be abandoned early")
+    public void testEarlyClose() {
+        try (PageIterator iterator = Paginator.over(requestSpec, Endpoints.COMMENTS).pageSize(50).maxInFlight(4).iterator()) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(iterator.hasNext(), "Expected at least 10 comments");
+                iterator.next();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Validate paginator rejects a non-positive page size")
+    public void testInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> Paginator.over(requestSpec, Endpoints.POSTS).pageSize(0));
+    }
+}
@@ -0,0 +1,185 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.client.StatusOnlyClient;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.standin.StoreJournal;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.testdata.UsersData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in PATCH Tests")
+public class PatchTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int WARM_UP = 50;
+    private static final int ROUNDS = 200;
+    private static final int LARGE_BODY_CHARS = 512 * 1024;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Validate a merge patch changes nested fields, removes null ones and keeps the rest")
+    public void testMergeSemantics() {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            String street = given().spec(spec).get(Endpoints.userById(UsersData.DEFAULT_USER_ID))
+                    .then().statusCode(200).extract().path("address.street");
+
+            MergePatch patch = MergePatch.of(Resource.USERS)
+                    .set("address.city", "Lisbon")
+                    .remove("address.geo")
+                    .remove("website")
+                    .set("phone", UsersData.UPDATED_USER_PHONE);
+            given().spec(spec).contentType(MergePatch.CONTENT_TYPE).body(patch.toJson())
+                    .patch(Endpoints.userById(UsersData.DEFAULT_USER_ID))
+                    .then().statusCode(200)
+                    .body("id", equalTo(UsersData.DEFAULT_USER_ID))
+                    .body("phone", equalTo(UsersData.UPDATED_USER_PHONE));
+
+            given().spec(spec).get(Endpoints.userById(UsersData.DEFAULT_USER_ID))
+                    .then().statusCode(200)
+                    .body("address.city", equalTo("Lisbon"))
+                    .body("address.street", equalTo(street))
+                    .body("address", not(hasKey("geo")))
+                    .body("$", not(hasKey("website")))
+                    .body("username", notNullValue());
+
+            // The id in a patch is ignored, a body that is not an object is rejected
+            given().spec(spec).contentType(ContentType.JSON).body("{\"id\": 2, \"name\": \"" + UsersData.USER_NAME + "\"}")
+                    .patch(Endpoints.userById(UsersData.DEFAULT_USER_ID))
+                    .then().statusCode(200).body("id", equalTo(UsersData.DEFAULT_USER_ID));
+            given().spec(spec).get(Endpoints.userById(2)).then().statusCode(200).body("name", not(UsersData.USER_NAME));
+            given().spec(spec).contentType(ContentType.JSON).body("[]")
+                    .patch(Endpoints.userById(UsersData.DEFAULT_USER_ID)).then().statusCode(400);
+            given().spec(spec).contentType(ContentType.JSON).body("{}").patch(Endpoints.USERS).then().statusCode(404);
+        }
+        assertThrows(IllegalArgumentException.class, () -> MergePatch.of(Resource.POSTS).remove("title"));
+        assertThrows(IllegalArgumentException.class, () -> MergePatch.of(Resource.POSTS).set("id", 2));
+    }
+
+    @Test
+    @DisplayName("Validate patches are logged and replayed after a crash")
+    public void testPatchesAreDurable() throws IOException {
+        Path data = directory.resolve("data");
+        Path crashed = directory.resolve("crashed");
+        StoreJournal journal = StoreJournal.open(data, 1 << 20, Duration.ofHours(1));
+        try {
+            // Waits for the initial snapshot, so the patches below are only in the log
+            journal.compact();
+            journal.patch(Resource.POSTS, PostsData.DEFAULT_POST_ID,
+                    MAPPER.createObjectNode().put("title", PostsData.UPDATED_POST_TITLE));
+            journal.patch(Resource.POSTS, PostsData.DEFAULT_POST_ID, MAPPER.createObjectNode().putNull("body"));
+            assertNull(journal.patch(Resource.POSTS, PostsData.INVALID_ID, MAPPER.createObjectNode().put("title", "")));
+
+            // What a crash would leave behind
+            Files.createDirectories(crashed);
+            try (Stream<Path> files = Files.list(data)) {
+                for (Path file : files.filter(file -> !file.toString().endsWith(".tmp")).toList()) {
+                    Files.copy(file, crashed.resolve(file.getFileName()));
+                }
+            }
+        } finally {
+            journal.close();
+        }
+
+        StoreJournal recovered = StoreJournal.open(crashed, 1 << 20, Duration.ofHours(1));
+        try {
+            ObjectNode post = recovered.getStores().get(Resource.POSTS).get(PostsData.DEFAULT_POST_ID);
+            assertEquals(PostsData.UPDATED_POST_TITLE, post.get("title").asText());
+            assertFalse(post.has("body"), post.toString());
+            assertEquals(PostsData.POST_USER_ID, post.get("userId").asInt());
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Validate PATCH of one field is faster than PUT of the whole document")
+    public void testPatchVersusPutLatency() throws IOException {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            StatusOnlyClient client = StatusOnlyClient.using(spec);
+            StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%-10s %10s %12s %12s%n",
+                    "resource", "bytes", "PUT median", "PATCH median"));
+
+            for (Resource resource : Resource.values()) {
+                String path = resource.getPath() + "/1";
+                long[] medians = putVersusPatch(client, spec, path, resource);
+                report.append(String.format(Locale.ROOT, "%-10s %10d %9.3f ms %9.3f ms%n", resource, medians[2],
+                        medians[0] / 1e6, medians[1] / 1e6));
+            }
+
+            String body = "lorem ipsum ".repeat(LARGE_BODY_CHARS / 12);
+            int id = given().spec(spec).contentType(ContentType.JSON)
+                    .body(MAPPER.createObjectNode().put("title", PostsData.POST_TITLE).put("body", body)
+                            .put("userId", PostsData.POST_USER_ID).toString())
+                    .post(Endpoints.POSTS).then().statusCode(201).extract().path("id");
+            long[] large = putVersusPatch(client, spec, Endpoints.postById(id), Resource.POSTS);
+            report.append(String.format(Locale.ROOT, "%-10s %10d %9.3f ms %9.3f ms%n", "large post", large[2],
+                    large[0] / 1e6, large[1] / 1e6));
+
+            Allure.addAttachment("PUT vs PATCH latency", "text/plain", report.toString(), ".txt");
+            // The patch sends and parses a few bytes instead of the whole document
+            assertTrue(large[1] < large[0], report.toString());
+        }
+    }
+
+    /**
+     * Alternate PUT of the whole entity and PATCH of one field, both setting the same field to the same value
+     *
+     * @return the PUT median and the PATCH median in nanoseconds, and the size of the PUT body in bytes
+     */
+    private static long[] putVersusPatch(StatusOnlyClient client, RequestSpecification spec, String path, Resource resource)
+            throws IOException {
+        ObjectNode entity = (ObjectNode) MAPPER.readTree(given().spec(spec).get(path).then().statusCode(200)
+                .extract().asByteArray());
+        long[] puts = new long[ROUNDS];
+        long[] patches = new long[ROUNDS];
+        int bytes = 0;
+        for (int i = -WARM_UP; i < ROUNDS; i++) {
+            String put = entity.put("revision", i).toString();
+            bytes = put.length();
+            long start = System.nanoTime();
+            assertEquals(200, client.put(path, put).statusCode());
+            long putNanos = System.nanoTime() - start;
+
+            String patch = MergePatch.of(resource).set("revision", i).toJson();
+            start = System.nanoTime();
+            assertEquals(200, client.patch(path, patch).statusCode());
+            long patchNanos = System.nanoTime() - start;
+            if (i >= 0) {
+                puts[i] = putNanos;
+                patches[i] = patchNanos;
+            }
+        }
+        given().spec(spec).get(path).then().statusCode(200).body("revision", equalTo(ROUNDS - 1));
+        Arrays.sort(puts);
+        Arrays.sort(patches);
+        return new long[] {puts[ROUNDS / 2], patches[ROUNDS / 2], bytes};
+    }
+}
@@ -0,0 +1,157 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInRequest;
+import com.automation.api.standin.StandInResponse;
+import com.automation.api.standin.StandInRouter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PhotosData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Query Tests")
+public class QueryTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("Validate a repeated filter matches any of its values")
+    public void testMultiValueFilter() {
+        given().spec(requestSpec).queryParam("albumId", 1, 3).get(Endpoints.PHOTOS)
+                .then().statusCode(200)
+                .body("size()", equalTo(2 * SeedData.PHOTOS_PER_ALBUM))
+                .body("albumId", everyItem(anyOf(equalTo(1), equalTo(3))))
+                .body("[0].id", equalTo(1))
+                .body("[50].id", equalTo(2 * SeedData.PHOTOS_PER_ALBUM + 1));
+    }
+
+    @Test
+    @DisplayName("Validate range operators bound a field from both sides")
+    public void testRangeOperators() {
+        given().spec(requestSpec).queryParam("albumId" + Endpoints.GTE_SUFFIX, 2)
+                .queryParam("albumId" + Endpoints.LTE_SUFFIX, 3).get(Endpoints.PHOTOS)
+                .then().statusCode(200)
+                .body("size()", equalTo(2 * SeedData.PHOTOS_PER_ALBUM))
+                .body("albumId", everyItem(allOf(greaterThanOrEqualTo(2), lessThanOrEqualTo(3))));
+
+        given().spec(requestSpec).queryParam("id" + Endpoints.GTE_SUFFIX, 10)
+                .queryParam("id" + Endpoints.LTE_SUFFIX, 12).get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .body("id", contains(10, 11, 12));
+    }
+
+    @Test
+    @DisplayName("Validate sorting by number and by text in both directions")
+    public void testSorting() {
+        given().spec(requestSpec).queryParam(Endpoints.SORT_PARAM, "albumId").queryParam(Endpoints.ORDER_PARAM, "desc")
+                .queryParam(Endpoints.LIMIT_PARAM, 3).get(Endpoints.PHOTOS)
+                .then().statusCode(200)
+                .header("X-Total-Count", String.valueOf(SeedData.USERS * SeedData.ALBUMS_PER_USER * SeedData.PHOTOS_PER_ALBUM))
+                .body("albumId", everyItem(equalTo(SeedData.USERS * SeedData.ALBUMS_PER_USER)))
+                .body("id", contains(4951, 4952, 4953));
+
+        given().spec(requestSpec).queryParam(Endpoints.SORT_PARAM, "id").queryParam(Endpoints.ORDER_PARAM, "desc")
+                .queryParam(Endpoints.LIMIT_PARAM, 3).get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .body("id", contains(100, 99, 98));
+
+        for (String order : List.of("asc", "desc")) {
+            List<String> titles = given().spec(requestSpec).queryParam("userId", 1)
+                    .queryParam(Endpoints.SORT_PARAM, "title").queryParam(Endpoints.ORDER_PARAM, order)
+                    .get(Endpoints.POSTS)
+                    .then().statusCode(200).body("size()", equalTo(SeedData.POSTS_PER_USER))
+                    .extract().path("title");
+            for (int i = 1; i < titles.size(); i++) {
+                int comparison = titles.get(i - 1).compareTo(titles.get(i));
+                assertTrue(order.equals("asc") ? comparison <= 0 : comparison >= 0, order + ": " + titles);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Validate writes move entities between index entries")
+    public void testIndexFollowsWrites() {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            // Reading first caches the album, so the write has to invalidate it as well
+            given().spec(spec).queryParam("albumId", 2).get(Endpoints.PHOTOS)
+                    .then().statusCode(200).body("size()", equalTo(SeedData.PHOTOS_PER_ALBUM));
+
+            given().spec(spec).contentType(ContentType.JSON)
+                    .body("{\"albumId\": 2, \"title\": \"" + PhotosData.PHOTO_TITLE + "\", \"url\": \"" + PhotosData.PHOTO_URL
+                            + "\", \"thumbnailUrl\": \"" + PhotosData.PHOTO_THUMBNAIL_URL + "\"}")
+                    .put(Endpoints.photoById(3)).then().statusCode(200);
+            given().spec(spec).delete(Endpoints.photoById(60)).then().statusCode(200);
+
+            given().spec(spec).queryParam("albumId", 1).get(Endpoints.PHOTOS)
+                    .then().statusCode(200)
+                    .body("size()", equalTo(SeedData.PHOTOS_PER_ALBUM - 1))
+                    .body("id", not(hasItem(3)));
+            given().spec(spec).queryParam("albumId", 2).get(Endpoints.PHOTOS)
+                    .then().statusCode(200)
+                    .body("size()", equalTo(SeedData.PHOTOS_PER_ALBUM))
+                    .body("id", hasItem(3))
+                    .body("id", not(hasItem(60)))
+                    .body("[0].id", equalTo(3));
+            given().spec(spec).queryParam(Endpoints.SORT_PARAM, "albumId").queryParam(Endpoints.LIMIT_PARAM, 3)
+                    .get(Endpoints.PHOTOS)
+                    .then().statusCode(200)
+                    .body("id", contains(1, 2, 4));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate foreign key filters take under a millisecond at 1000x")
+    public void testIndexedFiltersAtScale() throws IOException {
+        SeedData seed = SeedData.atScale(SeedData.MAX_SCALE);
+        StandInRouter router = new StandInRouter(seed);
+        StringBuilder report = new StringBuilder();
+
+        for (Resource resource : List.of(Resource.PHOTOS, Resource.COMMENTS)) {
+            int parents = seed.count(resource.getParent());
+            String path = resource.getPath();
+            // Warm up, then time the rest, every request asks for another parent so none comes out of the cache
+            long[] nanos = new long[1000];
+            for (int i = -200; i < nanos.length; i++) {
+                int parent = (int) ((long) (i + 200) * 7919 % parents) + 1;
+                StandInRequest request = new StandInRequest("GET", path, resource.getForeignKey() + "=" + parent, Map.of(), null);
+                long start = System.nanoTime();
+                StandInResponse response = router.handle(request);
+                long elapsed = System.nanoTime() - start;
+                assertEquals(200, response.getStatus());
+                if (i >= 0) {
+                    nanos[i] = elapsed;
+                } else {
+                    JsonNode page = MAPPER.readTree(response.getBody());
+                    assertEquals(SeedData.perParent(resource), page.size(), path);
+                    assertEquals(parent, page.get(0).get(resource.getForeignKey()).asInt(), path);
+                }
+            }
+            Arrays.sort(nanos);
+            long median = nanos[nanos.length / 2];
+            report.append(String.format(Locale.ROOT, "%s?%s=: median %.3f ms, p99 %.3f ms%n", path,
+                    resource.getForeignKey(), median / 1e6, nanos[nanos.length * 99 / 100] / 1e6));
+            assertTrue(median < 1_000_000, report.toString());
+        }
+        Allure.addAttachment("Indexed filters at 1000x", "text/plain", report.toString(), ".txt");
+    }
+}
@@ -0,0 +1,132 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.ResponseCache;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInRequest;
+import com.automation.api.standin.StandInResponse;
+import com.automation.api.standin.StandInRouter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.qameta.allure.Allure;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Response Cache Tests")
+public class ResponseCacheTests extends StandInSetUp {
+
+    private static final int PHOTOS = SeedData.USERS * SeedData.ALBUMS_PER_USER * SeedData.PHOTOS_PER_ALBUM;
+
+    private static String encodingFor(StandInRouter router, List<String> acceptEncoding) {
+        return router.handle(new StandInRequest("GET", Endpoints.PHOTOS, null, Map.of("Accept-Encoding", acceptEncoding), null))
+                .getHeaders().get("Content-Encoding");
+    }
+
+    private static StandInRequest get(String path, String query) {
+        return new StandInRequest("GET", path, query, Map.of(), null);
+    }
+
+    @Test
+    @DisplayName("Validate repeated collection requests are served without serializing again")
+    public void testRepeatedListIsCached() {
+        StandInRouter router = new StandInRouter(SeedData.generate());
+        ResponseCache cache = router.getResponseCache();
+
+        long start = System.nanoTime();
+        StandInResponse first = router.handle(get(Endpoints.PHOTOS, null));
+        long serializeNanos = System.nanoTime() - start;
+
+        int repeats = 200;
+        start = System.nanoTime();
+        StandInResponse cached = null;
+        for (int i = 0; i < repeats; i++) {
+            cached = router.handle(get(Endpoints.PHOTOS, null));
+        }
+        long cachedNanos = (System.nanoTime() - start) / repeats;
+        Allure.addAttachment("Cached /photos", "text/plain", String.format(Locale.ROOT,
+                "%d bytes%nserialized: %.2f ms%ncached: %.3f ms per request%n",
+                first.getBodyLength(), serializeNanos / 1e6, cachedNanos / 1e6), ".txt");
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(repeats, cache.getHits());
+        assertArrayEquals(first.getBody(), cached.getBody());
+        assertFalse(cached.getBodyBuffer().hasArray(), "Cached bodies should be served from direct buffers");
+
+        router.handle(get(Endpoints.PHOTOS, "albumId=1&_limit=5"));
+        router.handle(get(Endpoints.PHOTOS, "_limit=5&albumId=1"));
+        assertEquals(2, cache.getMisses(), "Parameter order should not create a second entry");
+    }
+
+    @Test
+    @DisplayName("Validate a write invalidates the cached views of its resource only")
+    public void testWriteInvalidates() {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            ResponseCache cache = server.getResponseCache();
+
+            given().spec(spec).queryParam("userId", PostsData.POST_USER_ID).get(Endpoints.POSTS)
+                    .then().statusCode(200).body("size()", equalTo(SeedData.POSTS_PER_USER));
+            given().spec(spec).get(Endpoints.COMMENTS).then().statusCode(200);
+
+            given().spec(spec).contentType(ContentType.JSON)
+                    .body("{\"title\": \"" + PostsData.POST_TITLE + "\", \"body\": \"" + PostsData.POST_BODY
+                            + "\", \"userId\": " + PostsData.POST_USER_ID + "}")
+                    .post(Endpoints.POSTS).then().statusCode(201);
+
+            long hits = cache.getHits();
+            given().spec(spec).queryParam("userId", PostsData.POST_USER_ID).get(Endpoints.POSTS)
+                    .then().statusCode(200).body("size()", equalTo(SeedData.POSTS_PER_USER + 1));
+            assertEquals(hits, cache.getHits(), "The posts view should be rebuilt after the write");
+
+            given().spec(spec).get(Endpoints.COMMENTS).then().statusCode(200);
+            assertEquals(hits + 1, cache.getHits(), "Comments did not change and should stay cached");
+        }
+    }
+
+    @Test
+    @DisplayName("Validate clients accepting gzip receive the precompressed body")
+    public void testGzipVariant() {
+        given().spec(requestSpec).header("Accept-Encoding", "gzip")
+                .get(Endpoints.PHOTOS)
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .body("size()", equalTo(PHOTOS));
+
+        // REST Assured appends its own decoders to Accept-Encoding unless they are turned off
+        given().spec(requestSpec)
+                .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "identity")
+                .get(Endpoints.PHOTOS)
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body("size()", equalTo(PHOTOS));
+
+        StandInRouter router = new StandInRouter(SeedData.generate());
+        StandInResponse small = router.handle(new StandInRequest("GET", Endpoints.POSTS, "id=1",
+                Map.of("Accept-Encoding", List.of("gzip")), null));
+        assertNull(small.getHeaders().get("Content-Encoding"),
+                "Bodies under " + ResponseCache.GZIP_MIN_BYTES + " bytes should not be compressed");
+
+        // Every token counts with its quality, on every header line
+        assertEquals("gzip", encodingFor(router, List.of("identity", "deflate, gzip;q=0.5")));
+        assertEquals("gzip", encodingFor(router, List.of("*")));
+        assertNull(encodingFor(router, List.of("gzip;q=0, identity")));
+        assertNull(encodingFor(router, List.of("*;q=1, gzip;q=0")));
+        assertNull(encodingFor(router, List.of("identity")));
+    }
+}
@@ -0,0 +1,169 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInEngine;
+import com.automation.api.standin.StandInRequest;
+import com.automation.api.standin.StandInResponse;
+import com.automation.api.standin.StandInRouter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PhotosData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Scaled Stand-in Data Tests")
+public class ScaledDataTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final SeedData LARGEST = SeedData.atScale(SeedData.MAX_SCALE);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Validate the generated data is the same on every run and at every scale")
+    public void testDeterministic() {
+        assertEquals(SeedData.generate(), SeedData.atScale(1).materialize());
+        for (Resource resource : Resource.values()) {
+            assertEquals(SeedData.atScale(1).entity(resource, 1), LARGEST.entity(resource, 1), resource.name());
+            assertEquals(LARGEST.entity(resource, LARGEST.count(resource)),
+                    SeedData.atScale(SeedData.MAX_SCALE).entity(resource, LARGEST.count(resource)), resource.name());
+            assertNull(LARGEST.entity(resource, LARGEST.count(resource) + 1), resource.name());
+        }
+        assertEquals(5_000_000, LARGEST.count(Resource.PHOTOS));
+        assertThrows(IllegalArgumentException.class, () -> SeedData.atScale(SeedData.MAX_SCALE + 1));
+    }
+
+    @Test
+    @DisplayName("Validate foreign keys point at existing parents at 1000x")
+    public void testForeignKeysAtScale() {
+        try (StandInServer server = StandInServer.start(0, null, StandInEngine.VIRTUAL_THREADS, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            int lastPhoto = LARGEST.count(Resource.PHOTOS);
+            int albumId = given().spec(spec).get(Endpoints.photoById(lastPhoto))
+                    .then().statusCode(200).extract().path("albumId");
+            assertEquals(LARGEST.count(Resource.ALBUMS), albumId);
+            int userId = given().spec(spec).get(Endpoints.albumById(albumId))
+                    .then().statusCode(200).extract().path("userId");
+            given().spec(spec).get(Endpoints.userById(userId)).then().statusCode(200).body("id", equalTo(userId));
+
+            given().spec(spec).queryParam("postId", 70_000).get(Endpoints.COMMENTS)
+                    .then().statusCode(200)
+                    .body("size()", equalTo(SeedData.COMMENTS_PER_POST))
+                    .body("postId", everyItem(equalTo(70_000)));
+            given().spec(spec).get(Endpoints.photoById(PhotosData.INVALID_ID)).then().statusCode(404);
+        }
+    }
+
+    @Test
+    @DisplayName("Validate pages report the scaled total and are cut without reading the whole store")
+    public void testPaginationAtScale() {
+        try (StandInServer server = StandInServer.start(0, null, StandInEngine.VIRTUAL_THREADS, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).queryParam(Endpoints.LIMIT_PARAM, 1).get(Endpoints.PHOTOS)
+                    .then().statusCode(200)
+                    .header("X-Total-Count", String.valueOf(LARGEST.count(Resource.PHOTOS)))
+                    .body("size()", equalTo(1))
+                    .body("[0].id", equalTo(1));
+            given().spec(spec).queryParam(Endpoints.PAGE_PARAM, 2).queryParam(Endpoints.LIMIT_PARAM, 10)
+                    .get(Endpoints.TODOS)
+                    .then().statusCode(200)
+                    .header("X-Total-Count", String.valueOf(LARGEST.count(Resource.TODOS)))
+                    .body("id", contains(11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate writes apply on top of generated data")
+    public void testWritesOverGeneratedData() {
+        try (StandInServer server = StandInServer.start(0, null, StandInEngine.VIRTUAL_THREADS, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            int lastPhoto = LARGEST.count(Resource.PHOTOS);
+            String photo = "{\"albumId\": 1, \"title\": \"" + PhotosData.PHOTO_TITLE + "\", \"url\": \"" + PhotosData.PHOTO_URL
+                    + "\", \"thumbnailUrl\": \"" + PhotosData.PHOTO_THUMBNAIL_URL + "\"}";
+
+            given().spec(spec).delete(Endpoints.photoById(2)).then().statusCode(200);
+            given().spec(spec).get(Endpoints.photoById(2)).then().statusCode(404);
+            given().spec(spec).delete(Endpoints.photoById(2)).then().statusCode(404);
+
+            given().spec(spec).contentType(ContentType.JSON).body(photo)
+                    .put(Endpoints.photoById(3)).then().statusCode(200);
+            given().spec(spec).get(Endpoints.photoById(3)).then().statusCode(200).body("title", equalTo(PhotosData.PHOTO_TITLE));
+
+            given().spec(spec).contentType(ContentType.JSON).body(photo)
+                    .post(Endpoints.PHOTOS).then().statusCode(201).body("id", equalTo(lastPhoto + 1));
+            given().spec(spec).queryParam(Endpoints.LIMIT_PARAM, 3).get(Endpoints.PHOTOS)
+                    .then().statusCode(200)
+                    .header("X-Total-Count", String.valueOf(lastPhoto))
+                    .body("id", contains(1, 3, 4));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate unpaginated listings with many matches are streamed, filtered or not")
+    public void testLargeListingIsStreamed() throws IOException {
+        StandInRouter router = new StandInRouter(LARGEST);
+        StandInResponse photos = router.handle(new StandInRequest("GET", Endpoints.PHOTOS, null, Map.of(), null));
+        assertTrue(photos.isStreamed(), "Listing 5,000,000 photos should not be built in memory");
+        String broad = "albumId" + Endpoints.GTE_SUFFIX + "=2";
+        assertTrue(router.handle(new StandInRequest("GET", Endpoints.PHOTOS, broad, Map.of(), null)).isStreamed(),
+                "A filter matching millions of photos should not be built in memory either");
+        assertFalse(router.handle(new StandInRequest("GET", Endpoints.PHOTOS, broad + "&" + Endpoints.LIMIT_PARAM + "=5",
+                Map.of(), null)).isStreamed(), "A page of the same filter should be cached");
+        assertFalse(router.handle(new StandInRequest("GET", Endpoints.COMMENTS, "postId=1", Map.of(), null)).isStreamed());
+
+        int todos = LARGEST.count(Resource.TODOS);
+        StringBuilder report = new StringBuilder();
+        for (StandInEngine engine : StandInEngine.values()) {
+            try (StandInServer server = StandInServer.start(0, null, engine, SeedData.MAX_SCALE)) {
+                RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+                long start = System.nanoTime();
+                byte[] body = given().spec(spec).get(Endpoints.TODOS)
+                        .then().statusCode(200).header("Transfer-Encoding", "chunked")
+                        .extract().asByteArray();
+                report.append(String.format(Locale.ROOT, "%s: %d todos, %d bytes in %.0f ms%n",
+                        engine.getName(), todos, body.length, (System.nanoTime() - start) / 1e6));
+                assertEquals(todos, MAPPER.readTree(body).size(), engine.getName());
+            }
+        }
+        Allure.addAttachment("Streamed /todos at 1000x", "text/plain", report.toString(), ".txt");
+    }
+
+    @Test
+    @DisplayName("Validate durable data at scale keeps its writes and refuses another scale")
+    public void testDurableAtScale() {
+        Path data = directory.resolve("data");
+        int lastPost = LARGEST.count(Resource.POSTS);
+        try (StandInServer server = StandInServer.start(0, data, StandInEngine.VIRTUAL_THREADS, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).delete(Endpoints.postById(lastPost)).then().statusCode(200);
+            server.getJournal().compact();
+        }
+
+        try (StandInServer server = StandInServer.start(0, data, StandInEngine.VIRTUAL_THREADS, SeedData.MAX_SCALE)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            given().spec(spec).get(Endpoints.postById(lastPost)).then().statusCode(404);
+            given().spec(spec).get(Endpoints.postById(lastPost - 1)).then().statusCode(200);
+            assertEquals(lastPost - 1, server.getJournal().getStores().get(Resource.POSTS).size());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> StandInServer.start(0, data, StandInEngine.VIRTUAL_THREADS, 1));
+    }
+}
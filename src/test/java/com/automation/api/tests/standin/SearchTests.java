@@ -0,0 +1,171 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInRequest;
+import com.automation.api.standin.StandInResponse;
+import com.automation.api.standin.StandInRouter;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stand-in Full-text Search Tests")
+public class SearchTests extends StandInSetUp {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static String postJson(String title) {
+        return "{\"title\": \"" + title + "\", \"body\": \"" + PostsData.POST_BODY + "\", \"userId\": " + PostsData.POST_USER_ID + "}";
+    }
+
+    private static boolean containsWord(String text, String word) {
+        return Arrays.asList(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")).contains(word);
+    }
+
+    @Test
+    @DisplayName("Validate q matches whole words in any text field regardless of case")
+    public void testSearchMatchesWords() {
+        String title = given().spec(requestSpec).get(Endpoints.postById(1))
+                .then().statusCode(200).extract().path("title");
+        String word = title.split(" ")[0];
+
+        List<Map<String, Object>> posts = given().spec(requestSpec)
+                .queryParam(Endpoints.SEARCH_PARAM, word.toUpperCase(Locale.ROOT)).get(Endpoints.POSTS)
+                .then().statusCode(200).body("id", hasItem(1))
+                .extract().jsonPath().getList("$");
+        for (Map<String, Object> post : posts) {
+            assertTrue(containsWord(post.get("title") + " " + post.get("body"), word), "No '" + word + "' in " + post);
+        }
+
+        given().spec(requestSpec).queryParam(Endpoints.SEARCH_PARAM, word).queryParam(Endpoints.LIMIT_PARAM, 2)
+                .get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .header("X-Total-Count", String.valueOf(posts.size()))
+                .body("size()", equalTo(Math.min(2, posts.size())));
+        given().spec(requestSpec).queryParam(Endpoints.SEARCH_PARAM, "example").get(Endpoints.COMMENTS)
+                .then().statusCode(200)
+                .body("size()", equalTo(SeedData.USERS * SeedData.POSTS_PER_USER * SeedData.COMMENTS_PER_POST));
+        given().spec(requestSpec).queryParam(Endpoints.SEARCH_PARAM, "nowhere").get(Endpoints.TODOS)
+                .then().statusCode(200).body("size()", equalTo(0));
+    }
+
+    @Test
+    @DisplayName("Validate q requires every word and combines with filters")
+    public void testSearchCombinesWithFilters() {
+        String title = given().spec(requestSpec).get(Endpoints.postById(1))
+                .then().statusCode(200).extract().path("title");
+
+        given().spec(requestSpec).queryParam(Endpoints.SEARCH_PARAM, title).get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .body("id", hasItem(1));
+        String word = title.split(" ")[0];
+        given().spec(requestSpec).queryParam(Endpoints.SEARCH_PARAM, word).queryParam("userId", 1)
+                .queryParam(Endpoints.SORT_PARAM, "id").queryParam(Endpoints.ORDER_PARAM, "desc")
+                .get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .body("userId", everyItem(equalTo(1)))
+                .body("id", hasItem(1))
+                .body("[-1].id", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Validate search follows created, replaced and deleted entities")
+    public void testSearchFollowsWrites() {
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+            // Searching first builds the index, so the writes below have to update it
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, "quokka").get(Endpoints.POSTS)
+                    .then().statusCode(200).body("size()", equalTo(0));
+
+            int id = given().spec(spec).contentType(ContentType.JSON).body(postJson("Quokka census"))
+                    .post(Endpoints.POSTS).then().statusCode(201).extract().path("id");
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, "quokka").get(Endpoints.POSTS)
+                    .then().statusCode(200).body("id", contains(id));
+
+            given().spec(spec).contentType(ContentType.JSON).body(postJson("Wombat census"))
+                    .put(Endpoints.postById(id)).then().statusCode(200);
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, "quokka").get(Endpoints.POSTS)
+                    .then().statusCode(200).body("size()", equalTo(0));
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, "wombat census").get(Endpoints.POSTS)
+                    .then().statusCode(200).body("id", contains(id));
+
+            String title = given().spec(spec).get(Endpoints.postById(1)).then().extract().path("title");
+            given().spec(spec).contentType(ContentType.JSON).body(postJson("Wombat sighting"))
+                    .put(Endpoints.postById(1)).then().statusCode(200);
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, "wombat").get(Endpoints.POSTS)
+                    .then().statusCode(200).body("id", contains(1, id));
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, title).get(Endpoints.POSTS)
+                    .then().statusCode(200).body("id", not(hasItem(1)));
+
+            given().spec(spec).delete(Endpoints.postById(id)).then().statusCode(200);
+            given().spec(spec).queryParam(Endpoints.SEARCH_PARAM, "census").get(Endpoints.POSTS)
+                    .then().statusCode(200).body("size()", equalTo(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate search finds every match at 1000x without scanning")
+    public void testSearchAtScale() throws IOException {
+        SeedData seed = SeedData.atScale(SeedData.MAX_SCALE);
+        StandInRouter router = new StandInRouter(seed);
+        String query = "magna aliqua";
+
+        long start = System.nanoTime();
+        StandInResponse first = router.handle(new StandInRequest("GET", Endpoints.POSTS,
+                Endpoints.SEARCH_PARAM + "=magna+aliqua&" + Endpoints.LIMIT_PARAM + "=10", Map.of(), null));
+        double buildMillis = (System.nanoTime() - start) / 1e6;
+
+        int expected = 0;
+        for (int id = 1; id <= seed.count(Resource.POSTS); id++) {
+            ObjectNode post = seed.entity(Resource.POSTS, id);
+            String text = post.get("title").asText() + " " + post.get("body").asText();
+            if (containsWord(text, "magna") && containsWord(text, "aliqua")) {
+                expected++;
+            }
+        }
+        assertEquals(String.valueOf(expected), first.getHeaders().get("X-Total-Count"), query);
+        for (JsonNode post : MAPPER.readTree(first.getBody())) {
+            String text = post.get("title").asText() + " " + post.get("body").asText();
+            assertTrue(containsWord(text, "magna") && containsWord(text, "aliqua"), post.toString());
+        }
+
+        // Every request asks for another page so none comes out of the cache
+        String[] queries = {"magna+aliqua", "lorem", "tempor+incididunt+labore"};
+        long[] nanos = new long[300];
+        for (int i = 0; i < nanos.length; i++) {
+            String rawQuery = Endpoints.SEARCH_PARAM + "=" + queries[i % queries.length] + "&"
+                    + Endpoints.PAGE_PARAM + "=" + (1 + i / queries.length) + "&" + Endpoints.LIMIT_PARAM + "=10";
+            start = System.nanoTime();
+            assertEquals(200, router.handle(new StandInRequest("GET", Endpoints.POSTS, rawQuery, Map.of(), null)).getStatus());
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long median = nanos[nanos.length / 2];
+        String report = String.format(Locale.ROOT, "%,d posts, %d match '%s'%nIndex build and first page: %.0f ms%n"
+                        + "Search median %.3f ms, p99 %.3f ms%n", seed.count(Resource.POSTS), expected, query, buildMillis,
+                median / 1e6, nanos[nanos.length * 99 / 100] / 1e6);
+        Allure.addAttachment("Search at 1000x", "text/plain", report, ".txt");
+        // A scan reads all 100,000 posts, well over this
+        assertTrue(median < 100_000_000, report);
+    }
+}
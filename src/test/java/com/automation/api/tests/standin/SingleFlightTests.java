@@ -0,0 +1,121 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.SingleFlightFilter;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.standin.WithFaults;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Single-flight GET Coalescing Tests")
+@WithFaults(FaultProfiles.SLOW)
+public class SingleFlightTests extends StandInSetUp {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    @DisplayName("Validate identical concurrent GETs share one network call")
+    public void testConcurrentGetsAreCoalesced() throws Exception {
+        SingleFlightFilter singleFlight = new SingleFlightFilter();
+
+        List<Response> responses = runConcurrently(() -> given()
+                .spec(requestSpec)
+                .filter(singleFlight)
+        .when()
+                .get(Endpoints.POSTS)
+        .then()
+                .extract()
+                .response());
+
+        String expectedBody = responses.get(0).asString();
+        for (Response resp : responses) {
+            assertEquals(200, resp.statusCode(), "Every caller should receive the response status");
+            assertEquals(expectedBody, resp.asString(), "Every caller should receive the same body");
+        }
+        assertTrue(singleFlight.getNetworkCalls() < CALLERS,
+                "Expected coalescing, but every caller went to the network: " + singleFlight.getNetworkCalls());
+        assertEquals(CALLERS, singleFlight.getNetworkCalls() + singleFlight.getCoalescedCalls());
+    }
+
+    @Test
+    @DisplayName("Validate GETs for different resources are not coalesced")
+    public void testDifferentUrlsAreNotCoalesced() {
+        SingleFlightFilter singleFlight = new SingleFlightFilter();
+
+        given().spec(requestSpec).filter(singleFlight).get(Endpoints.postById(1)).then().statusCode(200);
+        given().spec(requestSpec).filter(singleFlight).get(Endpoints.postById(2)).then().statusCode(200);
+
+        assertEquals(2, singleFlight.getNetworkCalls());
+        assertEquals(0, singleFlight.getCoalescedCalls());
+    }
+
+    @Test
+    @DisplayName("Validate non-GET requests always reach the server")
+    public void testPostsAreNeverCoalesced() throws Exception {
+        SingleFlightFilter singleFlight = new SingleFlightFilter();
+
+        // Created posts persist, a stand-in of this test's own keeps them out of the shared seed data
+        try (StandInServer server = StandInServer.start(0)) {
+            RequestSpecification spec = newRequestSpecBuilder(server.getBaseUrl()).build();
+
+            List<Response> responses = runConcurrently(() -> given()
+                    .spec(spec)
+                    .filter(singleFlight)
+                    .contentType(ContentType.JSON)
+                    .body("{\"title\": \"" + PostsData.POST_TITLE + "\", \"body\": \"" + PostsData.POST_BODY
+                            + "\", \"userId\": " + PostsData.POST_USER_ID + "}")
+            .when()
+                    .post(Endpoints.POSTS)
+            .then()
+                    .extract()
+                    .response());
+
+            responses.forEach(resp -> assertEquals(201, resp.statusCode()));
+            assertEquals(CALLERS, responses.stream().map(resp -> resp.path("id")).distinct().count(),
+                    "Every POST should create its own post");
+            assertEquals(0, singleFlight.getNetworkCalls() + singleFlight.getCoalescedCalls(),
+                    "POST requests should bypass the single-flight layer");
+        }
+    }
+
+    private static List<Response> runConcurrently(Callable<Response> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<Response> responses = new ArrayList<>();
+            for (Future<Response> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Standalone Stand-in Tests")
+public class StandaloneStandInTests extends SetUp {
+
+    private static final String LISTENING = "Stand-in server listening on ";
+
+    /**
+     * Start a stand-in in a process of its own, as BASE_URL would point at, on a free port
+     */
+    private static Process startStandalone() throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                StandInServer.class.getName())
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+        builder.environment().put("STAND_IN_PORT", "0");
+        builder.environment().remove("STAND_IN_DATA_DIR");
+        return builder.start();
+    }
+
+    private static String awaitBaseUrl(Process process) throws IOException {
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        for (String line = output.readLine(); line != null; line = output.readLine()) {
+            if (line.startsWith(LISTENING)) {
+                return line.substring(LISTENING.length()).trim();
+            }
+        }
+        throw new IllegalStateException("The standalone stand-in exited before listening");
+    }
+
+    /**
+     * Get a test of this class as it would be set up by JUnit, with a namespace of its own
+     */
+    private static StandaloneStandInTests test(String namespace) {
+        StandaloneStandInTests test = new StandaloneStandInTests();
+        test.namespace = namespace;
+        return test;
+    }
+
+    @Test
+    @DisplayName("Validate a delete in one test does not reach another test reading from a standalone stand-in")
+    public void testTestsAreIsolatedBehindBaseUrl() throws IOException {
+        Process process = startStandalone();
+        try {
+            String baseUrl = awaitBaseUrl(process);
+            assertTrue(StandInServer.isStandIn(baseUrl), "The stand-in should be recognised by its marker header");
+
+            RequestSpecification deleting = test("run/delete").newRequestSpecBuilder(baseUrl).build();
+            RequestSpecification reading = test("run/get").newRequestSpecBuilder(baseUrl).build();
+
+            given().spec(deleting).delete(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(200);
+            given().spec(deleting).get(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(404);
+            given().spec(reading).get(Endpoints.postById(PostsData.DEFAULT_POST_ID)).then().statusCode(200);
+        } finally {
+            process.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Validate a base URL nothing answers at is not taken for a stand-in")
+    public void testUnreachableBaseUrl() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        assertFalse(StandInServer.isStandIn("http://127.0.0.1:" + port));
+    }
+}
@@ -0,0 +1,188 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.standin.SeedData;
+import com.automation.api.standin.StandInServer;
+import com.automation.api.testdata.CommentsData;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stateful Stand-in Store Tests")
+public class StatefulStoreTests extends StandInSetUp {
+
+    private static final int WRITERS = 16;
+    private static final int POSTS_PER_WRITER = 25;
+
+    /**
+     * Stand-in of this test's own, the writes below must not reach the shared seed data
+     */
+    private StandInServer privateStandIn;
+    private RequestSpecification spec;
+
+    @BeforeEach
+    public void startPrivateStandIn() {
+        privateStandIn = StandInServer.start(0);
+        spec = newRequestSpecBuilder(privateStandIn.getBaseUrl()).build();
+    }
+
+    @AfterEach
+    public void stopPrivateStandIn() {
+        privateStandIn.close();
+    }
+
+    private static String postBody(String title) {
+        return "{\"title\": \"" + title + "\", \"body\": \"" + PostsData.POST_BODY
+                + "\", \"userId\": " + PostsData.POST_USER_ID + "}";
+    }
+
+    private int createPost(String title) {
+        return given()
+                .spec(spec)
+                .contentType(ContentType.JSON)
+                .body(postBody(title))
+        .when()
+                .post(Endpoints.POSTS)
+        .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    @Test
+    @DisplayName("Validate a post survives create, read, update and delete round-trips")
+    public void testPostRoundTrip() {
+        int id = createPost(PostsData.POST_TITLE);
+        assertEquals(SeedData.USERS * SeedData.POSTS_PER_USER + 1, id, "Created posts should follow the seed ids");
+
+        given().spec(spec).get(Endpoints.postById(id))
+                .then().statusCode(200).body("title", equalTo(PostsData.POST_TITLE)).body("id", equalTo(id));
+
+        given().spec(spec).contentType(ContentType.JSON).body(postBody(PostsData.UPDATED_POST_TITLE))
+                .put(Endpoints.postById(id))
+                .then().statusCode(200).body("id", equalTo(id));
+        given().spec(spec).get(Endpoints.postById(id))
+                .then().statusCode(200).body("title", equalTo(PostsData.UPDATED_POST_TITLE));
+
+        given().spec(spec).delete(Endpoints.postById(id)).then().statusCode(200);
+        given().spec(spec).get(Endpoints.postById(id)).then().statusCode(404);
+        given().spec(spec).delete(Endpoints.postById(id)).then().statusCode(404);
+        given().spec(spec).contentType(ContentType.JSON).body(postBody(PostsData.UPDATED_POST_TITLE))
+                .put(Endpoints.postById(id))
+                .then().statusCode(404);
+    }
+
+    @Test
+    @DisplayName("Validate created and deleted entities are reflected in filtered lists")
+    public void testListsReflectWrites() {
+        createPost(PostsData.POST_TITLE);
+        given().spec(spec).delete(Endpoints.commentById(CommentsData.DEFAULT_COMMENT_ID)).then().statusCode(200);
+
+        given().spec(spec).queryParam("userId", PostsData.POST_USER_ID).get(Endpoints.POSTS)
+                .then().statusCode(200).body("size()", equalTo(SeedData.POSTS_PER_USER + 1));
+        given().spec(spec).queryParam("postId", CommentsData.DEFAULT_COMMENT_POST_ID).get(Endpoints.COMMENTS)
+                .then().statusCode(200)
+                .body("size()", equalTo(SeedData.COMMENTS_PER_POST - 1))
+                .body("id", not(hasItem(CommentsData.DEFAULT_COMMENT_ID)));
+    }
+
+    @Test
+    @DisplayName("Validate every resource supports create, read and delete")
+    public void testAllResources() {
+        for (Resource resource : Resource.values()) {
+            StringBuilder body = new StringBuilder("{");
+            for (String field : resource.getRequiredFields()) {
+                String value = field.equals(resource.getForeignKey()) ? "1" : field.equals("completed") ? "false" : "\"value\"";
+                body.append(body.length() == 1 ? "" : ", ").append('"').append(field).append("\": ").append(value);
+            }
+
+            int id = given().spec(spec).contentType(ContentType.JSON).body(body.append('}').toString())
+                    .post(resource.getPath())
+                    .then().statusCode(201).extract().path("id");
+            given().spec(spec).get(resource.getPath() + "/" + id).then().statusCode(200);
+            given().spec(spec).delete(resource.getPath() + "/" + id).then().statusCode(200);
+            given().spec(spec).get(resource.getPath() + "/" + id).then().statusCode(404);
+        }
+    }
+
+    @Test
+    @DisplayName("Validate parallel writers get distinct ids and lose no posts")
+    public void testParallelCreates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> ids = new ArrayList<>();
+                    for (int i = 0; i < POSTS_PER_WRITER; i++) {
+                        ids.add(createPost(PostsData.POST_TITLE + " " + writer + "-" + i));
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Integer> ids = new HashSet<>();
+            for (Future<List<Integer>> future : futures) {
+                ids.addAll(future.get());
+            }
+            assertEquals(WRITERS * POSTS_PER_WRITER, ids.size(), "Every create should get its own id");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        given().spec(spec).queryParam("_page", 1).get(Endpoints.POSTS)
+                .then().statusCode(200)
+                .header("X-Total-Count", equalTo(String.valueOf(SeedData.USERS * SeedData.POSTS_PER_USER + WRITERS * POSTS_PER_WRITER)));
+    }
+
+    @Test
+    @DisplayName("Validate concurrent deletes of one post succeed exactly once")
+    public void testConcurrentDeletes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return given().spec(spec).delete(Endpoints.postById(PostsData.DEFAULT_POST_ID)).statusCode();
+                }));
+            }
+            start.countDown();
+
+            int deleted = 0;
+            for (Future<Integer> future : futures) {
+                int status = future.get();
+                assertTrue(status == 200 || status == 404, "Unexpected status " + status);
+                deleted += status == 200 ? 1 : 0;
+            }
+            assertEquals(1, deleted, "Only one delete should find the post");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.automation.api.tests.standin;
+
+import com.automation.api.base.StandInSetUp;
+import com.automation.api.client.StatusOnlyClient;
+import com.automation.api.client.StatusResponse;
+import com.automation.api.config.ApiConfig;
+import com.automation.api.reporting.ExchangeRecorder;
+import com.automation.api.reporting.PerformanceRecorder;
+import com.automation.api.reporting.RecordedExchange;
+import com.automation.api.standin.FaultProfiles;
+import com.automation.api.standin.WithFaults;
+import com.automation.api.testdata.PostsData;
+import com.automation.api.utils.Endpoints;
+
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Status-only Response Mode Tests")
+public class StatusOnlyTests extends StandInSetUp {
+
+    @Test
+    @DisplayName("Validate status-only mode returns status and headers of a large collection")
+    public void testStatusAndHeadersOnly() {
+        StatusResponse resp = StatusOnlyClient.using(requestSpec).get(Endpoints.PHOTOS);
+
+        assertEquals(200, resp.statusCode(), "Expected status 200 for all photos, got: " + resp.statusCode());
+        assertEquals(ApiConfig.getContentTypeWithCharset(), resp.header("content-type"));
+        assertNotNull(resp.header("Cache-Control"), "Cache-Control header should be present");
+    }
+
+    @Test
+    @DisplayName("Validate status-only mode reports 404 for an invalid post")
+    public void testInvalidPost() {
+        int statusCode = StatusOnlyClient.using(requestSpec)
+                .get(Endpoints.postById(PostsData.INVALID_ID))
+                .statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid post, got: " + statusCode);
+    }
+
+    @Test
+    @WithFaults(FaultProfiles.THROTTLED)
+    @DisplayName("Validate status-only mode forwards the request specification headers")
+    public void testSpecHeadersAreForwarded() {
+        StatusResponse resp = StatusOnlyClient.using(requestSpec).delete(Endpoints.postById(PostsData.DEFAULT_POST_ID));
+
+        assertEquals(429, resp.statusCode(), "Expected the fault profile header to reach the stand-in");
+        assertEquals("1", resp.header("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Validate status-only requests reach the recording filters of the request specification")
+    public void testExchangesAreRecorded() {
+        ExchangeRecorder exchanges = new ExchangeRecorder(10);
+        PerformanceRecorder latencies = new PerformanceRecorder(10);
+        RequestSpecification spec = newRequestSpecBuilder(standIn.getBaseUrl()).addFilter(exchanges).addFilter(latencies).build();
+
+        StatusOnlyClient.using(spec).get(Endpoints.postById(PostsData.INVALID_ID));
+
+        List<RecordedExchange> recorded = exchanges.snapshot();
+        assertEquals(1, recorded.size());
+        assertEquals("GET", recorded.get(0).getMethod());
+        assertEquals(404, recorded.get(0).getStatusCode());
+        assertTrue(recorded.get(0).getUri().endsWith(Endpoints.postById(PostsData.INVALID_ID)), recorded.get(0).describe());
+        assertEquals(1, latencies.toRun().getEndpointLatencies()
+                .get(PerformanceRecorder.endpointKey("GET", recorded.get(0).getUri())).length);
+    }
+}
@@ -1,6 +1,7 @@
 package com.automation.api.tests.todos;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.config.ApiConfig;
 import com.automation.api.testdata.TodosData;
 import com.automation.api.utils.Endpoints;
@@ -74,15 +75,9 @@ public class GetTodosTests extends SetUp {
     @Test
     @DisplayName("Validate API handles invalid todo requests gracefully")
     public void testGetInvalidTodo() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .get(Endpoints.todoById(TodosData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid todo, got: " + statusCode);
     }
@@ -0,0 +1,55 @@
+package com.automation.api.tests.todos;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.testdata.TodosData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PATCH Todos API Tests")
+public class PatchTodosTests extends SetUp {
+
+    @Test
+    @DisplayName("Validate API updates one field of an existing todo and keeps the others")
+    public void testPatchTodo() {
+        given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.TODOS).set("completed", TodosData.UPDATED_TODO_COMPLETED).toJson())
+        .when()
+                .patch(Endpoints.todoById(TodosData.DEFAULT_TODO_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(TodosData.DEFAULT_TODO_ID))
+                .body("completed", equalTo(TodosData.UPDATED_TODO_COMPLETED))
+                .body("title", notNullValue())
+                .body("userId", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Validate API handles patch of invalid Todo gracefully")
+    public void testPatchInvalidTodo() {
+        Response resp = given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.TODOS).set("completed", TodosData.UPDATED_TODO_COMPLETED).toJson())
+        .when()
+                .patch(Endpoints.todoById(TodosData.INVALID_ID))
+        .then()
+                .extract()
+                .response();
+
+        int statusCode = resp.statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid todo patch, got: " + statusCode);
+    }
+}
@@ -1,6 +1,7 @@
 package com.automation.api.tests.users;
 
 import com.automation.api.base.SetUp;
+import com.automation.api.client.StatusOnlyClient;
 import com.automation.api.config.ApiConfig;
 import com.automation.api.testdata.UsersData;
 import com.automation.api.utils.Endpoints;
@@ -46,15 +47,9 @@ public class GetUsersTests extends SetUp {
     @Test
     @DisplayName("Validate API handles invalid user requests gracefully")
     public void testGetInvalidUser() {
-        Response resp = given()
-                .spec(requestSpec)
-        .when()
+        int statusCode = StatusOnlyClient.using(requestSpec)
                 .get(Endpoints.userById(UsersData.INVALID_ID))
-        .then()
-                .extract()
-                .response();
-
-        int statusCode = resp.statusCode();
+                .statusCode();
 
         assertEquals(404, statusCode, "Expected status 404 for invalid user, got: " + statusCode);
     }
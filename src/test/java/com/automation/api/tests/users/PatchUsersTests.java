@@ -0,0 +1,56 @@
+package com.automation.api.tests.users;
+
+import com.automation.api.base.SetUp;
+import com.automation.api.client.MergePatch;
+import com.automation.api.testdata.UsersData;
+import com.automation.api.utils.Endpoints;
+import com.automation.api.utils.Resource;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PATCH Users API Tests")
+public class PatchUsersTests extends SetUp {
+
+    @Test
+    @DisplayName("Validate API updates one field of an existing user and keeps the others")
+    public void testPatchUser() {
+        given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.USERS).set("email", UsersData.UPDATED_USER_EMAIL).toJson())
+        .when()
+                .patch(Endpoints.userById(UsersData.DEFAULT_USER_ID))
+        .then()
+                .statusCode(200)
+                .body("id", equalTo(UsersData.DEFAULT_USER_ID))
+                .body("email", equalTo(UsersData.UPDATED_USER_EMAIL))
+                .body("name", notNullValue())
+                .body("username", notNullValue())
+                .body("address.city", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Validate API handles patch of invalid User gracefully")
+    public void testPatchInvalidUser() {
+        Response resp = given()
+                .spec(requestSpec)
+                .contentType(ContentType.JSON)
+                .body(MergePatch.of(Resource.USERS).set("email", UsersData.UPDATED_USER_EMAIL).toJson())
+        .when()
+                .patch(Endpoints.userById(UsersData.INVALID_ID))
+        .then()
+                .extract()
+                .response();
+
+        int statusCode = resp.statusCode();
+
+        assertEquals(404, statusCode, "Expected status 404 for invalid user patch, got: " + statusCode);
+    }
+}
@@ -13,6 +13,28 @@ public final class Endpoints {
     public static final String TODOS = "/todos";
     public static final String USERS = "/users";
 
+    // Several operations in one call, served by the local stand-in only
+    public static final String BATCH = "/batch";
+
+    // Pagination query parameters understood by JSONPlaceholder (json-server)
+    public static final String PAGE_PARAM = "_page";
+    public static final String LIMIT_PARAM = "_limit";
+    public static final String START_PARAM = "_start";
+    public static final String END_PARAM = "_end";
+
+    // Sorting parameters and range operator suffixes, e.g. albumId_gte=3
+    public static final String SORT_PARAM = "_sort";
+    public static final String ORDER_PARAM = "_order";
+    public static final String GTE_SUFFIX = "_gte";
+    public static final String LTE_SUFFIX = "_lte";
+
+    // Full-text search over the text fields of a resource
+    public static final String SEARCH_PARAM = "q";
+
+    // Response format of a collection, e.g. format=ndjson for one JSON object per line, served by the local stand-in only
+    public static final String FORMAT_PARAM = "format";
+    public static final String NDJSON_FORMAT = "ndjson";
+
     // Path builders
     public static String postById(int id) {
         return POSTS + "/" + id;
@@ -0,0 +1,84 @@
+package com.automation.api.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The six JSONPlaceholder resources and how they relate to each other
+ * Each constant knows its path, its parent foreign key and the fields a create request must carry
+ */
+public enum Resource {
+    USERS(Endpoints.USERS, null, null, List.of("username", "email")),
+    POSTS(Endpoints.POSTS, USERS, "userId", List.of("userId", "title", "body")),
+    COMMENTS(Endpoints.COMMENTS, POSTS, "postId", List.of("postId", "name", "email", "body")),
+    ALBUMS(Endpoints.ALBUMS, USERS, "userId", List.of("userId", "title")),
+    PHOTOS(Endpoints.PHOTOS, ALBUMS, "albumId", List.of("albumId", "title", "url", "thumbnailUrl")),
+    TODOS(Endpoints.TODOS, USERS, "userId", List.of("userId", "title", "completed"));
+
+    private final String path;
+    private final Resource parent;
+    private final String foreignKey;
+    private final List<String> requiredFields;
+
+    Resource(String path, Resource parent, String foreignKey, List<String> requiredFields) {
+        this.path = path;
+        this.parent = parent;
+        this.foreignKey = foreignKey;
+        this.requiredFields = requiredFields;
+    }
+
+    /**
+     * Get the base path of the resource, e.g. "/posts"
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the resource this one belongs to, or null for users
+     */
+    public Resource getParent() {
+        return parent;
+    }
+
+    /**
+     * Get the field referencing the parent resource, or null for users
+     */
+    public String getForeignKey() {
+        return foreignKey;
+    }
+
+    /**
+     * Get the fields that must be present when creating an entity
+     */
+    public List<String> getRequiredFields() {
+        return requiredFields;
+    }
+
+    /**
+     * Get the resources that reference this one through their foreign key, e.g. comments for posts
+     */
+    public List<Resource> getChildren() {
+        List<Resource> children = new ArrayList<>();
+        for (Resource resource : values()) {
+            if (resource.parent == this) {
+                children.add(resource);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Resolve a resource from its path segment, e.g. "posts"
+     *
+     * @return the matching resource, or null when the segment is not a known resource
+     */
+    public static Resource fromSegment(String segment) {
+        for (Resource resource : values()) {
+            if (resource.path.substring(1).equals(segment)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+}